@@ -0,0 +1,118 @@
+package it.polimi.ingsw.gc03.benchmark;
+
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.Codex;
+import it.polimi.ingsw.gc03.model.Game;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.card.CardGold;
+import it.polimi.ingsw.gc03.model.card.CardResource;
+import it.polimi.ingsw.gc03.model.side.Side;
+import it.polimi.ingsw.gc03.view.tui.Coords;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * This class represents a running game of two players whose codices contain a given number of cards, placed at
+ * random positions with a fixed seed so that every fork measures the same boards.
+ */
+@State(Scope.Thread)
+public class BoardState {
+
+    /**
+     * The seed of the game and of the placements.
+     */
+    public static final long SEED = 42L;
+
+    /**
+     * The number of cards placed in each codex after the Starter card.
+     */
+    @Param({"0", "20", "60"})
+    public int fill;
+
+    /**
+     * The game.
+     */
+    public Game game;
+
+    /**
+     * The first player, whose codex is measured.
+     */
+    public Player player;
+
+    /**
+     * The Starter side of the codex of the first player.
+     */
+    public Side starter;
+
+    /**
+     * The sides placed in the codex of the first player, in the order of placement.
+     */
+    public ArrayList<Side> placedSides;
+
+    /**
+     * The cells of the sides placed in the codex of the first player, in the order of placement.
+     */
+    public ArrayList<Coords> placedCells;
+
+    /**
+     * A side that can always be placed, used to probe the free cells.
+     */
+    public Side probe;
+
+    /**
+     * Method for creating the game and filling the codices.
+     * @throws Exception If the game cannot be created.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.game = new Game(1, SEED);
+        this.game.setSize(2);
+        this.game.addPlayer("Bench1", null);
+        this.game.addPlayer("Bench2", null);
+        this.player = this.game.getPlayers().getFirst();
+        this.starter = this.player.getCardStarter().getFrontStarter();
+        this.placedSides = new ArrayList<>();
+        this.placedCells = new ArrayList<>();
+        this.probe = CardCatalog.getInstance().getResourceCards().getFirst().getBackResource();
+        Random random = new Random(SEED);
+        for (Player p : this.game.getPlayers()) {
+            boolean measured = p == this.player;
+            p.getCodex().insertStarterIntoCodex(p.getCardStarter().getFrontStarter(), this.game, p.getNickname());
+            fill(p.getCodex(), random, measured ? this.placedSides : new ArrayList<>(),
+                    measured ? this.placedCells : new ArrayList<>());
+        }
+    }
+
+    /**
+     * Method for placing random cards of the catalog into a codex, preferring the front sides.
+     * @param codex The codex, containing the Starter card.
+     * @param random The source of randomness.
+     * @param sides The list to which the placed sides are added.
+     * @param cells The list to which the cells of the placed sides are added.
+     * @throws Exception If an error occurs while checking the placements.
+     */
+    private void fill(Codex codex, Random random, ArrayList<Side> sides, ArrayList<Coords> cells) throws Exception {
+        CardCatalog catalog = CardCatalog.getInstance();
+        while (sides.size() < this.fill && codex.getFrontierSize() > 0) {
+            ArrayList<Coords> frontier = codex.getFrontier();
+            Coords cell = frontier.get(random.nextInt(frontier.size()));
+            Card card = random.nextBoolean() ?
+                    catalog.getResourceCards().get(random.nextInt(catalog.getResourceCards().size())) :
+                    catalog.getGoldCards().get(random.nextInt(catalog.getGoldCards().size()));
+            Side front = card instanceof CardGold gold ? gold.getFrontGold() : ((CardResource) card).getFrontResource();
+            Side back = card instanceof CardGold gold ? gold.getBackGold() : ((CardResource) card).getBackResource();
+            Side side = codex.simulateInsertIntoCodex(front, cell.getX(), cell.getY()) ? front : back;
+            if (codex.insertIntoCodex(this.game, side, cell.getX(), cell.getY())) {
+                sides.add(side);
+                cells.add(cell);
+            }
+        }
+    }
+
+}
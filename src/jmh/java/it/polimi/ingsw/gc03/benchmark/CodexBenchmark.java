@@ -0,0 +1,69 @@
+package it.polimi.ingsw.gc03.benchmark;
+
+import it.polimi.ingsw.gc03.model.Codex;
+import it.polimi.ingsw.gc03.view.tui.Coords;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures the placement of the cards into a codex and the checks on its free cells.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodexBenchmark {
+
+    /**
+     * Method for filling a new codex with the cards of the board, one insertIntoCodex per card.
+     * @param board The board.
+     * @return The filled codex.
+     * @throws Exception If an error occurs while inserting the Starter card.
+     */
+    @Benchmark
+    public Codex insertIntoCodex(BoardState board) throws Exception {
+        Codex codex = new Codex();
+        codex.insertStarterIntoCodex(board.starter, board.game, "Bench");
+        for (int i = 0; i < board.placedSides.size(); i++) {
+            Coords cell = board.placedCells.get(i);
+            codex.insertIntoCodex(board.game, board.placedSides.get(i), cell.getX(), cell.getY());
+        }
+        return codex;
+    }
+
+    /**
+     * Method for checking whether a side can be placed in each free cell of the codex of the board.
+     * @param board The board.
+     * @return The number of cells in which the side can be placed.
+     * @throws Exception If an error occurs while checking the placements.
+     */
+    @Benchmark
+    public int simulateInsertIntoCodex(BoardState board) throws Exception {
+        Codex codex = board.player.getCodex();
+        int count = 0;
+        for (Coords cell : codex.getFrontier()) {
+            if (codex.simulateInsertIntoCodex(board.probe, cell.getX(), cell.getY()))
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * Method for checking whether the player of the board has to skip the turn.
+     * @param board The board.
+     * @return True if the player has to skip the turn.
+     */
+    @Benchmark
+    public boolean checkSkipTurn(BoardState board) {
+        board.player.checkSkipTurn();
+        return board.player.getSkipTurn();
+    }
+
+}
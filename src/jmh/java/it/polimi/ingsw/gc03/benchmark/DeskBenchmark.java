@@ -0,0 +1,43 @@
+package it.polimi.ingsw.gc03.benchmark;
+
+import it.polimi.ingsw.gc03.model.Desk;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.rmi.RemoteException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures the creation of the desk of a new game, with its shuffled decks and displayed cards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeskBenchmark {
+
+    /**
+     * The source of randomness of the decks.
+     */
+    private final Random random = new Random(BoardState.SEED);
+
+    /**
+     * Method for creating a desk.
+     * @return The desk.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    @Benchmark
+    public Desk newDesk() throws RemoteException {
+        return new Desk(null, this.random);
+    }
+
+}
@@ -0,0 +1,65 @@
+package it.polimi.ingsw.gc03.benchmark;
+
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures the calculation of the points of each kind of Objective card on the whole codex.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreStrategyBenchmark {
+
+    /**
+     * The simple name of the strategy class.
+     */
+    @Param({"RequirementStrategy", "MainDiagonalStrategy", "SecondaryDiagonalStrategy", "PileTopLeftStrategy",
+            "PileTopRightStrategy", "PileBottomLeftStrategy", "PileBottomRightStrategy"})
+    public String strategy;
+
+    /**
+     * The first Objective card of the catalog using the strategy.
+     */
+    private CardObjective card;
+
+    /**
+     * Method for finding the Objective card of the strategy.
+     * @throws IllegalArgumentException If no card uses the strategy.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IllegalArgumentException {
+        this.card = CardCatalog.getInstance().getObjectiveCards().stream()
+                .filter(c -> c.getScoreStrategy().getClass().getSimpleName().equals(this.strategy))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No Objective card uses " + this.strategy));
+    }
+
+    /**
+     * Method for calculating the points of the Objective card on the codex of the board.
+     * @param board The board.
+     * @return The points.
+     */
+    @Benchmark
+    public int calculateScore(BoardState board) {
+        return this.card.getScoreStrategy().calculateScore(board.player.getCodex(), this.card.getPoint(),
+                this.card.getParameters());
+    }
+
+}
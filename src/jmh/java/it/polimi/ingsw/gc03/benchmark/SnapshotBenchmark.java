@@ -0,0 +1,102 @@
+package it.polimi.ingsw.gc03.benchmark;
+
+import it.polimi.ingsw.gc03.model.GameImmutable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.rmi.RemoteException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class measures the snapshot of a game sent to the clients: its creation and its Java serialization. The size
+ * of the serialized snapshot is printed once per trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    /**
+     * Method for printing the size of the serialized snapshot of the board.
+     * @param board The board.
+     * @throws IOException If the snapshot cannot be serialized.
+     */
+    @Setup(Level.Trial)
+    public void printSize(BoardState board) throws IOException {
+        System.out.println("Serialized GameImmutable with fill " + board.fill + ": " +
+                serialize(new GameImmutable(board.game)).length + " bytes, view of a player: " +
+                serialize(newView(board)).length + " bytes");
+    }
+
+    /**
+     * Method for serializing an object as it is sent over the network.
+     * @param object The object.
+     * @return The serialized object.
+     * @throws IOException If the object cannot be serialized.
+     */
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Method for creating the snapshot of the game of the board.
+     * @param board The board.
+     * @return The snapshot.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    @Benchmark
+    public GameImmutable newGameImmutable(BoardState board) throws RemoteException {
+        return new GameImmutable(board.game);
+    }
+
+    /**
+     * Method for creating and serializing the snapshot of the game of the board.
+     * @param board The board.
+     * @return The serialized snapshot.
+     * @throws IOException If the snapshot cannot be serialized.
+     */
+    @Benchmark
+    public byte[] serializeGameImmutable(BoardState board) throws IOException {
+        return serialize(new GameImmutable(board.game));
+    }
+
+    /**
+     * Method for creating the view of the game of the board sent to its first player.
+     * @param board The board.
+     * @return The view.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    private static GameImmutable newView(BoardState board) throws RemoteException {
+        return new GameImmutable(board.game, board.game.getPlayers().getFirst().getNickname());
+    }
+
+    /**
+     * Method for creating and serializing the view of the game of the board sent to its first player.
+     * @param board The board.
+     * @return The serialized view.
+     * @throws IOException If the view cannot be serialized.
+     */
+    @Benchmark
+    public byte[] serializeView(BoardState board) throws IOException {
+        return serialize(newView(board));
+    }
+
+}
@@ -0,0 +1,310 @@
+package it.polimi.ingsw.gc03.controller;
+
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.enumerations.DeckType;
+import java.io.Serializable;
+
+/**
+ * This interface represents a move made on a GameController. A game created from a seed and replayed with the same
+ * list of commands always reaches the same state, see GameController.replay.
+ */
+public interface GameCommand extends Serializable {
+
+    /**
+     * Method for applying the command to a controller.
+     * @param controller The controller of the game.
+     * @throws Exception If the controller rejects the move.
+     */
+    void apply(GameController controller) throws Exception;
+
+    /**
+     * Method to find a player of the game by nickname.
+     * @param controller The controller of the game.
+     * @param nickname The nickname of the player.
+     * @return The player.
+     * @throws IllegalArgumentException If no player has that nickname.
+     */
+    private static Player findPlayer(GameController controller, String nickname) throws IllegalArgumentException {
+        Player player = controller.getGame().getPlayer(nickname);
+        if (player == null)
+            throw new IllegalArgumentException("No player with nickname " + nickname);
+        return player;
+    }
+
+    /**
+     * Command for adding a player, without a listener, to the game.
+     */
+    final class Join implements GameCommand {
+
+        /**
+         * The nickname of the player.
+         */
+        private final String nickname;
+
+        /**
+         * Constructor of the Join command.
+         * @param nickname The nickname of the player.
+         */
+        public Join(String nickname) {
+            this.nickname = nickname;
+        }
+
+        /**
+         * Method for applying the command to a controller.
+         * @param controller The controller of the game.
+         * @throws Exception If the player cannot join the game.
+         */
+        @Override
+        public void apply(GameController controller) throws Exception {
+            controller.addPlayerToGame(this.nickname, null);
+        }
+
+    }
+
+    /**
+     * Command for setting the number of players of the game.
+     */
+    final class SetSize implements GameCommand {
+
+        /**
+         * The number of players.
+         */
+        private final int size;
+
+        /**
+         * Constructor of the SetSize command.
+         * @param size The number of players.
+         */
+        public SetSize(int size) {
+            this.size = size;
+        }
+
+        /**
+         * Method for applying the command to a controller.
+         * @param controller The controller of the game.
+         * @throws Exception If the size is not valid.
+         */
+        @Override
+        public void apply(GameController controller) throws Exception {
+            controller.updateGameSize(this.size);
+        }
+
+    }
+
+    /**
+     * Command for placing the Starter card of a player.
+     */
+    final class PlaceStarter implements GameCommand {
+
+        /**
+         * The nickname of the player.
+         */
+        private final String nickname;
+
+        /**
+         * Boolean indicating whether the front side is placed.
+         */
+        private final boolean frontCard;
+
+        /**
+         * Constructor of the PlaceStarter command.
+         * @param nickname The nickname of the player.
+         * @param frontCard True to place the front side, false to place the back side.
+         */
+        public PlaceStarter(String nickname, boolean frontCard) {
+            this.nickname = nickname;
+            this.frontCard = frontCard;
+        }
+
+        /**
+         * Method for applying the command to a controller.
+         * @param controller The controller of the game.
+         * @throws Exception If the Starter card cannot be placed.
+         */
+        @Override
+        public void apply(GameController controller) throws Exception {
+            Player player = findPlayer(controller, this.nickname);
+            controller.placeStarterOnCodex(player, this.frontCard ? player.getCardStarter().getFrontStarter() :
+                    player.getCardStarter().getBackStarter());
+        }
+
+    }
+
+    /**
+     * Command for selecting the personal Objective card of a player.
+     */
+    final class SelectObjective implements GameCommand {
+
+        /**
+         * The nickname of the player.
+         */
+        private final String nickname;
+
+        /**
+         * The index of the chosen card.
+         */
+        private final int index;
+
+        /**
+         * Constructor of the SelectObjective command.
+         * @param nickname The nickname of the player.
+         * @param index The index of the chosen card.
+         */
+        public SelectObjective(String nickname, int index) {
+            this.nickname = nickname;
+            this.index = index;
+        }
+
+        /**
+         * Method for applying the command to a controller.
+         * @param controller The controller of the game.
+         * @throws Exception If the card cannot be selected.
+         */
+        @Override
+        public void apply(GameController controller) throws Exception {
+            controller.selectCardObjective(findPlayer(controller, this.nickname), this.index);
+        }
+
+    }
+
+    /**
+     * Command for placing a card of the hand of a player into the codex.
+     */
+    final class PlaceCard implements GameCommand {
+
+        /**
+         * The nickname of the player.
+         */
+        private final String nickname;
+
+        /**
+         * The index of the card in the hand.
+         */
+        private final int index;
+
+        /**
+         * Boolean indicating whether the front side is placed.
+         */
+        private final boolean frontCard;
+
+        /**
+         * The row of the codex.
+         */
+        private final int row;
+
+        /**
+         * The column of the codex.
+         */
+        private final int column;
+
+        /**
+         * Constructor of the PlaceCard command.
+         * @param nickname The nickname of the player.
+         * @param index The index of the card in the hand.
+         * @param frontCard True to place the front side, false to place the back side.
+         * @param row The row of the codex.
+         * @param column The column of the codex.
+         */
+        public PlaceCard(String nickname, int index, boolean frontCard, int row, int column) {
+            this.nickname = nickname;
+            this.index = index;
+            this.frontCard = frontCard;
+            this.row = row;
+            this.column = column;
+        }
+
+        /**
+         * Method for applying the command to a controller.
+         * @param controller The controller of the game.
+         * @throws Exception If the card cannot be placed.
+         */
+        @Override
+        public void apply(GameController controller) throws Exception {
+            controller.placeCardOnCodex(findPlayer(controller, this.nickname), this.index, this.frontCard, this.row,
+                    this.column);
+        }
+
+    }
+
+    /**
+     * Command for drawing a card from a deck.
+     */
+    final class DrawFromDeck implements GameCommand {
+
+        /**
+         * The nickname of the player.
+         */
+        private final String nickname;
+
+        /**
+         * The deck.
+         */
+        private final DeckType deck;
+
+        /**
+         * Constructor of the DrawFromDeck command.
+         * @param nickname The nickname of the player.
+         * @param deck The deck.
+         */
+        public DrawFromDeck(String nickname, DeckType deck) {
+            this.nickname = nickname;
+            this.deck = deck;
+        }
+
+        /**
+         * Method for applying the command to a controller.
+         * @param controller The controller of the game.
+         * @throws Exception If the card cannot be drawn.
+         */
+        @Override
+        public void apply(GameController controller) throws Exception {
+            controller.drawCardFromDeck(findPlayer(controller, this.nickname), this.deck);
+        }
+
+    }
+
+    /**
+     * Command for drawing one of the displayed cards.
+     */
+    final class DrawDisplayed implements GameCommand {
+
+        /**
+         * The nickname of the player.
+         */
+        private final String nickname;
+
+        /**
+         * The displayed cards.
+         */
+        private final DeckType deck;
+
+        /**
+         * The index of the card.
+         */
+        private final int index;
+
+        /**
+         * Constructor of the DrawDisplayed command.
+         * @param nickname The nickname of the player.
+         * @param deck The displayed cards.
+         * @param index The index of the card.
+         */
+        public DrawDisplayed(String nickname, DeckType deck, int index) {
+            this.nickname = nickname;
+            this.deck = deck;
+            this.index = index;
+        }
+
+        /**
+         * Method for applying the command to a controller.
+         * @param controller The controller of the game.
+         * @throws Exception If the card cannot be drawn.
+         */
+        @Override
+        public void apply(GameController controller) throws Exception {
+            controller.drawCardDisplayed(findPlayer(controller, this.nickname), this.deck, this.index);
+        }
+
+    }
+
+}
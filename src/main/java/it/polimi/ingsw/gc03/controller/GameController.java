@@ -6,54 +6,70 @@ import it.polimi.ingsw.gc03.model.card.Card;
 import it.polimi.ingsw.gc03.model.card.CardGold;
 import it.polimi.ingsw.gc03.model.card.CardResource;
 import it.polimi.ingsw.gc03.model.enumerations.DeckType;
+import it.polimi.ingsw.gc03.model.enumerations.ErrorCode;
 import it.polimi.ingsw.gc03.model.enumerations.GameStatus;
+import it.polimi.ingsw.gc03.model.enumerations.PlacementResult;
 import it.polimi.ingsw.gc03.model.enumerations.PlayerAction;
+import it.polimi.ingsw.gc03.model.enumerations.Value;
 import it.polimi.ingsw.gc03.model.exceptions.*;
 import it.polimi.ingsw.gc03.model.side.Side;
+import it.polimi.ingsw.gc03.model.side.front.FrontGold;
+import it.polimi.ingsw.gc03.networking.ServerThreads;
 import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
+import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
 import java.io.Serializable;
 import java.rmi.RemoteException;
 import java.util.*;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 
 /**
  * This class controls the gameplay flow of a match, from start to finish.
+ * The timed tasks of the game run on the scheduler shared by all the games, see ServerThreads.timers, and the status
+ * of the game is checked after each change instead of by a thread of the game.
+ * The moves, the chat messages, the pings, the reconnections and the timeouts are run one at a time by the mailbox of
+ * the game instead of under a lock, see GameMailbox: the public methods wait for their move to be run, while the pings
+ * and the timed tasks do not.
  */
-public class GameController implements GameControllerInterface, Runnable, Serializable {
+public class GameController implements GameControllerInterface, Serializable {
 
     /**
      * Instance of the game on which the control takes place.
      */
     private Game game;
 
+
     /**
-     * Attribute to manage timed operations.
+     * Attribute used to generate random choices, created from the seed of the game.
      */
-    private Timer timer;
+    private final Random random;
 
     /**
-     * Attribute used to generate random choices.
+     * The end of the game scheduled while it is halted, cancelled if a player reconnects in time.
      */
-    private final Random random = new Random();
+    private transient ScheduledFuture<?> haltedTimeout;
 
     /**
-     * Specific task for operations that must be performed periodically.
+     * The periodic check of the pings, or null if the game is not checked in the background.
      */
-    private TimerTask timerTask;
+    private transient ScheduledFuture<?> pingCheck;
 
     /**
-     * Map to keep track of player ping timestamps.
+     * Boolean indicating whether the removal of the ended game from the MainController has been scheduled.
+     */
+    private boolean removalScheduled;
+
+    /**
+     * The mailbox running the commands of the game.
      */
-    private final Map<Player, Long> playerPingTimestamps = new ConcurrentHashMap<>();
+    private final transient GameMailbox mailbox;
 
     /**
-     * Executor for handling periodic ping checks.
+     * Map to keep track of player ping timestamps.
      */
-    private final ScheduledExecutorService pingExecutor = Executors.newSingleThreadScheduledExecutor();
+    private final Map<Player, Long> playerPingTimestamps = new HashMap<>();
 
     /**
      * Timeout period for player pings.
@@ -66,20 +82,72 @@ public class GameController implements GameControllerInterface, Runnable, Serial
     private GameStatus lastStatus;
 
     /**
-     * Constructor of the GameController class.
+     * Constructor of the GameController class, with a random seed.
      * @throws RemoteException If there is an issue with remote communication.
      */
     public GameController() throws RemoteException {
-        game = new Game(random.nextInt(2147483647));
-        startPingThread();
-        new Thread(this).start();
+        this(new Random().nextLong());
     }
 
     /**
-     * Starts a thread to periodically check player pings.
+     * Constructor of the GameController class: the seed determines the ID of the game, its decks and the player who
+     * starts.
+     * @param seed The seed of the game.
+     * @throws RemoteException If there is an issue with remote communication.
      */
-    private void startPingThread() {
-        pingExecutor.scheduleAtFixedRate(this::checkPings, 0, 2, TimeUnit.SECONDS);
+    public GameController(long seed) throws RemoteException {
+        this(seed, true);
+    }
+
+    /**
+     * Constructor of the GameController class.
+     * @param seed The seed of the game.
+     * @param background True to check the pings and the status of the game in the background.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    private GameController(long seed, boolean background) throws RemoteException {
+        random = new Random(seed);
+        game = new Game(random.nextInt(2147483647), seed);
+        mailbox = new GameMailbox(background ? ServerThreads.gameLoops() : null);
+        if (background) {
+            startPingCheck();
+        }
+    }
+
+    /**
+     * Method for rebuilding a game from its seed and the list of its moves. The controller returned does not check
+     * the pings nor the status of the game in the background, so it is not registered in the MainController, and runs
+     * the moves on the calling thread.
+     * @param seed The seed of the game.
+     * @param commands The moves, in the order in which they were made.
+     * @return The controller of the rebuilt game.
+     * @throws Exception If a move is rejected.
+     */
+    public static GameController replay(long seed, List<GameCommand> commands) throws Exception {
+        GameController controller = new GameController(seed, false);
+        for (GameCommand command : commands) {
+            command.apply(controller);
+        }
+        return controller;
+    }
+
+    /**
+     * Starts the periodic check of the player pings on the shared scheduler.
+     */
+    private void startPingCheck() {
+        pingCheck = ServerThreads.timers().scheduleAtFixedRate(() -> mailbox.post(this::checkPings), 0, 2, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Method for stopping the timed tasks of the game, called when the game is removed from the MainController.
+     */
+    void stopTimers() {
+        mailbox.post(() -> {
+            if (pingCheck != null) {
+                pingCheck.cancel(false);
+            }
+            stopTimer();
+        });
     }
 
     /**
@@ -97,6 +165,7 @@ public class GameController implements GameControllerInterface, Runnable, Serial
                 }
             }
         }
+        checkStatus();
     }
 
     /**
@@ -124,10 +193,13 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * @throws RemoteException This exception is thrown when there is an issue with remote communication.
      */
     public void ping(String player) throws RemoteException {
-        List<Player> playerWhoPinged = this.getGame().getPlayers().stream().filter(p->p.getNickname().equals(player)).toList();
-        if(!playerWhoPinged.isEmpty()){
-            playerPingTimestamps.put(playerWhoPinged.getFirst(), System.currentTimeMillis());
-        }
+        long time = System.currentTimeMillis();
+        mailbox.post(() -> {
+            Player playerWhoPinged = game.getPlayer(player);
+            if(playerWhoPinged != null){
+                playerPingTimestamps.put(playerWhoPinged, time);
+            }
+        });
     }
 
     /**
@@ -143,21 +215,29 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * @throws RemoteException This exception is thrown when there is an issue with remote communication.
      */
     public void addPlayerToGame(String playerNickname, GameListener listener) throws CannotJoinGameException, DeskIsFullException, PlayerAlreadyJoinedException, RemoteException {
-        // It's possible to add new players only if the game's status is WAITING
-        // When the game is in WAITING status, the players.size < game.size, so
-        // new players can join.
-        if (game.getStatus().equals(GameStatus.WAITING)) {
-            game.addPlayer(playerNickname, listener);
-
-            // If enough players joined the game, initialize the game
-            if (game.getPlayers().size() == game.getSize() && game.getNumPlayer() != 1) {
-                game.setStatus(GameStatus.STARTING);
-                lastStatus = GameStatus.STARTING;
-                // Randomly choose the player who starts the game with the first turn
-                game.setCurrPlayer(random.nextInt(game.getSize()));
-            }
-        } else {
-         throw new CannotJoinGameException();
+        try {
+            mailbox.call(() -> {
+                // It's possible to add new players only if the game's status is WAITING
+                // When the game is in WAITING status, the players.size < game.size, so
+                // new players can join.
+                if (game.getStatus().equals(GameStatus.WAITING)) {
+                    game.addPlayer(playerNickname, listener);
+
+                    // If enough players joined the game, initialize the game
+                    if (game.getPlayers().size() == game.getSize() && game.getNumPlayer() != 1) {
+                        game.setStatus(GameStatus.STARTING);
+                        lastStatus = GameStatus.STARTING;
+                        // Randomly choose the player who starts the game with the first turn
+                        game.setCurrPlayer(random.nextInt(game.getSize()));
+                    }
+                } else {
+                 throw new CannotJoinGameException();
+                }
+            });
+        } catch (CannotJoinGameException | DeskIsFullException | PlayerAlreadyJoinedException | RemoteException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
         }
     }
 
@@ -167,18 +247,11 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      */
     private boolean startTimer() {
         if (game.getStatus() == GameStatus.HALTED) {
-            if (timer == null && timerTask == null) { // Check if a timer is already running
-                timer = new Timer();
+            if (haltedTimeout == null && pingCheck != null) { // Check if a timer is already running
                 ArrayList<Player> winners = new ArrayList<>();
                 winners.add(game.getPlayers().stream().filter(p->p.getOnline()).toList().get(0));
                 game.setWinner(winners);
-                timerTask = new TimerTask() {
-                    @Override
-                    public void run() {
-                        game.setStatus(GameStatus.ENDED);
-                    }
-                };
-                timer.schedule(timerTask, 60*1000); // 60 seconds
+                haltedTimeout = ServerThreads.timers().schedule(() -> mailbox.post(this::endHaltedGame), 60, TimeUnit.SECONDS);
             }
             return true; // Nobody reconnected in time, the player left in the game won.
         }
@@ -189,14 +262,21 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * Method for stopping the previously started timer and canceling any associated tasks.
      */
     private void stopTimer() {
-        if (timer != null) {
-            timer.cancel();
-            timer = null;
+        if (haltedTimeout != null) {
+            haltedTimeout.cancel(false);
+            haltedTimeout = null;
         }
-        if (timerTask != null) {
-            timerTask.cancel();
-            timerTask = null;
+    }
+
+    /**
+     * Method called when nobody reconnected in time to a halted game: the player left in the game wins.
+     */
+    private void endHaltedGame() {
+        haltedTimeout = null;
+        if (game.getStatus() == GameStatus.HALTED) {
+            game.setStatus(GameStatus.ENDED);
         }
+        checkStatus();
     }
 
     /**
@@ -205,22 +285,25 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * @param gameListener The game listener for the player.
      * @throws Exception If the player cannot be reconnected or the game is not in a suitable state.
      */
-    public synchronized void reconnectPlayer(String playerNickname, GameListener gameListener) throws Exception {
-        // Check if there is any game with a player with "playerNickname" as nickname.
-        List<Player> result = game.getPlayers().stream().filter(x -> (x.getNickname().equals(playerNickname))).toList();
-        if (!result.isEmpty()) {
-            // If the game was halted, it is set to running
-            if (game.getStatus().equals(GameStatus.HALTED)) {
-                stopTimer();
-                game.setStatus(lastStatus);
-                playerPingTimestamps.put(game.getPlayers().stream().filter(p->p.getNickname().equals(playerNickname)).toList().getFirst(), System.currentTimeMillis());
+    public void reconnectPlayer(String playerNickname, GameListener gameListener) throws Exception {
+        mailbox.call(() -> {
+            // Check if there is any game with a player with "playerNickname" as nickname.
+            Player result = game.getPlayer(playerNickname);
+            if (result != null) {
+                // If the game was halted, it is set to running
+                if (game.getStatus().equals(GameStatus.HALTED)) {
+                    stopTimer();
+                    game.setStatus(lastStatus);
+                    playerPingTimestamps.put(result, System.currentTimeMillis());
+                }
+                // The found player is set to online and to WAIT action
+                result.setOnline(this.getGame(), true, gameListener);
+                result.setAction(PlayerAction.WAIT, game);
+                checkStatus();
+            } else {
+                throw new Exception("No previous game to reconnect with that username");
             }
-            // The found player is set to online and to WAIT action
-            result.getFirst().setOnline(this.getGame(), true, gameListener);
-            result.getFirst().setAction(PlayerAction.WAIT, game);
-        } else {
-            throw new Exception("No previous game to reconnect with that username");
-        }
+        });
     }
 
     /**
@@ -228,20 +311,24 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * @param playerNickname The nickname of the player who leave the game.
      * @throws RemoteException This exception is thrown when there is an issue with remote communication.
      */
-    public synchronized void leaveGame(String playerNickname) throws RemoteException {
-        // check if the player is actually in the game
-        if(!game.getPlayers().stream().filter(p->p.getNickname().equals(playerNickname)).toList().isEmpty()){
-            GameListener gameListener = game.getPlayers().stream().filter(p->p.getNickname().equals(playerNickname)).toList().getFirst().getSelfListener();
-            game.getListener().notifyPlayerLeft(game, playerNickname);
-            game.removeListener(gameListener);
-            game.removePlayer(playerNickname);
-        }
+    public void leaveGame(String playerNickname) throws RemoteException {
+        mailbox.call(() -> {
+            // check if the player is actually in the game
+            Player leavingPlayer = game.getPlayer(playerNickname);
+            if(leavingPlayer != null){
+                GameListener gameListener = leavingPlayer.getSelfListener();
+                game.getListener().notifyPlayerLeft(game, playerNickname);
+                game.removeListener(gameListener);
+                game.removePlayer(playerNickname);
+                checkStatus();
+            }
+        });
     }
 
     /**
      * The method handles the transition and updating of player actions in the game.
      */
-    private synchronized void updateCurrPlayer() {
+    private void updateCurrPlayer() {
         if(!game.getStatus().equals(GameStatus.LASTROUND)){
             if(game.getPlayers().get(game.getCurrPlayer()).getAction().equals(PlayerAction.PLACE)){
                 game.getPlayers().get(game.getCurrPlayer()).setAction(PlayerAction.DRAW, this.game);
@@ -289,18 +376,20 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * @param side The side of the starter card to be placed into the Codex.
      * @throws Exception If the game is not in the STARTING phase or if the player has already placed their starter card.
      */
-    public synchronized void placeStarterOnCodex(Player player, Side side) throws Exception {
-        // Check if the game is in the STARTING phase
-        if (!game.getStatus().equals(GameStatus.STARTING)) {
-            throw new Exception("The current game is not in the starting phase.");
-        }
-        // Check if the player action is FIRSTMOVES
-        if (!player.getAction().equals(PlayerAction.FIRSTMOVES)) {
-            throw new Exception("The player has already placed his starter card");
-        }
-        // Proceed with inserting the starting card into the player's Codex
-        Player playerFromController = this.game.getPlayers().stream().filter(p->p.getNickname().equals(player.getNickname())).toList().getFirst();
-        playerFromController.getCodex().insertStarterIntoCodex(side, this.game, player.getNickname());
+    public void placeStarterOnCodex(Player player, Side side) throws Exception {
+        mailbox.call(() -> {
+            // Check if the game is in the STARTING phase
+            if (!game.getStatus().equals(GameStatus.STARTING)) {
+                throw new Exception("The current game is not in the starting phase.");
+            }
+            // Check if the player action is FIRSTMOVES
+            if (!player.getAction().equals(PlayerAction.FIRSTMOVES)) {
+                throw new Exception("The player has already placed his starter card");
+            }
+            // Proceed with inserting the starting card into the player's Codex
+            Player playerFromController = getPlayer(player.getNickname());
+            playerFromController.getCodex().insertStarterIntoCodex(side, this.game, player.getNickname());
+        });
     }
 
     /**
@@ -314,28 +403,30 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * @throws Exception if the game is not in the STARTING phase, or if the player has already made their selection
      *                   or if the player's current action is not set to DRAW.
      */
-    public synchronized void selectCardObjective(Player player, int cardObjective) throws Exception {
-        if (!game.getStatus().equals(GameStatus.STARTING)) {
-            throw new Exception("The current game is not in the starting phase.");
-        }
-        if (!player.getAction().equals(PlayerAction.FIRSTMOVES)) {
-            throw new Exception("The player has already chosen his personal objective");
-        }
-        // The player can choose his Objective card
-        Player playerFromController = this.game.getPlayers().stream().filter(p->p.getNickname().equals(player.getNickname())).toList().getFirst();
-        playerFromController.selectObjectiveCard(cardObjective, this.game);
-        if (playerFromController.getCodex().getCardStarterInserted()) {
-            playerFromController.setAction(PlayerAction.WAIT, this.game);
-            List<Player> firstMovers = game.getPlayers().stream().
-                    filter(x->(x.getAction().equals(PlayerAction.FIRSTMOVES)))
-                    .toList();
-
-            if(firstMovers.isEmpty()){
-                game.setStatus(GameStatus.RUNNING);
-                lastStatus = GameStatus.RUNNING;
-                game.getPlayers().get(game.getCurrPlayer()).setAction(PlayerAction.PLACE, this.game);
+    public void selectCardObjective(Player player, int cardObjective) throws Exception {
+        mailbox.call(() -> {
+            if (!game.getStatus().equals(GameStatus.STARTING)) {
+                throw new Exception("The current game is not in the starting phase.");
             }
-        }
+            if (!player.getAction().equals(PlayerAction.FIRSTMOVES)) {
+                throw new Exception("The player has already chosen his personal objective");
+            }
+            // The player can choose his Objective card
+            Player playerFromController = getPlayer(player.getNickname());
+            playerFromController.selectObjectiveCard(cardObjective, this.game);
+            if (playerFromController.getCodex().getCardStarterInserted()) {
+                playerFromController.setAction(PlayerAction.WAIT, this.game);
+                List<Player> firstMovers = game.getPlayers().stream().
+                        filter(x->(x.getAction().equals(PlayerAction.FIRSTMOVES)))
+                        .toList();
+
+                if(firstMovers.isEmpty()){
+                    game.setStatus(GameStatus.RUNNING);
+                    lastStatus = GameStatus.RUNNING;
+                    game.getPlayers().get(game.getCurrPlayer()).setAction(PlayerAction.PLACE, this.game);
+                }
+            }
+        });
     }
 
     /**
@@ -346,14 +437,14 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * If the game is not in the ENDING state, it sets the player's action to WAIT.
      * @param player The player whose action is to be updated based on the game's state.
      */
-    private synchronized void checkFinalAction(Player player) {
+    private void checkFinalAction(Player player) {
         if (player.getCodex().getPointCodex() >= Game.STOP_POINT_GAME && !game.getStatus().equals(GameStatus.ENDING)) {
             if(game.getStatus().equals(GameStatus.RUNNING) || game.getStatus().equals(GameStatus.HALTED)){
                 game.setStatus(GameStatus.ENDING);
                 lastStatus = GameStatus.ENDING;
             }
-        } else if(game.getDesk().getDeckResource().isEmpty()) {
-            if (game.getDesk().getDeckGold().isEmpty()){
+        } else if(game.getDesk().isDeckEmpty(DeckType.DECK_RESOURCE)) {
+            if (game.getDesk().isDeckEmpty(DeckType.DECK_GOLD)){
                 if(game.getStatus().equals(GameStatus.RUNNING) || game.getStatus().equals(GameStatus.HALTED) && !game.getStatus().equals(GameStatus.ENDING)){
                     game.setStatus(GameStatus.ENDING);
                     lastStatus = GameStatus.ENDING;
@@ -361,7 +452,7 @@ public class GameController implements GameControllerInterface, Runnable, Serial
             }
         }
         if(game.getStatus().equals(GameStatus.ENDING)){
-            if(game.getPlayers().indexOf(player)==game.getSize()-1){
+            if(game.getSeat(player.getNickname())==game.getSize()-1){
                 game.setStatus(GameStatus.LASTROUND);
                 lastStatus = GameStatus.LASTROUND;
             }
@@ -377,17 +468,31 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * @param deck The deck from which the card is drawn.
      * @throws Exception If the player's current action is not DRAW or if the game state is not suitable for drawing a card.
      */
-    public synchronized void drawCardFromDeck(Player player, DeckType deck) throws Exception {
-        // Check that the player is authorized to draw
-        Player playerFromController = this.game.getPlayers().stream().filter(p->p.getNickname().equals(player.getNickname())).toList().getFirst();
+    public void drawCardFromDeck(Player player, DeckType deck) throws Exception {
+        drawCardFromDeck(player, deck, CommandError.NO_REQUEST_ID);
+    }
 
-        if (playerFromController.getAction().equals(PlayerAction.DRAW) && (game.getStatus().equals(GameStatus.RUNNING) || game.getStatus().equals(GameStatus.ENDING))) {
-            playerFromController.addCardToHand(game.getDesk().drawCardDeck(deck));
-            checkFinalAction(playerFromController);
-            updateCurrPlayer();
-        } else {
-            game.getListener().notifyCardNotAddedToHand(game, player.getNickname());
-        }
+    /**
+     * Allows a player to draw a card from a specified deck, see drawCardFromDeck(Player, DeckType). If the draw is
+     * rejected, the id of the request is sent back only to the player.
+     * @param player The player who is drawing the card. This player must have their action set to DRAW.
+     * @param deck The deck from which the card is drawn.
+     * @param requestId The id given to the draw by the client, or NO_REQUEST_ID for the draws made by the server.
+     * @throws Exception If the player's current action is not DRAW or if the game state is not suitable for drawing a card.
+     */
+    public void drawCardFromDeck(Player player, DeckType deck, int requestId) throws Exception {
+        mailbox.call(() -> {
+            // Check that the player is authorized to draw
+            Player playerFromController = getPlayer(player.getNickname());
+
+            if (playerFromController.getAction().equals(PlayerAction.DRAW) && (game.getStatus().equals(GameStatus.RUNNING) || game.getStatus().equals(GameStatus.ENDING))) {
+                playerFromController.addCardToHand(game.getDesk().drawCardDeck(deck, playerFromController.getSelfListener()));
+                checkFinalAction(playerFromController);
+                updateCurrPlayer();
+            } else {
+                reject(playerFromController, requestId, ErrorCode.CARD_NOT_ADDED_TO_HAND, null);
+            }
+        });
     }
 
     /**
@@ -400,17 +505,33 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * @param index The index of the card in the displayed deck that the player wishes to draw.
      * @throws RemoteException If there is an issue with remote communication.
      */
-    public synchronized void drawCardDisplayed(Player player, DeckType deck, int index) throws RemoteException {
-        // Check that the player is authorized to draw
-        Player playerFromController = this.game.getPlayers().stream().filter(p->p.getNickname().equals(player.getNickname())).toList().getFirst();
+    public void drawCardDisplayed(Player player, DeckType deck, int index) throws RemoteException {
+        drawCardDisplayed(player, deck, index, CommandError.NO_REQUEST_ID);
+    }
 
-        if (playerFromController.getAction().equals(PlayerAction.DRAW) && (game.getStatus().equals(GameStatus.RUNNING) || game.getStatus().equals(GameStatus.ENDING))) {
-            playerFromController.addCardToHand(game.getDesk().drawCardDisplayed(deck, index));
-            checkFinalAction(playerFromController);
-            updateCurrPlayer();
-        } else {
-            game.getListener().notifyCardNotAddedToHand(game, player.getNickname());
-        }
+    /**
+     * Allows a player to draw a specific card from a displayed deck, see drawCardDisplayed(Player, DeckType, int). If
+     * the draw is rejected, the id of the request is sent back only to the player.
+     * @param player The player who is drawing the card.
+     * @param deck The displayed deck from which the card is drawn.
+     * @param index The index of the card in the displayed deck that the player wishes to draw.
+     * @param requestId The id given to the draw by the client, or NO_REQUEST_ID for the draws made by the server.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    public void drawCardDisplayed(Player player, DeckType deck, int index, int requestId) throws RemoteException {
+        mailbox.call(() -> {
+            // Check that the player is authorized to draw
+            Player playerFromController = getPlayer(player.getNickname());
+
+            if (playerFromController.getAction().equals(PlayerAction.DRAW) && (game.getStatus().equals(GameStatus.RUNNING) || game.getStatus().equals(GameStatus.ENDING))) {
+                playerFromController.addCardToHand(game.getDesk().drawCardDisplayed(deck, index,
+                        playerFromController.getSelfListener()));
+                checkFinalAction(playerFromController);
+                updateCurrPlayer();
+            } else {
+                reject(playerFromController, requestId, ErrorCode.CARD_NOT_ADDED_TO_HAND, null);
+            }
+        });
     }
 
     /**
@@ -420,7 +541,7 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      */
     @Override
     public void sendChatMessage(ChatMessage chatMessage) throws RemoteException {
-        this.game.addMessage(chatMessage);
+        mailbox.call(() -> this.game.addMessage(chatMessage));
     }
 
     /**
@@ -459,11 +580,13 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * @throws Exception If the game size is not valid.
      */
     public void updateGameSize(int size) throws Exception {
-        if(game.getSize() != 1 || size<=1 || size>4){
-            throw new Exception("Game size is not valid");
-        } else {
-            game.setSize(size);
-        }
+        mailbox.call(() -> {
+            if(game.getSize() != 1 || size<=1 || size>4){
+                throw new Exception("Game size is not valid");
+            } else {
+                game.setSize(size);
+            }
+        });
     }
 
     /**
@@ -483,36 +606,100 @@ public class GameController implements GameControllerInterface, Runnable, Serial
      * @throws Exception If the game's status is not RUNNING or ENDING, if the player's action is not PLACE, or if there
      *                   is an error in placing the card in the Codex.
      */
-    public synchronized void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col) throws Exception {
-        Player playerFromController = this.game.getPlayers().stream().filter(p->p.getNickname().equals(player.getNickname())).toList().getFirst();
-        if (game.getStatus().equals(GameStatus.RUNNING) || game.getStatus().equals(GameStatus.ENDING) || game.getStatus().equals(GameStatus.LASTROUND)) {
-            if (playerFromController.getAction().equals(PlayerAction.PLACE)) {
-                Side side = getSide(playerFromController, index, frontCard);
-                if (playerFromController.getCodex().insertIntoCodex(this.game, side, row, col)) {
-                    playerFromController.removeCardFromHand(index);
-                    updateCurrPlayer();
-                    if (game.getStatus().equals(GameStatus.LASTROUND)) {
-                        playerFromController.setAction(PlayerAction.ENDED, this.game);
-                        boolean allPlayersEnded = game.getPlayers().stream()
-                                .filter(x->(!x.getAction().equals(PlayerAction.ENDED)))
-                                .toList()
-                                .isEmpty();
-                        if (allPlayersEnded) {
-                            game.getWinner();
-                            game.setStatus(GameStatus.ENDED);
-                            lastStatus = GameStatus.ENDED;
+    public void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col) throws Exception {
+        placeCardOnCodex(player, index, frontCard, row, col, CommandError.NO_REQUEST_ID);
+    }
+
+    /**
+     * Places a card from the player's hand onto a specified position in their Codex, see
+     * placeCardOnCodex(Player, int, boolean, int, int). If the placement is rejected, the id of the request is sent
+     * back only to the player.
+     * @param player The player who is placing the card.
+     * @param index The index of the card in the player's hand to be placed.
+     * @param frontCard A boolean indicating whether to place the front (true) or back (false) side of the card.
+     * @param row The row in the Codex where the card is to be placed.
+     * @param col The column in the Codex where the card is to be placed.
+     * @param requestId The id given to the placement by the client, or NO_REQUEST_ID for the ones without an id.
+     * @throws Exception If the game's status is not RUNNING or ENDING, if the player's action is not PLACE, or if there
+     *                   is an error in placing the card in the Codex.
+     */
+    public void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col, int requestId) throws Exception {
+        mailbox.call(() -> {
+            Player playerFromController = getPlayer(player.getNickname());
+            if (game.getStatus().equals(GameStatus.RUNNING) || game.getStatus().equals(GameStatus.ENDING) || game.getStatus().equals(GameStatus.LASTROUND)) {
+                if (playerFromController.getAction().equals(PlayerAction.PLACE)) {
+                    Side side = getSide(playerFromController, index, frontCard);
+                    PlacementResult result = playerFromController.getCodex().placeIntoCodex(this.game, side, row, col);
+                    if (result == PlacementResult.OK) {
+                        playerFromController.removeCardFromHand(index);
+                        game.getListener().notifyProjectedScore(this.game, playerFromController.getSelfListener(),
+                                playerFromController.getNickname(), playerFromController.getProjectedScore(),
+                                playerFromController.getPublicProjectedScore(game.getDesk().getDisplayedObjective()));
+                        updateCurrPlayer();
+                        if (game.getStatus().equals(GameStatus.LASTROUND)) {
+                            playerFromController.setAction(PlayerAction.ENDED, this.game);
+                            boolean allPlayersEnded = game.getPlayers().stream()
+                                    .filter(x->(!x.getAction().equals(PlayerAction.ENDED)))
+                                    .toList()
+                                    .isEmpty();
+                            if (allPlayersEnded) {
+                                game.getWinner();
+                                game.setStatus(GameStatus.ENDED);
+                                lastStatus = GameStatus.ENDED;
+                                checkStatus();
+                            }
                         }
+                    } else if (result == PlacementResult.NO_SIDE) {
+                        reject(playerFromController, requestId, ErrorCode.CAN_NOT_PLACE_CARD, null);
+                    } else if (result == PlacementResult.GOLD_REQUIREMENT) {
+                        reject(playerFromController, requestId, ErrorCode.REQUIREMENTS_NOT_RESPECTED, ((FrontGold) side).getRequirementPlacement());
+                    } else {
+                        reject(playerFromController, requestId, ErrorCode.INVALID_COORDINATES, null);
                     }
+                } else {
+                    reject(playerFromController, requestId, ErrorCode.CAN_NOT_PLACE_CARD, null);
+                    throw new Exception("The player is not the current player or the game is not running or he's current action is not place, it's "+game.getPlayers().get(game.getCurrPlayer()).getNickname());
                 }
             } else {
-                game.getListener().notifyCanNotPlaceCard(game, playerFromController.getNickname());
-                throw new Exception("The player is not the current player or the game is not running or he's current action is not place, it's "+game.getPlayers().get(game.getCurrPlayer()).getNickname());
+                throw new Exception("The current GameStatus is not either RUNNING or ENDING or LASTROUND, it's "+game.getStatus());
             }
-        } else {
-            throw new Exception("The current GameStatus is not either RUNNING or ENDING or LASTROUND, it's "+game.getStatus());
+        });
+    }
+
+    /**
+     * Method to report a rejected move only to the player who made it. The moves without an id, made by the server
+     * or by a replay, and the ones of a player without a listener, such as a disconnected one, are only logged.
+     * @param player The player.
+     * @param requestId The id given to the move by the client.
+     * @param code The reason of the rejection.
+     * @param requirementsPlacement The requirements not respected by the card, or null.
+     */
+    private void reject(Player player, int requestId, ErrorCode code, ArrayList<Value> requirementsPlacement) {
+        if (requestId == CommandError.NO_REQUEST_ID) {
+            AsyncLogger.log(Level.INFO, "[GAME CONTROLLER] Move of " + player.getNickname() + " rejected: " + code);
+            return;
+        }
+        CommandError error = new CommandError(code, requestId, requirementsPlacement);
+        if (!game.getListener().notifyCommandRejected(player.getSelfListener(), error)) {
+            AsyncLogger.log(Level.WARNING, "[GAME CONTROLLER] Move " + requestId + " of " + player.getNickname() +
+                    " rejected with no listener to report it to: " + code);
         }
     }
 
+    /**
+     * Method to get a player of the game by nickname.
+     * @param nickname The nickname of the player.
+     * @return The player.
+     * @throws NoSuchElementException If no player of the game has that nickname.
+     */
+    private Player getPlayer(String nickname) throws NoSuchElementException {
+        Player player = game.getPlayer(nickname);
+        if (player == null) {
+            throw new NoSuchElementException("No player with nickname " + nickname);
+        }
+        return player;
+    }
+
     /**
      * Retrieves the current game instance associated with this object.
      * @return The current instance of Game associated with this class.
@@ -522,47 +709,39 @@ public class GameController implements GameControllerInterface, Runnable, Serial
     }
 
     /**
-     * The main game loop that handles different game statuses and manages online player interactions.
-     * This method runs continuously until the thread is interrupted. It checks the game status and adjusts the game flow
-     * accordingly, handling player connectivity and game state transitions.
-     * @throws RuntimeException If an error occurs during the game deletion process, encapsulating the original
-     *                          NoSuchGameException.
+     * Method for checking the status of the game after a change, for the games checked in the background: the game
+     * ends when no player is online and is halted when only one player is online. An ended game is removed from the
+     * MainController at once, outside the mailbox of the game.
      */
-    @Override
-    public void run() {
-        while (!Thread.interrupted()){
-            if (game.getStatus().equals(GameStatus.STARTING) || game.getStatus().equals(GameStatus.RUNNING) ||
-                    game.getStatus().equals(GameStatus.ENDING ) || game.getStatus().equals(GameStatus.HALTED) || game.getStatus().equals(GameStatus.LASTROUND)) {
-                List<Player> onlinePlayers = game.getOnlinePlayers();
-                // If there are no players online, delete the game
-                if (onlinePlayers.isEmpty()) {
-                    game.setStatus(GameStatus.ENDED);
-                } else {
-                    if (onlinePlayers.size() == 1 && game.getPlayers().size()>1) {
-                        // If there is only one player and the status isn't WAITING
-                        // then a timer start and if nobody reconnect before the timer's end
-                        // the only player left is the winner
-                        game.setStatus(GameStatus.HALTED);
-                        startTimer();
-                    }
-                }
+    private void checkStatus() {
+        if (pingCheck == null) {
+            return;
+        }
+        if (game.getStatus().equals(GameStatus.STARTING) || game.getStatus().equals(GameStatus.RUNNING) ||
+                game.getStatus().equals(GameStatus.ENDING ) || game.getStatus().equals(GameStatus.HALTED) || game.getStatus().equals(GameStatus.LASTROUND)) {
+            List<Player> onlinePlayers = game.getOnlinePlayers();
+            // If there are no players online, end the game
+            if (onlinePlayers.isEmpty()) {
+                game.setStatus(GameStatus.ENDED);
+            } else if (onlinePlayers.size() == 1 && game.getPlayers().size() > 1 && !game.getStatus().equals(GameStatus.HALTED)) {
+                // If there is only one player and the status isn't WAITING
+                // then a timer start and if nobody reconnect before the timer's end
+                // the only player left is the winner
+                game.setStatus(GameStatus.HALTED);
+                startTimer();
             }
-            if (game.getStatus().equals(GameStatus.ENDED)) {
+        }
+        if (game.getStatus().equals(GameStatus.ENDED) && !removalScheduled) {
+            removalScheduled = true;
+            ServerThreads.timers().execute(() -> {
                 try {
-                    // The game has ended, I should update the view and announce the winner.
-                    // then I'll delete the game and close this thread.
                     MainController.getInstance().deleteGame(game.getIdGame());
-                    return;
                 } catch (NoSuchGameException e) {
-                    throw new RuntimeException(e);
+                    stopTimers();
+                    AsyncLogger.log(Level.WARNING, "[GAME CONTROLLER] Ended game " + game.getIdGame() + " was not registered.");
                 }
-            }
-            try {
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+            });
         }
     }
 
-}
\ No newline at end of file
+}
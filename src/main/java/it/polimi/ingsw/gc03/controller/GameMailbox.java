@@ -0,0 +1,135 @@
+package it.polimi.ingsw.gc03.controller;
+
+import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * This class runs the commands of a game one at a time, in the order they were received, so that the state of the game
+ * is only changed by one thread at a time without locks. The commands are added to a queue by any thread, and the
+ * first command added to an empty queue starts a turn on the executor, which processes the commands until the queue
+ * is empty. A mailbox without an executor runs the commands on the calling thread, for the games used by one thread.
+ */
+final class GameMailbox {
+
+    /**
+     * The executor running the turns of the mailbox, or null to run the commands on the calling thread.
+     */
+    private final Executor executor;
+
+    /**
+     * The commands waiting to be run.
+     */
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of commands added and not yet run.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * The thread running a command of the mailbox, or null.
+     */
+    private volatile Thread consumer;
+
+    /**
+     * Constructor of the mailbox.
+     * @param executor The executor running the turns of the mailbox, or null to run the commands on the calling thread.
+     */
+    GameMailbox(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Method for adding a command to the mailbox without waiting for it: an exception of the command is logged.
+     * @param command The command.
+     */
+    void post(Action<?> command) {
+        Runnable task = () -> {
+            try {
+                command.run();
+            } catch (Exception e) {
+                AsyncLogger.log(Level.SEVERE, "[GAME CONTROLLER] Unexpected exception: " + e.getMessage());
+            }
+        };
+        if (this.executor == null) {
+            task.run();
+            return;
+        }
+        this.commands.add(task);
+        if (this.pending.getAndIncrement() == 0) {
+            this.executor.execute(this::processCommands);
+        }
+    }
+
+    /**
+     * Method for running a command in the mailbox and waiting for it. A command called by another command of the same
+     * mailbox is run at once.
+     * @param command The command.
+     * @param <X> The exception thrown by the command.
+     * @throws X If the command throws it.
+     */
+    @SuppressWarnings("unchecked")
+    <X extends Exception> void call(Action<X> command) throws X {
+        if (this.executor == null || this.consumer == Thread.currentThread()) {
+            command.run();
+            return;
+        }
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        post(() -> {
+            try {
+                command.run();
+                done.complete(null);
+            } catch (Exception | Error e) {
+                done.completeExceptionally(e);
+            }
+        });
+        try {
+            done.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime)
+                throw runtime;
+            if (cause instanceof Error error)
+                throw error;
+            throw (X) cause;
+        }
+    }
+
+    /**
+     * Method for running the commands of the mailbox until none is left.
+     */
+    private void processCommands() {
+        do {
+            this.consumer = Thread.currentThread();
+            try {
+                this.commands.remove().run();
+            } catch (RuntimeException | Error e) {
+                AsyncLogger.log(Level.SEVERE, "[GAME CONTROLLER] Unexpected exception: " + e.getMessage());
+            } finally {
+                this.consumer = null;
+            }
+        } while (this.pending.decrementAndGet() > 0);
+    }
+
+    /**
+     * Interface of the commands run by the mailbox.
+     * @param <X> The exception thrown by the command.
+     */
+    @FunctionalInterface
+    interface Action<X extends Exception> {
+
+        /**
+         * Method for running the command.
+         * @throws X If the command fails.
+         */
+        void run() throws X;
+
+    }
+
+}
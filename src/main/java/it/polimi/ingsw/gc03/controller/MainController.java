@@ -1,17 +1,29 @@
 package it.polimi.ingsw.gc03.controller;
 
 import it.polimi.ingsw.gc03.listeners.GameListener;
+import it.polimi.ingsw.gc03.model.Game;
+import it.polimi.ingsw.gc03.model.Player;
 import it.polimi.ingsw.gc03.model.enumerations.GameStatus;
 import it.polimi.ingsw.gc03.model.exceptions.NoSuchGameException;
+import it.polimi.ingsw.gc03.model.exceptions.PlayerAlreadyJoinedException;
 import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
 import it.polimi.ingsw.gc03.networking.rmi.MainControllerInterface;
 import java.io.Serializable;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
  * MainController is a singleton that manages the creation and joining of games.
+ * The games are kept in concurrent maps indexed by their ID and by the nicknames of their players, and the games
+ * waiting for players are kept in a queue for each size, so that the clients joining, reconnecting and leaving do not
+ * wait for each other. The indexes are updated by the MainController and checked again when they are read, since the
+ * players can also leave a game or change its size through its GameController.
  */
 public class MainController implements MainControllerInterface, Serializable {
 
@@ -21,15 +33,28 @@ public class MainController implements MainControllerInterface, Serializable {
     private static MainController instance = null;
 
     /**
-     * List of game controllers managing individual games.
+     * The game controllers managing the games, indexed by the ID of their game.
      */
-    private List<GameController> gameControllers;
+    private final Map<Integer, GameController> gameControllers;
+
+    /**
+     * The game controllers indexed by the nickname of the players who joined them.
+     */
+    private final Map<String, GameController> gamesByNickname;
+
+    /**
+     * The games waiting for players, in a queue for each size of the game in ascending order; the size is 1 until the
+     * first player chooses it.
+     */
+    private final ConcurrentSkipListMap<Integer, Queue<GameController>> lobbies;
 
     /**
      * Private constructor to prevent instantiation.
      */
     private MainController() {
-        gameControllers = new ArrayList<>();
+        gameControllers = new ConcurrentHashMap<>();
+        gamesByNickname = new ConcurrentHashMap<>();
+        lobbies = new ConcurrentSkipListMap<>();
     }
 
     /**
@@ -50,11 +75,12 @@ public class MainController implements MainControllerInterface, Serializable {
      * @return The created GameControllerInterface.
      * @throws RemoteException If there is a remote communication error.
      */
-    public synchronized GameControllerInterface createGame(GameListener gameListener, String firstPlayerNickname) throws RemoteException {
+    public GameControllerInterface createGame(GameListener gameListener, String firstPlayerNickname) throws RemoteException {
         try {
             GameController controller = new GameController();
-            gameControllers.add(controller);
+            gameControllers.put(controller.getGame().getIdGame(), controller);
             joinSpecificGame(gameListener, firstPlayerNickname, controller.getGame().getIdGame());
+            openLobby(controller);
             controller.getGame().getListener().notifyGameCreated(controller.getGame());
             return controller;
         } catch (Exception e) {
@@ -64,33 +90,62 @@ public class MainController implements MainControllerInterface, Serializable {
     }
 
     /**
-     * Add a player to the first available game that has waiting status and available slots.
+     * Add a player to the first available game that has waiting status and available slots, looking first at the
+     * smallest games.
      * @param listener The player's listener for game events.
      * @param playerNickname The nickname of the player.
      * @return The GameControllerInterface for the game joined.
      * @throws RemoteException If there is a remote communication error.
      */
-    public synchronized GameControllerInterface joinFirstAvailableGame(GameListener listener, String playerNickname) throws RemoteException {
-            List<GameController> GCs = gameControllers.stream()
-                    .filter(x -> (x.getGame().getStatus().equals(GameStatus.WAITING) && x.getGame().getPlayers().size() < x.getGame().getSize()))
-                    .toList();
-            return addPlayerToGame(playerNickname, listener, GCs);
+    public GameControllerInterface joinFirstAvailableGame(GameListener listener, String playerNickname) throws RemoteException {
+        // The next size is looked up after each queue, so that the games moved to a larger size are visited too
+        for (Integer size = lobbies.isEmpty() ? null : lobbies.firstKey(); size != null; size = lobbies.higherKey(size)) {
+            Queue<GameController> lobby = lobbies.get(size);
+            for (GameController controller : lobby) {
+                Game game = controller.getGame();
+                if (gameControllers.get(game.getIdGame()) != controller || !game.getStatus().equals(GameStatus.WAITING)) {
+                    // The game has started or has been deleted
+                    lobby.remove(controller);
+                } else if (game.getSize() != size) {
+                    // The size of the game has been chosen after it was queued
+                    lobby.remove(controller);
+                    openLobby(controller);
+                } else if (game.getPlayers().size() < game.getSize()) {
+                    try {
+                        controller.addPlayerToGame(playerNickname, listener);
+                        gamesByNickname.put(playerNickname, controller);
+                        return controller;
+                    } catch (PlayerAlreadyJoinedException e) {
+                        System.out.println(e);
+                        return null;
+                    } catch (Exception e) {
+                        // Another player took the last place, try the next game
+                        lobby.remove(controller);
+                    }
+                }
+            }
+        }
+        return createGame(listener, playerNickname);
     }
 
     /**
      * Adds a player to a specific game by its ID.
+     * If no game has the ID, a new game is created.
      * @param listener The listener for game events.
      * @param playerNickname The nickname of the player.
      * @param id The ID of the game to join.
      * @return The GameControllerInterface for the game joined.
      * @throws RemoteException If there is a remote communication error.
      */
-    public synchronized GameControllerInterface joinSpecificGame(GameListener listener, String playerNickname, int id) throws RemoteException {
+    public GameControllerInterface joinSpecificGame(GameListener listener, String playerNickname, int id) throws RemoteException {
+        GameController controller = gameControllers.get(id);
+        if (controller == null) {
+            return createGame(listener, playerNickname);
+        }
         try {
-            List<GameController> GCs = gameControllers.stream()
-                    .filter(x -> (x.getGame().getIdGame() == id))
-                    .toList();
-            return addPlayerToGame(playerNickname, listener, GCs);
+            controller.addPlayerToGame(playerNickname, listener);
+            gamesByNickname.put(playerNickname, controller);
+            return controller;
         } catch (Exception e) {
             System.out.println(e);
         }
@@ -98,26 +153,30 @@ public class MainController implements MainControllerInterface, Serializable {
     }
 
     /**
-     * Adds a player to the first element of the passed GameController list.
-     * If no game is available, a new game is created.
+     * Adds a game waiting for players to the queue of its size.
+     * @param controller The controller of the game.
+     */
+    private void openLobby(GameController controller) {
+        lobbies.computeIfAbsent(controller.getGame().getSize(), size -> new ConcurrentLinkedQueue<>()).add(controller);
+    }
+
+    /**
+     * Finds the game of a player.
      * @param playerNickname The nickname of the player.
-     * @param listener The player's listener for game events.
-     * @param GCs The list of GameControllers.
-     * @return The GameControllerInterface for the game joined or created.
-     * @throws RemoteException If there is a remote communication error.
+     * @return The controller of the game, or null if the player is not in any game.
      */
-    private GameControllerInterface addPlayerToGame(String playerNickname, GameListener listener, List<GameController> GCs) throws RemoteException {
-        if (!GCs.isEmpty()) {
-            try {
-                GCs.get(0).addPlayerToGame(playerNickname, listener);
-                return GCs.get(0);
-            } catch (Exception e) {
-                System.out.println(e);
-            }
-        } else {
-            return createGame(listener, playerNickname);
+    private GameController findGame(String playerNickname) {
+        GameController controller = gamesByNickname.get(playerNickname);
+        if (controller == null)
+            return null;
+        Game game = controller.getGame();
+        if (gameControllers.get(game.getIdGame()) != controller ||
+                game.getPlayer(playerNickname) == null) {
+            // The player left the game or the game has been deleted
+            gamesByNickname.remove(playerNickname, controller);
+            return null;
         }
-        return null;
+        return controller;
     }
 
     /**
@@ -127,22 +186,16 @@ public class MainController implements MainControllerInterface, Serializable {
      * @return The GameControllerInterface for the game reconnected to.
      * @throws RemoteException If there is a remote communication error.
      */
-    public synchronized GameControllerInterface reconnectToGame(GameListener gameListener, String playerNickname) throws RemoteException {
-        List<GameController> GCs = gameControllers.stream()
-                .filter(gc -> gc.getGame().getPlayers().stream()
-                        .anyMatch(p -> p.getNickname().equals(playerNickname)))
-                .toList();
-
-        if (!GCs.isEmpty()) {
-            if (!GCs.get(0).getGame().getPlayers().stream()
-                    .filter(p -> p.getNickname().equals(playerNickname))
-                    .toList().get(0).getOnline()) {
+    public GameControllerInterface reconnectToGame(GameListener gameListener, String playerNickname) throws RemoteException {
+        GameController controller = findGame(playerNickname);
+        if (controller != null) {
+            if (!controller.getGame().getPlayer(playerNickname).getOnline()) {
                 try {
-                    GCs.get(0).reconnectPlayer(playerNickname, gameListener);
+                    controller.reconnectPlayer(playerNickname, gameListener);
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
-                return GCs.get(0);
+                return controller;
             }
         } else {
             gameListener.noGameToReconnect(null, playerNickname);
@@ -151,16 +204,17 @@ public class MainController implements MainControllerInterface, Serializable {
     }
 
     /**
-     * Deletes a game by its ID.
+     * Deletes a game by its ID, stopping its timed tasks.
      * @param idGame The ID of the game to delete.
      * @throws NoSuchGameException If the game with the specified ID does not exist.
      */
-    public synchronized void deleteGame(int idGame) throws NoSuchGameException {
-        List<GameController> gameToRemove = gameControllers.stream()
-                .filter(x -> (x.getGame().getIdGame() == idGame))
-                .toList();
-        if (!gameToRemove.isEmpty()) {
-            gameControllers.remove(gameToRemove.get(0));
+    public void deleteGame(int idGame) throws NoSuchGameException {
+        GameController controller = gameControllers.remove(idGame);
+        if (controller != null) {
+            for (Player player : controller.getGame().getPlayers()) {
+                gamesByNickname.remove(player.getNickname(), controller);
+            }
+            controller.stopTimers();
         } else {
             throw new NoSuchGameException();
         }
@@ -168,10 +222,10 @@ public class MainController implements MainControllerInterface, Serializable {
 
     /**
      * Returns the list of GameControllers.
-     * @return The list of GameControllers.
+     * @return A copy of the list of GameControllers.
      */
     public List<GameController> getGameControllers() {
-        return gameControllers;
+        return new ArrayList<>(gameControllers.values());
     }
 
     /**
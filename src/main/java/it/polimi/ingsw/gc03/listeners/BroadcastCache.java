@@ -0,0 +1,109 @@
+package it.polimi.ingsw.gc03.listeners;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class keeps the values computed for a single notification and shared by all its listeners, such as the bytes
+ * of a socket message, so that they are computed once instead of once per listener. The ListenersHandler makes the
+ * cache of a notification current for the threads sending it; outside a notification every value is computed again.
+ * Only the threads asking for the same value wait for each other while it is computed.
+ */
+public final class BroadcastCache {
+
+    /**
+     * The cache of the notification running on the current thread.
+     */
+    private static final ThreadLocal<BroadcastCache> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The values computed during the notification, or being computed.
+     */
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> values = new ConcurrentHashMap<>();
+
+    /**
+     * This interface represents the computation of a shared value.
+     * @param <T> The type of the value.
+     */
+    @FunctionalInterface
+    public interface Encoder<T> {
+
+        /**
+         * Method for computing the value.
+         * @return The value.
+         * @throws IOException If the value cannot be computed.
+         */
+        T encode() throws IOException;
+
+    }
+
+    /**
+     * Method for making this cache the one of the current thread.
+     * @return The cache that was current before, to be restored with exit.
+     */
+    BroadcastCache enter() {
+        BroadcastCache previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * Method for restoring the cache that was current before a notification.
+     * @param previous The cache returned by enter, or null.
+     */
+    static void exit(BroadcastCache previous) {
+        if (previous == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(previous);
+    }
+
+    /**
+     * Method to retrieve a value shared by the listeners of the current notification, computing it the first time.
+     * @param key The key of the value, equal for all the listeners.
+     * @param encoder The computation of the value.
+     * @return The shared value, or a new one if no notification is running.
+     * @param <T> The type of the value.
+     * @throws IOException If the value cannot be computed.
+     */
+    public static <T> T share(Object key, Encoder<T> encoder) throws IOException {
+        BroadcastCache cache = CURRENT.get();
+        return cache == null ? encoder.encode() : cache.get(key, encoder);
+    }
+
+    /**
+     * Method to retrieve a value of the cache, computing it the first time. The other threads asking for the same
+     * value wait for it, and if it cannot be computed the next thread asking for it tries again.
+     * @param key The key of the value.
+     * @param encoder The computation of the value.
+     * @return The value.
+     * @param <T> The type of the value.
+     * @throws IOException If the value cannot be computed.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T get(Object key, Encoder<T> encoder) throws IOException {
+        CompletableFuture<Object> computing = new CompletableFuture<>();
+        CompletableFuture<Object> value = this.values.putIfAbsent(key, computing);
+        if (value == null) {
+            try {
+                T encoded = encoder.encode();
+                computing.complete(encoded);
+                return encoded;
+            } catch (IOException | RuntimeException | Error e) {
+                this.values.remove(key, computing);
+                computing.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return (T) value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException cause)
+                throw new IOException(cause.getMessage(), cause);
+            throw e;
+        }
+    }
+
+}
@@ -1,11 +1,11 @@
 package it.polimi.ingsw.gc03.listeners;
 
 import it.polimi.ingsw.gc03.model.ChatMessage;
+import it.polimi.ingsw.gc03.model.CommandError;
 import it.polimi.ingsw.gc03.model.GameImmutable;
 import it.polimi.ingsw.gc03.model.Player;
 import it.polimi.ingsw.gc03.model.card.Card;
 import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
-import it.polimi.ingsw.gc03.model.enumerations.Value;
 import java.rmi.Remote;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
@@ -129,23 +129,6 @@ public interface GameListener extends Remote {
      */
     void positionedStarterCardIntoCodex(GameImmutable gameImmutable, String nickname) throws RemoteException;
 
-    /**
-     * This method is used to inform the client that the coordinates where he wants to insert the card are not valid.
-     * @param gameImmutable The immutable game gameImmutable.
-     * @param row The row where the card wanted to be placed.
-     * @param column The column where the card wanted to be placed.
-     * @throws RemoteException If an error occurs in remote communication.
-     */
-    void invalidCoordinates(GameImmutable gameImmutable, int row, int column) throws RemoteException;
-
-    /**
-     * This method is used to inform the client that the positioning requirements are not respected.
-     * @param gameImmutable The immutable game gameImmutable.
-     * @param requirementsPlacement The requirements for card placement.
-     * @throws RemoteException If an error occurs in remote communication.
-     */
-    void requirementsPlacementNotRespected(GameImmutable gameImmutable, ArrayList<Value> requirementsPlacement) throws RemoteException;
-
     /**
      * This method is used to inform the client that the points have been added.
      * @param gameImmutable The immutable game gameImmutable.
@@ -195,13 +178,6 @@ public interface GameListener extends Remote {
      */
     void cardAddedToHand(GameImmutable gameImmutable, Card card) throws RemoteException;
 
-    /**
-     * This method is used to inform the client that a card was not added to his hand.
-     * @param gameImmutable The immutable game gameImmutable.
-     * @throws RemoteException If an error occurs in remote communication.
-     */
-    void cardNotAddedToHand(GameImmutable gameImmutable, String nickname) throws RemoteException;
-
     /**
      * This method is used to inform the client that the conditions to end the game have been reached.
      * @param gameImmutable The immutable game gameImmutable.
@@ -217,6 +193,17 @@ public interface GameListener extends Remote {
      */
     void addedPointObjective(GameImmutable gameImmutable, int objectivePoint) throws RemoteException;
 
+    /**
+     * This method is used to inform the client of the score a player would make if the game ended now. The other
+     * players are not told the projected points of the personal Objective card of the player.
+     * @param gameImmutable The immutable game gameImmutable.
+     * @param nickname The nickname of the player.
+     * @param projectedScore The points made with the codex plus the projected points of the Objective cards, only of
+     *                       the common ones for the other players.
+     * @throws RemoteException If an error occurs in remote communication.
+     */
+    void projectedScoreUpdated(GameImmutable gameImmutable, String nickname, int projectedScore) throws RemoteException;
+
     /**
      * This method is used to inform the client which players won the game.
      * @param gameImmutable The immutable game gameImmutable.
@@ -257,11 +244,10 @@ public interface GameListener extends Remote {
     void gameCreated(GameImmutable gameImmutable) throws RemoteException;
 
     /**
-     * This method is used to inform the clients that a player tried to place a card when he can't.
-     * @param gameImmutable The immutable game object.
-     * @param nickname The nickname of the player who tried.
+     * This method is used to inform only the client of a player that one of their moves has been rejected.
+     * @param error The reason of the rejection and the id of the move rejected.
      * @throws RemoteException If an error occurs in remote communication.
      */
-    void canNotPlaceCard(GameImmutable gameImmutable, String nickname) throws RemoteException;
+    void commandRejected(CommandError error) throws RemoteException;
 
 }
\ No newline at end of file
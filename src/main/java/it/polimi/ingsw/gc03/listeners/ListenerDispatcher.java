@@ -0,0 +1,159 @@
+package it.polimi.ingsw.gc03.listeners;
+
+import it.polimi.ingsw.gc03.networking.ServerThreads;
+import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
+import java.rmi.RemoteException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * This class delivers the notifications of a single GameListener. The notifications are queued by the thread changing
+ * the game and sent, in order, by a task of a shared executor, so that a slow or disconnected client does not stop the
+ * game nor the other clients. A client whose queue is full is considered too slow and is evicted.
+ */
+public class ListenerDispatcher {
+
+    /**
+     * The maximum number of notifications waiting to be sent to a client.
+     */
+    public static final int CAPACITY = 256;
+
+    /**
+     * The executor shared by the dispatchers of every game, with threads of the kind used by the server, see
+     * ServerThreads.
+     */
+    private static final ExecutorService SENDERS = ServerThreads.newTaskExecutor("listener-sender");
+
+    /**
+     * The listener.
+     */
+    private final GameListener gameListener;
+
+    /**
+     * The notifications waiting to be sent.
+     */
+    private final ArrayBlockingQueue<Delivery> outbound;
+
+    /**
+     * Boolean indicating whether a task is sending the queued notifications.
+     */
+    private final AtomicBoolean sending = new AtomicBoolean(false);
+
+    /**
+     * Boolean indicating whether the listener has been evicted.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * This interface represents a notification ready to be sent to a listener.
+     */
+    @FunctionalInterface
+    interface Delivery {
+
+        /**
+         * Method for sending the notification.
+         * @param gameListener The listener.
+         * @throws RemoteException If the listener is disconnected.
+         */
+        void deliver(GameListener gameListener) throws RemoteException;
+
+    }
+
+    /**
+     * Constructor of the dispatcher of a listener.
+     * @param gameListener The listener.
+     */
+    public ListenerDispatcher(GameListener gameListener) {
+        this(gameListener, CAPACITY);
+    }
+
+    /**
+     * Constructor of the dispatcher of a listener.
+     * @param gameListener The listener.
+     * @param capacity The maximum number of notifications waiting to be sent.
+     */
+    public ListenerDispatcher(GameListener gameListener, int capacity) {
+        this.gameListener = gameListener;
+        this.outbound = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Method for queuing a notification without waiting for it to be sent. If the queue is full the listener is evicted.
+     * @param delivery The notification.
+     * @return A boolean indicating whether the notification has been queued.
+     */
+    boolean offer(Delivery delivery) {
+        if (this.closed)
+            return false;
+        if (!this.outbound.offer(delivery)) {
+            AsyncLogger.log(Level.WARNING, "[LISTENER] A slow client has been evicted.");
+            close();
+            return false;
+        }
+        if (this.sending.compareAndSet(false, true))
+            SENDERS.execute(this::send);
+        return true;
+    }
+
+    /**
+     * Method for sending the queued notifications, run by a task of the shared executor.
+     */
+    private void send() {
+        do {
+            Delivery delivery;
+            while (!this.closed && (delivery = this.outbound.poll()) != null) {
+                try {
+                    delivery.deliver(this.gameListener);
+                } catch (RemoteException e) {
+                    AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
+                    close();
+                } catch (RuntimeException e) {
+                    AsyncLogger.log(Level.SEVERE, "[LISTENER] Notification failed: " + e.getMessage());
+                }
+            }
+            this.sending.set(false);
+        } while (!this.closed && !this.outbound.isEmpty() && this.sending.compareAndSet(false, true));
+    }
+
+    /**
+     * Method for evicting the listener: the queued notifications are dropped and no other one is accepted.
+     */
+    void close() {
+        this.closed = true;
+        this.outbound.clear();
+    }
+
+    /**
+     * Method to check if the listener has been evicted.
+     * @return A boolean indicating whether the listener has been evicted.
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * Method to get the listener.
+     * @return The listener.
+     */
+    public GameListener getGameListener() {
+        return this.gameListener;
+    }
+
+    /**
+     * Method for waiting until the notifications queued so far have been sent.
+     * @param timeout The maximum time to wait, in milliseconds.
+     * @return A boolean indicating whether the notifications have been sent or the listener has been evicted.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public boolean awaitDelivery(long timeout) throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(1);
+        if (!offer(gameListener -> delivered.countDown()))
+            return true;
+        return delivered.await(timeout, TimeUnit.MILLISECONDS) || this.closed;
+    }
+
+}
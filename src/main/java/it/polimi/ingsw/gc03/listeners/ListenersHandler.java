@@ -1,49 +1,55 @@
 package it.polimi.ingsw.gc03.listeners;
 
+import it.polimi.ingsw.gc03.model.CardCatalog;
 import it.polimi.ingsw.gc03.model.ChatMessage;
+import it.polimi.ingsw.gc03.model.CommandError;
 import it.polimi.ingsw.gc03.model.Game;
 import it.polimi.ingsw.gc03.model.GameImmutable;
 import it.polimi.ingsw.gc03.model.Player;
 import it.polimi.ingsw.gc03.model.card.Card;
 import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
-import it.polimi.ingsw.gc03.model.enumerations.Value;
 import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.logging.Level;
 
 /**
  * This class manages a list of GameListener objects and notifies the view when changes occur int the Game.
- * It provides the updated Game as a GameImmutable instance when notifying events.
+ * It provides the updated Game as a GameImmutable instance when notifying events, built for each listener so that
+ * the cards of the other players stay hidden. The game is copied when the event occurs and the notifications are sent
+ * by the ListenerDispatcher of each listener, so that the game never waits for a client.
  */
 public class ListenersHandler {
 
     /**
-     * List of GameListener objects.
+     * List of the dispatchers of the GameListener objects.
      */
-    private ArrayList<GameListener> gameListeners;
+    private ArrayList<ListenerDispatcher> dispatchers;
 
     /**
      * Class constructor.
      */
     public ListenersHandler() {
-        this.gameListeners = new ArrayList<>();
+        this.dispatchers = new ArrayList<>();
     }
 
     /**
-     * Adds a new GameListener to the gameListeners list.
+     * Adds a new GameListener to the gameListeners list. Null listeners, used by players without a view such as the
+     * ones of a replayed game, are ignored.
      * @param gameListener The GameListener to add.
      */
     public synchronized void addListener(GameListener gameListener) {
-        this.gameListeners.add(gameListener);
+        if (gameListener != null)
+            this.dispatchers.add(new ListenerDispatcher(gameListener));
     }
 
     /**
-     * Removes a GameListener from the gameListeners list.
+     * Removes a GameListener from the gameListeners list. The notifications already queued are still sent.
      * @param gameListener The GameListener to remove.
      */
     public synchronized void removeListener(GameListener gameListener) {
-        this.gameListeners.remove(gameListener);
+        this.dispatchers.removeIf(dispatcher -> dispatcher.getGameListener().equals(gameListener));
     }
 
     /**
@@ -51,7 +57,99 @@ public class ListenersHandler {
      * @return The list of GameListener.
      */
     public synchronized ArrayList<GameListener> getGameListeners() {
-        return this.gameListeners;
+        ArrayList<GameListener> gameListeners = new ArrayList<>(this.dispatchers.size());
+        for (ListenerDispatcher dispatcher : this.dispatchers) {
+            gameListeners.add(dispatcher.getGameListener());
+        }
+        return gameListeners;
+    }
+
+    /**
+     * Waits until the notifications of the events occurred so far have been sent to every listener.
+     * @param timeout The maximum time to wait for each listener, in milliseconds.
+     * @return A boolean indicating whether every listener has received its notifications in time.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public boolean awaitDelivery(long timeout) throws InterruptedException {
+        ArrayList<ListenerDispatcher> pending;
+        synchronized (this) {
+            pending = new ArrayList<>(this.dispatchers);
+        }
+        boolean delivered = true;
+        for (ListenerDispatcher dispatcher : pending) {
+            delivered &= dispatcher.awaitDelivery(timeout);
+        }
+        return delivered;
+    }
+
+    /**
+     * This interface represents the call of a notification on a single listener.
+     */
+    @FunctionalInterface
+    private interface ListenerCall {
+
+        /**
+         * Method for notifying a listener.
+         * @param gameListener The listener.
+         * @param game The copy of the game sent to the listener, or null for the notifications without a game.
+         * @throws RemoteException If the listener is disconnected.
+         */
+        void call(GameListener gameListener, GameImmutable game) throws RemoteException;
+
+    }
+
+    /**
+     * Queues a notification for every listener, removing the evicted ones. The view of the game of each recipient is
+     * built now, since the game keeps changing while the notification is sent, copying only the parts of the game
+     * that change; the listeners of no player, such as the spectators, share the view without hands. The views are
+     * encoded by the sending threads, and the values shared by the listeners, such as the encoded socket messages,
+     * are computed once for the whole notification.
+     * @param game The current game, or null for the notifications without a game.
+     * @param call The notification.
+     */
+    private void notifyListeners(Game game, ListenerCall call) {
+        this.dispatchers.removeIf(ListenerDispatcher::isClosed);
+        BroadcastCache cache = new BroadcastCache();
+        HashMap<String, GameImmutable> views = new HashMap<>();
+        for (ListenerDispatcher dispatcher : this.dispatchers) {
+            GameImmutable view = null;
+            if (game != null) {
+                try {
+                    String recipient = game.getRecipient(dispatcher.getGameListener());
+                    view = views.get(recipient);
+                    if (view == null) {
+                        view = game.getView(recipient);
+                        views.put(recipient, view);
+                    }
+                } catch (RemoteException e) {
+                    AsyncLogger.log(Level.SEVERE, "[LISTENER] The game cannot be copied: " + e.getMessage());
+                    continue;
+                }
+            }
+            GameImmutable state = view;
+            dispatcher.offer(gameListener -> {
+                BroadcastCache outer = cache.enter();
+                try {
+                    call.call(gameListener, state);
+                } finally {
+                    BroadcastCache.exit(outer);
+                }
+            });
+        }
+    }
+
+    /**
+     * Finds the copy of a player in the copy of the game sent to a listener.
+     * @param game The copy of the game.
+     * @param player The player.
+     * @return The copy of the player, or the player itself if it does not take part in the game.
+     */
+    private static Player copyOf(GameImmutable game, Player player) {
+        for (Player copy : game.getPlayers()) {
+            if (copy.getNickname().equals(player.getNickname()))
+                return copy;
+        }
+        return player;
     }
 
     /**
@@ -59,17 +157,7 @@ public class ListenersHandler {
      * @param game The current game.
      */
     public synchronized void notifyPlayerJoined(Game game) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.playerJoined(gameImmutable);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.playerJoined(view));
     }
 
     /**
@@ -78,17 +166,7 @@ public class ListenersHandler {
      * @param nickname The nickname of the player who left the game.
      */
     public synchronized void notifyPlayerLeft(Game game, String nickname) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.playerLeft(gameImmutable, nickname);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.playerLeft(view, nickname));
     }
 
     /**
@@ -97,17 +175,7 @@ public class ListenersHandler {
      * @param player The player that tried to join.
      */
     public synchronized void notifyJoinUnableGameFull(Game game, Player player) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.joinUnableGameFull(gameImmutable, player);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.joinUnableGameFull(view, player));
     }
 
     /**
@@ -116,17 +184,7 @@ public class ListenersHandler {
      * @param nickname The nickname of the player that has reconnected.
      */
     public synchronized void notifyPlayerReconnected(Game game, String nickname) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.playerReconnected(gameImmutable, nickname);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.playerReconnected(view, nickname));
     }
 
     /**
@@ -135,17 +193,7 @@ public class ListenersHandler {
      * @param nickname The nickname of the player that has disconnected.
      */
     public synchronized void notifyPlayerDisconnected(Game game, String nickname) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.playerDisconnected(gameImmutable, nickname);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.playerDisconnected(view, nickname));
     }
 
     /**
@@ -154,17 +202,7 @@ public class ListenersHandler {
      * @param timer The number of seconds to wait until the game ends.
      */
     public synchronized void notifyOnlyOnePlayerConnected(Game game, int timer) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.onlyOnePlayerConnected(gameImmutable, timer);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.onlyOnePlayerConnected(view, timer));
     }
 
     /**
@@ -172,16 +210,7 @@ public class ListenersHandler {
      * @param player The player that tried to use the nickname.
      */
     public synchronized void notifyJoinUnableNicknameAlreadyInUse(Player player) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                gameListener.joinUnableNicknameAlreadyInUse(player);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(null, (gameListener, view) -> gameListener.joinUnableNicknameAlreadyInUse(player));
     }
 
     /**
@@ -189,16 +218,7 @@ public class ListenersHandler {
      * @param gameId The game id.
      */
     public synchronized void notifyGameIdNotExists(int gameId) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                gameListener.gameIdNotExists(gameId);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(null, (gameListener, view) -> gameListener.gameIdNotExists(gameId));
     }
 
     /**
@@ -206,17 +226,7 @@ public class ListenersHandler {
      * @param game The current game.
      */
     public synchronized void notifyGameStarted(Game game) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.gameStarted(gameImmutable);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.gameStarted(view));
     }
 
     /**
@@ -224,17 +234,7 @@ public class ListenersHandler {
      * @param game The current game.
      */
     public synchronized void notifyGameEnded(Game game) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.gameEnded(gameImmutable);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.gameEnded(view));
     }
 
     /**
@@ -243,17 +243,7 @@ public class ListenersHandler {
      * @param chatMessage The message that has been sent.
      */
     public synchronized void notifySentChatMessage(Game game, ChatMessage chatMessage) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.sentChatMessage(gameImmutable, chatMessage);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.sentChatMessage(view, chatMessage));
     }
 
     /**
@@ -261,17 +251,7 @@ public class ListenersHandler {
      * @param game The current game.
      */
     public synchronized void notifyNextTurn(Game game) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.nextTurn(gameImmutable);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.nextTurn(view));
     }
 
     /**
@@ -279,17 +259,7 @@ public class ListenersHandler {
      * @param game The current game.
      */
     public synchronized void notifyLastCircle(Game game) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.lastCircle(gameImmutable);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.lastCircle(view));
     }
 
     /**
@@ -299,17 +269,7 @@ public class ListenersHandler {
      * @param column The column where the card was placed.
      */
     public synchronized void notifyPositionedCardIntoCodex(Game game, int row, int column) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.positionedCardIntoCodex(gameImmutable, row, column);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.positionedCardIntoCodex(view, row, column));
     }
 
     /**
@@ -318,56 +278,7 @@ public class ListenersHandler {
      * @param nickname The nickname of the player.
      */
     public synchronized void notifyPositionedStarterCardIntoCodex(Game game, String nickname) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.positionedStarterCardIntoCodex(gameImmutable, nickname);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
-    }
-
-    /**
-     * Notifies that the coordinates where he wants to insert the card are not valid.
-     * @param game The current game.
-     * @param row The row where the card wanted to be placed.
-     * @param column The column where the card wanted to be placed.
-     */
-    public synchronized void notifyInvalidCoordinates(Game game, int row, int column) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.invalidCoordinates(gameImmutable, row, column);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
-    }
-
-    /**
-     * Notifies that the positioning requirements are not respected.
-     * @param game The current game.
-     * @param requirementsPlacement The requirements for card placement.
-     */
-    public synchronized void notifyRequirementsPlacementNotRespected(Game game, ArrayList<Value> requirementsPlacement) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.requirementsPlacementNotRespected(gameImmutable, requirementsPlacement);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.positionedStarterCardIntoCodex(view, nickname));
     }
 
     /**
@@ -377,37 +288,20 @@ public class ListenersHandler {
      * @param point The number of points that have been added.
      */
     public synchronized void notifyAddedPoint(Game game, Player player, int point) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.addedPoint(gameImmutable, player, point);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.addedPoint(view, copyOf(view, player), point));
     }
 
     /**
-     * Notifies that the Objective card was chosen correctly.
+     * Notifies that the Objective card was chosen correctly. The card is secret, so only the player who chose it
+     * receives it, the other listeners receive null.
      * @param game The current game.
+     * @param owner The listener of the player who chose the card.
      * @param cardObjective The chosen Objective card.
      * @param nickname The nickname of the player.
      */
-    public synchronized void notifyObjectiveCardChosen(Game game, CardObjective cardObjective, String nickname) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.objectiveCardChosen(gameImmutable, cardObjective, nickname);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+    public synchronized void notifyObjectiveCardChosen(Game game, GameListener owner, CardObjective cardObjective, String nickname) {
+        notifyListeners(game, (gameListener, view) -> gameListener.objectiveCardChosen(view,
+                gameListener.equals(owner) ? cardObjective : null, nickname));
     }
 
     /**
@@ -415,17 +309,7 @@ public class ListenersHandler {
      * @param game The current game.
      */
     public synchronized void notifyObjectiveCardNotChosen(Game game) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.objectiveCardNotChosen(gameImmutable);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.objectiveCardNotChosen(view));
     }
 
     /**
@@ -434,17 +318,7 @@ public class ListenersHandler {
      * @param index The index.
      */
     public synchronized void notifyIndexNotValid(Game game, int index) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.indexNotValid(gameImmutable, index);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.indexNotValid(view, index));
     }
 
     /**
@@ -453,55 +327,21 @@ public class ListenersHandler {
      * @param deck The deck without cards.
      */
     public synchronized void notifyIndexNotValid(Game game, ArrayList<? extends Card> deck) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.deckHasNoCards(gameImmutable, deck);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        ArrayList<? extends Card> cards = new ArrayList<>(deck);
+        notifyListeners(game, (gameListener, view) -> gameListener.deckHasNoCards(view, cards));
     }
 
     /**
-     * Notifies that a card has been successfully added to his hand.
+     * Notifies that a card has been successfully added to his hand. Only the player who drew the card receives it,
+     * the other listeners receive the card standing for its back.
      * @param game The current game.
+     * @param owner The listener of the player who drew the card, or null if no player keeps it.
      * @param card The card that was added.
      */
-    public synchronized void notifyCardAddedToHand(Game game, Card card) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.cardAddedToHand(gameImmutable, card);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
-    }
-
-    /**
-     * Notifies that a card was not added to his hand.
-     * @param game The current game.
-     * @param nickname The nickname of the player.
-     */
-    public synchronized void notifyCardNotAddedToHand(Game game, String nickname) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.cardNotAddedToHand(gameImmutable, nickname);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+    public synchronized void notifyCardAddedToHand(Game game, GameListener owner, Card card) {
+        Card back = card == null ? null : CardCatalog.getInstance().getBackCard(card);
+        notifyListeners(game, (gameListener, view) -> gameListener.cardAddedToHand(view,
+                gameListener.equals(owner) ? card : back));
     }
 
     /**
@@ -509,17 +349,7 @@ public class ListenersHandler {
      * @param game The current game.
      */
     public synchronized void notifyEndConditionReached(Game game) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.endGameConditionsReached(gameImmutable);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.endGameConditionsReached(view));
     }
 
     /**
@@ -528,17 +358,23 @@ public class ListenersHandler {
      * @param objectivePoint The points obtained with Objective cards.
      */
     public synchronized void notifyAddedPointObjective(Game game, int objectivePoint) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.addedPointObjective(gameImmutable, objectivePoint);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.addedPointObjective(view, objectivePoint));
+    }
+
+    /**
+     * Notifies the score a player would make if the game ended now. The projected points of the personal Objective
+     * card would tell which card it is, so only the player receives the whole projected score, the other listeners
+     * receive the one without the personal Objective card.
+     * @param game The current game.
+     * @param owner The listener of the player.
+     * @param nickname The nickname of the player.
+     * @param projectedScore The projected score of the player.
+     * @param publicProjectedScore The projected score of the player without the personal Objective card.
+     */
+    public synchronized void notifyProjectedScore(Game game, GameListener owner, String nickname, int projectedScore,
+                                                  int publicProjectedScore) {
+        notifyListeners(game, (gameListener, view) -> gameListener.projectedScoreUpdated(view, nickname,
+                gameListener.equals(owner) ? projectedScore : publicProjectedScore));
     }
 
     /**
@@ -547,17 +383,7 @@ public class ListenersHandler {
      * @param nickname The nicknames of the players who won.
      */
     public synchronized void notifyWinnerDeclared(Game game, ArrayList<String> nickname) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.winnerDeclared(gameImmutable, nickname);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.winnerDeclared(view, nickname));
     }
 
     /**
@@ -566,17 +392,7 @@ public class ListenersHandler {
      * @param size The new game's size.
      */
     public synchronized void notifyGameSizeUpdated(Game game, int size) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.gameSizeUpdated(gameImmutable, size);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.gameSizeUpdated(view, size));
     }
 
     /**
@@ -585,17 +401,7 @@ public class ListenersHandler {
      * @param nickname The player who has drawn a card.
      */
     public synchronized void notifyDrawCard(Game game, String nickname) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.drawCard(gameImmutable, nickname);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.drawCard(view, nickname));
     }
 
     /**
@@ -603,36 +409,23 @@ public class ListenersHandler {
      * @param game The current game.
      */
     public synchronized void notifyGameCreated(Game game) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.gameCreated(gameImmutable);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
-        }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        notifyListeners(game, (gameListener, view) -> gameListener.gameCreated(view));
     }
 
     /**
-     * Notifies that a player tried to place a card when he couldn't.
-     * @param game The current game.
-     * @param nickname The nickname of the player.
+     * Notifies only the listener of a player that one of their moves has been rejected, without a copy of the game.
+     * @param gameListener The listener of the player, ignored if null.
+     * @param error The reason of the rejection and the id of the move rejected.
+     * @return A boolean indicating whether the notification has been queued for the listener.
      */
-    public synchronized void notifyCanNotPlaceCard(Game game, String nickname) {
-        ArrayList<GameListener> gameListenersToRemove = new ArrayList<>();
-        for (GameListener gameListener : this.gameListeners) {
-            try {
-                GameImmutable gameImmutable = new GameImmutable(game);
-                gameListener.canNotPlaceCard(gameImmutable, nickname);
-            } catch (RemoteException e) {
-                AsyncLogger.log(Level.WARNING, "[LISTENER] Disconnection has been detected.");
-                gameListenersToRemove.add(gameListener);
-            }
+    public synchronized boolean notifyCommandRejected(GameListener gameListener, CommandError error) {
+        this.dispatchers.removeIf(ListenerDispatcher::isClosed);
+        boolean queued = false;
+        for (ListenerDispatcher dispatcher : this.dispatchers) {
+            if (dispatcher.getGameListener().equals(gameListener))
+                queued |= dispatcher.offer(listener -> listener.commandRejected(error));
         }
-        this.gameListeners.removeAll(gameListenersToRemove);
+        return queued;
     }
 
 }
\ No newline at end of file
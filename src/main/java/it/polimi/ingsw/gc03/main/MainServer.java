@@ -2,6 +2,8 @@ package it.polimi.ingsw.gc03.main;
 
 import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
 import it.polimi.ingsw.gc03.networking.rmi.RmiServer;
+import it.polimi.ingsw.gc03.networking.ServerThreads;
+import it.polimi.ingsw.gc03.networking.socket.server.NioSocketServer;
 import it.polimi.ingsw.gc03.networking.socket.server.SocketServer;
 import it.polimi.ingsw.gc03.view.tui.print.AsyncPrint;
 import java.io.IOException;
@@ -36,9 +38,16 @@ public class MainServer {
      */
     private static String serverIpAddress;
 
+    /**
+     * Mode of the socket server chosen when no argument is given: "nio" serves the connections with a few event loops,
+     * "platform" and "virtual" read each connection on its own thread of the system or virtual thread. In the
+     * "virtual" mode the games also run on virtual threads.
+     */
+    private final static String DEFAULT_MODE = "nio";
+
     /**
      * Main method to start the server.
-     * @param args Command line arguments.
+     * @param args Command line arguments: the optional mode of the socket server, "nio", "platform" or "virtual".
      * @throws IOException If an I/O error occurs.
      */
     public static void main(String[] args) throws IOException {
@@ -58,6 +67,14 @@ public class MainServer {
             AsyncLogger.log(Level.WARNING, "[SERVER] Unable to automatically determine the server IP address.");
             serverIpAddress = getUserInputIpAddress();
         }
+        // Choose the threads of the server
+        String mode = args.length > 0 ? args[0].toLowerCase() : DEFAULT_MODE;
+        if (!mode.equals("nio") && !mode.equals("platform") && !mode.equals("virtual")) {
+            AsyncLogger.log(Level.WARNING, "[SERVER] Unknown mode " + mode + ", using " + DEFAULT_MODE + ".");
+            mode = DEFAULT_MODE;
+        }
+        ServerThreads.setMode(mode.equals("virtual") ? ServerThreads.VIRTUAL : ServerThreads.PLATFORM);
+        AsyncLogger.log(Level.INFO, "[SERVER] Socket server mode: " + mode);
         // Initialize RMI Server
         try {
             RmiServer.startRmiServer(serverIpAddress, RMI_PORT);
@@ -65,9 +82,11 @@ public class MainServer {
             System.exit(1);
         }
         // Initialize Socket Server
-        SocketServer socketServer = new SocketServer();
         try {
-            socketServer.startSocketServer(SOCKET_PORT);
+            if (mode.equals("nio"))
+                new NioSocketServer().startSocketServer(SOCKET_PORT);
+            else
+                new SocketServer().startSocketServer(SOCKET_PORT);
         } catch (IOException e) {
             System.exit(1);
         }
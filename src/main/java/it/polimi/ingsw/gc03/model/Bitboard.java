@@ -0,0 +1,182 @@
+package it.polimi.ingsw.gc03.model;
+
+import java.io.Serializable;
+
+/**
+ * This class represents a set of codex cells stored as bits.
+ * Each row is a sequence of 64-bit words, so that whole groups of columns can be combined with a single shift and AND.
+ * The stored area grows when cells outside of it are added.
+ */
+public class Bitboard implements Serializable {
+
+    /**
+     * The number of columns stored in a word.
+     */
+    public static final int WORD_SIZE = 64;
+
+    /**
+     * The first row stored.
+     */
+    private int firstRow;
+
+    /**
+     * The first column stored. It is always a multiple of WORD_SIZE.
+     */
+    private int firstColumn;
+
+    /**
+     * The words of each stored row: bit i of word w of row r is the cell (firstRow + r, firstColumn + w * 64 + i).
+     */
+    private long[][] words;
+
+    /**
+     * The number of cells in the set.
+     */
+    private int size;
+
+    /**
+     * Constructor for the Bitboard class.
+     */
+    public Bitboard() {
+        this.firstRow = 0;
+        this.firstColumn = 0;
+        this.words = new long[0][0];
+        this.size = 0;
+    }
+
+    /**
+     * Method to add a cell to the set.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     */
+    public void set(int row, int column) {
+        ensureCapacity(row, column);
+        int offset = column - this.firstColumn;
+        long[] rowWords = this.words[row - this.firstRow];
+        long bit = 1L << (offset % WORD_SIZE);
+        if ((rowWords[offset / WORD_SIZE] & bit) == 0) {
+            rowWords[offset / WORD_SIZE] |= bit;
+            this.size++;
+        }
+    }
+
+    /**
+     * Method to check if a cell is in the set.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     * @return A boolean indicating whether the cell is in the set.
+     */
+    public boolean get(int row, int column) {
+        return (word(row, column) & 1L) != 0;
+    }
+
+    /**
+     * Method to retrieve 64 consecutive cells of a row.
+     * @param row The row of the cells.
+     * @param column The column of the first cell, which does not need to be aligned to a word.
+     * @return A word whose bit i tells whether the cell (row, column + i) is in the set.
+     */
+    public long word(int row, int column) {
+        int offset = column - this.firstColumn;
+        int index = Math.floorDiv(offset, WORD_SIZE);
+        int shift = Math.floorMod(offset, WORD_SIZE);
+        long low = storedWord(row, index) >>> shift;
+        if (shift == 0)
+            return low;
+        return low | (storedWord(row, index + 1) << (WORD_SIZE - shift));
+    }
+
+    /**
+     * Method to retrieve a stored word.
+     * @param row The row of the word.
+     * @param index The index of the word inside the row.
+     * @return The word, or 0 if it is outside the stored area.
+     */
+    private long storedWord(int row, int index) {
+        int r = row - this.firstRow;
+        if (r < 0 || r >= this.words.length || index < 0 || index >= this.words[r].length)
+            return 0L;
+        return this.words[r][index];
+    }
+
+    /**
+     * Method to enlarge the stored area so that it contains a cell.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     */
+    private void ensureCapacity(int row, int column) {
+        if (this.words.length == 0) {
+            this.firstRow = row;
+            this.firstColumn = Math.floorDiv(column, WORD_SIZE) * WORD_SIZE;
+            this.words = new long[1][1];
+            return;
+        }
+        int rowCount = this.words.length;
+        int wordCount = this.words[0].length;
+        int newFirstRow = Math.min(this.firstRow, row);
+        int newLastRow = Math.max(this.firstRow + rowCount - 1, row);
+        int newFirstColumn = Math.min(this.firstColumn, Math.floorDiv(column, WORD_SIZE) * WORD_SIZE);
+        int newLastColumn = Math.max(this.firstColumn + wordCount * WORD_SIZE - 1, column);
+        int newWordCount = (newLastColumn - newFirstColumn) / WORD_SIZE + 1;
+        if (newFirstRow == this.firstRow && newLastRow - newFirstRow + 1 == rowCount &&
+                newFirstColumn == this.firstColumn && newWordCount == wordCount)
+            return;
+        long[][] newWords = new long[newLastRow - newFirstRow + 1][newWordCount];
+        int wordShift = (this.firstColumn - newFirstColumn) / WORD_SIZE;
+        for (int r = 0; r < rowCount; r++) {
+            System.arraycopy(this.words[r], 0, newWords[r + this.firstRow - newFirstRow], wordShift, wordCount);
+        }
+        this.firstRow = newFirstRow;
+        this.firstColumn = newFirstColumn;
+        this.words = newWords;
+    }
+
+    /**
+     * Method to retrieve the first row stored.
+     * @return The first row stored.
+     */
+    public int getFirstRow() {
+        return this.firstRow;
+    }
+
+    /**
+     * Method to retrieve the last row stored.
+     * @return The last row stored, which is smaller than the first one if the set is empty.
+     */
+    public int getLastRow() {
+        return this.firstRow + this.words.length - 1;
+    }
+
+    /**
+     * Method to retrieve the first column stored.
+     * @return The first column stored, always a multiple of WORD_SIZE.
+     */
+    public int getFirstColumn() {
+        return this.firstColumn;
+    }
+
+    /**
+     * Method to retrieve the number of words stored for each row.
+     * @return The number of words of each row.
+     */
+    public int getWordCount() {
+        return this.words.length == 0 ? 0 : this.words[0].length;
+    }
+
+    /**
+     * Method to retrieve the number of cells in the set.
+     * @return The number of cells in the set.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Method to check if the set is empty.
+     * @return A boolean indicating whether the set is empty.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+}
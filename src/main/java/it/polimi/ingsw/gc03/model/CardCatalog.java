@@ -0,0 +1,390 @@
+package it.polimi.ingsw.gc03.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.card.CardGold;
+import it.polimi.ingsw.gc03.model.card.CardResource;
+import it.polimi.ingsw.gc03.model.card.CardStarter;
+import it.polimi.ingsw.gc03.model.card.cardObjective.CalculateScoreStrategy;
+import it.polimi.ingsw.gc03.model.card.cardObjective.CalculateScoreStrategyAdapter;
+import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
+import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
+import it.polimi.ingsw.gc03.model.side.Side;
+import java.io.*;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This class represents the catalog of all the cards of the game.
+ * The JSON files are parsed only once, the first time the catalog is used, and every Desk builds its decks from here.
+ * The cards are never modified during a game, so the same objects are shared by all the games.
+ */
+public final class CardCatalog {
+
+    /**
+     * Path to json files.
+     */
+    private static final String FILE_JSON = "/it/polimi/ingsw/gc03/json/";
+
+    /**
+     * Path to the front images folder.
+     */
+    private static final String IMAGE_PATH_FRONT = "/it/polimi/ingsw/gc03/gui/images/cards/frontSide/";
+
+    /**
+     * Path to the back images folder.
+     */
+    private static final String IMAGE_PATH_BACK = "/it/polimi/ingsw/gc03/gui/images/cards/backSide/";
+
+    /**
+     * Define a logger for the class.
+     */
+    private static final Logger logger = Logger.getLogger(CardCatalog.class.getName());
+
+    /**
+     * The Starter cards.
+     */
+    private List<CardStarter> starterCards;
+
+    /**
+     * The Resource cards.
+     */
+    private List<CardResource> resourceCards;
+
+    /**
+     * The Gold cards.
+     */
+    private List<CardGold> goldCards;
+
+    /**
+     * The Objective cards.
+     */
+    private List<CardObjective> objectiveCards;
+
+    /**
+     * All the cards, indexed by their id.
+     */
+    private final HashMap<String, Card> cardsById = new HashMap<>();
+
+    /**
+     * The cards with two sides, indexed by each of their sides.
+     */
+    private final IdentityHashMap<Side, Card> cardsBySide = new IdentityHashMap<>();
+
+    /**
+     * The sides of the cards, indexed by their image.
+     */
+    private final HashMap<String, Side> sidesByImage = new HashMap<>();
+
+    /**
+     * The card standing for the back of each card, indexed by the id of the card.
+     */
+    private final HashMap<String, Card> backCards = new HashMap<>();
+
+    /**
+     * Boolean indicating whether all the cards have been loaded.
+     */
+    private final boolean loaded;
+
+    /**
+     * Lazy holder of the single instance, created the first time it is accessed.
+     */
+    private static final class Holder {
+
+        /**
+         * The single instance of the catalog.
+         */
+        private static final CardCatalog INSTANCE = new CardCatalog();
+
+    }
+
+    /**
+     * Private constructor of the CardCatalog class: it parses the JSON files.
+     */
+    private CardCatalog() {
+        this.loaded = loadStarterCards() && loadResourceCards() && loadGoldCards() && loadObjectiveCards();
+        if (this.loaded)
+            indexCards();
+    }
+
+    /**
+     * Method for indexing the loaded cards by id and by side.
+     */
+    private void indexCards() {
+        List<List<? extends Card>> decks = List.of(this.starterCards, this.resourceCards, this.goldCards,
+                this.objectiveCards);
+        for (List<? extends Card> deck : decks) {
+            HashMap<Kingdom, Card> firstByKingdom = new HashMap<>();
+            for (Card card : deck) {
+                this.backCards.put(card.getIdCard(), firstByKingdom.computeIfAbsent(kingdomOf(card), k -> card));
+                this.cardsById.put(card.getIdCard(), card);
+                Side front = sideOf(card, true);
+                if (front != null) {
+                    this.cardsBySide.put(front, card);
+                    this.cardsBySide.put(sideOf(card, false), card);
+                    this.sidesByImage.put(front.getImage(), front);
+                    this.sidesByImage.put(sideOf(card, false).getImage(), sideOf(card, false));
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to retrieve the kingdom shown on the back of a card.
+     * @param card The card.
+     * @return The kingdom, or null if the backs of the cards of its type do not show one.
+     */
+    private static Kingdom kingdomOf(Card card) {
+        if (card instanceof CardResource resource)
+            return resource.getKingdom();
+        if (card instanceof CardGold gold)
+            return gold.getKingdom();
+        return null;
+    }
+
+    /**
+     * Method to retrieve a side of a card.
+     * @param card The card.
+     * @param front True for the front side, false for the back side.
+     * @return The side, or null if the card has no sides.
+     */
+    private static Side sideOf(Card card, boolean front) {
+        if (card instanceof CardStarter starter)
+            return front ? starter.getFrontStarter() : starter.getBackStarter();
+        if (card instanceof CardResource resource)
+            return front ? resource.getFrontResource() : resource.getBackResource();
+        if (card instanceof CardGold gold)
+            return front ? gold.getFrontGold() : gold.getBackGold();
+        return null;
+    }
+
+    /**
+     * Method to retrieve the single instance of the catalog.
+     * @return The catalog.
+     */
+    public static CardCatalog getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Method to open a JSON file of the catalog.
+     * @param fileName The name of the file.
+     * @return A reader of the file.
+     * @throws FileNotFoundException If the file does not exist.
+     */
+    private Reader openFile(String fileName) throws FileNotFoundException {
+        InputStream inputStream = getClass().getResourceAsStream(FILE_JSON + fileName);
+        if (inputStream == null)
+            throw new FileNotFoundException(FILE_JSON + fileName);
+        return new InputStreamReader(inputStream);
+    }
+
+    /**
+     * Method for loading the Starter cards.
+     * @return A boolean indicating whether the operation was successful or not.
+     */
+    private boolean loadStarterCards() {
+        try (Reader reader = openFile("fileCardStarter.json")) {
+            // Use Gson to parse the JSON data
+            Type starterCardType = new TypeToken<ArrayList<CardStarter>>(){}.getType();
+            ArrayList<CardStarter> cards = new Gson().fromJson(reader, starterCardType);
+            // Associate the images with the sides of the card
+            for (CardStarter cardStarter : cards) {
+                cardStarter.getFrontStarter().setImage(IMAGE_PATH_FRONT + cardStarter.getIdCard() + "_front.png");
+                cardStarter.getBackStarter().setImage(IMAGE_PATH_BACK + cardStarter.getIdCard() + "_back.png");
+            }
+            this.starterCards = Collections.unmodifiableList(cards);
+            return true;
+        } catch (FileNotFoundException e) {
+            logger.log(Level.SEVERE, "Could not find the file: " + FILE_JSON + "fileCardStarter.json", e);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading the file: " + FILE_JSON + "fileCardStarter.json", e);
+        }
+        return false;
+    }
+
+    /**
+     * Method for loading the Resource cards.
+     * @return A boolean indicating whether the operation was successful or not.
+     */
+    private boolean loadResourceCards() {
+        try (Reader reader = openFile("fileCardResource.json")) {
+            // Use Gson to parse the JSON data
+            Type resourceCardType = new TypeToken<ArrayList<CardResource>>(){}.getType();
+            ArrayList<CardResource> cards = new Gson().fromJson(reader, resourceCardType);
+            // Associate the images with the sides of the card
+            for (CardResource cardResource : cards) {
+                cardResource.getFrontResource().setImage(IMAGE_PATH_FRONT + cardResource.getIdCard() + "_front.png");
+                cardResource.getBackResource().setImage(IMAGE_PATH_BACK + cardResource.getIdCard() + "_back.png");
+            }
+            this.resourceCards = Collections.unmodifiableList(cards);
+            return true;
+        } catch (FileNotFoundException e) {
+            logger.log(Level.SEVERE, "Could not find the file: " + FILE_JSON + "fileCardResource.json", e);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading the file: " + FILE_JSON + "fileCardResource.json", e);
+        }
+        return false;
+    }
+
+    /**
+     * Method for loading the Gold cards.
+     * @return A boolean indicating whether the operation was successful or not.
+     */
+    private boolean loadGoldCards() {
+        try (Reader reader = openFile("fileCardGold.json")) {
+            // Use Gson to parse the JSON data
+            Type goldCardType = new TypeToken<ArrayList<CardGold>>(){}.getType();
+            ArrayList<CardGold> cards = new Gson().fromJson(reader, goldCardType);
+            // Associate the images with the sides of the card
+            for (CardGold cardGold : cards) {
+                cardGold.getFrontGold().setImage(IMAGE_PATH_FRONT + cardGold.getIdCard() + "_front.png");
+                cardGold.getBackGold().setImage(IMAGE_PATH_BACK + cardGold.getIdCard() + "_back.png");
+            }
+            this.goldCards = Collections.unmodifiableList(cards);
+            return true;
+        } catch (FileNotFoundException e) {
+            logger.log(Level.SEVERE, "Could not find the file: " + FILE_JSON + "fileCardGold.json", e);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading the file: " + FILE_JSON + "fileCardGold.json", e);
+        }
+        return false;
+    }
+
+    /**
+     * Method for loading the Objective cards.
+     * @return A boolean indicating whether the operation was successful or not.
+     */
+    private boolean loadObjectiveCards() {
+        try (Reader reader = openFile("fileCardObjective.json")) {
+            // Create GsonBuilder and register the adapter
+            GsonBuilder gsonBuilder = new GsonBuilder();
+            gsonBuilder.registerTypeAdapter(CalculateScoreStrategy.class, new CalculateScoreStrategyAdapter());
+            Gson gson = gsonBuilder.create();
+            // Use Gson to parse the JSON data
+            Type objectiveCardType = new TypeToken<ArrayList<CardObjective>>(){}.getType();
+            ArrayList<CardObjective> cards = gson.fromJson(reader, objectiveCardType);
+            // Associate the images with the card
+            for (CardObjective cardObjective : cards) {
+                cardObjective.setImage(IMAGE_PATH_FRONT + cardObjective.getIdCard() + "_front.png");
+            }
+            this.objectiveCards = Collections.unmodifiableList(cards);
+            return true;
+        } catch (FileNotFoundException e) {
+            logger.log(Level.SEVERE, "Could not find the file: " + FILE_JSON + "fileCardObjective.json", e);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Error reading the file: " + FILE_JSON + "fileCardObjective.json", e);
+        }
+        return false;
+    }
+
+    /**
+     * Method to check if all the cards have been loaded.
+     * @return A boolean indicating whether the catalog can be used.
+     */
+    public boolean isLoaded() {
+        return this.loaded;
+    }
+
+    /**
+     * Method to retrieve the Starter cards.
+     * @return The unmodifiable list of the Starter cards, in the order of the JSON file.
+     */
+    public List<CardStarter> getStarterCards() {
+        return this.starterCards;
+    }
+
+    /**
+     * Method to retrieve the Resource cards.
+     * @return The unmodifiable list of the Resource cards, in the order of the JSON file.
+     */
+    public List<CardResource> getResourceCards() {
+        return this.resourceCards;
+    }
+
+    /**
+     * Method to retrieve the Gold cards.
+     * @return The unmodifiable list of the Gold cards, in the order of the JSON file.
+     */
+    public List<CardGold> getGoldCards() {
+        return this.goldCards;
+    }
+
+    /**
+     * Method to retrieve the Objective cards.
+     * @return The unmodifiable list of the Objective cards, in the order of the JSON file.
+     */
+    public List<CardObjective> getObjectiveCards() {
+        return this.objectiveCards;
+    }
+
+    /**
+     * Method to find a card by its id.
+     * @param idCard The id of the card.
+     * @return The card, or null if no card has that id.
+     */
+    public Card getCard(String idCard) {
+        return this.cardsById.get(idCard);
+    }
+
+    /**
+     * Method to find a side of a card by the id of the card.
+     * @param idCard The id of the card.
+     * @param front True for the front side, false for the back side.
+     * @return The side, or null if no card with sides has that id.
+     */
+    public Side getSide(String idCard, boolean front) {
+        Card card = this.cardsById.get(idCard);
+        return card == null ? null : sideOf(card, front);
+    }
+
+    /**
+     * Method to find the card a side belongs to. Only the sides of the catalog are found, not equal copies: the
+     * deserialized sides are replaced by those of the catalog, see resolve.
+     * @param side The side.
+     * @return The card, or null if the side is not part of the catalog.
+     */
+    public Card getCardOf(Side side) {
+        return this.cardsBySide.get(side);
+    }
+
+    /**
+     * Method to find the card of the catalog that a deserialized copy of a card stands for.
+     * @param card The copy of the card.
+     * @return The card of the catalog with the same id and type, otherwise the copy itself.
+     */
+    public Card resolve(Card card) {
+        Card known = this.cardsById.get(card.getIdCard());
+        return known != null && known.getClass() == card.getClass() ? known : card;
+    }
+
+    /**
+     * Method to find the side of the catalog that a deserialized copy of a side stands for.
+     * @param side The copy of the side.
+     * @return The side of the catalog with the same image and type, otherwise the copy itself.
+     */
+    public Side resolve(Side side) {
+        Side known = side.getImage() == null ? null : this.sidesByImage.get(side.getImage());
+        return known != null && known.getClass() == side.getClass() ? known : side;
+    }
+
+    /**
+     * Method to find the card standing for the back of a card: the first card of the same type whose back looks the
+     * same, that is with the same kingdom for Resource and Gold cards. It is shown in place of the cards that a player
+     * cannot see.
+     * @param card The card.
+     * @return The card standing for its back, or null if the card is not part of the catalog.
+     */
+    public Card getBackCard(Card card) {
+        return this.backCards.get(card.getIdCard());
+    }
+
+}
@@ -1,12 +1,15 @@
 package it.polimi.ingsw.gc03.model;
 
-import java.io.Serializable;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.time.LocalTime;
 
 /**
  * This class represents a message in the chat.
  */
-public class ChatMessage implements Serializable {
+public class ChatMessage implements Externalizable {
 
     /**
      * The message's sender.
@@ -28,6 +31,12 @@ public class ChatMessage implements Serializable {
      */
     private String receiver;
 
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public ChatMessage() {
+    }
+
     /**
      * Constructor for the Message class.
      * @param receiver The message's receiver.
@@ -106,4 +115,31 @@ public class ChatMessage implements Serializable {
         this.receiver = receiver;
     }
 
-}
\ No newline at end of file
+    /**
+     * Method for serializing the message, with the timestamp written as the nanoseconds of the day.
+     * @param out The output stream.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        ModelStreams.writeString(out, this.receiver);
+        ModelStreams.writeString(out, this.sender);
+        ModelStreams.writeString(out, this.text);
+        out.writeLong(this.timestamp == null ? -1 : this.timestamp.toNanoOfDay());
+    }
+
+    /**
+     * Method for deserializing the message written by writeExternal.
+     * @param in The input stream.
+     * @throws IOException If the message cannot be read.
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        this.receiver = ModelStreams.readString(in);
+        this.sender = ModelStreams.readString(in);
+        this.text = ModelStreams.readString(in);
+        long nanoOfDay = in.readLong();
+        this.timestamp = nanoOfDay < 0 ? null : LocalTime.ofNanoOfDay(nanoOfDay);
+    }
+
+}
@@ -1,24 +1,61 @@
 package it.polimi.ingsw.gc03.model;
 
+import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
+import it.polimi.ingsw.gc03.model.card.cardObjective.ObjectiveProgress;
+import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
+import it.polimi.ingsw.gc03.model.enumerations.PlacementResult;
 import it.polimi.ingsw.gc03.model.enumerations.Value;
 import it.polimi.ingsw.gc03.model.side.Side;
 import it.polimi.ingsw.gc03.model.side.back.BackSide;
 import it.polimi.ingsw.gc03.model.side.front.FrontGold;
 import it.polimi.ingsw.gc03.model.side.front.FrontResource;
 import it.polimi.ingsw.gc03.view.tui.Coords;
-import java.io.Serializable;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 
 /**
  * This class represents a Codex.
+ * It is serialized as the list of its occupied cells, each with the id of the card of its side, followed by the
+ * counters of the codex.
  */
-public class Codex implements Serializable {
+public class Codex implements Externalizable {
 
     /**
-     * Data structure of the codex.
+     * Number of rows and columns of the dense view returned by getCodex.
      */
-    private Side[][] codex;
+    private static final int VIEW_SIZE = 81;
+
+    /**
+     * Bit of the coverage mask for the top-left corner.
+     */
+    public static final int TOP_LEFT = 1;
+
+    /**
+     * Bit of the coverage mask for the bottom-left corner.
+     */
+    public static final int BOTTOM_LEFT = 2;
+
+    /**
+     * Bit of the coverage mask for the top-right corner.
+     */
+    public static final int TOP_RIGHT = 4;
+
+    /**
+     * Bit of the coverage mask for the bottom-right corner.
+     */
+    public static final int BOTTOM_RIGHT = 8;
+
+    /**
+     * Data structure of the codex. The sides are never modified: the corners covered by later insertions are kept
+     * in the coverage mask of each cell.
+     */
+    private SparseBoard codex;
 
     /**
      * Counter for values in the codex.
@@ -68,11 +105,29 @@ public class Codex implements Serializable {
      */
     private ArrayList<Coords> codexFillOrder;
 
+    /**
+     * Packed positions (see SparseBoard.packKey) of the empty cells where a side without placement requirements could
+     * be inserted. It is updated at each insertion by looking only at the cells around the inserted side.
+     */
+    private LinkedHashSet<Integer> frontier;
+
+    /**
+     * One bitboard for each Kingdom, indexed by ordinal, with the cells occupied by sides of that kingdom. They are
+     * used by the Objective card strategies and rebuilt from the codex when missing, so they are not serialized.
+     */
+    private transient Bitboard[] kingdomBitboards;
+
+    /**
+     * The Objective cards whose points are updated at each insertion. They are kept by the server only, so that the
+     * personal Objective card of a player is not sent to the others with the codex.
+     */
+    private transient ArrayList<ObjectiveProgress> objectiveProgress;
+
     /**
      * Constructor for the Codex class.
      */
     public Codex() {
-        this.codex = new Side[81][81];
+        this.codex = new SparseBoard();
         this.counterCodex = new int[8];
         for (int i = 0; i < 8; i++) {
             this.counterCodex[i] = 0;
@@ -84,6 +139,115 @@ public class Codex implements Serializable {
         this.maxColumn = 81;
         this.cardStarterInserted = false;
         this.codexFillOrder = new ArrayList<>();
+        this.frontier = new LinkedHashSet<>();
+        this.objectiveProgress = new ArrayList<>();
+    }
+
+    /**
+     * Constructor of a copy of a codex, without the progress of the Objective cards like a deserialized one.
+     * @param codex The codex to copy.
+     */
+    private Codex(Codex codex) {
+        this.codex = new SparseBoard(codex.codex);
+        this.counterCodex = codex.counterCodex.clone();
+        this.pointCodex = codex.pointCodex;
+        this.minRow = codex.minRow;
+        this.maxRow = codex.maxRow;
+        this.minColumn = codex.minColumn;
+        this.maxColumn = codex.maxColumn;
+        this.cardStarterInserted = codex.cardStarterInserted;
+        this.codexFillOrder = new ArrayList<>(codex.codexFillOrder);
+        this.frontier = new LinkedHashSet<>(codex.frontier);
+        this.objectiveProgress = new ArrayList<>();
+    }
+
+    /**
+     * Method to build the copy of the codex sent to the listeners, which does not change with the codex.
+     * @return The copy of the codex.
+     */
+    public Codex copy() {
+        return new Codex(this);
+    }
+
+    /**
+     * Method for serializing the codex: the occupied cells with their side and covered corners, the order in which
+     * they were filled, the counters and the frontier.
+     * @param out The output stream.
+     * @throws IOException If the codex cannot be written.
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        int[] cells = this.codex.keys();
+        out.writeShort(cells.length);
+        for (int key : cells) {
+            int row = SparseBoard.unpackRow(key);
+            int column = SparseBoard.unpackColumn(key);
+            out.writeShort(row);
+            out.writeShort(column);
+            out.writeByte(this.codex.getCoverage(row, column));
+            ModelStreams.writeSide(out, this.codex.get(row, column));
+        }
+        out.writeShort(this.codexFillOrder.size());
+        for (Coords coords : this.codexFillOrder) {
+            out.writeShort(coords.getX());
+            out.writeShort(coords.getY());
+        }
+        for (int counter : this.counterCodex) {
+            out.writeShort(counter);
+        }
+        out.writeInt(this.pointCodex);
+        out.writeInt(this.minRow);
+        out.writeInt(this.maxRow);
+        out.writeInt(this.minColumn);
+        out.writeInt(this.maxColumn);
+        out.writeBoolean(this.cardStarterInserted);
+        out.writeShort(this.frontier.size());
+        for (int key : this.frontier) {
+            out.writeInt(key);
+        }
+    }
+
+    /**
+     * Method for deserializing the codex written by writeExternal, without the progress of the Objective cards.
+     * @param in The input stream.
+     * @throws IOException If the codex cannot be read.
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        this.codex = new SparseBoard();
+        int cells = in.readShort();
+        for (int i = 0; i < cells; i++) {
+            int row = in.readShort();
+            int column = in.readShort();
+            int coverage = in.readByte();
+            Side side = ModelStreams.readSide(in);
+            if (side == null)
+                throw new InvalidObjectException("Empty cell in the codex.");
+            this.codex.put(row, column, side);
+            if (coverage != 0)
+                this.codex.cover(row, column, coverage);
+        }
+        int filled = in.readShort();
+        this.codexFillOrder = new ArrayList<>(filled);
+        for (int i = 0; i < filled; i++) {
+            this.codexFillOrder.add(new Coords(in.readShort(), in.readShort()));
+        }
+        for (int i = 0; i < this.counterCodex.length; i++) {
+            this.counterCodex[i] = in.readShort();
+        }
+        this.pointCodex = in.readInt();
+        this.minRow = in.readInt();
+        this.maxRow = in.readInt();
+        this.minColumn = in.readInt();
+        this.maxColumn = in.readInt();
+        this.cardStarterInserted = in.readBoolean();
+        int frontierSize = in.readShort();
+        this.frontier = new LinkedHashSet<>();
+        for (int i = 0; i < frontierSize; i++) {
+            this.frontier.add(in.readInt());
+        }
+        this.kingdomBitboards = null;
+        this.objectiveProgress = new ArrayList<>();
     }
 
     /**
@@ -110,10 +274,7 @@ public class Codex implements Serializable {
      * @return A boolean indicating whether the card is connected.
      */
     private boolean checkTopLeftConnection(int row, int column){
-        if(row == 0 || column == 0){
-            return false;
-        }
-        if(this.codex[row-1][column-1] != null){
+        if(this.codex.get(row - 1, column - 1) != null){
             return true;
         }
         return false;
@@ -127,10 +288,7 @@ public class Codex implements Serializable {
      * @return A boolean indicating whether the card is connected.
      */
     private boolean checkTopRightConnection(int row, int column){
-        if(row == 0 || column == 81-1){
-            return false;
-        }
-        if(this.codex[row-1][column+1] != null){
+        if(this.codex.get(row - 1, column + 1) != null){
             return true;
         }
         return false;
@@ -144,10 +302,7 @@ public class Codex implements Serializable {
      * @return A boolean indicating whether the card is connected.
      */
     private boolean checkBottomLeftConnection(int row, int column){
-        if(row == 81-1 || column == 0){
-            return false;
-        }
-        if(this.codex[row+1][column-1]!= null){
+        if(this.codex.get(row + 1, column - 1) != null){
             return true;
         }
         return false;
@@ -161,10 +316,7 @@ public class Codex implements Serializable {
      * @return A boolean indicating whether the card is connected.
      */
     private boolean checkBottomRightConnection(int row, int column){
-        if(row == 81-1 || column == 81-1){
-            return false;
-        }
-        if(this.codex[row+1][column+1] != null){
+        if(this.codex.get(row + 1, column + 1) != null){
             return true;
         }
         return false;
@@ -175,40 +327,90 @@ public class Codex implements Serializable {
      * @param row The insertion row.
      * @param column The insertion column.
      * @return A boolean indicating whether the card can be inserted.
-     * @throws IllegalStateException If the specified row or column is out of bounds.
-     */
-    private boolean checkPreviousCardNULL(int row, int column) throws IllegalStateException {
-        try {
-            if (checkTopLeftConnection(row, column)) {
-                Side topLeft = this.codex[row - 1][column - 1];
-                if (topLeft.getBottomRightCorner() == Value.NULL) {
-                    return false;
-                }
+     */
+    private boolean checkPreviousCardNULL(int row, int column) {
+        if (checkTopLeftConnection(row, column)) {
+            Side topLeft = this.codex.get(row - 1, column - 1);
+            if (topLeft.getBottomRightCorner() == Value.NULL) {
+                return false;
             }
-            if (checkBottomLeftConnection(row, column)) {
-                Side bottomLeft = this.codex[row + 1][column - 1];
-                if (bottomLeft.getTopRightCorner() == Value.NULL) {
-                    return false;
-                }
+        }
+        if (checkBottomLeftConnection(row, column)) {
+            Side bottomLeft = this.codex.get(row + 1, column - 1);
+            if (bottomLeft.getTopRightCorner() == Value.NULL) {
+                return false;
             }
-            if (checkTopRightConnection(row, column)) {
-                Side topRight = this.codex[row - 1][column + 1];
-                if (topRight.getBottomLeftCorner() == Value.NULL){
-                    return false;
-                }
+        }
+        if (checkTopRightConnection(row, column)) {
+            Side topRight = this.codex.get(row - 1, column + 1);
+            if (topRight.getBottomLeftCorner() == Value.NULL){
+                return false;
             }
-            if (checkBottomRightConnection(row, column)) {
-                Side bottomRight = this.codex[row + 1][column + 1];
-                if (bottomRight.getTopLeftCorner() == Value.NULL){
-                    return false;
-                }
+        }
+        if (checkBottomRightConnection(row, column)) {
+            Side bottomRight = this.codex.get(row + 1, column + 1);
+            if (bottomRight.getTopLeftCorner() == Value.NULL){
+                return false;
             }
-            return true;
-        } catch (ArrayIndexOutOfBoundsException e) {
-            throw new IllegalStateException("Invalid row or column.");
+        }
+        return true;
+    }
+
+    /**
+     * Method to update the frontier after a side has been stored in a cell: the cell itself is no longer free and
+     * only its four diagonal neighbors can change state.
+     * @param row The row of the inserted side.
+     * @param column The column of the inserted side.
+     */
+    private void updateFrontier(int row, int column) {
+        this.frontier.remove(SparseBoard.packKey(row, column));
+        updateFrontierCell(row - 1, column - 1);
+        updateFrontierCell(row - 1, column + 1);
+        updateFrontierCell(row + 1, column - 1);
+        updateFrontierCell(row + 1, column + 1);
+    }
+
+    /**
+     * Method to add a cell to the frontier or remove it, depending on whether a side could be inserted there.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     */
+    private void updateFrontierCell(int row, int column) {
+        if (!SparseBoard.isInBounds(row, column))
+            return;
+        int key = SparseBoard.packKey(row, column);
+        if (!this.codex.contains(row, column) && checkPreviousCardConnection(row, column) &&
+                checkPreviousCardNULL(row, column)) {
+            this.frontier.add(key);
+        } else {
+            this.frontier.remove(key);
         }
     }
 
+    /**
+     * Method to rebuild the frontier from scratch, used when the whole codex is replaced.
+     */
+    private void rebuildFrontier() {
+        this.frontier.clear();
+        this.codex.forEach((row, column, side) -> {
+            updateFrontierCell(row - 1, column - 1);
+            updateFrontierCell(row - 1, column + 1);
+            updateFrontierCell(row + 1, column - 1);
+            updateFrontierCell(row + 1, column + 1);
+        });
+    }
+
+    /**
+     * Method to add an inserted side to the bitboard of its kingdom.
+     * @param row The row of the inserted side.
+     * @param column The column of the inserted side.
+     * @param side The inserted side.
+     */
+    private void updateKingdomBitboards(int row, int column, Side side) {
+        if (this.kingdomBitboards != null && side.getKingdom() != null)
+            this.kingdomBitboards[side.getKingdom().ordinal()].set(row, column);
+    }
+
     /**
      * Method to verify that a Gold card can be placed.
      * @param side The side of the card that you want to insert into the codex.
@@ -273,35 +475,20 @@ public class Codex implements Serializable {
      * @param side The side of the card that you want to insert into the codex.
      * @param row The row to insert the side of the card.
      * @param column The column to insert the side of the card.
-     * @throws RemoteException If there is an issue with remote communication.
      */
-    private void insertSide(Side side, int row, int column) throws RemoteException {
-        this.codex[row][column] = side;
+    private void insertSide(Side side, int row, int column) {
+        this.codex.put(row, column, side);
+        updateFrontier(row, column);
+        updateKingdomBitboards(row, column, side);
         // Set the corners that are covered by the inserted card.
-        if (checkTopLeftConnection(row, column)) {
-            Side topLeft = this.codex[row - 1][column - 1];
-            downgradeCounterCodex(topLeft.getBottomRightCorner());
-            topLeft.setBottomRightCorner(Value.COVERED);
-            this.counterCodex[7]++;
-        }
-        if (checkBottomLeftConnection(row, column)) {
-            Side bottomLeft = this.codex[row + 1][column - 1];
-            downgradeCounterCodex(bottomLeft.getTopRightCorner());
-            bottomLeft.setTopRightCorner(Value.COVERED);
-            this.counterCodex[7]++;
-        }
-        if (checkTopRightConnection(row, column)) {
-            Side topRight = this.codex[row - 1][column + 1];
-            downgradeCounterCodex(topRight.getBottomLeftCorner());
-            topRight.setBottomLeftCorner(Value.COVERED);
-            this.counterCodex[7]++;
-        }
-        if (checkBottomRightConnection(row, column)) {
-            Side bottomRight = this.codex[row + 1][column + 1];
-            downgradeCounterCodex(bottomRight.getTopLeftCorner());
-            bottomRight.setTopLeftCorner(Value.COVERED);
-            this.counterCodex[7]++;
-        }
+        if (checkTopLeftConnection(row, column))
+            coverCorner(row - 1, column - 1, BOTTOM_RIGHT);
+        if (checkBottomLeftConnection(row, column))
+            coverCorner(row + 1, column - 1, TOP_RIGHT);
+        if (checkTopRightConnection(row, column))
+            coverCorner(row - 1, column + 1, BOTTOM_LEFT);
+        if (checkBottomRightConnection(row, column))
+            coverCorner(row + 1, column + 1, TOP_LEFT);
         // Update minimums and maximums of rows and columns
         if (row <= 40)
             this.minRow = Math.min(this.minRow, row);
@@ -313,6 +500,18 @@ public class Codex implements Serializable {
             this.maxColumn = Math.max(this.maxColumn, column);
     }
 
+    /**
+     * Method to cover a corner of a side already in the codex, removing its value from the counter.
+     * @param row The row of the side.
+     * @param column The column of the side.
+     * @param corner The corner to cover.
+     */
+    private void coverCorner(int row, int column, int corner) {
+        downgradeCounterCodex(getCornerValue(row, column, corner));
+        this.codex.cover(row, column, corner);
+        this.counterCodex[7]++;
+    }
+
     /**
      * Method to lower the codex counter.
      * @param value The value contained in the corner that is covered.
@@ -408,10 +607,10 @@ public class Codex implements Serializable {
 
     /**
      * Method for updating points made by inserting cards into the codex.
-     * @param game The game.
      * @param side The side of the inserted card.
+     * @return The points made by inserting the card.
      */
-    private void calculatePointCodex(Game game, Side side) {
+    private int calculatePointCodex(Side side) {
         int oldPoints = getPointCodex();
         if (side instanceof FrontResource) {
             this.pointCodex = this.pointCodex + ((FrontResource) side).getPoint();
@@ -453,9 +652,7 @@ public class Codex implements Serializable {
                 }
             }
         }
-        if(getPointCodex() > oldPoints) {
-            game.getListener().notifyAddedPoint(game, game.getPlayers().get(game.getCurrPlayer()), getPointCodex()-oldPoints);
-        }
+        return getPointCodex() - oldPoints;
     }
 
     /**
@@ -466,16 +663,7 @@ public class Codex implements Serializable {
      * @throws RemoteException If there is an issue with remote communication.
      */
     public void insertStarterIntoCodex(Side side, Game game, String nickname) throws RemoteException {
-        this.codex[40][40] = side;
-        this.cardStarterInserted = true;
-        // Update minimums and maximums of rows and columns
-        this.minRow = 40;
-        this.maxRow = 40;
-        this.minColumn = 40;
-        this.maxColumn = 40;
-        // Update codexFillOrder
-        Coords coords = new Coords(40, 40);
-        this.codexFillOrder.add(coords);
+        placeStarter(side);
         game.getListener().notifyPositionedStarterCardIntoCodex(game, nickname);
         // Check if everybody has already placed their starter card, in case notify everybody to choose their personal objective
         boolean everybodyPlacedTheirStarter = true;
@@ -487,6 +675,25 @@ public class Codex implements Serializable {
         if(everybodyPlacedTheirStarter){
             game.getListener().notifyObjectiveCardNotChosen(game);
         }
+    }
+
+    /**
+     * Method for placing the Starter card in the middle of the codex.
+     * @param side The side of the card to insert.
+     */
+    private void placeStarter(Side side) {
+        this.codex.put(40, 40, side);
+        updateFrontier(40, 40);
+        updateKingdomBitboards(40, 40, side);
+        this.cardStarterInserted = true;
+        // Update minimums and maximums of rows and columns
+        this.minRow = 40;
+        this.maxRow = 40;
+        this.minColumn = 40;
+        this.maxColumn = 40;
+        // Update codexFillOrder
+        Coords coords = new Coords(40, 40);
+        this.codexFillOrder.add(coords);
         // Update counter for values in the codex
         updateCounterCodex(side);
     }
@@ -500,55 +707,92 @@ public class Codex implements Serializable {
      * @return true if the insertion was successful, otherwise false.
      */
     public boolean insertIntoCodex(Game game, Side side, int row, int column) {
-        try {
-            // Check the row and column and whether the Starter card has already been inserted
-            if (row < 0 || row >= 81 || column < 0 || column >= 81 || !this.cardStarterInserted) {
-                game.getListener().notifyInvalidCoordinates(game, row, column);
-                throw new IllegalArgumentException("Invalid row or column or Starter card not inserted.");
-            }
-            // Check if the coordinates are valid
-            else if (((row % 2) == 0 && (column % 2) != 0) || ((row % 2) != 0 && (column % 2) == 0)) {
-                game.getListener().notifyInvalidCoordinates(game, row, column);
-                throw new IllegalArgumentException("Invalid coordinates.");
-            }
-            // Check if the coordinates are free
-            else if (this.codex[row][column] != null) {
-                game.getListener().notifyInvalidCoordinates(game, row, column);
-                throw new IllegalArgumentException("Coordinates already occupied.");
-            }
-            // Check the connection with some previous card
-            else if (!checkPreviousCardConnection(row, column)) {
-                game.getListener().notifyInvalidCoordinates(game, row, column);
-                throw new IllegalStateException("Previous card connection failed.");
-            }
-            // Check for NULL values in previous cards
-            else if (!checkPreviousCardNULL(row, column)) {
-                game.getListener().notifyInvalidCoordinates(game, row, column);
-                throw new IllegalStateException("Previous card contains NULL values.");
-            }
-            // Check that the placement requirements for Gold cards are verified
-            else if (!checkRequirementPlacement(side)) {
-                if(side instanceof FrontGold){
-                    game.getListener().notifyRequirementsPlacementNotRespected(game, ((FrontGold) side).getRequirementPlacement());
-                } else {
-                    game.getListener().notifyRequirementsPlacementNotRespected(game, null);
-                }
-                throw new IllegalStateException("Placement requirements for Gold cards not met.");
-            } else {
-                // Proceed with the insertion
-                insertSide(side, row, column);
-                updateCounterCodex(side);
-                calculatePointCodex(game, side);
-                this.counterCodex[7] = 0;
-                // Update codexFillOrder
-                Coords coords = new Coords(row, column);
-                this.codexFillOrder.add(coords);
-                game.getListener().notifyPositionedCardIntoCodex(game, row, column);
-                return true;
+        return placeIntoCodex(game, side, row, column) == PlacementResult.OK;
+    }
+
+    /**
+     * Method of inserting one side of a card into the codex, notifying the listeners of the game if it has been
+     * inserted. A side that cannot be inserted is only reported to the player who tried, by the caller.
+     * @param game The game of the codex where the card will be inserted.
+     * @param side The side of the card to insert.
+     * @param row The row to insert the side of the card.
+     * @param column The column to insert the side of the card.
+     * @return OK if the side has been inserted, otherwise the reason why it could not be inserted.
+     */
+    public PlacementResult placeIntoCodex(Game game, Side side, int row, int column) {
+        PlacementResult result = checkPlacement(side, row, column);
+        if (result == PlacementResult.OK) {
+            int points = placeSide(side, row, column);
+            if (points > 0) {
+                game.getListener().notifyAddedPoint(game, game.getPlayers().get(game.getCurrPlayer()), points);
             }
-        } catch (Exception e) {
-            return false;
+            game.getListener().notifyPositionedCardIntoCodex(game, row, column);
         }
+        return result;
+    }
+
+    /**
+     * Method to check whether a side can be inserted into the codex, without changing the codex.
+     * @param side The side of the card to insert.
+     * @param row The row to insert the side of the card.
+     * @param column The column to insert the side of the card.
+     * @return OK if the side can be inserted, otherwise the reason why it cannot be inserted.
+     */
+    public PlacementResult checkPlacement(Side side, int row, int column) {
+        if (side == null)
+            return PlacementResult.NO_SIDE;
+        if (!SparseBoard.isInBounds(row, column))
+            return PlacementResult.OUT_OF_BOUNDS;
+        if (!this.cardStarterInserted)
+            return PlacementResult.NO_STARTER;
+        // The cells of the frontier are free, connected and not blocked by NULL corners
+        if (!isFrontierCell(row, column)) {
+            if (((row % 2) == 0 && (column % 2) != 0) || ((row % 2) != 0 && (column % 2) == 0))
+                return PlacementResult.PARITY;
+            if (this.codex.contains(row, column))
+                return PlacementResult.OCCUPIED;
+            if (!checkPreviousCardConnection(row, column))
+                return PlacementResult.NOT_CONNECTED;
+            return PlacementResult.NULL_CORNER;
+        }
+        return checkRequirementPlacement(side) ? PlacementResult.OK : PlacementResult.GOLD_REQUIREMENT;
+    }
+
+    /**
+     * Method for placing a side in a position already checked, updating counters, points and Objective progress.
+     * @param side The side of the card to insert.
+     * @param row The row to insert the side of the card.
+     * @param column The column to insert the side of the card.
+     * @return The points made by inserting the card.
+     */
+    private int placeSide(Side side, int row, int column) {
+        insertSide(side, row, column);
+        updateCounterCodex(side);
+        int points = calculatePointCodex(side);
+        this.counterCodex[7] = 0;
+        // Update codexFillOrder
+        Coords coords = new Coords(row, column);
+        this.codexFillOrder.add(coords);
+        // Update the projected points of the Objective cards
+        for (ObjectiveProgress progress : this.objectiveProgress) {
+            progress.update(this, row, column);
+        }
+        return points;
+    }
+
+    /**
+     * Method for inserting a side already accepted by the server into a copy of the codex, without checks and
+     * notifications. The first side applied is the Starter card.
+     * @param side The side of the card to insert.
+     * @param row The row to insert the side of the card.
+     * @param column The column to insert the side of the card.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    public void applyPlacement(Side side, int row, int column) throws RemoteException {
+        if (!this.cardStarterInserted)
+            placeStarter(side);
+        else
+            placeSide(side, row, column);
     }
 
     /**
@@ -557,36 +801,24 @@ public class Codex implements Serializable {
      * @param row The row in which to simulate the insertion of the side of the card.
      * @param column The column in which to simulate the insertion of the side of the card.
      * @return A boolean indicating whether the card could be inserted in that position.
-     * @throws Exception If an error occurs.
      */
-    public boolean simulateInsertIntoCodex(Side side, int row, int column) throws Exception {
-        // Check if the coordinates are valid and if they are free
-        if (((row % 2) == 0 && (column % 2) != 0) || ((row % 2) != 0 && (column % 2) == 0) || this.codex[row][column] != null) {
-            return false;
-        } else {
-            // Check the connection with some previous card
-            boolean checkPreviousCardConnection = checkPreviousCardConnection(row, column);
-            if (!checkPreviousCardConnection)
-                return false;
-            // Check for NULL values in previous cards
-            boolean checkPreviousCardNULL = checkPreviousCardNULL(row, column);
-            if (!checkPreviousCardNULL)
-                return false;
-            // Check that the placement requirements for Gold cards are verified
-            boolean checkRequirementPlacement = checkRequirementPlacement(side);
-            if (!checkRequirementPlacement)
-                return false;
-            // If you can insert the card side
-            return true;
-        }
+    public boolean simulateInsertIntoCodex(Side side, int row, int column) {
+        return checkPlacement(side, row, column) == PlacementResult.OK;
     }
 
     /**
-     * Method to retrieve the codex.
+     * Method to retrieve a dense view of the codex, covering rows and columns from 0 to 80.
+     * The view is built on each call and changes made to it are not reflected in the codex: use getSideAt for
+     * single lookups.
      * @return The codex.
      */
     public Side[][] getCodex() {
-        return this.codex;
+        Side[][] view = new Side[VIEW_SIZE][VIEW_SIZE];
+        this.codex.forEach((row, column, side) -> {
+            if (row >= 0 && row < VIEW_SIZE && column >= 0 && column < VIEW_SIZE)
+                view[row][column] = side;
+        });
+        return view;
     }
 
     /**
@@ -594,7 +826,23 @@ public class Codex implements Serializable {
      * @param codex The codex to set.
      */
     public void setCodex(Side[][] codex) {
-        this.codex = codex;
+        this.codex.clear();
+        for (int i = 0; i < codex.length; i++) {
+            for (int j = 0; j < codex[i].length; j++) {
+                if (codex[i][j] != null)
+                    this.codex.put(i, j, codex[i][j]);
+            }
+        }
+        rebuildFrontier();
+        this.kingdomBitboards = null;
+    }
+
+    /**
+     * Method to retrieve the number of sides placed in the codex.
+     * @return The number of sides placed.
+     */
+    public int getSideCount() {
+        return this.codex.size();
     }
 
     /**
@@ -604,10 +852,143 @@ public class Codex implements Serializable {
      * @return The Side at the specified position, or null if the position is empty or out of bounds.
      */
     public Side getSideAt(int row, int column) {
-        if (row < 0 || row >= 81 || column < 0 || column >= 81)
+        return this.codex.get(row, column);
+    }
+
+    /**
+     * Method to retrieve the corners of the side at a position that are covered by other sides.
+     * @param row The row of the side.
+     * @param column The column of the side.
+     * @return The bitmask of the covered corners (TOP_LEFT, BOTTOM_LEFT, TOP_RIGHT, BOTTOM_RIGHT).
+     */
+    public int getCoverage(int row, int column) {
+        return this.codex.getCoverage(row, column);
+    }
+
+    /**
+     * Method to retrieve the value visible in a corner of the side at a position.
+     * @param row The row of the side.
+     * @param column The column of the side.
+     * @param corner The corner (TOP_LEFT, BOTTOM_LEFT, TOP_RIGHT or BOTTOM_RIGHT).
+     * @return COVERED if the corner is covered, otherwise the value printed on the side, or null if the position
+     * is empty.
+     */
+    public Value getCornerValue(int row, int column, int corner) {
+        Side side = this.codex.get(row, column);
+        if (side == null)
             return null;
-        else
-            return this.codex[row][column];
+        if ((this.codex.getCoverage(row, column) & corner) != 0)
+            return Value.COVERED;
+        return switch (corner) {
+            case TOP_LEFT -> side.getTopLeftCorner();
+            case BOTTOM_LEFT -> side.getBottomLeftCorner();
+            case TOP_RIGHT -> side.getTopRightCorner();
+            case BOTTOM_RIGHT -> side.getBottomRightCorner();
+            default -> throw new IllegalArgumentException("Invalid corner.");
+        };
+    }
+
+    /**
+     * Method to retrieve the free cells where a side without placement requirements could be inserted.
+     * @return The list of free cells, as Coords(row, column) like in codexFillOrder.
+     */
+    public ArrayList<Coords> getFrontier() {
+        ArrayList<Coords> cells = new ArrayList<>(this.frontier.size());
+        for (int key : this.frontier) {
+            cells.add(new Coords(SparseBoard.unpackRow(key), SparseBoard.unpackColumn(key)));
+        }
+        return cells;
+    }
+
+    /**
+     * Method to check if a cell belongs to the frontier.
+     * @param row The row of the cell.
+     * @param column The column of the cell.
+     * @return A boolean indicating whether a side without placement requirements could be inserted in the cell.
+     */
+    public boolean isFrontierCell(int row, int column) {
+        return SparseBoard.isInBounds(row, column) && this.frontier.contains(SparseBoard.packKey(row, column));
+    }
+
+    /**
+     * Method to retrieve the number of cells in the frontier.
+     * @return The number of free cells where a side could be inserted.
+     */
+    public int getFrontierSize() {
+        return this.frontier.size();
+    }
+
+    /**
+     * Method to retrieve the cells occupied by sides of a kingdom.
+     * @param kingdom The kingdom.
+     * @return The bitboard of the kingdom, which must not be modified.
+     */
+    public Bitboard getKingdomBitboard(Kingdom kingdom) {
+        if (this.kingdomBitboards == null) {
+            Bitboard[] bitboards = new Bitboard[Kingdom.values().length];
+            for (int i = 0; i < bitboards.length; i++) {
+                bitboards[i] = new Bitboard();
+            }
+            this.codex.forEach((row, column, side) -> {
+                if (side.getKingdom() != null)
+                    bitboards[side.getKingdom().ordinal()].set(row, column);
+            });
+            this.kingdomBitboards = bitboards;
+        }
+        return this.kingdomBitboards[kingdom.ordinal()];
+    }
+
+    /**
+     * Method to start updating the points of an Objective card at each insertion. The sides already inserted are
+     * replayed in the order in which they were inserted.
+     * @param cardObjective The Objective card.
+     */
+    public void trackObjective(CardObjective cardObjective) {
+        for (ObjectiveProgress progress : this.objectiveProgress) {
+            if (progress.getCardObjective().getIdCard().equals(cardObjective.getIdCard()))
+                return;
+        }
+        ObjectiveProgress progress = new ObjectiveProgress(cardObjective);
+        for (Coords coords : this.codexFillOrder) {
+            progress.update(this, coords.getX(), coords.getY());
+        }
+        this.objectiveProgress.add(progress);
+    }
+
+    /**
+     * Method to retrieve the progress of the Objective cards tracked.
+     * @return The progress of the Objective cards.
+     */
+    public ArrayList<ObjectiveProgress> getObjectiveProgress() {
+        return this.objectiveProgress;
+    }
+
+    /**
+     * Method to retrieve the projected points of all the Objective cards tracked.
+     * @return The projected points.
+     */
+    public int getProjectedPointObjective() {
+        int projected = 0;
+        for (ObjectiveProgress progress : this.objectiveProgress) {
+            projected = projected + progress.getScore();
+        }
+        return projected;
+    }
+
+    /**
+     * Method to retrieve the projected points of some of the Objective cards tracked.
+     * @param cardObjectives The Objective cards whose points are added.
+     * @return The projected points of the cards given that are tracked.
+     */
+    public int getProjectedPointObjective(ArrayList<CardObjective> cardObjectives) {
+        int projected = 0;
+        for (ObjectiveProgress progress : this.objectiveProgress) {
+            for (CardObjective cardObjective : cardObjectives) {
+                if (progress.getCardObjective().getIdCard().equals(cardObjective.getIdCard()))
+                    projected = projected + progress.getScore();
+            }
+        }
+        return projected;
     }
 
     /**
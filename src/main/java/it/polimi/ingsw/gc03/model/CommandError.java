@@ -0,0 +1,119 @@
+package it.polimi.ingsw.gc03.model;
+
+import it.polimi.ingsw.gc03.model.enumerations.ErrorCode;
+import it.polimi.ingsw.gc03.model.enumerations.Value;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+
+/**
+ * This class represents the rejection of a move, sent only to the player who made it. The client gives an id to each
+ * of its placements and draws, and the rejection carries the id of the move rejected, so that the client can match it
+ * with the move it is waiting for.
+ */
+public class CommandError implements Externalizable {
+
+    /**
+     * The version of the serialized form of the error.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The id of the moves made without an id, such as the draws made by the server for a player whose turn has
+     * timed out. The clients start their ids from 1.
+     */
+    public static final int NO_REQUEST_ID = 0;
+
+    /**
+     * The reason of the rejection.
+     */
+    private ErrorCode code;
+
+    /**
+     * The id given by the client to the move rejected.
+     */
+    private int correlationId;
+
+    /**
+     * The placement requirements not met, only for the Gold cards that cannot be placed.
+     */
+    private ArrayList<Value> requirementsPlacement;
+
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public CommandError() {
+    }
+
+    /**
+     * Constructor of the CommandError class.
+     * @param code The reason of the rejection.
+     * @param correlationId The id given by the client to the move rejected.
+     * @param requirementsPlacement The placement requirements not met, or null.
+     */
+    public CommandError(ErrorCode code, int correlationId, ArrayList<Value> requirementsPlacement) {
+        this.code = code;
+        this.correlationId = correlationId;
+        this.requirementsPlacement = requirementsPlacement;
+    }
+
+    /**
+     * Method to get the reason of the rejection.
+     * @return The reason of the rejection.
+     */
+    public ErrorCode getCode() {
+        return code;
+    }
+
+    /**
+     * Method to get the id given by the client to the move rejected.
+     * @return The id of the move.
+     */
+    public int getCorrelationId() {
+        return correlationId;
+    }
+
+    /**
+     * Method to get the placement requirements not met.
+     * @return The requirements, or null if the rejection is not about the requirements of a Gold card.
+     */
+    public ArrayList<Value> getRequirementsPlacement() {
+        return requirementsPlacement;
+    }
+
+    /**
+     * Method for writing the rejection.
+     * @param out The output.
+     * @throws IOException If the rejection cannot be written.
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        ModelStreams.writeEnum(out, this.code);
+        out.writeInt(this.correlationId);
+        out.writeByte(this.requirementsPlacement == null ? -1 : this.requirementsPlacement.size());
+        if (this.requirementsPlacement != null) {
+            for (Value value : this.requirementsPlacement) {
+                ModelStreams.writeEnum(out, value);
+            }
+        }
+    }
+
+    /**
+     * Method for reading the rejection written by writeExternal.
+     * @param in The input.
+     * @throws IOException If the rejection cannot be read.
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        this.code = ModelStreams.readEnum(in, ErrorCode.values());
+        this.correlationId = in.readInt();
+        int count = in.readByte();
+        this.requirementsPlacement = count < 0 ? null : new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            this.requirementsPlacement.add(ModelStreams.readEnum(in, Value.values()));
+        }
+    }
+
+}
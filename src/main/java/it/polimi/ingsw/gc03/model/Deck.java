@@ -0,0 +1,195 @@
+package it.polimi.ingsw.gc03.model;
+
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.enumerations.DeckType;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This class represents a deck of cards as a permutation of the indexes of the cards in the card catalog.
+ * Drawing a card only moves a cursor, and the cards themselves are never serialized with the deck: they are looked
+ * up in the catalog, which is loaded from the same files by the server and by the clients.
+ * @param <T> The type of the cards of the deck.
+ */
+public class Deck<T extends Card> implements Serializable {
+
+    /**
+     * The type of the deck, used to find its cards in the catalog.
+     */
+    private final DeckType type;
+
+    /**
+     * The indexes in the catalog of the cards of the deck, from the top to the bottom.
+     */
+    private final short[] order;
+
+    /**
+     * The position in order of the card on top of the deck.
+     */
+    private int cursor;
+
+    /**
+     * The cards of the catalog, resolved again after deserialization.
+     */
+    private transient List<T> cards;
+
+    /**
+     * Constructor for a deck containing all the cards of a type, in the order of the catalog.
+     * @param type The type of the deck.
+     */
+    public Deck(DeckType type) {
+        this.type = type;
+        this.order = new short[cards().size()];
+        for (int i = 0; i < this.order.length; i++) {
+            this.order[i] = (short) i;
+        }
+        this.cursor = 0;
+    }
+
+    /**
+     * Constructor for a deck containing some cards of the catalog, in the given order.
+     * @param type The type of the deck.
+     * @param deck The cards of the deck, from the top to the bottom.
+     * @throws IllegalArgumentException If a card is not part of the catalog.
+     */
+    public Deck(DeckType type, List<? extends T> deck) throws IllegalArgumentException {
+        this.type = type;
+        this.order = new short[deck.size()];
+        List<T> catalogCards = cards();
+        for (int i = 0; i < this.order.length; i++) {
+            int index = indexOf(catalogCards, deck.get(i));
+            if (index < 0)
+                throw new IllegalArgumentException("Card not in the catalog: " + deck.get(i).getIdCard());
+            this.order[i] = (short) index;
+        }
+        this.cursor = 0;
+    }
+
+    /**
+     * Method to find a card in the catalog by its id.
+     * @param catalogCards The cards of the catalog.
+     * @param card The card to find.
+     * @return The index of the card, or -1 if it is missing.
+     */
+    private static int indexOf(List<? extends Card> catalogCards, Card card) {
+        for (int i = 0; i < catalogCards.size(); i++) {
+            if (catalogCards.get(i).getIdCard().equals(card.getIdCard()))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Method to retrieve the cards of the catalog for the type of the deck.
+     * @return The cards of the catalog.
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> cards() {
+        if (this.cards == null) {
+            CardCatalog catalog = CardCatalog.getInstance();
+            this.cards = (List<T>) switch (this.type) {
+                case DECK_STARTER -> catalog.getStarterCards();
+                case DECK_RESOURCE -> catalog.getResourceCards();
+                case DECK_GOLD -> catalog.getGoldCards();
+                case DECK_OBJECTIVE -> catalog.getObjectiveCards();
+                default -> throw new IllegalArgumentException("Invalid deck type.");
+            };
+        }
+        return this.cards;
+    }
+
+    /**
+     * Method to shuffle the cards left in the deck.
+     * @param random The source of randomness.
+     */
+    public void shuffle(Random random) {
+        for (int i = this.order.length - 1; i > this.cursor; i--) {
+            int j = this.cursor + random.nextInt(i - this.cursor + 1);
+            short temp = this.order[i];
+            this.order[i] = this.order[j];
+            this.order[j] = temp;
+        }
+    }
+
+    /**
+     * Method to draw the card on top of the deck.
+     * @return The drawn card, or null if the deck is empty.
+     */
+    public T draw() {
+        if (isEmpty())
+            return null;
+        return cards().get(this.order[this.cursor++]);
+    }
+
+    /**
+     * Method to look at the card on top of the deck without drawing it.
+     * @return The card on top of the deck, or null if the deck is empty.
+     */
+    public T peek() {
+        if (isEmpty())
+            return null;
+        return cards().get(this.order[this.cursor]);
+    }
+
+    /**
+     * Method to retrieve a card left in the deck.
+     * @param index The position of the card, 0 being the top of the deck.
+     * @return The card.
+     * @throws IndexOutOfBoundsException If there is no card at the position.
+     */
+    public T get(int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException(index);
+        return cards().get(this.order[this.cursor + index]);
+    }
+
+    /**
+     * Method to retrieve the number of cards left in the deck.
+     * @return The number of cards left.
+     */
+    public int size() {
+        return this.order.length - this.cursor;
+    }
+
+    /**
+     * Method to check if the deck is empty.
+     * @return A boolean indicating whether no card is left.
+     */
+    public boolean isEmpty() {
+        return this.cursor == this.order.length;
+    }
+
+    /**
+     * Method to remove all the cards left in the deck.
+     */
+    public void clear() {
+        this.cursor = this.order.length;
+    }
+
+    /**
+     * Method to retrieve a read-only view of the cards left in the deck, which follows the draws. Clearing the view
+     * empties the deck.
+     * @return The view of the deck, from the top to the bottom.
+     */
+    public List<T> asList() {
+        return new AbstractList<>() {
+            @Override
+            public T get(int index) {
+                return Deck.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return Deck.this.size();
+            }
+
+            @Override
+            public void clear() {
+                Deck.this.clear();
+            }
+        };
+    }
+
+}
@@ -1,49 +1,51 @@
 package it.polimi.ingsw.gc03.model;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
+import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.model.card.Card;
 import it.polimi.ingsw.gc03.model.card.CardGold;
 import it.polimi.ingsw.gc03.model.card.CardResource;
 import it.polimi.ingsw.gc03.model.card.CardStarter;
-import it.polimi.ingsw.gc03.model.card.cardObjective.CalculateScoreStrategy;
-import it.polimi.ingsw.gc03.model.card.cardObjective.CalculateScoreStrategyAdapter;
 import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
 import it.polimi.ingsw.gc03.model.enumerations.DeckType;
-import java.io.*;
-import java.lang.reflect.Type;
+import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * This class represents the game board.
+ * It is serialized with the ids of the displayed cards in place of the cards, the decks being already written as the
+ * indexes of their cards in the card catalog.
  */
-public class Desk implements Serializable {
+public class Desk implements Externalizable {
 
     /**
      * Deck of Starter cards.
      */
-    private ArrayList<CardStarter> deckStarter;
+    private Deck<CardStarter> deckStarter;
 
     /**
      * Deck of Resource cards.
      */
-    private ArrayList<CardResource> deckResource;
+    private Deck<CardResource> deckResource;
 
     /**
      * Deck of Gold cards.
      */
-    private ArrayList<CardGold> deckGold;
+    private Deck<CardGold> deckGold;
 
     /**
      * Deck of Objective cards.
      */
-    private ArrayList<CardObjective> deckObjective;
+    private Deck<CardObjective> deckObjective;
 
     /**
      * Visible Resource cards.
@@ -61,200 +63,108 @@ public class Desk implements Serializable {
     private ArrayList<CardObjective> displayedObjective;
 
     /**
-     * Path to json files.
-     */
-    private static final String FILE_JSON = "/it/polimi/ingsw/gc03/json/";
-
-    /**
-     * Path to the front images folder.
-     */
-    private static final String IMAGE_PATH_FRONT = "/it/polimi/ingsw/gc03/gui/images/cards/frontSide/";
-
-    /**
-     * Path to the back images folder.
+     * Number of cards displayed.
      */
-    private static final String IMAGE_PATH_BACK = "/it/polimi/ingsw/gc03/gui/images/cards/backSide/";
+    private static final int NUM_CARD_DISPLAYED = 2;
 
     /**
-     * Number of Starter cards.
+     * Define a logger for the class.
      */
-    private static final int NUM_CARD_STARTER = 6;
+    private static final Logger logger = Logger.getLogger(Desk.class.getName());
 
     /**
-     * Number of Resource cards.
+     * The game object of the desk, not serialized: the game attaches itself to its desk when it is read.
      */
-    private static final int NUM_CARD_RESOURCE = 40;
+    private transient Game game;
 
     /**
-     * Number of Gold cards.
+     * Constructor of the Desk class, with randomly shuffled decks.
+     * @param game The game of the desk.
+     * @throws RemoteException If there is an issue with remote communication.
      */
-    private static final int NUM_CARD_GOLD = 40;
+    public Desk(Game game) throws RemoteException {
+        this(game, new Random());
+    }
 
     /**
-     * Number of Objective cards.
+     * Constructor of the Desk class.
+     * @param game The game of the desk.
+     * @param random The source of randomness used to shuffle the decks.
+     * @throws RemoteException If there is an issue with remote communication.
      */
-    private static final int NUM_CARD_OBJECTIVE = 16;
+    public Desk(Game game, Random random) throws RemoteException {
+        if (!CardCatalog.getInstance().isLoaded()) {
+            logger.log(Level.SEVERE, "The card catalog could not be loaded");
+            System.exit(1);
+        }
+        // Create decks of cards
+        createDecks(random);
+        // Initialize visible cards
+        initializeDisplayedCard();
+        this.game = game;
+    }
 
     /**
-     * Number of cards displayed.
+     * Constructor of an empty desk, filled by hideDecks, emptyView and the deserialization.
      */
-    private static final int NUM_CARD_DISPLAYED = 2;
+    public Desk() {
+    }
 
     /**
-     * Define a logger for the class.
+     * Method for serializing the desk, with the displayed cards written as their ids.
+     * @param out The output stream.
+     * @throws IOException If the desk cannot be written.
      */
-    private static final Logger logger = Logger.getLogger(Desk.class.getName());
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeObject(this.deckStarter);
+        out.writeObject(this.deckResource);
+        out.writeObject(this.deckGold);
+        out.writeObject(this.deckObjective);
+        ModelStreams.writeCards(out, this.displayedResource);
+        ModelStreams.writeCards(out, this.displayedGold);
+        ModelStreams.writeCards(out, this.displayedObjective);
+    }
 
     /**
-     * The game object of the desk.
-     */
-    private Game game;
+     * Method for deserializing the desk written by writeExternal.
+     * @param in The input stream.
+     * @throws IOException If the desk cannot be read.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void readExternal(ObjectInput in) throws IOException {
+        this.deckStarter = (Deck<CardStarter>) ModelStreams.readObject(in);
+        this.deckResource = (Deck<CardResource>) ModelStreams.readObject(in);
+        this.deckGold = (Deck<CardGold>) ModelStreams.readObject(in);
+        this.deckObjective = (Deck<CardObjective>) ModelStreams.readObject(in);
+        this.displayedResource = ModelStreams.readCards(in, Card.class);
+        this.displayedGold = ModelStreams.readCards(in, Card.class);
+        this.displayedObjective = ModelStreams.readCards(in, CardObjective.class);
+    }
 
     /**
-     * Constructor of the Desk class.
-     * @throws RemoteException If there is an issue with remote communication.
+     * Method for binding the desk to its game after the game has been read.
+     * @param game The game of the desk.
      */
-    public Desk(Game game) throws RemoteException {
-        // Create decks of cards
-        if (!createDeckStarter() || !createDeckResource() || !createDeckGold() || !createDeckObjective())
-            System.exit(1);
-        // Initialize visible cards
-        initializeDisplayedCard();
+    void attach(Game game) {
         this.game = game;
     }
 
     /**
-     * Method for creating the Starter card deck.
-     * @return A boolean indicating whether the operation was successful or not.
-     */
-    private boolean createDeckStarter() {
-        this.deckStarter = new ArrayList<>(NUM_CARD_STARTER);
-        // Load the JSON file containing the Starter cards
-        try (InputStream inputStream = getClass().getResourceAsStream(FILE_JSON + "fileCardStarter.json");
-             InputStreamReader inputStreamReader = new InputStreamReader(inputStream)) {
-            // Use Gson to parse the JSON data
-            Gson gson = new Gson();
-            Type starterCardType = new TypeToken<ArrayList<CardStarter>>(){}.getType();
-            ArrayList<CardStarter> starterCards = gson.fromJson(inputStreamReader, starterCardType);
-            this.deckStarter.addAll(starterCards);
-            inputStream.close();
-            // Associate the images with the sides of the card
-            for (CardStarter cardStarter : this.deckStarter) {
-                cardStarter.getFrontStarter().setImage(IMAGE_PATH_FRONT + cardStarter.getIdCard() + "_front.png");
-                cardStarter.getBackStarter().setImage(IMAGE_PATH_BACK + cardStarter.getIdCard() + "_back.png");
-            }
-            // Shuffle the deck
-            Collections.shuffle(this.deckStarter);
-            return true;
-        } catch (FileNotFoundException e) {
-            // Log the exception using the logger
-            logger.log(Level.SEVERE, "Could not find the file: " + FILE_JSON + "fileCardStarter.json", e);
-        } catch (IOException e) {
-            // Log the exception using the logger
-            logger.log(Level.SEVERE, "Error reading the file: " + FILE_JSON + "fileCardStarter.json", e);
-        }
-        return false;
-    }
-
-    /**
-     * Method for creating the Resource card deck.
-     * @return A boolean indicating whether the operation was successful or not.
-     */
-    private boolean createDeckResource() {
-        this.deckResource = new ArrayList<>(NUM_CARD_RESOURCE);
-        // Load the JSON file containing the Resource cards
-        try (InputStream inputStream = getClass().getResourceAsStream(FILE_JSON + "fileCardResource.json");
-             InputStreamReader inputStreamReader = new InputStreamReader(inputStream)) {
-            // Use Gson to parse the JSON data
-            Gson gson = new Gson();
-            Type resourceCardType = new TypeToken<ArrayList<CardResource>>(){}.getType();
-            ArrayList<CardResource> resourceCards = gson.fromJson(inputStreamReader, resourceCardType);
-            this.deckResource.addAll(resourceCards);
-            inputStream.close();
-            // Associate the images with the sides of the card
-            for (CardResource cardResource : this.deckResource) {
-                cardResource.getFrontResource().setImage(IMAGE_PATH_FRONT + cardResource.getIdCard() + "_front.png");
-                cardResource.getBackResource().setImage(IMAGE_PATH_BACK + cardResource.getIdCard() + "_back.png");
-            }
-            // Shuffle the deck
-            Collections.shuffle(this.deckResource);
-            return true;
-        } catch (FileNotFoundException e) {
-            // Log the exception using the logger
-            logger.log(Level.SEVERE, "Could not find the file: " + FILE_JSON + "fileCardResource.json", e);
-        } catch (IOException e) {
-            // Log the exception using the logger
-            logger.log(Level.SEVERE, "Error reading the file: " + FILE_JSON + "fileCardResource.json", e);
-        }
-        return false;
-    }
-
-    /**
-     * Method for creating the Gold card deck.
-     * @return A boolean indicating whether the operation was successful or not.
-     */
-    private boolean createDeckGold() {
-        this.deckGold = new ArrayList<>(NUM_CARD_GOLD);
-        // Load the JSON file containing the Gold cards
-        try (InputStream inputStream = getClass().getResourceAsStream(FILE_JSON + "fileCardGold.json");
-             InputStreamReader inputStreamReader = new InputStreamReader(inputStream)) {
-            // Use Gson to parse the JSON data
-            Gson gson = new Gson();
-            Type goldCardType = new TypeToken<ArrayList<CardGold>>(){}.getType();
-            ArrayList<CardGold> goldCards = gson.fromJson(inputStreamReader, goldCardType);
-            this.deckGold.addAll(goldCards);
-            inputStream.close();
-            // Associate the images with the sides of the card
-            for (CardGold cardGold : this.deckGold) {
-                cardGold.getFrontGold().setImage(IMAGE_PATH_FRONT + cardGold.getIdCard() + "_front.png");
-                cardGold.getBackGold().setImage(IMAGE_PATH_BACK + cardGold.getIdCard() + "_back.png");
-            }
-            // Shuffle the deck
-            Collections.shuffle(this.deckGold);
-            return true;
-        } catch (FileNotFoundException e) {
-            // Log the exception using the logger
-            logger.log(Level.SEVERE, "Could not find the file: " + FILE_JSON + "fileCardGold.json", e);
-        } catch (IOException e) {
-            // Log the exception using the logger
-            logger.log(Level.SEVERE, "Error reading the file: " + FILE_JSON + "fileCardGold.json", e);
-        }
-        return false;
-    }
-
-    /**
-     * Method for creating the Objective card deck.
-     * @return A boolean indicating whether the operation was successful or not.
-     */
-    private boolean createDeckObjective() {
-        this.deckObjective = new ArrayList<>(NUM_CARD_OBJECTIVE);
-        // Load the JSON file containing the Objective cards
-        try (InputStream inputStream = getClass().getResourceAsStream(FILE_JSON + "fileCardObjective.json");
-             InputStreamReader inputStreamReader = new InputStreamReader(inputStream)) {
-            // Create GsonBuilder and register the adapter
-            GsonBuilder gsonBuilder = new GsonBuilder();
-            gsonBuilder.registerTypeAdapter(CalculateScoreStrategy.class, new CalculateScoreStrategyAdapter());
-            Gson gson = gsonBuilder.create();
-            // Use Gson to parse the JSON data
-            Type objectiveCardType = new TypeToken<ArrayList<CardObjective>>(){}.getType();
-            ArrayList<CardObjective> objectiveCards = gson.fromJson(inputStreamReader, objectiveCardType);
-            this.deckObjective.addAll(objectiveCards);
-            inputStream.close();
-            // Associate the images with the card
-            for (CardObjective cardObjective : this.deckObjective) {
-                cardObjective.setImage(IMAGE_PATH_FRONT + cardObjective.getIdCard() + "_front.png");
-            }
-            // Shuffle the deck
-            Collections.shuffle(this.deckObjective);
-            return true;
-        } catch (FileNotFoundException e) {
-            // Log the exception using the logger
-            logger.log(Level.SEVERE, "Could not find the file: " + FILE_JSON + "fileCardObjective.json", e);
-        } catch (IOException e) {
-            // Log the exception using the logger
-            logger.log(Level.SEVERE, "Error reading the file: " + FILE_JSON + "fileCardObjective.json", e);
-        }
-        return false;
+     * Method for creating the decks of cards, shuffled.
+     * @param random The source of randomness used to shuffle the decks.
+     */
+    private void createDecks(Random random) {
+        this.deckStarter = new Deck<>(DeckType.DECK_STARTER);
+        this.deckResource = new Deck<>(DeckType.DECK_RESOURCE);
+        this.deckGold = new Deck<>(DeckType.DECK_GOLD);
+        this.deckObjective = new Deck<>(DeckType.DECK_OBJECTIVE);
+        // Shuffle the decks
+        this.deckStarter.shuffle(random);
+        this.deckResource.shuffle(random);
+        this.deckGold.shuffle(random);
+        this.deckObjective.shuffle(random);
     }
 
     /**
@@ -283,31 +193,146 @@ public class Desk implements Serializable {
     }
 
     /**
-     * Method for drawing a card.
+     * Method for drawing a card that no player keeps hidden, such as the visible cards.
      * @param deck The deck from which you want to draw a card.
      * @return The drawn card.
      */
     public Card drawCardDeck(DeckType deck) {
-        List<? extends Card> actualDeck = null;
-        switch (deck) {
-            case DECK_GOLD -> actualDeck = this.deckGold;
-            case DECK_RESOURCE -> actualDeck = this.deckResource;
-            case DECK_OBJECTIVE -> actualDeck = this.deckObjective;
-            case DECK_STARTER -> actualDeck = this.deckStarter;
-        }
+        return drawCardDeck(deck, null);
+    }
+
+    /**
+     * Method for drawing a card for a player: only the listener of the player is told which card was drawn.
+     * @param deck The deck from which you want to draw a card.
+     * @param owner The listener of the player drawing the card, or null if no player keeps it.
+     * @return The drawn card.
+     */
+    public Card drawCardDeck(DeckType deck, GameListener owner) {
+        Deck<? extends Card> actualDeck = getDeck(deck);
         boolean emptyDeck = actualDeck.isEmpty();
         // Empty deck
         if (emptyDeck) {
             return null;
         } else{
-            Card drawnCard =  actualDeck.removeFirst();
+            Card drawnCard =  actualDeck.draw();
             if(game != null && game.getPlayers().size()>=1){
-                game.getListener().notifyCardAddedToHand(this.game, drawnCard);
+                game.getListener().notifyCardAddedToHand(this.game, owner, drawnCard);
             }
             return drawnCard;
         }
     }
 
+    /**
+     * Method to retrieve a deck by its type.
+     * @param deck The type of the deck.
+     * @return The deck.
+     * @throws IllegalArgumentException If the type is not a deck.
+     */
+    private Deck<? extends Card> getDeck(DeckType deck) throws IllegalArgumentException {
+        return switch (deck) {
+            case DECK_GOLD -> this.deckGold;
+            case DECK_RESOURCE -> this.deckResource;
+            case DECK_OBJECTIVE -> this.deckObjective;
+            case DECK_STARTER -> this.deckStarter;
+            default -> throw new IllegalArgumentException("Invalid deck type.");
+        };
+    }
+
+    /**
+     * Method for obtaining the number of cards left in a deck.
+     * @param deck The type of the deck.
+     * @return The number of cards left.
+     */
+    public int getDeckSize(DeckType deck) {
+        return getDeck(deck).size();
+    }
+
+    /**
+     * Method to check if a deck is empty.
+     * @param deck The type of the deck.
+     * @return A boolean indicating whether the deck is empty.
+     */
+    public boolean isDeckEmpty(DeckType deck) {
+        return getDeck(deck).isEmpty();
+    }
+
+    /**
+     * Method for obtaining the kingdom of the card on top of a deck, which is all that can be seen of it.
+     * @param deck The type of the deck.
+     * @return The kingdom of the top card, or null if the deck is empty or its cards have no kingdom.
+     */
+    public Kingdom getTopCardKingdom(DeckType deck) {
+        Card card = getTopCard(deck);
+        if (card instanceof CardResource)
+            return ((CardResource) card).getKingdom();
+        else if (card instanceof CardGold)
+            return ((CardGold) card).getKingdom();
+        return null;
+    }
+
+    /**
+     * Method for obtaining the card on top of a deck without drawing it.
+     * @param deck The type of the deck.
+     * @return The card on top of the deck, or null if the deck is empty.
+     */
+    public Card getTopCard(DeckType deck) {
+        return getDeck(deck).peek();
+    }
+
+    /**
+     * Method to replace a deck with the deck seen by the players: the given number of cards, all showing the back of
+     * the card on top.
+     * @param deck The type of the deck.
+     * @param size The number of cards left.
+     * @param top The card standing for the back of the card on top, or null if the deck is empty.
+     * @throws IllegalArgumentException If the type is not a deck.
+     */
+    @SuppressWarnings("unchecked")
+    public void setDeckView(DeckType deck, int size, Card top) throws IllegalArgumentException {
+        List<? extends Card> cards = top == null ? List.of() : Collections.nCopies(size, top);
+        switch (deck) {
+            case DECK_STARTER -> this.deckStarter = new Deck<>(deck, (List<CardStarter>) cards);
+            case DECK_RESOURCE -> this.deckResource = new Deck<>(deck, (List<CardResource>) cards);
+            case DECK_GOLD -> this.deckGold = new Deck<>(deck, (List<CardGold>) cards);
+            case DECK_OBJECTIVE -> this.deckObjective = new Deck<>(deck, (List<CardObjective>) cards);
+            default -> throw new IllegalArgumentException("Invalid deck type.");
+        }
+    }
+
+    /**
+     * Method to build an empty copy of the desk, filled by the patches of the game received from the server.
+     * @return The copy of the desk, with empty decks and no displayed cards.
+     */
+    public static Desk emptyView() {
+        Desk copy = new Desk();
+        for (DeckType deck : new DeckType[]{DeckType.DECK_STARTER, DeckType.DECK_RESOURCE, DeckType.DECK_GOLD,
+                DeckType.DECK_OBJECTIVE}) {
+            copy.setDeckView(deck, 0, null);
+        }
+        copy.displayedResource = new ArrayList<>();
+        copy.displayedGold = new ArrayList<>();
+        copy.displayedObjective = new ArrayList<>();
+        return copy;
+    }
+
+    /**
+     * Method to build the copy of the desk sent to the players: the displayed cards are shown, while every deck only
+     * shows its size and the back of the card on top.
+     * @return The copy of the desk, not bound to the game.
+     */
+    public Desk hideDecks() {
+        Desk copy = new Desk();
+        for (DeckType deck : new DeckType[]{DeckType.DECK_STARTER, DeckType.DECK_RESOURCE, DeckType.DECK_GOLD,
+                DeckType.DECK_OBJECTIVE}) {
+            Card top = getTopCard(deck);
+            copy.setDeckView(deck, getDeckSize(deck), top == null ? null : CardCatalog.getInstance().getBackCard(top));
+        }
+        copy.displayedResource = new ArrayList<>(this.displayedResource);
+        copy.displayedGold = new ArrayList<>(this.displayedGold);
+        copy.displayedObjective = new ArrayList<>(this.displayedObjective);
+        return copy;
+    }
+
     /**
      * Method for drawing a card from those visible.
      * @param deck The visible cards from which you want to draw.
@@ -315,6 +340,17 @@ public class Desk implements Serializable {
      * @return The card taken.
      */
     public Card drawCardDisplayed(DeckType deck, int index) {
+        return drawCardDisplayed(deck, index, null);
+    }
+
+    /**
+     * Method for drawing a card from those visible for a player, see drawCardDisplayed(DeckType, int).
+     * @param deck The visible cards from which you want to draw.
+     * @param index The index of the card you want to take.
+     * @param owner The listener of the player taking the card, or null if no player keeps it.
+     * @return The card taken.
+     */
+    public Card drawCardDisplayed(DeckType deck, int index, GameListener owner) {
         List<? extends Card> actualDeck = null;
         switch (deck) {
             case DISPLAYED_GOLD -> actualDeck = this.displayedGold;
@@ -329,7 +365,7 @@ public class Desk implements Serializable {
             Card card = actualDeck.remove(index);
             checkDisplayed();
             if(game != null && game.getPlayers().size()>=1){
-                game.getListener().notifyCardAddedToHand(this.game, card);
+                game.getListener().notifyCardAddedToHand(this.game, owner, card);
             }
             return card;
         }
@@ -356,73 +392,73 @@ public class Desk implements Serializable {
         }
         // Gold cards: Gold deck empty
         while (this.displayedGold.size() < NUM_CARD_DISPLAYED && this.deckGold.isEmpty() && !this.deckResource.isEmpty()) {
-            CardResource cardResource = (CardResource) drawCardDeck(DeckType.DECK_GOLD);
+            CardResource cardResource = (CardResource) drawCardDeck(DeckType.DECK_RESOURCE);
             this.displayedGold.add(cardResource);
         }
     }
 
     /**
      * Method for obtaining the Starter card deck.
-     * @return The Starter card deck.
+     * @return A read-only view of the Starter card deck, which follows the draws.
      */
-    public ArrayList<CardStarter> getDeckStarter() {
-        return deckStarter;
+    public List<CardStarter> getDeckStarter() {
+        return deckStarter.asList();
     }
 
     /**
      * Method for setting the Starter card deck.
      * @param deckStarter The Starter card deck.
      */
-    public void setDeckStarter(ArrayList<CardStarter> deckStarter) {
-        this.deckStarter = deckStarter;
+    public void setDeckStarter(List<CardStarter> deckStarter) {
+        this.deckStarter = new Deck<>(DeckType.DECK_STARTER, deckStarter);
     }
 
     /**
      * Method for obtaining the Resource card deck.
-     * @return The Resource card deck.
+     * @return A read-only view of the Resource card deck, which follows the draws.
      */
-    public ArrayList<CardResource> getDeckResource() {
-        return deckResource;
+    public List<CardResource> getDeckResource() {
+        return deckResource.asList();
     }
 
     /**
      * Method for setting the Resource card deck.
      * @param deckResource The Resource card deck.
      */
-    public void setDeckResource(ArrayList<CardResource> deckResource) {
-        this.deckResource = deckResource;
+    public void setDeckResource(List<CardResource> deckResource) {
+        this.deckResource = new Deck<>(DeckType.DECK_RESOURCE, deckResource);
     }
 
     /**
      * Method for obtaining the Gold card deck.
-     * @return The Gold card deck.
+     * @return A read-only view of the Gold card deck, which follows the draws.
      */
-    public ArrayList<CardGold> getDeckGold() {
-        return deckGold;
+    public List<CardGold> getDeckGold() {
+        return deckGold.asList();
     }
 
     /**
      * Method for setting the Gold card deck.
      * @param deckGold The Gold card deck.
      */
-    public void setDeckGold(ArrayList<CardGold> deckGold) {
-        this.deckGold = deckGold;
+    public void setDeckGold(List<CardGold> deckGold) {
+        this.deckGold = new Deck<>(DeckType.DECK_GOLD, deckGold);
     }
 
     /**
      * Method for obtaining the Objective card deck.
-     * @return The Objective card deck.
+     * @return A read-only view of the Objective card deck, which follows the draws.
      */
-    public ArrayList<CardObjective> getDeckObjective() {
-        return deckObjective;
+    public List<CardObjective> getDeckObjective() {
+        return deckObjective.asList();
     }
 
     /**
      * Method for setting the Objective card deck.
      * @param deckObjective The Objective card deck.
      */
-    public void setDeckObjective(ArrayList<CardObjective> deckObjective) {
-        this.deckObjective = deckObjective;
+    public void setDeckObjective(List<CardObjective> deckObjective) {
+        this.deckObjective = new Deck<>(DeckType.DECK_OBJECTIVE, deckObjective);
     }
 
     /**
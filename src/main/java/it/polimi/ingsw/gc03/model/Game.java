@@ -2,15 +2,20 @@ package it.polimi.ingsw.gc03.model;
 
 import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.listeners.ListenersHandler;
+import it.polimi.ingsw.gc03.model.enumerations.DeckType;
 import it.polimi.ingsw.gc03.model.enumerations.GameStatus;
 import it.polimi.ingsw.gc03.model.exceptions.CannotJoinGameException;
 import it.polimi.ingsw.gc03.model.exceptions.DeskIsFullException;
 import it.polimi.ingsw.gc03.model.exceptions.PlayerAlreadyJoinedException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.rmi.RemoteException;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Random;
 
 /**
  * This class represents a game.
@@ -22,6 +27,11 @@ public class Game implements Serializable {
      */
     private int idGame;
 
+    /**
+     * Seed from which the decks of the game are shuffled.
+     */
+    private final long seed;
+
     /**
      * Game's size: number of players participating in the game.
      */
@@ -47,6 +57,11 @@ public class Game implements Serializable {
      */
     private ArrayList<Player> players;
 
+    /**
+     * The index of the players by nickname, built again from a copy of the list of players after every change.
+     */
+    private transient volatile PlayerIndex playerIndex;
+
     /**
      * Current player.
      */
@@ -78,18 +93,45 @@ public class Game implements Serializable {
     private transient ListenersHandler listenersHandler;
 
     /**
-     * Game class constructor.
+     * The version of the state copied by the snapshots of the game, increased at every change.
+     */
+    private transient int version;
+
+    /**
+     * The last snapshot of the game, shared by all the listeners.
+     */
+    private transient GameImmutable snapshot;
+
+    /**
+     * The version of the game when the last snapshot was built.
+     */
+    private transient int snapshotVersion;
+
+    /**
+     * Game class constructor, with a random seed.
      * @param idGame The game's ID.
      * @throws RemoteException If there is an issue with remote communication.
      */
     public Game(int idGame) throws RemoteException {
+        this(idGame, new Random().nextLong());
+    }
+
+    /**
+     * Game class constructor: games created with the same seed have the same decks.
+     * @param idGame The game's ID.
+     * @param seed The seed from which the decks are shuffled.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    public Game(int idGame, long seed) throws RemoteException {
         listenersHandler = new ListenersHandler();
         this.idGame = idGame;
+        this.seed = seed;
         this.size = 1;
         this.status = GameStatus.WAITING;
-        this.desk = new Desk(this);
+        this.desk = new Desk(this, new Random(seed));
         this.numPlayer = 0;
         this.players = new ArrayList<>(MAX_NUM_PLAYERS);
+        refreshPlayerIndex();
         this.currPlayer = 0;
         this.chat = new ArrayList<>();
         this.winner = new ArrayList<>(MAX_NUM_PLAYERS);
@@ -110,21 +152,23 @@ public class Game implements Serializable {
         // The game is full
         if (this.getStatus().equals(GameStatus.WAITING)) {
             if (this.numPlayer >= this.size || this.numPlayer >= MAX_NUM_PLAYERS) {
-                player.getSelfListener().joinUnableGameFull(new GameImmutable(this), player);
+                player.getSelfListener().joinUnableGameFull(getSnapshot(player.getSelfListener()), player);
                 throw new DeskIsFullException();
-            } else if (!this.getPlayers().stream().filter(p -> p.getNickname().equals(nickname)).toList().isEmpty()) {
+            } else if (getPlayer(nickname) != null) {
                 player.getSelfListener().joinUnableNicknameAlreadyInUse(player);
                 throw new PlayerAlreadyJoinedException();
             } else {
                 // The player can be added
                 this.numPlayer++;
                 this.players.add(player);
+                refreshPlayerIndex();
+                this.version++;
                 addListener(listener);
                 listenersHandler.notifyPlayerJoined(this);
                 return true;
             }
         } else {
-            player.getSelfListener().joinUnableGameFull(new GameImmutable(this), player);
+            player.getSelfListener().joinUnableGameFull(getSnapshot(player.getSelfListener()), player);
             throw new CannotJoinGameException();
         }
     }
@@ -136,8 +180,11 @@ public class Game implements Serializable {
      * @throws RemoteException If there is an issue with remote communication.
      */
     public boolean removePlayer(String nickname) throws RemoteException {
-        if( players.stream().anyMatch(p->p.getNickname().equals(nickname)) && this.players.remove(players.stream().filter(p->p.getNickname().equals(nickname)).findAny().get())){
+        Player player = getPlayer(nickname);
+        if (player != null && this.players.remove(player)) {
+            refreshPlayerIndex();
             this.numPlayer--;
+            this.version++;
             listenersHandler.notifyPlayerLeft(this, nickname);
 
             if(this.getStatus().equals(GameStatus.WAITING)) {
@@ -154,6 +201,54 @@ public class Game implements Serializable {
         return false;
     }
 
+    /**
+     * Method to get a player of the game by nickname.
+     * @param nickname The player's nickname.
+     * @return The player, or null if no player of the game has that nickname.
+     */
+    public Player getPlayer(String nickname) {
+        return getPlayerIndex().players.get(nickname);
+    }
+
+    /**
+     * Method to get the position of a player in the list of players.
+     * @param nickname The player's nickname.
+     * @return The position of the player, or -1 if no player of the game has that nickname.
+     */
+    public int getSeat(String nickname) {
+        Integer seat = getPlayerIndex().seats.get(nickname);
+        return seat == null ? -1 : seat;
+    }
+
+    /**
+     * Method to get the index of the players.
+     * @return The index of the players.
+     */
+    private PlayerIndex getPlayerIndex() {
+        return this.playerIndex;
+    }
+
+    /**
+     * Method to build the index of the players again after a change of the list of players and publish it.
+     */
+    private void refreshPlayerIndex() {
+        this.playerIndex = new PlayerIndex(new ArrayList<>(this.players));
+    }
+
+    /**
+     * Method to read a game sent or saved, building the index of the players and binding the desk to the game, which
+     * are not serialized.
+     * @param in The stream from which the game is read.
+     * @throws IOException If there is an issue reading the game.
+     * @throws ClassNotFoundException If the class of an object of the game cannot be found.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        refreshPlayerIndex();
+        if (this.desk != null)
+            this.desk.attach(this);
+    }
+
     /**
      * Method to add a message to the game chat.
      * @param receiver The nickname of the player receiving the message.
@@ -165,6 +260,7 @@ public class Game implements Serializable {
         LocalTime time = LocalTime.now();
         ChatMessage chatMessage = new ChatMessage(receiver, sender, text, time);
         this.chat.add(chatMessage);
+        this.version++;
         listenersHandler.notifySentChatMessage(this, chatMessage);
     }
 
@@ -176,6 +272,7 @@ public class Game implements Serializable {
             this.currPlayer++;
         else
             this.currPlayer = 0;
+        this.version++;
     }
 
     /**
@@ -244,6 +341,7 @@ public class Game implements Serializable {
             for (Player player : this.winner) {
                 winnerNicknames.add(player.getNickname());
             }
+            this.version++;
             listenersHandler.notifyWinnerDeclared(this, winnerNicknames);
         }
     }
@@ -258,7 +356,7 @@ public class Game implements Serializable {
             if (player.getCodex().getPointCodex() >= STOP_POINT_GAME)
                 scoreStop++;
         }
-        if (scoreStop != 0 || (this.desk.getDeckResource().isEmpty() && this.desk.getDeckGold().isEmpty()))
+        if (scoreStop != 0 || (this.desk.isDeckEmpty(DeckType.DECK_RESOURCE) && this.desk.isDeckEmpty(DeckType.DECK_GOLD)))
             return true;
         else
             return false;
@@ -272,12 +370,21 @@ public class Game implements Serializable {
         return idGame;
     }
 
+    /**
+     * Method to get the seed of the game.
+     * @return The seed from which the decks have been shuffled.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
     /**
      * Method to set the ID of the game.
      * @param idGame The ID of the game.
      */
     public void setIdGame(int idGame) {
         this.idGame = idGame;
+        this.version++;
     }
 
     /**
@@ -287,6 +394,7 @@ public class Game implements Serializable {
      */
     public void setSize(int size) throws RemoteException {
         this.size = size;
+        this.version++;
         listenersHandler.notifyGameSizeUpdated(this, size);
     }
 
@@ -313,6 +421,7 @@ public class Game implements Serializable {
     public void setStatus(GameStatus status) {
         GameStatus oldStatus = this.status;
         this.status = status;
+        this.version++;
         if(oldStatus.equals(GameStatus.WAITING) && status.equals(GameStatus.STARTING)){
             listenersHandler.notifyGameStarted(this);
         }
@@ -331,6 +440,7 @@ public class Game implements Serializable {
      */
     public void addMessage(ChatMessage chatMessage){
         this.chat.add(chatMessage);
+        this.version++;
         listenersHandler.notifySentChatMessage(this, chatMessage);
     }
 
@@ -348,6 +458,7 @@ public class Game implements Serializable {
      */
     public void setDesk(Desk desk) {
         this.desk = desk;
+        this.version++;
     }
 
     /**
@@ -364,6 +475,7 @@ public class Game implements Serializable {
      */
     public void setNumPlayer(int numPlayer) {
         this.numPlayer = numPlayer;
+        this.version++;
     }
 
     /**
@@ -380,6 +492,8 @@ public class Game implements Serializable {
      */
     public void setPlayers(ArrayList<Player> players) {
         this.players = players;
+        refreshPlayerIndex();
+        this.version++;
     }
 
     /**
@@ -397,7 +511,9 @@ public class Game implements Serializable {
     public void setCurrPlayer(int currPlayer) {
         this.currPlayer = currPlayer;
         Collections.rotate(players, -currPlayer);
+        refreshPlayerIndex();
         this.currPlayer = 0;
+        this.version++;
     }
 
     /**
@@ -414,6 +530,7 @@ public class Game implements Serializable {
      */
     public void setChat(ArrayList<ChatMessage> chat) {
         this.chat = chat;
+        this.version++;
     }
 
     /**
@@ -437,6 +554,68 @@ public class Game implements Serializable {
      */
     public void setWinner(ArrayList<Player> winner) {
         this.winner = winner;
+        this.version++;
+    }
+
+    /**
+     * Method to get the version of the state of the game copied by its snapshots.
+     * @return The version, increased at every change of the players, the status, the current player, the chat or the
+     *         winners.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Method to get the snapshot of the game sent to the listeners. The snapshot is built at most once per version
+     * and shared by all the listeners, whatever their connection.
+     * @return The snapshot of the current version of the game.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    public synchronized GameImmutable getSnapshot() throws RemoteException {
+        if (this.snapshot == null || this.snapshotVersion != this.version) {
+            this.snapshot = new GameImmutable(this);
+            this.snapshotVersion = this.version;
+        }
+        return this.snapshot;
+    }
+
+    /**
+     * Method to get the view of the game sent to a listener, see getView.
+     * @param gameListener The listener.
+     * @return The view of the game for the listener.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    public synchronized GameImmutable getSnapshot(GameListener gameListener) throws RemoteException {
+        return getView(getRecipient(gameListener));
+    }
+
+    /**
+     * Method to find the player whose hand is shown in the view of the game sent to a listener.
+     * @param gameListener The listener.
+     * @return The nickname of the player of the listener, or null for the listeners of no player.
+     */
+    public synchronized String getRecipient(GameListener gameListener) {
+        for (Player player : this.players) {
+            if (gameListener != null && player.getSelfListener() == gameListener)
+                return player.getNickname();
+        }
+        return null;
+    }
+
+    /**
+     * Method to get the view of the game for a player: the player sees its own hand and Objective cards, and only the
+     * back of the cards in the other hands. The views are built at each call rather than cached by version, since the
+     * hands, the codices and the decks change without changing the version; the listeners sharing a recipient share
+     * its view within a notification. Once the game has ended everything is shown in the shared snapshot.
+     * @param recipient The nickname of the player, or null for the view without hands.
+     * @return The view of the game for the player.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    public synchronized GameImmutable getView(String recipient) throws RemoteException {
+        if (this.status == GameStatus.ENDED)
+            return getSnapshot();
+        return new GameImmutable(this, recipient);
     }
 
     /**
@@ -471,4 +650,34 @@ public class Game implements Serializable {
         return listenersHandler.getGameListeners();
     }
 
-}
\ No newline at end of file
+    /**
+     * This class represents the index of the players of a game by nickname. It is never changed once built, so it can
+     * be read by other threads while the game builds a new one after a change of the players.
+     */
+    private static final class PlayerIndex {
+
+        /**
+         * The players by nickname.
+         */
+        private final HashMap<String, Player> players = new HashMap<>();
+
+        /**
+         * The positions of the players in the list of players by nickname.
+         */
+        private final HashMap<String, Integer> seats = new HashMap<>();
+
+        /**
+         * Constructor of the index.
+         * @param players A copy of the list of players of the game.
+         */
+        PlayerIndex(ArrayList<Player> players) {
+            for (int i = 0; i < players.size(); i++) {
+                Player player = players.get(i);
+                this.players.put(player.getNickname(), player);
+                this.seats.put(player.getNickname(), i);
+            }
+        }
+
+    }
+
+}
@@ -1,7 +1,11 @@
 package it.polimi.ingsw.gc03.model;
 
 import it.polimi.ingsw.gc03.model.enumerations.GameStatus;
-import java.io.Serializable;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -11,53 +15,60 @@ import java.util.List;
  * This class represents the Game class, but made immutable.
  * It is used to provide clients with all the game information so they can view it but not modify it.
  * This approach maintains the integrity and flow of the game as managed by the server.
+ * It is serialized with the compact encodings of the classes of the model, see ModelStreams.
  */
-public class GameImmutable implements Serializable {
+public class GameImmutable implements Externalizable {
 
     /**
      * Game's ID.
      */
-    private final int idGame;
+    private int idGame;
 
     /**
      * Game's size: number of players participating in the game.
      */
-    private final int size;
+    private int size;
 
     /**
      * Game's status.
      */
-    private final GameStatus status;
+    private GameStatus status;
 
     /**
      * Game's desk.
      */
-    private final Desk desk;
+    private Desk desk;
 
     /**
      * Number of players in the game.
      */
-    private final int numPlayer;
+    private int numPlayer;
 
     /**
      * List of players taking part in the game.
      */
-    private final List<Player> players;
+    private List<Player> players;
 
     /**
      * Current player.
      */
-    private final int currPlayer;
+    private int currPlayer;
 
     /**
      * Game's chat
      */
-    private final List<ChatMessage> chat;
+    private List<ChatMessage> chat;
 
     /**
      * Winner or winners of the game.
      */
-    private final List<Player> winner;
+    private List<Player> winner;
+
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public GameImmutable() {
+    }
 
     /**
      * GameImmutable class constructor.
@@ -70,10 +81,149 @@ public class GameImmutable implements Serializable {
         this.status = game.getStatus();
         this.desk = game.getDesk();
         this.numPlayer = game.getNumPlayer();
-        this.players = Collections.unmodifiableList(new ArrayList<>(game.getPlayers()));
+        ArrayList<Player> shownPlayers = new ArrayList<>(game.getPlayers().size());
+        for (Player player : game.getPlayers()) {
+            shownPlayers.add(player.copy());
+        }
+        this.players = Collections.unmodifiableList(shownPlayers);
         this.currPlayer = game.getCurrPlayer();
         this.chat = Collections.unmodifiableList(new ArrayList<>(game.getChat()));
-        this.winner = Collections.unmodifiableList(new ArrayList<>(game.getWinner()));
+        this.winner = Collections.unmodifiableList(shownWinner(game, shownPlayers, true));
+    }
+
+    /**
+     * GameImmutable class constructor for the view of a player: the cards in the hands of the other players only show
+     * their back, their Objective cards are hidden and the decks only show their size and the back of their top card.
+     * @param game The game instance to copy from.
+     * @param recipient The nickname of the player receiving the view, or null for a view without hands.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    public GameImmutable(Game game, String recipient) throws RemoteException {
+        this.idGame = game.getIdGame();
+        this.size = game.getSize();
+        this.status = game.getStatus();
+        this.desk = game.getDesk() == null ? null : game.getDesk().hideDecks();
+        this.numPlayer = game.getNumPlayer();
+        ArrayList<Player> shownPlayers = new ArrayList<>(game.getPlayers().size());
+        for (Player player : game.getPlayers()) {
+            shownPlayers.add(player.getNickname().equals(recipient) ? player.copy() : player.hideCards());
+        }
+        this.players = Collections.unmodifiableList(shownPlayers);
+        this.currPlayer = game.getCurrPlayer();
+        this.chat = Collections.unmodifiableList(new ArrayList<>(game.getChat()));
+        this.winner = Collections.unmodifiableList(shownWinner(game, shownPlayers, false));
+    }
+
+    /**
+     * Method to find the copies of the winners among the copies of the players.
+     * @param game The game instance to copy from.
+     * @param shownPlayers The copies of the players, in the order of the game.
+     * @param shown True to show the cards of the winners who are no longer players, false to hide them.
+     * @return The copies of the winners.
+     * @throws RemoteException If there is an issue with remote communication.
+     */
+    private static ArrayList<Player> shownWinner(Game game, List<Player> shownPlayers, boolean shown)
+            throws RemoteException {
+        ArrayList<Player> shownWinner = new ArrayList<>(game.getWinner().size());
+        for (Player player : game.getWinner()) {
+            int index = game.getPlayers().indexOf(player);
+            shownWinner.add(index >= 0 ? shownPlayers.get(index) : shown ? player.copy() : player.hideCards());
+        }
+        return shownWinner;
+    }
+
+    /**
+     * GameImmutable class constructor from the single values, used to rebuild a game from a previous one.
+     * @param idGame Game's ID.
+     * @param size Game's size.
+     * @param status Game's status.
+     * @param desk Game's desk.
+     * @param numPlayer Number of players in the game.
+     * @param players List of players taking part in the game.
+     * @param currPlayer Current player.
+     * @param chat Game's chat.
+     * @param winner Winner or winners of the game.
+     */
+    public GameImmutable(int idGame, int size, GameStatus status, Desk desk, int numPlayer, List<Player> players,
+                         int currPlayer, List<ChatMessage> chat, List<Player> winner) {
+        this.idGame = idGame;
+        this.size = size;
+        this.status = status;
+        this.desk = desk;
+        this.numPlayer = numPlayer;
+        this.players = Collections.unmodifiableList(new ArrayList<>(players));
+        this.currPlayer = currPlayer;
+        this.chat = Collections.unmodifiableList(new ArrayList<>(chat));
+        this.winner = Collections.unmodifiableList(new ArrayList<>(winner));
+    }
+
+    /**
+     * Method for serializing the game.
+     * @param out The output stream.
+     * @throws IOException If the game cannot be written.
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeInt(this.idGame);
+        out.writeByte(this.size);
+        ModelStreams.writeEnum(out, this.status);
+        out.writeObject(this.desk);
+        out.writeByte(this.numPlayer);
+        writeList(out, this.players);
+        out.writeByte(this.currPlayer);
+        writeList(out, this.chat);
+        writeList(out, this.winner);
+    }
+
+    /**
+     * Method for deserializing the game written by writeExternal.
+     * @param in The input stream.
+     * @throws IOException If the game cannot be read.
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        this.idGame = in.readInt();
+        this.size = in.readByte();
+        this.status = ModelStreams.readEnum(in, GameStatus.values());
+        this.desk = (Desk) ModelStreams.readObject(in);
+        this.numPlayer = in.readByte();
+        this.players = readList(in, Player.class);
+        this.currPlayer = in.readByte();
+        this.chat = readList(in, ChatMessage.class);
+        this.winner = readList(in, Player.class);
+    }
+
+    /**
+     * Method for writing a list of objects of the model, so that the players shared by two lists are written once.
+     * @param out The output stream.
+     * @param values The objects.
+     * @throws IOException If the objects cannot be written.
+     */
+    private static void writeList(ObjectOutput out, List<?> values) throws IOException {
+        out.writeShort(values.size());
+        for (Object value : values) {
+            out.writeObject(value);
+        }
+    }
+
+    /**
+     * Method for reading a list written by writeList.
+     * @param in The input stream.
+     * @param type The type of the objects.
+     * @param <T> The type of the objects.
+     * @return The read-only list of the objects.
+     * @throws IOException If the objects cannot be read or are not of the given type.
+     */
+    private static <T> List<T> readList(ObjectInput in, Class<T> type) throws IOException {
+        int count = in.readShort();
+        ArrayList<T> values = new ArrayList<>(Math.max(count, 0));
+        for (int i = 0; i < count; i++) {
+            Object value = ModelStreams.readObject(in);
+            if (value != null && !type.isInstance(value))
+                throw new InvalidObjectException("Unexpected value: " + value.getClass().getSimpleName());
+            values.add(type.cast(value));
+        }
+        return Collections.unmodifiableList(values);
     }
 
     /**
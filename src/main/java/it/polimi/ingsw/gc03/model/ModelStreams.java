@@ -0,0 +1,195 @@
+package it.polimi.ingsw.gc03.model;
+
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.side.Side;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class writes and reads the values shared by the Externalizable classes of the model: the constants of the
+ * enumerations are written as their ordinal, and the cards and the sides of the card catalog as the id of their card,
+ * so that they are taken again from the catalog when read. Cards and sides that are not part of the catalog are
+ * written with the default serialization.
+ */
+public final class ModelStreams {
+
+    /**
+     * Private constructor, the class only has static methods.
+     */
+    private ModelStreams() {}
+
+    /**
+     * Method for writing a string that may be null.
+     * @param out The output.
+     * @param value The string.
+     * @throws IOException If the string cannot be written.
+     */
+    public static void writeString(ObjectOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null)
+            out.writeUTF(value);
+    }
+
+    /**
+     * Method for reading a string written by writeString.
+     * @param in The input.
+     * @return The string, or null.
+     * @throws IOException If the string cannot be read.
+     */
+    public static String readString(ObjectInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Method for writing a constant of an enumeration that may be null.
+     * @param out The output.
+     * @param value The constant.
+     * @throws IOException If the constant cannot be written.
+     */
+    public static void writeEnum(ObjectOutput out, Enum<?> value) throws IOException {
+        out.writeByte(value == null ? -1 : value.ordinal());
+    }
+
+    /**
+     * Method for reading a constant written by writeEnum.
+     * @param in The input.
+     * @param values The constants of the enumeration.
+     * @param <E> The enumeration.
+     * @return The constant, or null.
+     * @throws IOException If the constant cannot be read.
+     */
+    public static <E extends Enum<E>> E readEnum(ObjectInput in, E[] values) throws IOException {
+        int ordinal = in.readByte();
+        if (ordinal < -1 || ordinal >= values.length)
+            throw new InvalidObjectException("Unknown constant: " + ordinal);
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    /**
+     * Method for writing a card, as its id if it is part of the catalog.
+     * @param out The output.
+     * @param card The card, or null.
+     * @throws IOException If the card cannot be written.
+     */
+    public static void writeCard(ObjectOutput out, Card card) throws IOException {
+        boolean known = card != null && CardCatalog.getInstance().getCard(card.getIdCard()) == card;
+        out.writeBoolean(known);
+        if (known)
+            out.writeUTF(card.getIdCard());
+        else
+            out.writeObject(card);
+    }
+
+    /**
+     * Method for reading a card written by writeCard.
+     * @param in The input.
+     * @param type The type of the card.
+     * @param <T> The type of the card.
+     * @return The card, taken from the catalog if it is part of it, or null.
+     * @throws IOException If the card cannot be read or is not of the given type.
+     */
+    public static <T extends Card> T readCard(ObjectInput in, Class<T> type) throws IOException {
+        Object card;
+        if (in.readBoolean()) {
+            String id = in.readUTF();
+            card = CardCatalog.getInstance().getCard(id);
+            if (card == null)
+                throw new InvalidObjectException("Unknown card: " + id);
+        } else {
+            card = readObject(in);
+        }
+        if (card != null && !type.isInstance(card))
+            throw new InvalidObjectException("Unexpected card: " + card.getClass().getSimpleName());
+        return type.cast(card);
+    }
+
+    /**
+     * Method for writing a list of cards.
+     * @param out The output.
+     * @param cards The cards, or null.
+     * @throws IOException If the cards cannot be written.
+     */
+    public static void writeCards(ObjectOutput out, List<? extends Card> cards) throws IOException {
+        out.writeShort(cards == null ? -1 : cards.size());
+        if (cards != null) {
+            for (Card card : cards) {
+                writeCard(out, card);
+            }
+        }
+    }
+
+    /**
+     * Method for reading a list written by writeCards.
+     * @param in The input.
+     * @param type The type of the cards.
+     * @param <T> The type of the cards.
+     * @return The cards, or null.
+     * @throws IOException If the cards cannot be read or are not of the given type.
+     */
+    public static <T extends Card> ArrayList<T> readCards(ObjectInput in, Class<T> type) throws IOException {
+        int count = in.readShort();
+        if (count < 0)
+            return null;
+        ArrayList<T> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(readCard(in, type));
+        }
+        return cards;
+    }
+
+    /**
+     * Method for writing a side, as the id of its card and the face shown if it is part of the catalog.
+     * @param out The output.
+     * @param side The side, or null.
+     * @throws IOException If the side cannot be written.
+     */
+    public static void writeSide(ObjectOutput out, Side side) throws IOException {
+        Card card = side == null ? null : CardCatalog.getInstance().getCardOf(side);
+        out.writeBoolean(card != null);
+        if (card != null) {
+            out.writeUTF(card.getIdCard());
+            out.writeBoolean(CardCatalog.getInstance().getSide(card.getIdCard(), true) == side);
+        } else {
+            out.writeObject(side);
+        }
+    }
+
+    /**
+     * Method for reading a side written by writeSide.
+     * @param in The input.
+     * @return The side, taken from the catalog if it is part of it, or null.
+     * @throws IOException If the side cannot be read.
+     */
+    public static Side readSide(ObjectInput in) throws IOException {
+        if (in.readBoolean()) {
+            String id = in.readUTF();
+            Side side = CardCatalog.getInstance().getSide(id, in.readBoolean());
+            if (side == null)
+                throw new InvalidObjectException("Unknown card: " + id);
+            return side;
+        }
+        Object side = readObject(in);
+        if (side != null && !(side instanceof Side))
+            throw new InvalidObjectException("Unexpected side: " + side.getClass().getSimpleName());
+        return (Side) side;
+    }
+
+    /**
+     * Method for reading an object written with the default serialization.
+     * @param in The input.
+     * @return The object.
+     * @throws IOException If the object cannot be read or its class cannot be found.
+     */
+    public static Object readObject(ObjectInput in) throws IOException {
+        try {
+            return in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidObjectException("Unknown class: " + e.getMessage());
+        }
+    }
+
+}
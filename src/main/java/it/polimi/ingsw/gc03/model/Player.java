@@ -7,16 +7,19 @@ import it.polimi.ingsw.gc03.model.card.CardResource;
 import it.polimi.ingsw.gc03.model.card.CardStarter;
 import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
 import it.polimi.ingsw.gc03.model.enumerations.*;
-import it.polimi.ingsw.gc03.model.side.back.BackSide;
-import java.io.Serializable;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
 import static it.polimi.ingsw.gc03.model.enumerations.Color.createColorArrayList;
 
 /**
  * This class represents a player in the game.
+ * It is serialized with the ids of its cards in place of the cards, which are taken again from the card catalog.
  */
-public class Player implements Serializable {
+public class Player implements Externalizable {
 
     /**
      * Player's nickname.
@@ -120,19 +123,19 @@ public class Player implements Serializable {
         this.number = number++;
         this.color = createColorArrayList().get(number - 1);
         // Assignment of the Starter card
-        this.cardStarter = (CardStarter) desk.drawCardDeck(DeckType.DECK_STARTER);
+        this.cardStarter = (CardStarter) desk.drawCardDeck(DeckType.DECK_STARTER, gameListener);
         // Assignment of Objective cards
         this.cardObjective = new ArrayList<>(INITIAL_CARD_OBJECTIVE);
         for (int i = 0; i < INITIAL_CARD_OBJECTIVE; i++) {
-            this.cardObjective.add((CardObjective) desk.drawCardDeck(DeckType.DECK_OBJECTIVE));
+            this.cardObjective.add((CardObjective) desk.drawCardDeck(DeckType.DECK_OBJECTIVE, gameListener));
         }
         // Assignment of Resource cards and Gold cards in the hand
         this.hand = new ArrayList<>(INITIAL_CARD_RESOURCE + INITIAL_CARD_GOLD);
         for (int i = 0; i < INITIAL_CARD_RESOURCE; i++) {
-            addCardToHand((CardResource) desk.drawCardDeck(DeckType.DECK_RESOURCE));
+            addCardToHand((CardResource) desk.drawCardDeck(DeckType.DECK_RESOURCE, gameListener));
         }
         for (int i = 0; i < INITIAL_CARD_GOLD; i++) {
-            addCardToHand((CardGold) desk.drawCardDeck(DeckType.DECK_GOLD));
+            addCardToHand((CardGold) desk.drawCardDeck(DeckType.DECK_GOLD, gameListener));
         }
         this.codex = new Codex();
         this.pointObjective = 0;
@@ -142,6 +145,119 @@ public class Player implements Serializable {
         this.action = PlayerAction.FIRSTMOVES;
     }
 
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public Player() {
+    }
+
+    /**
+     * Constructor of a player received from the server, without cards and with an empty codex: they are filled by
+     * the patches of the game that follow.
+     * @param nickname Player's nickname.
+     * @param number Player's number.
+     * @param color Player's color.
+     * @param cardStarter Player's starting card.
+     */
+    public Player(String nickname, int number, Color color, CardStarter cardStarter) {
+        this.nickname = nickname;
+        this.number = number;
+        this.color = color;
+        this.cardStarter = cardStarter;
+        this.cardObjective = new ArrayList<>();
+        this.hand = new ArrayList<>();
+        this.codex = new Codex();
+        this.pointObjective = 0;
+        this.score = 0;
+        this.online = false;
+        this.skipTurn = false;
+        this.action = null;
+    }
+
+    /**
+     * Constructor of a copy of a player: the hand, the Objective cards and the codex are copied, the cards are shared.
+     * @param player The player to copy.
+     */
+    private Player(Player player) {
+        this.nickname = player.nickname;
+        this.number = player.number;
+        this.color = player.color;
+        this.cardStarter = player.cardStarter;
+        this.cardObjective = player.cardObjective == null ? null : new ArrayList<>(player.cardObjective);
+        this.hand = player.hand == null ? null : new ArrayList<>(player.hand);
+        this.codex = player.codex == null ? null : player.codex.copy();
+        this.pointObjective = player.pointObjective;
+        this.score = player.score;
+        this.online = player.online;
+        this.skipTurn = player.skipTurn;
+        this.action = player.action;
+    }
+
+    /**
+     * Method for serializing the player, with the cards written as their ids.
+     * @param out The output stream.
+     * @throws IOException If the player cannot be written.
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        ModelStreams.writeString(out, this.nickname);
+        out.writeByte(this.number);
+        ModelStreams.writeEnum(out, this.color);
+        ModelStreams.writeCard(out, this.cardStarter);
+        ModelStreams.writeCards(out, this.cardObjective);
+        ModelStreams.writeCards(out, this.hand);
+        out.writeObject(this.codex);
+        out.writeInt(this.pointObjective);
+        out.writeInt(this.score);
+        out.writeBoolean(this.online);
+        out.writeBoolean(this.skipTurn);
+        ModelStreams.writeEnum(out, this.action);
+    }
+
+    /**
+     * Method for deserializing the player written by writeExternal, without its listener.
+     * @param in The input stream.
+     * @throws IOException If the player cannot be read.
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        this.nickname = ModelStreams.readString(in);
+        this.number = in.readByte();
+        this.color = ModelStreams.readEnum(in, Color.values());
+        this.cardStarter = ModelStreams.readCard(in, CardStarter.class);
+        this.cardObjective = ModelStreams.readCards(in, CardObjective.class);
+        this.hand = ModelStreams.readCards(in, Card.class);
+        this.codex = (Codex) ModelStreams.readObject(in);
+        this.pointObjective = in.readInt();
+        this.score = in.readInt();
+        this.online = in.readBoolean();
+        this.skipTurn = in.readBoolean();
+        this.action = ModelStreams.readEnum(in, PlayerAction.values());
+    }
+
+    /**
+     * Method to build the copy of the player sent to the player itself, which does not change with the player.
+     * @return The copy of the player.
+     */
+    public Player copy() {
+        return new Player(this);
+    }
+
+    /**
+     * Method to build the copy of the player sent to the other players: the cards in the hand only show their back
+     * and the Objective cards are hidden.
+     * @return The copy of the player.
+     */
+    public Player hideCards() {
+        Player copy = new Player(this);
+        copy.hand = new ArrayList<>(this.hand.size());
+        for (Card card : this.hand) {
+            copy.hand.add(card == null ? null : CardCatalog.getInstance().getBackCard(card));
+        }
+        copy.cardObjective = new ArrayList<>();
+        return copy;
+    }
+
     /**
      * Method for making the player choose his Objective card.
      * @param index The index of the card the player wants to keep.
@@ -160,7 +276,12 @@ public class Player implements Serializable {
             }
             this.cardObjective.clear();
             this.cardObjective.addAll(newCardObjective);
-            game.getListener().notifyObjectiveCardChosen(game, this.cardObjective.getLast(), this.getNickname());
+            // Start updating the projected points of the personal and common Objective cards
+            this.codex.trackObjective(this.cardObjective.getLast());
+            for (CardObjective objective : game.getDesk().getDisplayedObjective()) {
+                this.codex.trackObjective(objective);
+            }
+            game.getListener().notifyObjectiveCardChosen(game, this.selfListener, this.cardObjective.getLast(), this.getNickname());
             return true;
         }
     }
@@ -170,26 +291,8 @@ public class Player implements Serializable {
      * he skips his turns until the end of the game.
      */
     public void checkSkipTurn() {
-        int skip = 0;
-        // The sides of the cards that have fewer requirements to be placed are the BackSide
-        ArrayList<Value> center = new ArrayList<>(1);
-        center.add(Value.EMPTY);
-        BackSide backSide = new BackSide(Kingdom.NULL, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY, center);
-        // Check all cells of the Codex
-        for (int i = this.codex.getMinRow() - 1; i <= this.codex.getMaxRow() + 1; i++) {
-            for (int j = this.codex.getMinColumn() - 1; j <= this.codex.getMaxColumn() + 1; j++) {
-                boolean insertionPossible = false;
-                try {
-                insertionPossible = this.codex.simulateInsertIntoCodex(backSide, i, j);
-                } catch (Exception ignored){}
-                if (insertionPossible)
-                    skip++;
-                if (skip != 0)
-                    return;
-            }
-        }
-        // If you can't insert the card into any cell
-        if (skip == 0)
+        // If there is no free cell in which a card can be inserted
+        if (this.codex.getFrontierSize() == 0)
             this.skipTurn = true;
     }
 
@@ -211,6 +314,25 @@ public class Player implements Serializable {
         }
     }
 
+    /**
+     * Method for calculating the score the player would make if the game ended now, using the projected points of
+     * the Objective cards.
+     * @return The projected score.
+     */
+    public int getProjectedScore() {
+        return this.codex.getPointCodex() + this.codex.getProjectedPointObjective();
+    }
+
+    /**
+     * Method for calculating the part of the projected score that the other players can see: the points made with
+     * the Codex plus the projected points of the common Objective cards, without the personal one.
+     * @param commonObjectives The common Objective cards of the game.
+     * @return The projected score without the personal Objective card.
+     */
+    public int getPublicProjectedScore(ArrayList<CardObjective> commonObjectives) {
+        return this.codex.getPointCodex() + this.codex.getProjectedPointObjective(commonObjectives);
+    }
+
     /**
      * Method for calculating the total score made by the player.
      */
@@ -391,6 +513,7 @@ public class Player implements Serializable {
 
         }
         if(!oldOnline && this.online){
+            this.selfListener = gameListener;
             game.getListener().addListener(gameListener);
             game.getListener().notifyPlayerReconnected(game, this.getNickname());
         }
@@ -444,6 +567,22 @@ public class Player implements Serializable {
         }
     }
 
+    /**
+     * Method to copy the state of the player kept by the server into a copy of the player, without notifications.
+     * @param action The player's action.
+     * @param online The player's online status.
+     * @param skipTurn The player's skipTurn.
+     * @param score The player's score.
+     * @param pointObjective The points made with the Objective cards.
+     */
+    public void syncState(PlayerAction action, boolean online, boolean skipTurn, int score, int pointObjective) {
+        this.action = action;
+        this.online = online;
+        this.skipTurn = skipTurn;
+        this.score = score;
+        this.pointObjective = pointObjective;
+    }
+
     /**
      * Add a card to the player's hand.
      * @param card the card to add to the player's hand.
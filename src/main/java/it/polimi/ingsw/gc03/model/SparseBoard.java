@@ -0,0 +1,297 @@
+package it.polimi.ingsw.gc03.model;
+
+import it.polimi.ingsw.gc03.model.side.Side;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * This class represents the sparse storage of the sides placed in a codex.
+ * Each position is packed into a single int key and stored in an open-addressing table with linear probing, so the
+ * memory used grows with the number of cards placed rather than with the size of the playable area.
+ */
+public class SparseBoard implements Serializable {
+
+    /**
+     * The smallest row or column that can be stored.
+     */
+    public static final int MIN_COORDINATE = -32767;
+
+    /**
+     * The largest row or column that can be stored.
+     */
+    public static final int MAX_COORDINATE = 32767;
+
+    /**
+     * Key used to mark a free slot of the table. It cannot be produced by a valid position because its row is
+     * smaller than MIN_COORDINATE.
+     */
+    private static final int FREE_KEY = Integer.MIN_VALUE;
+
+    /**
+     * The initial number of slots of the table.
+     */
+    private static final int INITIAL_CAPACITY = 32;
+
+    /**
+     * The packed positions of the table.
+     */
+    private int[] keys;
+
+    /**
+     * The sides of the table, stored in the slot of their position.
+     */
+    private Side[] values;
+
+    /**
+     * The covered corners of the side stored in each slot, as a bitmask of the corner constants of the Codex.
+     */
+    private byte[] coverage;
+
+    /**
+     * The number of sides stored.
+     */
+    private int size;
+
+    /**
+     * Functional interface used to visit the sides stored in the board.
+     */
+    @FunctionalInterface
+    public interface CellVisitor {
+
+        /**
+         * Method called for each occupied position.
+         * @param row The row of the position.
+         * @param column The column of the position.
+         * @param side The side stored in the position.
+         */
+        void visit(int row, int column, Side side);
+
+    }
+
+    /**
+     * Constructor for the SparseBoard class.
+     */
+    public SparseBoard() {
+        this.keys = new int[INITIAL_CAPACITY];
+        Arrays.fill(this.keys, FREE_KEY);
+        this.values = new Side[INITIAL_CAPACITY];
+        this.coverage = new byte[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Constructor of a copy of a board, sharing only the sides.
+     * @param board The board to copy.
+     */
+    public SparseBoard(SparseBoard board) {
+        this.keys = board.keys.clone();
+        this.values = board.values.clone();
+        this.coverage = board.coverage.clone();
+        this.size = board.size;
+    }
+
+    /**
+     * Method to check if a position can be stored in the board.
+     * @param row The row of the position.
+     * @param column The column of the position.
+     * @return A boolean indicating whether the position is within the bounds of the board.
+     */
+    public static boolean isInBounds(int row, int column) {
+        return row >= MIN_COORDINATE && row <= MAX_COORDINATE && column >= MIN_COORDINATE && column <= MAX_COORDINATE;
+    }
+
+    /**
+     * Method to pack a position into a single key.
+     * @param row The row of the position.
+     * @param column The column of the position.
+     * @return The packed key.
+     */
+    public static int packKey(int row, int column) {
+        return (row << 16) | (column & 0xFFFF);
+    }
+
+    /**
+     * Method to retrieve the row of a packed key.
+     * @param key The packed key.
+     * @return The row.
+     */
+    public static int unpackRow(int key) {
+        return key >> 16;
+    }
+
+    /**
+     * Method to retrieve the column of a packed key.
+     * @param key The packed key.
+     * @return The column.
+     */
+    public static int unpackColumn(int key) {
+        return (short) key;
+    }
+
+    /**
+     * Method to find the slot of a key, or the free slot where it should be inserted.
+     * @param key The packed key.
+     * @return The index of the slot.
+     */
+    private int findSlot(int key) {
+        int mask = this.keys.length - 1;
+        int slot = (key * 0x9E3779B9 >>> 16) & mask;
+        while (this.keys[slot] != FREE_KEY && this.keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Method to retrieve the side at a position.
+     * @param row The row of the position.
+     * @param column The column of the position.
+     * @return The side at the position, or null if the position is empty or out of bounds.
+     */
+    public Side get(int row, int column) {
+        if (!isInBounds(row, column))
+            return null;
+        return this.values[findSlot(packKey(row, column))];
+    }
+
+    /**
+     * Method to check if a position is occupied.
+     * @param row The row of the position.
+     * @param column The column of the position.
+     * @return A boolean indicating whether the position is occupied.
+     */
+    public boolean contains(int row, int column) {
+        return get(row, column) != null;
+    }
+
+    /**
+     * Method to retrieve the covered corners of the side at a position.
+     * @param row The row of the position.
+     * @param column The column of the position.
+     * @return The bitmask of the covered corners, or 0 if the position is empty or out of bounds.
+     */
+    public int getCoverage(int row, int column) {
+        if (!isInBounds(row, column))
+            return 0;
+        return this.coverage[findSlot(packKey(row, column))];
+    }
+
+    /**
+     * Method to mark some corners of the side at a position as covered.
+     * @param row The row of the position.
+     * @param column The column of the position.
+     * @param corners The bitmask of the corners to cover.
+     * @throws IllegalArgumentException If the position is empty or out of bounds.
+     */
+    public void cover(int row, int column, int corners) throws IllegalArgumentException {
+        if (!isInBounds(row, column))
+            throw new IllegalArgumentException("Invalid row or column.");
+        int slot = findSlot(packKey(row, column));
+        if (this.values[slot] == null)
+            throw new IllegalArgumentException("No side at the position.");
+        this.coverage[slot] |= (byte) corners;
+    }
+
+    /**
+     * Method to store a side at a position, replacing the previous one if present. The corners of the new side
+     * start uncovered.
+     * @param row The row of the position.
+     * @param column The column of the position.
+     * @param side The side to store.
+     * @throws IllegalArgumentException If the position is out of bounds or the side is null.
+     */
+    public void put(int row, int column, Side side) throws IllegalArgumentException {
+        if (!isInBounds(row, column))
+            throw new IllegalArgumentException("Invalid row or column.");
+        if (side == null)
+            throw new IllegalArgumentException("Side cannot be null.");
+        int key = packKey(row, column);
+        int slot = findSlot(key);
+        if (this.keys[slot] == FREE_KEY) {
+            // Keep the load factor under 3/4 so that probing sequences stay short
+            if ((this.size + 1) * 4 > this.keys.length * 3) {
+                grow();
+                slot = findSlot(key);
+            }
+            this.keys[slot] = key;
+            this.size++;
+        }
+        this.values[slot] = side;
+        this.coverage[slot] = 0;
+    }
+
+    /**
+     * Method to double the number of slots of the table.
+     */
+    private void grow() {
+        int[] oldKeys = this.keys;
+        Side[] oldValues = this.values;
+        byte[] oldCoverage = this.coverage;
+        this.keys = new int[oldKeys.length * 2];
+        Arrays.fill(this.keys, FREE_KEY);
+        this.values = new Side[oldValues.length * 2];
+        this.coverage = new byte[oldCoverage.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int slot = findSlot(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+                this.coverage[slot] = oldCoverage[i];
+            }
+        }
+    }
+
+    /**
+     * Method to remove all the sides stored.
+     */
+    public void clear() {
+        this.keys = new int[INITIAL_CAPACITY];
+        Arrays.fill(this.keys, FREE_KEY);
+        this.values = new Side[INITIAL_CAPACITY];
+        this.coverage = new byte[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Method to visit all the sides stored, in no particular order.
+     * @param visitor The visitor called for each occupied position.
+     */
+    public void forEach(CellVisitor visitor) {
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != FREE_KEY) {
+                visitor.visit(unpackRow(this.keys[i]), unpackColumn(this.keys[i]), this.values[i]);
+            }
+        }
+    }
+
+    /**
+     * Method to retrieve the positions of all the sides stored, in no particular order.
+     * @return The packed keys of the occupied positions.
+     */
+    public int[] keys() {
+        int[] occupied = new int[this.size];
+        int count = 0;
+        for (int key : this.keys) {
+            if (key != FREE_KEY)
+                occupied[count++] = key;
+        }
+        return occupied;
+    }
+
+    /**
+     * Method to retrieve the number of sides stored.
+     * @return The number of sides stored.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Method to check if the board is empty.
+     * @return A boolean indicating whether no side is stored.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+}
@@ -1,5 +1,7 @@
 package it.polimi.ingsw.gc03.model.card;
 
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 
 /**
@@ -59,4 +61,14 @@ public class Card implements Serializable {
         this.playable = playable;
     }
 
-}
\ No newline at end of file
+    /**
+     * Method called by the deserialization to replace a copy of a card with the card of the catalog, so that the
+     * cards received are shared and can be looked up in the catalog.
+     * @return The card of the catalog, or this card if it is not part of it.
+     * @throws ObjectStreamException Never thrown.
+     */
+    protected Object readResolve() throws ObjectStreamException {
+        return CardCatalog.getInstance().resolve(this);
+    }
+
+}
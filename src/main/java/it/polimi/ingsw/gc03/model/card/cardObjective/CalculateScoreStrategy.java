@@ -18,4 +18,21 @@ public interface CalculateScoreStrategy {
      */
     int calculateScore(Codex codex, int point, ArrayList<Value> parameters);
 
+    /**
+     * Method for updating the points of an objective after a side has been inserted into the codex.
+     * By default the points are calculated again on the whole codex, which is what strategies that only read the
+     * codex counters need.
+     * @param codex The codex on which points must be calculated.
+     * @param point The points of the card.
+     * @param parameters Parameters used to calculate the points.
+     * @param progress The progress of the objective on the codex, before the insertion.
+     * @param row The row of the inserted side.
+     * @param column The column of the inserted side.
+     * @return The points of the objective after the insertion.
+     */
+    default int updateScore(Codex codex, int point, ArrayList<Value> parameters, ObjectiveProgress progress,
+                            int row, int column) {
+        return calculateScore(codex, point, parameters);
+    }
+
 }
\ No newline at end of file
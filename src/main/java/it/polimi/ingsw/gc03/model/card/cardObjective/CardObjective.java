@@ -69,6 +69,18 @@ public class CardObjective extends Card implements Serializable {
         return scoreStrategy.calculateScore(codex, point, parameters);
     }
 
+    /**
+     * Method for updating the points of the card after a side has been inserted into the codex.
+     * @param codex The codex on which points must be calculated.
+     * @param progress The progress of the card on the codex, before the insertion.
+     * @param row The row of the inserted side.
+     * @param column The column of the inserted side.
+     * @return The points of the card after the insertion.
+     */
+    public int updateScore(Codex codex, ObjectiveProgress progress, int row, int column) {
+        return scoreStrategy.updateScore(codex, this.point, this.parameters, progress, row, column);
+    }
+
     /**
      * Method to get the textual description of the card's objective.
      * @return The textual description of the card's objective.
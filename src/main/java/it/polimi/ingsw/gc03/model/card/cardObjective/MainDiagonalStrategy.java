@@ -4,7 +4,6 @@ import com.google.gson.annotations.JsonAdapter;
 import it.polimi.ingsw.gc03.model.Codex;
 import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
 import it.polimi.ingsw.gc03.model.enumerations.Value;
-import it.polimi.ingsw.gc03.model.side.Side;
 import java.io.Serializable;
 import java.util.ArrayList;
 
@@ -23,38 +22,71 @@ public class MainDiagonalStrategy implements CalculateScoreStrategy, Serializabl
      */
     @Override
     public int calculateScore(Codex codex, int point, ArrayList<Value> parameters) {
+        ArrayList<Kingdom> mainDiagonalCard = convertParameters(parameters);
+        // Calculation on the codex, scanning from the top left corner
+        return PatternMatcher.countMatches(codex, rowOffsets(mainDiagonalCard.size()), columnOffsets(mainDiagonalCard.size()), mainDiagonalCard,
+                true, true) * point;
+    }
+
+    /**
+     * Method for updating points after a side has been inserted into the codex. The codex is scanned again, in the
+     * same order as calculateScore, only if the inserted side completes a pattern.
+     * @param codex The codex on which points must be calculated.
+     * @param point The points of the card.
+     * @param parameters Parameters used to calculate the points.
+     * @param progress The progress of the objective on the codex, before the insertion.
+     * @param row The row of the inserted side.
+     * @param column The column of the inserted side.
+     * @return The points of the objective after the insertion.
+     */
+    @Override
+    public int updateScore(Codex codex, int point, ArrayList<Value> parameters, ObjectiveProgress progress,
+                           int row, int column) {
+        ArrayList<Kingdom> mainDiagonalCard = convertParameters(parameters);
+        if (!PatternMatcher.hasMatchAt(codex, rowOffsets(mainDiagonalCard.size()), columnOffsets(mainDiagonalCard.size()), mainDiagonalCard, row, column))
+            return progress.getScore();
+        return calculateScore(codex, point, parameters);
+    }
+
+    /**
+     * Method for converting the parameters to the kingdoms of the cards.
+     * @param parameters Parameters used to calculate the points.
+     * @return The kingdoms of the cards.
+     */
+    private ArrayList<Kingdom> convertParameters(ArrayList<Value> parameters) {
         // Convert Value to Kingdom
         ArrayList<Kingdom> mainDiagonalCard = new ArrayList<>();
         for (Value parameter : parameters) {
             Kingdom card = Kingdom.fromValue(parameter);
             mainDiagonalCard.add(card);
         }
-        // Calculation on the codex
-        int pointCalculated = 0;
-        int counterKingdom = 0;
-        int[][] counterCard = new int[81][81];
-        for (int i = codex.getMinRow(); i <= codex.getMaxRow() - (mainDiagonalCard.size() - 1); i++) {
-            for (int j = codex.getMinColumn(); j <= codex.getMaxColumn() - (mainDiagonalCard.size() - 1); j++) {
-                if (codex.getCodex()[i][j] != null) {
-                    for (int k = 0; k < mainDiagonalCard.size(); k++) {
-                        if (codex.getCodex()[i + k][j + k] != null) {
-                            Side side = codex.getCodex()[i + k][j + k];
-                            if (side.getKingdom() == mainDiagonalCard.get(k) && counterCard[i + k][j + k] == 0) {
-                                counterKingdom++;
-                            }
-                        }
-                    }
-                    if (counterKingdom == mainDiagonalCard.size()) {
-                        pointCalculated = pointCalculated + point;
-                        for (int k = 0; k < mainDiagonalCard.size(); k++) {
-                            counterCard[i + k][j + k]++;
-                        }
-                    }
-                }
-                counterKingdom = 0;
-            }
+        return mainDiagonalCard;
+    }
+
+    /**
+     * Method for calculating the row offsets of the cells of the diagonal from the top left one.
+     * @param size The number of cards.
+     * @return The row offsets.
+     */
+    private int[] rowOffsets(int size) {
+        int[] rowOffsets = new int[size];
+        for (int k = 0; k < size; k++) {
+            rowOffsets[k] = k;
+        }
+        return rowOffsets;
+    }
+
+    /**
+     * Method for calculating the column offsets of the cells of the diagonal from the top left one.
+     * @param size The number of cards.
+     * @return The column offsets.
+     */
+    private int[] columnOffsets(int size) {
+        int[] columnOffsets = new int[size];
+        for (int k = 0; k < size; k++) {
+            columnOffsets[k] = k;
         }
-        return pointCalculated;
+        return columnOffsets;
     }
 
 }
\ No newline at end of file
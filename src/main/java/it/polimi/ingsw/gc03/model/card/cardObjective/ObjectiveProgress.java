@@ -0,0 +1,57 @@
+package it.polimi.ingsw.gc03.model.card.cardObjective;
+
+import it.polimi.ingsw.gc03.model.Codex;
+import java.io.Serializable;
+
+/**
+ * This class keeps the points that an Objective card would give on a codex, updated at each insertion. The points
+ * are always those that the card would give if the game ended now.
+ */
+public class ObjectiveProgress implements Serializable {
+
+    /**
+     * The Objective card whose points are tracked.
+     */
+    private final CardObjective cardObjective;
+
+    /**
+     * The projected points of the card.
+     */
+    private int score;
+
+    /**
+     * Constructor for the ObjectiveProgress class.
+     * @param cardObjective The Objective card whose points are tracked.
+     */
+    public ObjectiveProgress(CardObjective cardObjective) {
+        this.cardObjective = cardObjective;
+        this.score = 0;
+    }
+
+    /**
+     * Method for updating the projected points after a side has been inserted into the codex.
+     * @param codex The codex in which the side has been inserted.
+     * @param row The row of the inserted side.
+     * @param column The column of the inserted side.
+     */
+    public void update(Codex codex, int row, int column) {
+        this.score = this.cardObjective.updateScore(codex, this, row, column);
+    }
+
+    /**
+     * Method to retrieve the Objective card whose points are tracked.
+     * @return The Objective card.
+     */
+    public CardObjective getCardObjective() {
+        return this.cardObjective;
+    }
+
+    /**
+     * Method to retrieve the projected points of the card.
+     * @return The projected points.
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+}
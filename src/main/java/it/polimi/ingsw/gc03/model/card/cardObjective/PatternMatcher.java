@@ -0,0 +1,123 @@
+package it.polimi.ingsw.gc03.model.card.cardObjective;
+
+import it.polimi.ingsw.gc03.model.Bitboard;
+import it.polimi.ingsw.gc03.model.Codex;
+import it.polimi.ingsw.gc03.model.SparseBoard;
+import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
+import it.polimi.ingsw.gc03.model.side.Side;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class finds the patterns of cards required by the Objective cards using the kingdom bitboards of a codex.
+ * For each row, the anchors of the pattern are found 64 columns at a time by AND-ing the words of the bitboards
+ * shifted by the offset of each card of the pattern. The anchors are then accepted in the scan order of the
+ * strategy, skipping the ones that would reuse a card already counted by a previous pattern.
+ */
+public final class PatternMatcher {
+
+    /**
+     * Private constructor: this class only has static methods.
+     */
+    private PatternMatcher() {
+    }
+
+    /**
+     * Method for counting the patterns of a codex that do not share any card.
+     * @param codex The codex on which patterns must be found.
+     * @param rowOffsets The row offset of each card of the pattern from the first one, whose offset is 0.
+     * @param columnOffsets The column offset of each card of the pattern from the first one, whose offset is 0.
+     * @param kingdoms The kingdom of each card of the pattern.
+     * @param rowsAscending True if rows are scanned from the top, false if from the bottom.
+     * @param columnsAscending True if columns are scanned from the left, false if from the right.
+     * @return The number of patterns found.
+     */
+    public static int countMatches(Codex codex, int[] rowOffsets, int[] columnOffsets, List<Kingdom> kingdoms,
+                                   boolean rowsAscending, boolean columnsAscending) {
+        int cards = kingdoms.size();
+        Bitboard[] bitboards = new Bitboard[cards];
+        for (int k = 0; k < cards; k++) {
+            bitboards[k] = codex.getKingdomBitboard(kingdoms.get(k));
+            if (bitboards[k].isEmpty())
+                return 0;
+        }
+        Bitboard anchors = bitboards[0];
+        int rowCount = anchors.getLastRow() - anchors.getFirstRow() + 1;
+        int wordCount = anchors.getWordCount();
+        // Packed positions of the cards already counted
+        int[] used = null;
+        int usedCount = 0;
+        int matches = 0;
+        for (int r = 0; r < rowCount; r++) {
+            int row = rowsAscending ? anchors.getFirstRow() + r : anchors.getLastRow() - r;
+            for (int w = 0; w < wordCount; w++) {
+                int firstColumn = anchors.getFirstColumn() + (columnsAscending ? w : wordCount - 1 - w) * Bitboard.WORD_SIZE;
+                long candidates = anchors.word(row, firstColumn);
+                for (int k = 1; k < cards && candidates != 0; k++) {
+                    candidates &= bitboards[k].word(row + rowOffsets[k], firstColumn + columnOffsets[k]);
+                }
+                while (candidates != 0) {
+                    int bit = columnsAscending ? Long.numberOfTrailingZeros(candidates) : 63 - Long.numberOfLeadingZeros(candidates);
+                    candidates &= ~(1L << bit);
+                    int column = firstColumn + bit;
+                    // Check that no card of the pattern has already been counted
+                    boolean free = true;
+                    for (int k = 0; k < cards && free; k++) {
+                        int key = SparseBoard.packKey(row + rowOffsets[k], column + columnOffsets[k]);
+                        for (int u = 0; u < usedCount && free; u++) {
+                            if (used[u] == key)
+                                free = false;
+                        }
+                    }
+                    if (free) {
+                        if (used == null)
+                            used = new int[cards * 4];
+                        else if (usedCount + cards > used.length)
+                            used = Arrays.copyOf(used, used.length * 2);
+                        for (int k = 0; k < cards; k++) {
+                            used[usedCount++] = SparseBoard.packKey(row + rowOffsets[k], column + columnOffsets[k]);
+                        }
+                        matches++;
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Method to check if a side just inserted into the codex completes a pattern. Only the positions of the pattern
+     * that can hold the inserted side are checked. The patterns found by countMatches can only change when this
+     * method finds a pattern, since no other pattern contains the inserted side.
+     * @param codex The codex on which patterns must be found.
+     * @param rowOffsets The row offset of each card of the pattern from the first one, whose offset is 0.
+     * @param columnOffsets The column offset of each card of the pattern from the first one, whose offset is 0.
+     * @param kingdoms The kingdom of each card of the pattern.
+     * @param row The row of the inserted side.
+     * @param column The column of the inserted side.
+     * @return A boolean indicating whether a pattern contains the inserted side.
+     */
+    public static boolean hasMatchAt(Codex codex, int[] rowOffsets, int[] columnOffsets, List<Kingdom> kingdoms,
+                                     int row, int column) {
+        Side inserted = codex.getSideAt(row, column);
+        if (inserted == null)
+            return false;
+        for (int i = 0; i < kingdoms.size(); i++) {
+            if (kingdoms.get(i) != inserted.getKingdom())
+                continue;
+            // Position of the first card of the pattern if the inserted side is its card i
+            int anchorRow = row - rowOffsets[i];
+            int anchorColumn = column - columnOffsets[i];
+            boolean found = true;
+            for (int k = 0; k < kingdoms.size() && found; k++) {
+                Side side = codex.getSideAt(anchorRow + rowOffsets[k], anchorColumn + columnOffsets[k]);
+                if (side == null || side.getKingdom() != kingdoms.get(k))
+                    found = false;
+            }
+            if (found)
+                return true;
+        }
+        return false;
+    }
+
+}
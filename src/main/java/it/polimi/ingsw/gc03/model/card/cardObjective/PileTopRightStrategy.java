@@ -4,7 +4,6 @@ import com.google.gson.annotations.JsonAdapter;
 import it.polimi.ingsw.gc03.model.Codex;
 import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
 import it.polimi.ingsw.gc03.model.enumerations.Value;
-import it.polimi.ingsw.gc03.model.side.Side;
 import java.io.Serializable;
 import java.util.ArrayList;
 
@@ -24,43 +23,71 @@ public class PileTopRightStrategy implements CalculateScoreStrategy, Serializabl
      */
     @Override
     public int calculateScore(Codex codex, int point, ArrayList<Value> parameters) {
+        ArrayList<Kingdom> pileCard = convertParameters(parameters);
+        // Calculation on the codex, scanning from the bottom left corner
+        return PatternMatcher.countMatches(codex, rowOffsets(pileCard.size()), columnOffsets(pileCard.size()), pileCard,
+                false, true) * point;
+    }
+
+    /**
+     * Method for updating points after a side has been inserted into the codex. The codex is scanned again, in the
+     * same order as calculateScore, only if the inserted side completes a pattern.
+     * @param codex The codex on which points must be calculated.
+     * @param point The points of the card.
+     * @param parameters Parameters used to calculate the points.
+     * @param progress The progress of the objective on the codex, before the insertion.
+     * @param row The row of the inserted side.
+     * @param column The column of the inserted side.
+     * @return The points of the objective after the insertion.
+     */
+    @Override
+    public int updateScore(Codex codex, int point, ArrayList<Value> parameters, ObjectiveProgress progress,
+                           int row, int column) {
+        ArrayList<Kingdom> pileCard = convertParameters(parameters);
+        if (!PatternMatcher.hasMatchAt(codex, rowOffsets(pileCard.size()), columnOffsets(pileCard.size()), pileCard, row, column))
+            return progress.getScore();
+        return calculateScore(codex, point, parameters);
+    }
+
+    /**
+     * Method for converting the parameters to the kingdoms of the cards.
+     * @param parameters Parameters used to calculate the points.
+     * @return The kingdoms of the cards.
+     */
+    private ArrayList<Kingdom> convertParameters(ArrayList<Value> parameters) {
         // Convert Value to Kingdom
         ArrayList<Kingdom> pileCard = new ArrayList<>();
         for (Value parameter : parameters) {
             Kingdom card = Kingdom.fromValue(parameter);
             pileCard.add(card);
         }
-        // Calculation on the codex
-        int pointCalculated = 0;
-        int counterKingdom = 0;
-        int[][] counterCard = new int[81][81];
-        for (int i = codex.getMaxRow(); i >= codex.getMinRow() + (((pileCard.size() - 1) * 2) - 1); i--) {
-            for (int j = codex.getMinColumn(); j < codex.getMaxColumn(); j++) {
-                if (codex.getCodex()[i][j] != null) {
-                    Side side = codex.getCodex()[i][j];
-                    if (side.getKingdom() == pileCard.getFirst() && counterCard[i][j] == 0) {
-                        counterKingdom++;
-                        for (int k = 0; k < pileCard.size() - 1; k++) {
-                            if (codex.getCodex()[(i - 1) - (k * 2)][j + 1] != null) {
-                                side = codex.getCodex()[(i - 1) - (k * 2)][j + 1];
-                                if (side.getKingdom() == pileCard.get(k + 1) && counterCard[(i - 1) - (k * 2)][j + 1] == 0) {
-                                    counterKingdom++;
-                                }
-                            }
-                        }
-                        if (counterKingdom == pileCard.size()) {
-                            pointCalculated = pointCalculated + point;
-                            counterCard[i][j]++;
-                            for (int k = 0; k < pileCard.size() - 1; k++) {
-                                counterCard[(i - 1) - (k * 2)][j + 1]++;
-                            }
-                        }
-                    }
-                }
-                counterKingdom = 0;
-            }
+        return pileCard;
+    }
+
+    /**
+     * Method for calculating the row offsets of the cards of the pile from the first one.
+     * @param size The number of cards.
+     * @return The row offsets.
+     */
+    private int[] rowOffsets(int size) {
+        int[] rowOffsets = new int[size];
+        for (int k = 1; k < size; k++) {
+            rowOffsets[k] = -1 - (k - 1) * 2;
+        }
+        return rowOffsets;
+    }
+
+    /**
+     * Method for calculating the column offsets of the cards of the pile from the first one.
+     * @param size The number of cards.
+     * @return The column offsets.
+     */
+    private int[] columnOffsets(int size) {
+        int[] columnOffsets = new int[size];
+        for (int k = 1; k < size; k++) {
+            columnOffsets[k] = 1;
         }
-        return pointCalculated;
+        return columnOffsets;
     }
 
 }
\ No newline at end of file
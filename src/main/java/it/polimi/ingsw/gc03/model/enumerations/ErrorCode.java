@@ -0,0 +1,28 @@
+package it.polimi.ingsw.gc03.model.enumerations;
+
+/**
+ * Enumeration representing the reasons why a move of a player has been rejected.
+ */
+public enum ErrorCode {
+
+    /**
+     * The card cannot be placed in the chosen position.
+     */
+    INVALID_COORDINATES,
+
+    /**
+     * The placement requirements of the Gold card are not met.
+     */
+    REQUIREMENTS_NOT_RESPECTED,
+
+    /**
+     * The player cannot place the chosen card now.
+     */
+    CAN_NOT_PLACE_CARD,
+
+    /**
+     * The player cannot draw the chosen card now.
+     */
+    CARD_NOT_ADDED_TO_HAND
+
+}
@@ -0,0 +1,53 @@
+package it.polimi.ingsw.gc03.model.enumerations;
+
+/**
+ * Enumeration representing the outcome of checking the placement of a side into a codex.
+ */
+public enum PlacementResult {
+
+    /**
+     * The side can be placed.
+     */
+    OK,
+
+    /**
+     * There is no side to place, for example because the card chosen is not in the hand.
+     */
+    NO_SIDE,
+
+    /**
+     * The row or the column are outside the codex.
+     */
+    OUT_OF_BOUNDS,
+
+    /**
+     * The Starter card has not been placed yet.
+     */
+    NO_STARTER,
+
+    /**
+     * The row and the column do not have the same parity.
+     */
+    PARITY,
+
+    /**
+     * The position is already occupied.
+     */
+    OCCUPIED,
+
+    /**
+     * The position does not touch the corner of any card.
+     */
+    NOT_CONNECTED,
+
+    /**
+     * The position would cover a NULL corner of a card.
+     */
+    NULL_CORNER,
+
+    /**
+     * The placement requirements of the Gold card are not met.
+     */
+    GOLD_REQUIREMENT
+
+}
@@ -1,13 +1,26 @@
 package it.polimi.ingsw.gc03.model.side;
 
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.ModelStreams;
+import it.polimi.ingsw.gc03.model.card.Card;
 import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
 import it.polimi.ingsw.gc03.model.enumerations.Value;
-import java.io.Serializable;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.ObjectStreamException;
+import java.util.ArrayList;
 
 /**
  * This class manages the information present on both the front and back of a card.
+ * Sides are never modified once loaded, so the same side can be shared by several codices: the corners covered
+ * during a game are kept by the Codex.
+ * A side of the card catalog is serialized as the id of its card and the face shown, and is replaced by the side of
+ * the catalog when read.
  */
-public class Side implements Serializable {
+public class Side implements Externalizable {
 
     /**
      * Kingdom of the card.
@@ -39,6 +52,17 @@ public class Side implements Serializable {
      */
     private String image;
 
+    /**
+     * The side of the catalog read in place of this copy, returned by readResolve.
+     */
+    private transient Side catalogSide;
+
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public Side() {
+    }
+
     /**
      * Constructor of the class Side.
      * @param kingdom The kingdom of the card.
@@ -65,14 +89,6 @@ public class Side implements Serializable {
         return kingdom;
     }
 
-    /**
-     * Setter method to set the kingdom of the card.
-     * @param kingdom The kingdom of the card.
-     */
-    public void setKingdom(Kingdom kingdom) {
-        this.kingdom = kingdom;
-    }
-
     /**
      * Getter method to retrieve the value contained in the top-left corner.
      * @return The value contained in the top-left corner.
@@ -81,14 +97,6 @@ public class Side implements Serializable {
         return topLeftCorner;
     }
 
-    /**
-     * Setter method to set the value contained in the top-left corner.
-     * @param topLeftCorner The value to be set in the top-left corner.
-     */
-    public void setTopLeftCorner(Value topLeftCorner) {
-        this.topLeftCorner = topLeftCorner;
-    }
-
     /**
      * Getter method to retrieve the value contained in the bottom-left corner.
      * @return The value contained in the bottom-left corner.
@@ -97,14 +105,6 @@ public class Side implements Serializable {
         return bottomLeftCorner;
     }
 
-    /**
-     * Setter method to set the value contained in the bottom-left corner.
-     * @param bottomLeftCorner The value to be set in the bottom-left corner.
-     */
-    public void setBottomLeftCorner(Value bottomLeftCorner) {
-        this.bottomLeftCorner = bottomLeftCorner;
-    }
-
     /**
      * Getter method to retrieve the value contained in the top-right corner.
      * @return The value contained in the top-right corner.
@@ -113,14 +113,6 @@ public class Side implements Serializable {
         return topRightCorner;
     }
 
-    /**
-     * Setter method to set the value contained in the top-right corner.
-     * @param topRightCorner The value to be set in the top-right corner.
-     */
-    public void setTopRightCorner(Value topRightCorner) {
-        this.topRightCorner = topRightCorner;
-    }
-
     /**
      * Getter method to retrieve the value contained in the bottom-right corner.
      * @return The value contained in the bottom-right corner.
@@ -129,14 +121,6 @@ public class Side implements Serializable {
         return bottomRightCorner;
     }
 
-    /**
-     * Setter method to set the value contained in the bottom-right corner.
-     * @param bottomRightCorner The value to be set in the bottom-right corner.
-     */
-    public void setBottomRightCorner(Value bottomRightCorner) {
-        this.bottomRightCorner = bottomRightCorner;
-    }
-
     /**
      * Getter method to retrieve the image of the side.
      * @return The image of the side.
@@ -146,11 +130,115 @@ public class Side implements Serializable {
     }
 
     /**
-     * Setter method to set the image of the side.
+     * Setter method to set the image of the side, used only while the card catalog is loaded.
      * @param image The image to be set for the side.
      */
     public void setImage(String image) {
         this.image = image;
     }
 
-}
\ No newline at end of file
+    /**
+     * Method for serializing the side, as the id of its card and the face shown if it is part of the catalog.
+     * @param out The output stream.
+     * @throws IOException If the side cannot be written.
+     */
+    @Override
+    public final void writeExternal(ObjectOutput out) throws IOException {
+        Card card = CardCatalog.getInstance().getCardOf(this);
+        out.writeBoolean(card != null);
+        if (card != null) {
+            out.writeUTF(card.getIdCard());
+            out.writeBoolean(CardCatalog.getInstance().getSide(card.getIdCard(), true) == this);
+        } else {
+            writeValues(out);
+        }
+    }
+
+    /**
+     * Method for deserializing the side written by writeExternal.
+     * @param in The input stream.
+     * @throws IOException If the side cannot be read or its card is not part of the catalog.
+     */
+    @Override
+    public final void readExternal(ObjectInput in) throws IOException {
+        if (in.readBoolean()) {
+            String id = in.readUTF();
+            this.catalogSide = CardCatalog.getInstance().getSide(id, in.readBoolean());
+            if (this.catalogSide == null)
+                throw new InvalidObjectException("Unknown card: " + id);
+        } else {
+            readValues(in);
+        }
+    }
+
+    /**
+     * Method for writing the values of a side that is not part of the catalog, extended by the subclasses.
+     * @param out The output stream.
+     * @throws IOException If the values cannot be written.
+     */
+    protected void writeValues(ObjectOutput out) throws IOException {
+        ModelStreams.writeEnum(out, this.kingdom);
+        ModelStreams.writeEnum(out, this.topLeftCorner);
+        ModelStreams.writeEnum(out, this.bottomLeftCorner);
+        ModelStreams.writeEnum(out, this.topRightCorner);
+        ModelStreams.writeEnum(out, this.bottomRightCorner);
+        ModelStreams.writeString(out, this.image);
+    }
+
+    /**
+     * Method for reading the values written by writeValues, extended by the subclasses.
+     * @param in The input stream.
+     * @throws IOException If the values cannot be read.
+     */
+    protected void readValues(ObjectInput in) throws IOException {
+        this.kingdom = ModelStreams.readEnum(in, Kingdom.values());
+        this.topLeftCorner = ModelStreams.readEnum(in, Value.values());
+        this.bottomLeftCorner = ModelStreams.readEnum(in, Value.values());
+        this.topRightCorner = ModelStreams.readEnum(in, Value.values());
+        this.bottomRightCorner = ModelStreams.readEnum(in, Value.values());
+        this.image = ModelStreams.readString(in);
+    }
+
+    /**
+     * Method for writing a list of values.
+     * @param out The output stream.
+     * @param values The values, or null.
+     * @throws IOException If the values cannot be written.
+     */
+    protected static void writeValueList(ObjectOutput out, ArrayList<Value> values) throws IOException {
+        out.writeByte(values == null ? -1 : values.size());
+        if (values != null) {
+            for (Value value : values) {
+                ModelStreams.writeEnum(out, value);
+            }
+        }
+    }
+
+    /**
+     * Method for reading a list written by writeValueList.
+     * @param in The input stream.
+     * @return The values, or null.
+     * @throws IOException If the values cannot be read.
+     */
+    protected static ArrayList<Value> readValueList(ObjectInput in) throws IOException {
+        int count = in.readByte();
+        if (count < 0)
+            return null;
+        ArrayList<Value> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(ModelStreams.readEnum(in, Value.values()));
+        }
+        return values;
+    }
+
+    /**
+     * Method called by the deserialization to replace a copy of a side with the side of the catalog, so that the
+     * sides received are shared and can be looked up in the catalog.
+     * @return The side of the catalog, or this side if it is not part of it.
+     * @throws ObjectStreamException Never thrown.
+     */
+    protected Object readResolve() throws ObjectStreamException {
+        return this.catalogSide != null ? this.catalogSide : CardCatalog.getInstance().resolve(this);
+    }
+
+}
@@ -9,6 +9,12 @@ import java.util.ArrayList;
  */
 public class BackGold extends BackSide {
 
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public BackGold() {
+    }
+
     /**
      * Constructor of the class BackGold.
      * @param kingdom The kingdom of the card.
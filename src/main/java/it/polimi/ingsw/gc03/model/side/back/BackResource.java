@@ -9,6 +9,12 @@ import java.util.ArrayList;
  */
 public class BackResource extends BackSide {
 
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public BackResource() {
+    }
+
     /**
      * Constructor of the class BackResource.
      * @param kingdom The kingdom of the card.
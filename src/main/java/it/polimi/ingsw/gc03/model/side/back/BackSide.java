@@ -3,6 +3,9 @@ package it.polimi.ingsw.gc03.model.side.back;
 import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
 import it.polimi.ingsw.gc03.model.side.Side;
 import it.polimi.ingsw.gc03.model.enumerations.Value;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.ArrayList;
 
@@ -16,6 +19,12 @@ public class BackSide extends Side implements Serializable {
      */
     private ArrayList<Value> center;
 
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public BackSide() {
+    }
+
     /**
      * Constructor of the class BackSide.
      * @param kingdom The kingdom of the card.
@@ -40,11 +49,25 @@ public class BackSide extends Side implements Serializable {
     }
 
     /**
-     * Setter method to set the values contained in the center.
-     * @param center The values to be set in the center.
+     * Method for writing the values of a side that is not part of the catalog.
+     * @param out The output stream.
+     * @throws IOException If the values cannot be written.
+     */
+    @Override
+    protected void writeValues(ObjectOutput out) throws IOException {
+        super.writeValues(out);
+        writeValueList(out, this.center);
+    }
+
+    /**
+     * Method for reading the values written by writeValues.
+     * @param in The input stream.
+     * @throws IOException If the values cannot be read.
      */
-    public void setCenter(ArrayList<Value> center) {
-        this.center = center;
+    @Override
+    protected void readValues(ObjectInput in) throws IOException {
+        super.readValues(in);
+        this.center = readValueList(in);
     }
 
-}
\ No newline at end of file
+}
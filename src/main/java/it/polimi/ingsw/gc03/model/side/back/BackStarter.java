@@ -9,6 +9,12 @@ import java.util.ArrayList;
  */
 public class BackStarter extends BackSide {
 
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public BackStarter() {
+    }
+
     /**
      * Constructor of the class BackStarter.
      * @param kingdom The kingdom of the card.
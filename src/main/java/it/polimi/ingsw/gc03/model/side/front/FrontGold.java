@@ -1,8 +1,12 @@
 package it.polimi.ingsw.gc03.model.side.front;
 
+import it.polimi.ingsw.gc03.model.ModelStreams;
 import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
 import it.polimi.ingsw.gc03.model.side.Side;
 import it.polimi.ingsw.gc03.model.enumerations.Value;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.ArrayList;
 
@@ -26,6 +30,12 @@ public class FrontGold extends Side implements Serializable {
      */
     private ArrayList<Value> requirementPlacement;
 
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public FrontGold() {
+    }
+
     /**
      * Constructor of the class FrontGold.
      * @param kingdom The kingdom of the card.
@@ -53,14 +63,6 @@ public class FrontGold extends Side implements Serializable {
         return point;
     }
 
-    /**
-     * Setter method to set the points on the card.
-     * @param point The points to be set for the card.
-     */
-    public void setPoint(int point) {
-        this.point = point;
-    }
-
     /**
      * Getter method to retrieve the requirement for the points.
      * @return The requirement for the points.
@@ -69,14 +71,6 @@ public class FrontGold extends Side implements Serializable {
         return requirementPoint;
     }
 
-    /**
-     * Setter method to set the requirement for the points.
-     * @param requirementPoint The requirement to be set for the points.
-     */
-    public void setRequirementPoint(Value requirementPoint) {
-        this.requirementPoint = requirementPoint;
-    }
-
     /**
      * Getter method to retrieve the requirements for card placement.
      * @return The requirements for card placement.
@@ -86,11 +80,29 @@ public class FrontGold extends Side implements Serializable {
     }
 
     /**
-     * Setter method to set the requirements for the points.
-     * @param requirementPlacement The requirements for card placement.
+     * Method for writing the values of a side that is not part of the catalog.
+     * @param out The output stream.
+     * @throws IOException If the values cannot be written.
+     */
+    @Override
+    protected void writeValues(ObjectOutput out) throws IOException {
+        super.writeValues(out);
+        out.writeInt(this.point);
+        ModelStreams.writeEnum(out, this.requirementPoint);
+        writeValueList(out, this.requirementPlacement);
+    }
+
+    /**
+     * Method for reading the values written by writeValues.
+     * @param in The input stream.
+     * @throws IOException If the values cannot be read.
      */
-    public void setRequirementPlacement(ArrayList<Value> requirementPlacement) {
-        this.requirementPlacement = requirementPlacement;
+    @Override
+    protected void readValues(ObjectInput in) throws IOException {
+        super.readValues(in);
+        this.point = in.readInt();
+        this.requirementPoint = ModelStreams.readEnum(in, Value.values());
+        this.requirementPlacement = readValueList(in);
     }
 
-}
\ No newline at end of file
+}
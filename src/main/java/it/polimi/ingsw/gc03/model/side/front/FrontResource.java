@@ -3,6 +3,9 @@ package it.polimi.ingsw.gc03.model.side.front;
 import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
 import it.polimi.ingsw.gc03.model.side.Side;
 import it.polimi.ingsw.gc03.model.enumerations.Value;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 
 /**
@@ -15,6 +18,12 @@ public class FrontResource extends Side implements Serializable {
      */
     private int point;
 
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public FrontResource() {
+    }
+
     /**
      * Constructor of the class FrontResource.
      * @param kingdom The kingdom of the card.
@@ -39,11 +48,25 @@ public class FrontResource extends Side implements Serializable {
     }
 
     /**
-     * Setter method to set the points on the card.
-     * @param point The points to be set for the card.
+     * Method for writing the values of a side that is not part of the catalog.
+     * @param out The output stream.
+     * @throws IOException If the values cannot be written.
      */
-    public void setPoint(int point) {
-        this.point = point;
+    @Override
+    protected void writeValues(ObjectOutput out) throws IOException {
+        super.writeValues(out);
+        out.writeInt(this.point);
+    }
+
+    /**
+     * Method for reading the values written by writeValues.
+     * @param in The input stream.
+     * @throws IOException If the values cannot be read.
+     */
+    @Override
+    protected void readValues(ObjectInput in) throws IOException {
+        super.readValues(in);
+        this.point = in.readInt();
     }
 
-}
\ No newline at end of file
+}
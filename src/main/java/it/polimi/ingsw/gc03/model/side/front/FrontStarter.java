@@ -10,6 +10,12 @@ import java.io.Serializable;
  */
 public class FrontStarter extends Side implements Serializable {
 
+    /**
+     * Constructor used by the deserialization, the values are read by readExternal.
+     */
+    public FrontStarter() {
+    }
+
     /**
      * Constructor of the class FrontStarter.
      * @param kingdom The kingdom of the card.
@@ -0,0 +1,138 @@
+package it.polimi.ingsw.gc03.networking;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This enumeration represents the kind of threads started by the server for the connections, chosen at startup by
+ * the MainServer. With virtual threads the number of threads of the server does not grow with the number of connected
+ * players, since the blocked reads do not hold a thread of the system. The games share a single scheduler, see timers,
+ * and the executor processing their commands, see gameLoops.
+ */
+public enum ServerThreads {
+
+    /**
+     * Threads of the system, one for each task.
+     */
+    PLATFORM,
+
+    /**
+     * Virtual threads, scheduled on a small pool of threads of the system.
+     */
+    VIRTUAL;
+
+    /**
+     * The kind of threads used by the server.
+     */
+    private static volatile ServerThreads mode = PLATFORM;
+
+    /**
+     * The scheduler shared by all the games, created on first use.
+     */
+    private static ScheduledThreadPoolExecutor timers;
+
+    /**
+     * The number of threads processing the commands of the games with threads of the system.
+     */
+    public static final int GAME_LOOPS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * The executor processing the commands of all the games, created on first use.
+     */
+    private static ExecutorService gameLoops;
+
+    /**
+     * Method to get the kind of threads used by the server.
+     * @return The kind of threads.
+     */
+    public static ServerThreads getMode() {
+        return mode;
+    }
+
+    /**
+     * Method to set the kind of threads used by the server, before the servers are started.
+     * @param threads The kind of threads.
+     */
+    public static void setMode(ServerThreads threads) {
+        mode = threads;
+    }
+
+    /**
+     * Method to create a factory of threads of the kind used by the server.
+     * @param name The prefix of the names of the threads.
+     * @return The factory.
+     */
+    public static ThreadFactory factory(String name) {
+        return mode == VIRTUAL ? Thread.ofVirtual().name(name, 0).factory() : Thread.ofPlatform().name(name, 0).factory();
+    }
+
+    /**
+     * Method for starting a thread of the kind used by the server.
+     * @param name The name of the thread.
+     * @param task The task run by the thread.
+     * @return The started thread.
+     */
+    public static Thread start(String name, Runnable task) {
+        return mode == VIRTUAL ? Thread.ofVirtual().name(name).start(task) : Thread.ofPlatform().name(name).start(task);
+    }
+
+    /**
+     * Method to create an executor running each task on its own thread, reusing the threads of the system.
+     * @param name The prefix of the names of the threads.
+     * @return The executor.
+     */
+    public static ExecutorService newTaskExecutor(String name) {
+        return mode == VIRTUAL ? Executors.newThreadPerTaskExecutor(factory(name)) :
+                Executors.newCachedThreadPool(factory(name));
+    }
+
+    /**
+     * Method to create an executor running its tasks one at a time.
+     * @param name The name of the thread.
+     * @return The executor.
+     */
+    public static ExecutorService newSingleThreadExecutor(String name) {
+        return Executors.newSingleThreadExecutor(factory(name));
+    }
+
+    /**
+     * Method to get the scheduler running the timed tasks of all the games: the checks of the pings, the end of the
+     * halted games and the removal of the ended ones. Its single thread only runs short tasks, so the number of
+     * threads of the server does not grow with the number of games, and the cancelled tasks are removed at once.
+     * @return The shared scheduler.
+     */
+    public static synchronized ScheduledExecutorService timers() {
+        if (timers == null) {
+            timers = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("game-timers").daemon().factory());
+            timers.setRemoveOnCancelPolicy(true);
+        }
+        return timers;
+    }
+
+    /**
+     * Method to get the executor processing the commands of all the games, see GameMailbox: a game only takes a thread
+     * while it has commands waiting. With virtual threads each turn of a game runs on a new virtual thread, otherwise
+     * on a fixed pool of threads of the system started at once.
+     * @return The shared executor.
+     */
+    public static synchronized ExecutorService gameLoops() {
+        if (gameLoops == null) {
+            if (mode == VIRTUAL) {
+                gameLoops = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("game-loop-", 0).factory());
+            } else {
+                ThreadPoolExecutor pool = new ThreadPoolExecutor(GAME_LOOPS, GAME_LOOPS, 0, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(), Thread.ofPlatform().name("game-loop-", 0).daemon().factory());
+                pool.prestartAllCoreThreads();
+                gameLoops = pool;
+            }
+        }
+        return gameLoops;
+    }
+
+}
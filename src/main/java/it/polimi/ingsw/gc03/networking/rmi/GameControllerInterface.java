@@ -31,10 +31,11 @@ public interface GameControllerInterface extends Remote {
      * @param frontCard A boolean indicating whether to place the front (true) or back (false) side of the card.
      * @param row The row in the Codex where the card is to be placed.
      * @param col The column in the Codex where the card is to be placed.
+     * @param requestId The id given to the placement by the client, sent back if the placement is rejected.
      * @throws RemoteException If an error occurs in remote communication.
      * @throws Exception If an abnormal condition has occurred during the execution of the action.
      */
-    void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col) throws RemoteException, Exception;
+    void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col, int requestId) throws RemoteException, Exception;
 
     /**
      * This method selects the personal Objective card.
@@ -49,20 +50,22 @@ public interface GameControllerInterface extends Remote {
      * This method draws a card from the deck of cards.
      * @param player The player representing the client.
      * @param deck The deck from which the card is drawn.
+     * @param requestId The id given to the draw by the client, sent back if the draw is rejected.
      * @throws RemoteException If an error occurs in remote communication.
      * @throws Exception If an abnormal condition has occurred during the execution of the action.
      */
-    void drawCardFromDeck(Player player, DeckType deck) throws RemoteException, Exception;
+    void drawCardFromDeck(Player player, DeckType deck, int requestId) throws RemoteException, Exception;
 
     /**
      * This method draws a card from the visible cards.
      * @param player The player representing the client.
      * @param deck The visible deck from which the card is drawn.
      * @param index The index of the card in the displayed deck that the player wishes to draw.
+     * @param requestId The id given to the draw by the client, sent back if the draw is rejected.
      * @throws RemoteException If an error occurs in remote communication.
      * @throws Exception If an abnormal condition has occurred during the execution of the action.
      */
-    void drawCardDisplayed(Player player, DeckType deck, int index) throws RemoteException, Exception;
+    void drawCardDisplayed(Player player, DeckType deck, int index, int requestId) throws RemoteException, Exception;
 
     /**
      * This method sends a message in chat.
@@ -226,12 +226,13 @@ public class RmiClient implements ClientAction {
      * @param frontCard A boolean indicating whether to place the front (true) or back (false) side of the card.
      * @param row The row in the Codex where the card is to be placed.
      * @param col The column in the Codex where the card is to be placed.
+     * @param requestId The id given to the placement by the client, sent back if it is rejected.
      * @throws RemoteException If an error occurs in remote communication.
      * @throws Exception If an abnormal condition has occurred during the execution of the action.
      */
     @Override
-    public void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col) throws RemoteException, Exception {
-        this.gameController.placeCardOnCodex(player, index, frontCard, row, col);
+    public void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col, int requestId) throws RemoteException, Exception {
+        this.gameController.placeCardOnCodex(player, index, frontCard, row, col, requestId);
     }
 
     /**
@@ -250,12 +251,13 @@ public class RmiClient implements ClientAction {
      * The client draws a card from the deck of cards.
      * @param player The player representing the client.
      * @param deck The deck from which the card is drawn.
+     * @param requestId The id given to the draw by the client, sent back if it is rejected.
      * @throws RemoteException If an error occurs in remote communication.
      * @throws Exception If an abnormal condition has occurred during the execution of the action.
      */
     @Override
-    public void drawCardFromDeck(Player player, DeckType deck) throws RemoteException, Exception {
-        this.gameController.drawCardFromDeck(player, deck);
+    public void drawCardFromDeck(Player player, DeckType deck, int requestId) throws RemoteException, Exception {
+        this.gameController.drawCardFromDeck(player, deck, requestId);
     }
 
     /**
@@ -263,12 +265,13 @@ public class RmiClient implements ClientAction {
      * @param player The player representing the client.
      * @param deck The visible deck from which the card is drawn.
      * @param index The index of the card in the displayed deck that the player wishes to draw.
+     * @param requestId The id given to the draw by the client, sent back if it is rejected.
      * @throws RemoteException If an error occurs in remote communication.
      * @throws Exception If an abnormal condition has occurred during the execution of the action.
      */
     @Override
-    public void drawCardDisplayed(Player player, DeckType deck, int index) throws RemoteException, Exception {
-        this.gameController.drawCardDisplayed(player, deck, index);
+    public void drawCardDisplayed(Player player, DeckType deck, int index, int requestId) throws RemoteException, Exception {
+        this.gameController.drawCardDisplayed(player, deck, index, requestId);
     }
 
     /**
@@ -74,11 +74,12 @@ public interface ClientAction {
      * @param frontCard A boolean indicating whether to place the front (true) or back (false) side of the card.
      * @param row The row in the Codex where the card is to be placed.
      * @param col The column in the Codex where the card is to be placed.
+     * @param requestId The id given to the placement by the client, sent back if it is rejected.
      * @throws IOException If an input or output exception occurs during action processing.
      * @throws InterruptedException If the thread is interrupted, either before or during the action.
      * @throws Exception If an abnormal condition has occurred during the execution of the action.
      */
-    void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col) throws IOException, InterruptedException, Exception;
+    void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col, int requestId) throws IOException, InterruptedException, Exception;
 
     /**
      * The client can select his personal Objective card.
@@ -94,22 +95,24 @@ public interface ClientAction {
      * The client can draw a card from the deck of cards.
      * @param player The player representing the client.
      * @param deck The deck from which the card is drawn.
+     * @param requestId The id given to the draw by the client, sent back if it is rejected.
      * @throws IOException If an input or output exception occurs during action processing.
      * @throws InterruptedException If the thread is interrupted, either before or during the action.
      * @throws Exception If an abnormal condition has occurred during the execution of the action.
      */
-    void drawCardFromDeck(Player player, DeckType deck) throws IOException, InterruptedException, Exception;
+    void drawCardFromDeck(Player player, DeckType deck, int requestId) throws IOException, InterruptedException, Exception;
 
     /**
      * The client can draw a card from the visible cards.
      * @param player The player representing the client.
      * @param deck The visible deck from which the card is drawn.
      * @param index The index of the card in the displayed deck that the player wishes to draw.
+     * @param requestId The id given to the draw by the client, sent back if it is rejected.
      * @throws IOException If an input or output exception occurs during action processing.
      * @throws InterruptedException If the thread is interrupted, either before or during the action.
      * @throws Exception If an abnormal condition has occurred during the execution of the action.
      */
-    void drawCardDisplayed(Player player, DeckType deck, int index) throws IOException, InterruptedException, Exception;
+    void drawCardDisplayed(Player player, DeckType deck, int index, int requestId) throws IOException, InterruptedException, Exception;
 
     /**
      * The client can send a message in chat.
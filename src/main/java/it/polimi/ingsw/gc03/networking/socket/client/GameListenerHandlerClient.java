@@ -2,11 +2,11 @@ package it.polimi.ingsw.gc03.networking.socket.client;
 
 import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.model.ChatMessage;
+import it.polimi.ingsw.gc03.model.CommandError;
 import it.polimi.ingsw.gc03.model.GameImmutable;
 import it.polimi.ingsw.gc03.model.Player;
 import it.polimi.ingsw.gc03.model.card.Card;
 import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
-import it.polimi.ingsw.gc03.model.enumerations.Value;
 import it.polimi.ingsw.gc03.view.ui.Flow;
 import java.io.Serializable;
 import java.rmi.RemoteException;
@@ -189,29 +189,6 @@ public class GameListenerHandlerClient implements GameListener, Serializable {
         this.flow.positionedStarterCardIntoCodex(gameImmutable, nickname);
     }
 
-    /**
-     * Handles the event when invalid coordinates are provided.
-     * @param gameImmutable The immutable game gameImmutable.
-     * @param row The row where the card wanted to be placed.
-     * @param column The column where the card wanted to be placed.
-     * @throws RemoteException If an error occurs in remote communication.
-     */
-    @Override
-    public void invalidCoordinates(GameImmutable gameImmutable, int row, int column) throws RemoteException {
-        this.flow.invalidCoordinates(gameImmutable, row, column);
-    }
-
-    /**
-     * Handles the event when the requirements for card placement are not respected.
-     * @param gameImmutable The immutable game gameImmutable.
-     * @param requirementsPlacement The requirements for card placement.
-     * @throws RemoteException If an error occurs in remote communication.
-     */
-    @Override
-    public void requirementsPlacementNotRespected(GameImmutable gameImmutable, ArrayList<Value> requirementsPlacement) throws RemoteException {
-       this.flow.requirementsPlacementNotRespected(gameImmutable, requirementsPlacement);
-    }
-
     /**
      * Handles the event when a point is added to a player.
      * @param gameImmutable The immutable game gameImmutable.
@@ -279,17 +256,6 @@ public class GameListenerHandlerClient implements GameListener, Serializable {
         this.flow.cardAddedToHand(gameImmutable, card);
     }
 
-    /**
-     * Handles the event when a card is not added to the player's hand.
-     * @param gameImmutable The immutable game gameImmutable.
-     * @param nickname The nickname of the player.
-     * @throws RemoteException If an error occurs in remote communication.
-     */
-    @Override
-    public void cardNotAddedToHand(GameImmutable gameImmutable, String nickname) throws RemoteException {
-        this.flow.cardNotAddedToHand(gameImmutable, nickname);
-    }
-
     /**
      * Handles the event when the end game conditions are reached.
      * @param gameImmutable The immutable game gameImmutable.
@@ -311,6 +277,18 @@ public class GameListenerHandlerClient implements GameListener, Serializable {
         this.flow.addedPointObjective(gameImmutable, objectivePoint);
     }
 
+    /**
+     * Handles the event when the projected score of a player is updated.
+     * @param gameImmutable The immutable game gameImmutable.
+     * @param nickname The nickname of the player.
+     * @param projectedScore The projected score of the player.
+     * @throws RemoteException If an error occurs in remote communication.
+     */
+    @Override
+    public void projectedScoreUpdated(GameImmutable gameImmutable, String nickname, int projectedScore) throws RemoteException {
+        this.flow.projectedScoreUpdated(gameImmutable, nickname, projectedScore);
+    }
+
     /**
      * Handles the event when the winners are declared.
      * @param gameImmutable The immutable game gameImmutable.
@@ -366,14 +344,13 @@ public class GameListenerHandlerClient implements GameListener, Serializable {
     }
 
     /**
-     * Handles the failure of placing a card.
-     * @param gameImmutable The immutable game object.
-     * @param nickname The nickname of the player who tried.
+     * Handles the rejection of a move of the player.
+     * @param error The reason of the rejection and the id of the move rejected.
      * @throws RemoteException If an error occurs in remote communication.
      */
     @Override
-    public void canNotPlaceCard(GameImmutable gameImmutable, String nickname) throws RemoteException {
-        this.flow.canNotPlaceCard(gameImmutable, nickname);
+    public void commandRejected(CommandError error) throws RemoteException {
+        this.flow.commandRejected(error);
     }
 
-}
\ No newline at end of file
+}
@@ -7,11 +7,18 @@ import it.polimi.ingsw.gc03.model.side.Side;
 import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
 import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.gameControllerMessages.*;
 import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.mainControllerMessages.*;
+import it.polimi.ingsw.gc03.networking.socket.delta.DeltaDecoder;
 import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.SocketServerGenericMessage;
+import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.SocketServerMessageFrame;
 import it.polimi.ingsw.gc03.view.ui.Flow;
+import it.polimi.ingsw.gc03.networking.socket.messages.MessageCodec;
+import it.polimi.ingsw.gc03.networking.socket.messages.MessageFraming;
+import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.net.Socket;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -40,15 +47,20 @@ public class SocketClient implements ClientAction {
      */
     private final GameListenerHandlerClient messageActionHandler;
 
+    /**
+     * Decoder keeping the last game received, used to rebuild the games sent as patches.
+     */
+    private final DeltaDecoder deltaDecoder = new DeltaDecoder();
+
     /**
      * The input stream to receive data form the server.
      */
-    private ObjectInputStream inputStream;
+    private DataInputStream inputStream;
 
     /**
      * The output stream to send data to the server.
      */
-    private ObjectOutputStream outputStream;
+    private DataOutputStream outputStream;
 
     /**
      * Executor service to manage thread for handling incoming messages asynchronously.
@@ -89,8 +101,9 @@ public class SocketClient implements ClientAction {
             AsyncLogger.log(Level.INFO, "[CLIENT SOCKET] Trying to connect to " + ip + ": " + port);
             this.socketClient = new Socket(ip, port);
             AsyncLogger.log(Level.INFO, "[CLIENT SOCKET] Socket created.");
-            this.outputStream = new ObjectOutputStream(this.socketClient.getOutputStream());
-            this.inputStream = new ObjectInputStream(this.socketClient.getInputStream());
+            this.outputStream = new DataOutputStream(new BufferedOutputStream(this.socketClient.getOutputStream()));
+            this.inputStream = new DataInputStream(new BufferedInputStream(this.socketClient.getInputStream()));
+            MessageFraming.writeFrame(this.outputStream, MessageCodec.hello());
             AsyncLogger.log(Level.INFO, "[CLIENT SOCKET] Connection established to server.");
             this.executorService.submit(() -> {
                 try {
@@ -114,11 +127,13 @@ public class SocketClient implements ClientAction {
      */
     private void processMessages() throws InterruptedException {
         try {
+            MessageCodec.checkHello(MessageFraming.readFrame(this.inputStream));
             while (!Thread.currentThread().isInterrupted()) {
-                SocketServerGenericMessage message = (SocketServerGenericMessage) this.inputStream.readObject();
+                SocketServerGenericMessage message = SocketServerMessageFrame.wrap(
+                        MessageFraming.readFrame(this.inputStream)).decode(this.deltaDecoder);
                 message.execute(this.messageActionHandler);
             }
-        } catch (IOException | ClassNotFoundException e) {
+        } catch (IOException e) {
             AsyncLogger.log(Level.SEVERE, "[CLIENT SOCKET] Error while processing messages: " + e.getMessage());
             shutdownAndExit();
         }
@@ -153,15 +168,12 @@ public class SocketClient implements ClientAction {
     }
 
     /**
-     * Flushes and resets the ObjectOutputStream. This ensures that all buffered data is sent
-     * and the buffer is cleared, preparing the stream for future use.
-     * @throws IOException If an error occurs during the flush or reset operations.
+     * Writes a message on the output stream as a frame, see MessageFraming and MessageCodec.
+     * @param message The message to send.
+     * @throws IOException If an error occurs while writing the message.
      */
-    private synchronized void completeTransmission() throws IOException {
-        // Force all data to be transmitted to the destination
-        this.outputStream.flush();
-        // Clean the stream to prepare it for the next transmission
-        this.outputStream.reset();
+    private synchronized void send(SocketClientGenericMessage message) throws IOException {
+        MessageFraming.writeFrame(this.outputStream, MessageCodec.encode(message));
     }
 
     /**
@@ -173,8 +185,7 @@ public class SocketClient implements ClientAction {
     public void createGame(String nickname) throws IOException {
         this.nicknameClient = nickname;
         SocketClientMessageCreateGame message = new SocketClientMessageCreateGame(nickname);
-        this.outputStream.writeObject(message);
-        completeTransmission();
+        send(message);
     }
 
     /**
@@ -186,8 +197,7 @@ public class SocketClient implements ClientAction {
     public void joinFirstAvailableGame(String nickname) throws IOException {
         this.nicknameClient = nickname;
         SocketClientMessageJoinFirstGame message = new SocketClientMessageJoinFirstGame(nickname);
-        this.outputStream.writeObject(message);
-        completeTransmission();
+        send(message);
     }
 
     /**
@@ -200,8 +210,7 @@ public class SocketClient implements ClientAction {
     public void joinSpecificGame(String nickname, int idGame) throws IOException {
         this.nicknameClient = nickname;
         SocketClientMessageJoinSpecificGame message = new SocketClientMessageJoinSpecificGame(nickname, idGame);
-        this.outputStream.writeObject(message);
-        completeTransmission();
+        send(message);
     }
 
     /**
@@ -213,8 +222,7 @@ public class SocketClient implements ClientAction {
     public void leaveGame(String nickname) throws IOException {
         this.nicknameClient = nickname;
         SocketClientMessageLeaveGame message = new SocketClientMessageLeaveGame(nickname);
-        this.outputStream.writeObject(message);
-        completeTransmission();
+        send(message);
     }
 
     /**
@@ -226,8 +234,7 @@ public class SocketClient implements ClientAction {
     public void reconnectToGame(String nickname) throws IOException {
         this.nicknameClient = nickname;
         SocketClientMessageReconnectToGame message = new SocketClientMessageReconnectToGame(nickname);
-        this.outputStream.writeObject(message);
-        completeTransmission();
+        send(message);
     }
 
     /**
@@ -239,8 +246,7 @@ public class SocketClient implements ClientAction {
     @Override
     public void placeStarterOnCodex(Player player, Side side) throws IOException {
         SocketClientMessagePlaceStarterOnCodex message = new SocketClientMessagePlaceStarterOnCodex(player, side);
-        this.outputStream.writeObject(message);
-        completeTransmission();
+        send(message);
     }
 
     /**
@@ -250,13 +256,13 @@ public class SocketClient implements ClientAction {
      * @param frontCard A boolean indicating whether to place the front (true) or back (false) side of the card.
      * @param row The row in the Codex where the card is to be placed.
      * @param col The column in the Codex where the card is to be placed.
+     * @param requestId The id given to the placement by the client, sent back if it is rejected.
      * @throws IOException If an input or output exception occurs during action processing.
      */
     @Override
-    public void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col) throws IOException {
-        SocketClientMessagePlaceCardOnCodex message = new SocketClientMessagePlaceCardOnCodex(player, index, frontCard, row, col);
-        this.outputStream.writeObject(message);
-        completeTransmission();
+    public void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col, int requestId) throws IOException {
+        SocketClientMessagePlaceCardOnCodex message = new SocketClientMessagePlaceCardOnCodex(player, index, frontCard, row, col, requestId);
+        send(message);
     }
 
     /**
@@ -268,21 +274,20 @@ public class SocketClient implements ClientAction {
     @Override
     public void selectCardObjective(Player player, int cardObjective) throws IOException {
         SocketClientMessageSelectCardObjective message = new SocketClientMessageSelectCardObjective(player, cardObjective);
-        this.outputStream.writeObject(message);
-        completeTransmission();
+        send(message);
     }
 
     /**
      * This method is used to write on the output stream the message that the client wants to draw a card from the deck of cards.
      * @param player The player representing the client.
      * @param deck The deck from which the card is drawn.
+     * @param requestId The id given to the draw by the client, sent back if it is rejected.
      * @throws IOException If an input or output exception occurs during action processing.
      */
     @Override
-    public void drawCardFromDeck(Player player, DeckType deck) throws IOException {
-        SocketClientMessageDrawCardFromDeck message = new SocketClientMessageDrawCardFromDeck(player, deck);
-        this.outputStream.writeObject(message);
-        completeTransmission();
+    public void drawCardFromDeck(Player player, DeckType deck, int requestId) throws IOException {
+        SocketClientMessageDrawCardFromDeck message = new SocketClientMessageDrawCardFromDeck(player, deck, requestId);
+        send(message);
     }
 
     /**
@@ -290,13 +295,13 @@ public class SocketClient implements ClientAction {
      * @param player The player representing the client.
      * @param deck The visible deck from which the card is drawn.
      * @param index The index of the card in the displayed deck that the player wishes to draw.
+     * @param requestId The id given to the draw by the client, sent back if it is rejected.
      * @throws IOException If an input or output exception occurs during action processing.
      */
     @Override
-    public void drawCardDisplayed(Player player, DeckType deck, int index) throws IOException {
-        SocketClientMessageDrawCardDisplayed message = new SocketClientMessageDrawCardDisplayed(player, deck, index);
-        this.outputStream.writeObject(message);
-        completeTransmission();
+    public void drawCardDisplayed(Player player, DeckType deck, int index, int requestId) throws IOException {
+        SocketClientMessageDrawCardDisplayed message = new SocketClientMessageDrawCardDisplayed(player, deck, index, requestId);
+        send(message);
     }
 
     /**
@@ -307,8 +312,7 @@ public class SocketClient implements ClientAction {
     public void sendChatMessage(ChatMessage chatMessage) {
         try {
             SocketClientMessageNewChatMessage message = new SocketClientMessageNewChatMessage(chatMessage);
-            this.outputStream.writeObject(message);
-            completeTransmission();
+            send(message);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -323,10 +327,7 @@ public class SocketClient implements ClientAction {
         if (this.outputStream != null) {
             try {
                 SocketClientMessagePing message = new SocketClientMessagePing(this.nicknameClient);
-                synchronized (this) {
-                    this.outputStream.writeObject(message);
-                    completeTransmission();
-                }
+                send(message);
             } catch (IOException e) {
                 AsyncLogger.log(Level.SEVERE, "[CLIENT SOCKET] Connection to server lost.");
                 flow.noConnectionError();
@@ -342,8 +343,7 @@ public class SocketClient implements ClientAction {
     @Override
     public void gameSizeUpdated(int size) throws IOException {
         SocketClientMessageSetGameSize message = new SocketClientMessageSetGameSize(size);
-        this.outputStream.writeObject(message);
-        completeTransmission();
+        send(message);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package it.polimi.ingsw.gc03.networking.socket.delta;
+
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.GameImmutable;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.card.CardStarter;
+import it.polimi.ingsw.gc03.model.enumerations.Color;
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class keeps the last game received by a client on a connection and rebuilds the games sent as patches.
+ */
+public class DeltaDecoder {
+
+    /**
+     * The last game received, or null before the first one.
+     */
+    private GameImmutable game;
+
+    /**
+     * Method for reading a game written by GameDelta.write, rebuilding it from the last game received when it was
+     * sent as patches.
+     * @param in The input.
+     * @return The game, or null if the message has none.
+     * @throws IOException If patches are received before a whole game or do not match the last game.
+     */
+    public synchronized GameImmutable read(DataInput in) throws IOException {
+        byte kind = in.readByte();
+        switch (kind) {
+            case GameDelta.NONE -> {
+                return null;
+            }
+            case GameDelta.WHOLE -> {
+                int idGame = in.readInt();
+                int count = in.readUnsignedByte();
+                List<Player> players = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    String nickname = in.readUTF();
+                    int number = in.readByte();
+                    Color color = GamePatch.readEnum(in, Color.values());
+                    String starter = GamePatch.readString(in);
+                    Card card = starter == null ? null : CardCatalog.getInstance().getCard(starter);
+                    if (starter != null && !(card instanceof CardStarter))
+                        throw new InvalidObjectException("Unknown card: " + starter);
+                    players.add(new Player(nickname, number, color, (CardStarter) card));
+                }
+                this.game = GameDelta.read(in).applyTo(GameDelta.skeleton(idGame, players));
+            }
+            case GameDelta.PATCHES -> {
+                if (this.game == null)
+                    throw new InvalidObjectException("Patches received before the game.");
+                this.game = GameDelta.read(in).applyTo(this.game);
+            }
+            default -> throw new InvalidObjectException("Unknown game encoding: " + kind);
+        }
+        return this.game;
+    }
+
+    /**
+     * Method to retrieve the last game received.
+     * @return The last game, or null before the first one.
+     */
+    public synchronized GameImmutable getGame() {
+        return this.game;
+    }
+
+}
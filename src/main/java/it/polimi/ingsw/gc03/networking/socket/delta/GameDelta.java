@@ -0,0 +1,211 @@
+package it.polimi.ingsw.gc03.networking.socket.delta;
+
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.Codex;
+import it.polimi.ingsw.gc03.model.Desk;
+import it.polimi.ingsw.gc03.model.GameImmutable;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.side.Side;
+import it.polimi.ingsw.gc03.view.tui.Coords;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents the patches sent to a client in place of a game, to be applied to the last game the client
+ * received. A game sent whole is written as its players followed by the patches of an empty game with the same
+ * players, so that the client rebuilds every game with the same patches. The games are written by write and read
+ * again by the DeltaDecoder of the connection.
+ */
+public class GameDelta {
+
+    /**
+     * Tag written in place of a missing game.
+     */
+    static final byte NONE = 0;
+
+    /**
+     * Tag of a game sent whole.
+     */
+    static final byte WHOLE = 1;
+
+    /**
+     * Tag of a game sent as patches of the last game sent.
+     */
+    static final byte PATCHES = 2;
+
+    /**
+     * The patches, in the order they are applied.
+     */
+    private final List<GamePatch> patches;
+
+    /**
+     * Constructor of the delta.
+     * @param patches The patches.
+     */
+    private GameDelta(List<GamePatch> patches) {
+        this.patches = patches;
+    }
+
+    /**
+     * Method to compute the patches that turn a game into a newer one.
+     * @param base The summary of the game the client has.
+     * @param next The summary of the new game.
+     * @param game The new game.
+     * @return The delta, or null if the new game must be sent whole.
+     */
+    public static GameDelta between(GameDigest base, GameDigest next, GameImmutable game) {
+        if (!base.canPatch(next))
+            return null;
+        List<GamePatch> patches = new ArrayList<>();
+        if (base.getSize() != next.getSize() || base.getStatus() != next.getStatus() ||
+                base.getNumPlayer() != next.getNumPlayer() || base.getCurrPlayer() != next.getCurrPlayer())
+            patches.add(new GamePatch.Header(next.getSize(), next.getStatus(), next.getNumPlayer(),
+                    next.getCurrPlayer()));
+        for (int i = 0; i < next.getPlayers().size(); i++) {
+            GameDigest.PlayerDigest before = base.getPlayers().get(i);
+            GameDigest.PlayerDigest after = next.getPlayers().get(i);
+            if (!before.getObjectives().equals(after.getObjectives()))
+                patches.add(new GamePatch.Objectives(i, after.getObjectives()));
+            Codex codex = game.getPlayers().get(i).getCodex();
+            for (int k = before.getPlaced(); k < after.getPlaced(); k++) {
+                Coords coords = codex.getCodexFillOrder().get(k);
+                Side side = codex.getSideAt(coords.getX(), coords.getY());
+                Card card = CardCatalog.getInstance().getCardOf(side);
+                if (card == null)
+                    return null;
+                boolean front = CardCatalog.getInstance().getSide(card.getIdCard(), true) == side;
+                patches.add(new GamePatch.Placement(i, card.getIdCard(), front, coords.getX(), coords.getY()));
+            }
+            if (!before.getHand().equals(after.getHand()))
+                patches.add(new GamePatch.Hand(i, after.getHand()));
+            if (before.stateDiffers(after)) {
+                patches.add(new GamePatch.PlayerState(i, game.getPlayers().get(i).getAction(),
+                        game.getPlayers().get(i).getOnline(), game.getPlayers().get(i).getSkipTurn(),
+                        game.getPlayers().get(i).getScore(), game.getPlayers().get(i).getPointObjective()));
+            }
+        }
+        if (!base.getDeckSizes().equals(next.getDeckSizes()) || !base.getDeckTops().equals(next.getDeckTops()) ||
+                !base.getDisplayedResource().equals(next.getDisplayedResource()) ||
+                !base.getDisplayedGold().equals(next.getDisplayedGold()) ||
+                !base.getDisplayedObjective().equals(next.getDisplayedObjective())) {
+            int[] sizes = new int[GameDigest.DECKS.length];
+            for (int i = 0; i < sizes.length; i++) {
+                sizes[i] = next.getDeckSizes().get(i);
+            }
+            patches.add(new GamePatch.DeskState(sizes, next.getDeckTops(), next.getDisplayedResource(),
+                    next.getDisplayedGold(), next.getDisplayedObjective()));
+        }
+        if (base.getChatSize() != next.getChatSize())
+            patches.add(new GamePatch.Chat(new ArrayList<>(game.getChat().subList(base.getChatSize(),
+                    next.getChatSize()))));
+        if (!base.getWinner().equals(next.getWinner()))
+            patches.add(new GamePatch.Winner(next.getWinner()));
+        return new GameDelta(patches);
+    }
+
+    /**
+     * Method for writing a game, as patches of the last game sent when possible.
+     * @param out The output.
+     * @param game The game, or null.
+     * @param base The summary of the last game sent on the connection, or null if none was sent.
+     * @return The summary of the last game sent once the game is written.
+     * @throws IOException If the game cannot be written.
+     */
+    public static GameDigest write(DataOutput out, GameImmutable game, GameDigest base) throws IOException {
+        if (game == null) {
+            out.writeByte(NONE);
+            return base;
+        }
+        GameDigest next = new GameDigest(game);
+        GameDelta delta = base == null ? null : between(base, next, game);
+        if (delta != null) {
+            out.writeByte(PATCHES);
+            delta.write(out);
+            return next;
+        }
+        List<Player> players = new ArrayList<>(game.getPlayers().size());
+        for (Player player : game.getPlayers()) {
+            players.add(new Player(player.getNickname(), player.getNumber(), player.getColor(),
+                    player.getCardStarter()));
+        }
+        delta = between(new GameDigest(skeleton(game.getIdGame(), players)), next, game);
+        if (delta == null)
+            throw new InvalidObjectException("A card of the game is not part of the catalog.");
+        out.writeByte(WHOLE);
+        out.writeInt(game.getIdGame());
+        out.writeByte(players.size());
+        for (Player player : players) {
+            out.writeUTF(player.getNickname());
+            out.writeByte(player.getNumber());
+            GamePatch.writeEnum(out, player.getColor());
+            GamePatch.writeString(out, player.getCardStarter() == null ? null : player.getCardStarter().getIdCard());
+        }
+        delta.write(out);
+        return next;
+    }
+
+    /**
+     * Method to build an empty game with the given players, the base of the games sent whole.
+     * @param idGame Game's ID.
+     * @param players The players, without cards and with an empty codex.
+     * @return The empty game.
+     */
+    static GameImmutable skeleton(int idGame, List<Player> players) {
+        return new GameImmutable(idGame, 0, null, Desk.emptyView(), 0, players, 0, List.of(), List.of());
+    }
+
+    /**
+     * Method for applying the patches to the last game received.
+     * @param game The last game received.
+     * @return The new game.
+     * @throws IOException If the patches do not match the game.
+     */
+    public GameImmutable applyTo(GameImmutable game) throws IOException {
+        GameMirror mirror = new GameMirror(game);
+        for (GamePatch patch : this.patches) {
+            patch.apply(mirror);
+        }
+        return mirror.toGame();
+    }
+
+    /**
+     * Method to retrieve the number of patches.
+     * @return The number of patches.
+     */
+    public int getPatchCount() {
+        return this.patches.size();
+    }
+
+    /**
+     * Method for writing the patches.
+     * @param out The output.
+     * @throws IOException If the patches cannot be written.
+     */
+    void write(DataOutput out) throws IOException {
+        out.writeShort(this.patches.size());
+        for (GamePatch patch : this.patches) {
+            patch.write(out);
+        }
+    }
+
+    /**
+     * Method for reading the patches written by write.
+     * @param in The input.
+     * @return The delta.
+     * @throws IOException If the patches cannot be read.
+     */
+    static GameDelta read(DataInput in) throws IOException {
+        int count = in.readShort();
+        List<GamePatch> patches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            patches.add(GamePatch.read(in));
+        }
+        return new GameDelta(patches);
+    }
+
+}
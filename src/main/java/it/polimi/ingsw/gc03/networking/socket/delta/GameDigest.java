@@ -0,0 +1,451 @@
+package it.polimi.ingsw.gc03.networking.socket.delta;
+
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.Desk;
+import it.polimi.ingsw.gc03.model.GameImmutable;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.enumerations.Color;
+import it.polimi.ingsw.gc03.model.enumerations.DeckType;
+import it.polimi.ingsw.gc03.model.enumerations.GameStatus;
+import it.polimi.ingsw.gc03.model.enumerations.PlayerAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class represents a summary of a game as it was sent to a client: the values shown by the views, with the cards
+ * reduced to their ids and the codices to the number of placed cards. Comparing the summary of the last game sent with
+ * the one of the new game gives the patches to send. Connections with equal summaries receive the same patches.
+ */
+public final class GameDigest {
+
+    /**
+     * The decks whose size is shown by the views, in the order used by the patches.
+     */
+    static final DeckType[] DECKS = {DeckType.DECK_STARTER, DeckType.DECK_RESOURCE, DeckType.DECK_GOLD,
+            DeckType.DECK_OBJECTIVE};
+
+    /**
+     * Game's ID.
+     */
+    private final int idGame;
+
+    /**
+     * Game's size.
+     */
+    private final int size;
+
+    /**
+     * Game's status.
+     */
+    private final GameStatus status;
+
+    /**
+     * Number of players in the game.
+     */
+    private final int numPlayer;
+
+    /**
+     * Current player.
+     */
+    private final int currPlayer;
+
+    /**
+     * The summaries of the players.
+     */
+    private final List<PlayerDigest> players;
+
+    /**
+     * The number of cards left in each deck.
+     */
+    private final List<Integer> deckSizes;
+
+    /**
+     * The ids of the cards standing for the back of the card on top of each deck.
+     */
+    private final List<String> deckTops;
+
+    /**
+     * The ids of the displayed Resource cards.
+     */
+    private final List<String> displayedResource;
+
+    /**
+     * The ids of the displayed Gold cards.
+     */
+    private final List<String> displayedGold;
+
+    /**
+     * The ids of the displayed Objective cards.
+     */
+    private final List<String> displayedObjective;
+
+    /**
+     * The number of messages in the chat.
+     */
+    private final int chatSize;
+
+    /**
+     * The nicknames of the winners.
+     */
+    private final List<String> winner;
+
+    /**
+     * The hash code, computed once since the summary is used as a key.
+     */
+    private final int hash;
+
+    /**
+     * Constructor of the summary of a game.
+     * @param game The game.
+     */
+    public GameDigest(GameImmutable game) {
+        this.idGame = game.getIdGame();
+        this.size = game.getSize();
+        this.status = game.getStatus();
+        this.numPlayer = game.getNumPlayer();
+        this.currPlayer = game.getCurrPlayer();
+        List<PlayerDigest> playerDigests = new ArrayList<>(game.getPlayers().size());
+        for (Player player : game.getPlayers()) {
+            playerDigests.add(new PlayerDigest(player));
+        }
+        this.players = Collections.unmodifiableList(playerDigests);
+        Desk desk = game.getDesk();
+        List<Integer> sizes = new ArrayList<>(DECKS.length);
+        List<String> tops = new ArrayList<>(DECKS.length);
+        for (DeckType deck : DECKS) {
+            Card top = desk == null ? null : desk.getTopCard(deck);
+            Card back = top == null ? null : CardCatalog.getInstance().getBackCard(top);
+            sizes.add(desk == null ? 0 : desk.getDeckSize(deck));
+            tops.add(back == null ? null : back.getIdCard());
+        }
+        this.deckSizes = Collections.unmodifiableList(sizes);
+        this.deckTops = Collections.unmodifiableList(tops);
+        this.displayedResource = desk == null ? List.of() : ids(desk.getDisplayedResource());
+        this.displayedGold = desk == null ? List.of() : ids(desk.getDisplayedGold());
+        this.displayedObjective = desk == null ? List.of() : ids(desk.getDisplayedObjective());
+        this.chatSize = game.getChat().size();
+        List<String> winnerNicknames = new ArrayList<>(game.getWinner().size());
+        for (Player player : game.getWinner()) {
+            winnerNicknames.add(player.getNickname());
+        }
+        this.winner = Collections.unmodifiableList(winnerNicknames);
+        this.hash = Objects.hash(this.idGame, this.size, this.status, this.numPlayer, this.currPlayer, this.players,
+                this.deckSizes, this.deckTops, this.displayedResource, this.displayedGold, this.displayedObjective, this.chatSize,
+                this.winner);
+    }
+
+    /**
+     * Method to reduce a list of cards to their ids.
+     * @param cards The cards, possibly containing null values.
+     * @return The ids of the cards.
+     */
+    static List<String> ids(List<? extends Card> cards) {
+        List<String> ids = new ArrayList<>(cards.size());
+        for (Card card : cards) {
+            ids.add(card == null ? null : card.getIdCard());
+        }
+        return Collections.unmodifiableList(ids);
+    }
+
+    /**
+     * Method to check if a game can be sent as patches of the game summarized by this object: it must be the same
+     * game, with the same players, and the codices and the chat can only grow.
+     * @param next The summary of the new game.
+     * @return A boolean indicating whether patches are enough.
+     */
+    public boolean canPatch(GameDigest next) {
+        if (this.idGame != next.idGame || this.players.size() != next.players.size() || this.chatSize > next.chatSize)
+            return false;
+        for (int i = 0; i < this.players.size(); i++) {
+            if (!this.players.get(i).canPatch(next.players.get(i)))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Method to get the size of the game.
+     * @return The size of the game.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Method to get the status of the game.
+     * @return The status of the game.
+     */
+    public GameStatus getStatus() {
+        return this.status;
+    }
+
+    /**
+     * Method to get the number of players in the game.
+     * @return The number of players.
+     */
+    public int getNumPlayer() {
+        return this.numPlayer;
+    }
+
+    /**
+     * Method to get the current player.
+     * @return The index of the current player.
+     */
+    public int getCurrPlayer() {
+        return this.currPlayer;
+    }
+
+    /**
+     * Method to get the summaries of the players.
+     * @return The summaries of the players.
+     */
+    public List<PlayerDigest> getPlayers() {
+        return this.players;
+    }
+
+    /**
+     * Method to get the number of cards left in each deck.
+     * @return The sizes of the decks, in the order of DECKS.
+     */
+    public List<Integer> getDeckSizes() {
+        return this.deckSizes;
+    }
+
+    /**
+     * Method to get the ids of the cards standing for the back of the card on top of each deck.
+     * @return The ids of the cards, in the order of DECKS.
+     */
+    public List<String> getDeckTops() {
+        return this.deckTops;
+    }
+
+    /**
+     * Method to get the ids of the displayed Resource cards.
+     * @return The ids of the cards.
+     */
+    public List<String> getDisplayedResource() {
+        return this.displayedResource;
+    }
+
+    /**
+     * Method to get the ids of the displayed Gold cards.
+     * @return The ids of the cards.
+     */
+    public List<String> getDisplayedGold() {
+        return this.displayedGold;
+    }
+
+    /**
+     * Method to get the ids of the displayed Objective cards.
+     * @return The ids of the cards.
+     */
+    public List<String> getDisplayedObjective() {
+        return this.displayedObjective;
+    }
+
+    /**
+     * Method to get the number of messages in the chat.
+     * @return The number of messages.
+     */
+    public int getChatSize() {
+        return this.chatSize;
+    }
+
+    /**
+     * Method to get the nicknames of the winners.
+     * @return The nicknames of the winners.
+     */
+    public List<String> getWinner() {
+        return this.winner;
+    }
+
+    /**
+     * Method to compare two summaries.
+     * @param o The other object.
+     * @return A boolean indicating whether the summaries are equal.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof GameDigest other) || this.hash != other.hash)
+            return false;
+        return this.idGame == other.idGame && this.size == other.size && this.status == other.status &&
+                this.numPlayer == other.numPlayer && this.currPlayer == other.currPlayer &&
+                this.chatSize == other.chatSize && this.players.equals(other.players) &&
+                this.deckSizes.equals(other.deckSizes) && this.deckTops.equals(other.deckTops) &&
+                this.displayedResource.equals(other.displayedResource) &&
+                this.displayedGold.equals(other.displayedGold) &&
+                this.displayedObjective.equals(other.displayedObjective) && this.winner.equals(other.winner);
+    }
+
+    /**
+     * Method to get the hash code of the summary.
+     * @return The hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * This class represents the summary of a player.
+     */
+    public static final class PlayerDigest {
+
+        /**
+         * The player's nickname.
+         */
+        private final String nickname;
+
+        /**
+         * The player's number.
+         */
+        private final int number;
+
+        /**
+         * The player's color.
+         */
+        private final Color color;
+
+        /**
+         * The id of the player's Starter card.
+         */
+        private final String starter;
+
+        /**
+         * The player's action.
+         */
+        private final PlayerAction action;
+
+        /**
+         * The player's online status.
+         */
+        private final boolean online;
+
+        /**
+         * The player's skipTurn.
+         */
+        private final boolean skipTurn;
+
+        /**
+         * The player's score.
+         */
+        private final int score;
+
+        /**
+         * The points made with the Objective cards.
+         */
+        private final int pointObjective;
+
+        /**
+         * The ids of the player's Objective cards.
+         */
+        private final List<String> objectives;
+
+        /**
+         * The ids of the cards in the player's hand.
+         */
+        private final List<String> hand;
+
+        /**
+         * The number of sides placed in the player's codex.
+         */
+        private final int placed;
+
+        /**
+         * Constructor of the summary of a player.
+         * @param player The player.
+         */
+        PlayerDigest(Player player) {
+            this.nickname = player.getNickname();
+            this.number = player.getNumber();
+            this.color = player.getColor();
+            this.starter = player.getCardStarter() == null ? null : player.getCardStarter().getIdCard();
+            this.action = player.getAction();
+            this.online = player.getOnline();
+            this.skipTurn = player.getSkipTurn();
+            this.score = player.getScore();
+            this.pointObjective = player.getPointObjective();
+            this.objectives = ids(player.getCardObjective());
+            this.hand = ids(player.getHand());
+            this.placed = player.getCodex().getSideCount();
+        }
+
+        /**
+         * Method to check if a player can be sent as patches of the player summarized by this object.
+         * @param next The summary of the new player.
+         * @return A boolean indicating whether patches are enough.
+         */
+        boolean canPatch(PlayerDigest next) {
+            return Objects.equals(this.nickname, next.nickname) && this.number == next.number &&
+                    this.color == next.color && Objects.equals(this.starter, next.starter) &&
+                    this.placed <= next.placed;
+        }
+
+        /**
+         * Method to check if the values sent by the state patch differ.
+         * @param next The summary of the new player.
+         * @return A boolean indicating whether the state of the player changed.
+         */
+        boolean stateDiffers(PlayerDigest next) {
+            return this.action != next.action || this.online != next.online || this.skipTurn != next.skipTurn ||
+                    this.score != next.score || this.pointObjective != next.pointObjective;
+        }
+
+        /**
+         * Method to get the ids of the player's Objective cards.
+         * @return The ids of the cards.
+         */
+        public List<String> getObjectives() {
+            return this.objectives;
+        }
+
+        /**
+         * Method to get the ids of the cards in the player's hand.
+         * @return The ids of the cards.
+         */
+        public List<String> getHand() {
+            return this.hand;
+        }
+
+        /**
+         * Method to get the number of sides placed in the player's codex.
+         * @return The number of placed sides.
+         */
+        public int getPlaced() {
+            return this.placed;
+        }
+
+        /**
+         * Method to compare two summaries.
+         * @param o The other object.
+         * @return A boolean indicating whether the summaries are equal.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof PlayerDigest other))
+                return false;
+            return Objects.equals(this.nickname, other.nickname) && this.number == other.number &&
+                    this.color == other.color && Objects.equals(this.starter, other.starter) &&
+                    !stateDiffers(other) && this.placed == other.placed && this.objectives.equals(other.objectives) &&
+                    this.hand.equals(other.hand);
+        }
+
+        /**
+         * Method to get the hash code of the summary.
+         * @return The hash code.
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.nickname, this.action, this.score, this.placed, this.hand);
+        }
+
+    }
+
+}
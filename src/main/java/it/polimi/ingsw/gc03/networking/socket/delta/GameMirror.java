@@ -0,0 +1,142 @@
+package it.polimi.ingsw.gc03.networking.socket.delta;
+
+import it.polimi.ingsw.gc03.model.ChatMessage;
+import it.polimi.ingsw.gc03.model.Desk;
+import it.polimi.ingsw.gc03.model.GameImmutable;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.enumerations.GameStatus;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents the copy of a game kept by a client while the patches received from the server are applied.
+ * The desk and the players are the objects of the last game received, updated in place.
+ */
+final class GameMirror {
+
+    /**
+     * Game's ID.
+     */
+    private final int idGame;
+
+    /**
+     * Game's size.
+     */
+    private int size;
+
+    /**
+     * Game's status.
+     */
+    private GameStatus status;
+
+    /**
+     * Game's desk.
+     */
+    private final Desk desk;
+
+    /**
+     * Number of players in the game.
+     */
+    private int numPlayer;
+
+    /**
+     * List of players taking part in the game.
+     */
+    private final List<Player> players;
+
+    /**
+     * Current player.
+     */
+    private int currPlayer;
+
+    /**
+     * Game's chat.
+     */
+    private final List<ChatMessage> chat;
+
+    /**
+     * Winner or winners of the game.
+     */
+    private List<Player> winner;
+
+    /**
+     * Constructor of the mirror of a game.
+     * @param game The last game received.
+     */
+    GameMirror(GameImmutable game) {
+        this.idGame = game.getIdGame();
+        this.size = game.getSize();
+        this.status = game.getStatus();
+        this.desk = game.getDesk();
+        this.numPlayer = game.getNumPlayer();
+        this.players = game.getPlayers();
+        this.currPlayer = game.getCurrPlayer();
+        this.chat = new ArrayList<>(game.getChat());
+        this.winner = game.getWinner();
+    }
+
+    /**
+     * Method to set the values of the game shown by the views.
+     * @param size Game's size.
+     * @param status Game's status.
+     * @param numPlayer Number of players in the game.
+     * @param currPlayer Current player.
+     */
+    void setHeader(int size, GameStatus status, int numPlayer, int currPlayer) {
+        this.size = size;
+        this.status = status;
+        this.numPlayer = numPlayer;
+        this.currPlayer = currPlayer;
+    }
+
+    /**
+     * Method to get the desk.
+     * @return The desk.
+     */
+    Desk getDesk() {
+        return this.desk;
+    }
+
+    /**
+     * Method to get a player.
+     * @param index The index of the player.
+     * @return The player.
+     */
+    Player getPlayer(int index) {
+        return this.players.get(index);
+    }
+
+    /**
+     * Method to get the players.
+     * @return The players.
+     */
+    List<Player> getPlayers() {
+        return this.players;
+    }
+
+    /**
+     * Method to add messages to the chat.
+     * @param messages The new messages.
+     */
+    void addMessages(List<ChatMessage> messages) {
+        this.chat.addAll(messages);
+    }
+
+    /**
+     * Method to set the winners.
+     * @param winner The winners.
+     */
+    void setWinner(List<Player> winner) {
+        this.winner = winner;
+    }
+
+    /**
+     * Method to build the game with the patches applied.
+     * @return The new game.
+     */
+    GameImmutable toGame() {
+        return new GameImmutable(this.idGame, this.size, this.status, this.desk, this.numPlayer, this.players,
+                this.currPlayer, this.chat, this.winner);
+    }
+
+}
@@ -0,0 +1,715 @@
+package it.polimi.ingsw.gc03.networking.socket.delta;
+
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.ChatMessage;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.enumerations.GameStatus;
+import it.polimi.ingsw.gc03.model.enumerations.PlayerAction;
+import it.polimi.ingsw.gc03.model.side.Side;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class represents a change of a game sent to a client in place of the whole game. Every patch writes its own
+ * values, preceded by a tag, and the cards are sent as their ids in the card catalog.
+ */
+public abstract class GamePatch {
+
+    /**
+     * Tag of the Header patch.
+     */
+    private static final byte HEADER = 0;
+
+    /**
+     * Tag of the PlayerState patch.
+     */
+    private static final byte PLAYER_STATE = 1;
+
+    /**
+     * Tag of the Objectives patch.
+     */
+    private static final byte OBJECTIVES = 2;
+
+    /**
+     * Tag of the Hand patch.
+     */
+    private static final byte HAND = 3;
+
+    /**
+     * Tag of the Placement patch.
+     */
+    private static final byte PLACEMENT = 4;
+
+    /**
+     * Tag of the DeskState patch.
+     */
+    private static final byte DESK_STATE = 5;
+
+    /**
+     * Tag of the Chat patch.
+     */
+    private static final byte CHAT = 6;
+
+    /**
+     * Tag of the Winner patch.
+     */
+    private static final byte WINNER = 7;
+
+    /**
+     * Method for writing the patch, preceded by its tag.
+     * @param out The output.
+     * @throws IOException If the patch cannot be written.
+     */
+    abstract void write(DataOutput out) throws IOException;
+
+    /**
+     * Method for applying the patch to the copy of the game kept by a client.
+     * @param mirror The copy of the game.
+     * @throws IOException If the patch does not match the copy of the game.
+     */
+    abstract void apply(GameMirror mirror) throws IOException;
+
+    /**
+     * Method for reading a patch written by write.
+     * @param in The input.
+     * @return The patch.
+     * @throws IOException If the patch cannot be read.
+     */
+    static GamePatch read(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case HEADER -> new Header(in.readShort(), readEnum(in, GameStatus.values()), in.readShort(),
+                    in.readShort());
+            case PLAYER_STATE -> new PlayerState(in.readByte(), readEnum(in, PlayerAction.values()),
+                    in.readBoolean(), in.readBoolean(), in.readShort(), in.readShort());
+            case OBJECTIVES -> new Objectives(in.readByte(), readIds(in));
+            case HAND -> new Hand(in.readByte(), readIds(in));
+            case PLACEMENT -> new Placement(in.readByte(), in.readUTF(), in.readBoolean(), in.readShort(),
+                    in.readShort());
+            case DESK_STATE -> {
+                int[] sizes = new int[GameDigest.DECKS.length];
+                for (int i = 0; i < sizes.length; i++) {
+                    sizes[i] = in.readShort();
+                }
+                yield new DeskState(sizes, readIds(in), readIds(in), readIds(in), readIds(in));
+            }
+            case CHAT -> {
+                int count = in.readShort();
+                List<ChatMessage> messages = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    String receiver = readString(in);
+                    String sender = readString(in);
+                    String text = readString(in);
+                    LocalTime timestamp = in.readBoolean() ? LocalTime.ofNanoOfDay(in.readLong()) : null;
+                    messages.add(new ChatMessage(receiver, sender, text, timestamp));
+                }
+                yield new Chat(messages);
+            }
+            case WINNER -> new Winner(readIds(in));
+            default -> throw new InvalidObjectException("Unknown patch: " + tag);
+        };
+    }
+
+    /**
+     * Method for writing a string that may be null.
+     * @param out The output.
+     * @param value The string.
+     * @throws IOException If the string cannot be written.
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null)
+            out.writeUTF(value);
+    }
+
+    /**
+     * Method for reading a string written by writeString.
+     * @param in The input.
+     * @return The string, or null.
+     * @throws IOException If the string cannot be read.
+     */
+    static String readString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Method for writing a list of card ids or nicknames.
+     * @param out The output.
+     * @param ids The ids, possibly containing null values.
+     * @throws IOException If the ids cannot be written.
+     */
+    private static void writeIds(DataOutput out, List<String> ids) throws IOException {
+        out.writeByte(ids.size());
+        for (String id : ids) {
+            writeString(out, id);
+        }
+    }
+
+    /**
+     * Method for reading a list written by writeIds.
+     * @param in The input.
+     * @return The ids.
+     * @throws IOException If the ids cannot be read.
+     */
+    private static List<String> readIds(DataInput in) throws IOException {
+        int count = in.readUnsignedByte();
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(readString(in));
+        }
+        return ids;
+    }
+
+    /**
+     * Method for writing a constant of an enumeration that may be null.
+     * @param out The output.
+     * @param value The constant.
+     * @throws IOException If the constant cannot be written.
+     */
+    static void writeEnum(DataOutput out, Enum<?> value) throws IOException {
+        out.writeByte(value == null ? -1 : value.ordinal());
+    }
+
+    /**
+     * Method for reading a constant written by writeEnum.
+     * @param in The input.
+     * @param values The constants of the enumeration.
+     * @param <E> The enumeration.
+     * @return The constant, or null.
+     * @throws IOException If the constant cannot be read.
+     */
+    static <E extends Enum<E>> E readEnum(DataInput in, E[] values) throws IOException {
+        byte ordinal = in.readByte();
+        if (ordinal >= values.length)
+            throw new InvalidObjectException("Unknown constant: " + ordinal);
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    /**
+     * Method to find the cards with the given ids in the catalog.
+     * @param ids The ids of the cards.
+     * @param <T> The type of the cards.
+     * @return The cards, with null in place of the null ids.
+     * @throws InvalidObjectException If a card is not part of the catalog.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Card> ArrayList<T> cards(List<String> ids) throws InvalidObjectException {
+        ArrayList<T> cards = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Card card = id == null ? null : CardCatalog.getInstance().getCard(id);
+            if (id != null && card == null)
+                throw new InvalidObjectException("Unknown card: " + id);
+            cards.add((T) card);
+        }
+        return cards;
+    }
+
+    /**
+     * Patch of the values of the game shown by the views.
+     */
+    static final class Header extends GamePatch {
+
+        /**
+         * Game's size.
+         */
+        private final int size;
+
+        /**
+         * Game's status.
+         */
+        private final GameStatus status;
+
+        /**
+         * Number of players in the game.
+         */
+        private final int numPlayer;
+
+        /**
+         * Current player.
+         */
+        private final int currPlayer;
+
+        /**
+         * Constructor of the Header patch.
+         * @param size Game's size.
+         * @param status Game's status.
+         * @param numPlayer Number of players in the game.
+         * @param currPlayer Current player.
+         */
+        Header(int size, GameStatus status, int numPlayer, int currPlayer) {
+            this.size = size;
+            this.status = status;
+            this.numPlayer = numPlayer;
+            this.currPlayer = currPlayer;
+        }
+
+        /**
+         * Method for writing the patch, preceded by its tag.
+         * @param out The output.
+         * @throws IOException If the patch cannot be written.
+         */
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(HEADER);
+            out.writeShort(this.size);
+            writeEnum(out, this.status);
+            out.writeShort(this.numPlayer);
+            out.writeShort(this.currPlayer);
+        }
+
+        /**
+         * Method for applying the patch to the copy of the game kept by a client.
+         * @param mirror The copy of the game.
+         */
+        @Override
+        void apply(GameMirror mirror) {
+            mirror.setHeader(this.size, this.status, this.numPlayer, this.currPlayer);
+        }
+
+    }
+
+    /**
+     * Patch of the action, the connection and the points of a player.
+     */
+    static final class PlayerState extends GamePatch {
+
+        /**
+         * The index of the player.
+         */
+        private final int index;
+
+        /**
+         * The player's action.
+         */
+        private final PlayerAction action;
+
+        /**
+         * The player's online status.
+         */
+        private final boolean online;
+
+        /**
+         * The player's skipTurn.
+         */
+        private final boolean skipTurn;
+
+        /**
+         * The player's score.
+         */
+        private final int score;
+
+        /**
+         * The points made with the Objective cards.
+         */
+        private final int pointObjective;
+
+        /**
+         * Constructor of the PlayerState patch.
+         * @param index The index of the player.
+         * @param action The player's action.
+         * @param online The player's online status.
+         * @param skipTurn The player's skipTurn.
+         * @param score The player's score.
+         * @param pointObjective The points made with the Objective cards.
+         */
+        PlayerState(int index, PlayerAction action, boolean online, boolean skipTurn, int score,
+                    int pointObjective) {
+            this.index = index;
+            this.action = action;
+            this.online = online;
+            this.skipTurn = skipTurn;
+            this.score = score;
+            this.pointObjective = pointObjective;
+        }
+
+        /**
+         * Method for writing the patch, preceded by its tag.
+         * @param out The output.
+         * @throws IOException If the patch cannot be written.
+         */
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(PLAYER_STATE);
+            out.writeByte(this.index);
+            writeEnum(out, this.action);
+            out.writeBoolean(this.online);
+            out.writeBoolean(this.skipTurn);
+            out.writeShort(this.score);
+            out.writeShort(this.pointObjective);
+        }
+
+        /**
+         * Method for applying the patch to the copy of the game kept by a client.
+         * @param mirror The copy of the game.
+         */
+        @Override
+        void apply(GameMirror mirror) {
+            mirror.getPlayer(this.index).syncState(this.action, this.online, this.skipTurn, this.score,
+                    this.pointObjective);
+        }
+
+    }
+
+    /**
+     * Patch of the Objective cards of a player.
+     */
+    static final class Objectives extends GamePatch {
+
+        /**
+         * The index of the player.
+         */
+        private final int index;
+
+        /**
+         * The ids of the Objective cards.
+         */
+        private final List<String> ids;
+
+        /**
+         * Constructor of the Objectives patch.
+         * @param index The index of the player.
+         * @param ids The ids of the Objective cards.
+         */
+        Objectives(int index, List<String> ids) {
+            this.index = index;
+            this.ids = ids;
+        }
+
+        /**
+         * Method for writing the patch, preceded by its tag.
+         * @param out The output.
+         * @throws IOException If the patch cannot be written.
+         */
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(OBJECTIVES);
+            out.writeByte(this.index);
+            writeIds(out, this.ids);
+        }
+
+        /**
+         * Method for applying the patch to the copy of the game kept by a client.
+         * @param mirror The copy of the game.
+         * @throws IOException If a card is not part of the catalog.
+         */
+        @Override
+        void apply(GameMirror mirror) throws IOException {
+            mirror.getPlayer(this.index).setCardObjective(cards(this.ids));
+        }
+
+    }
+
+    /**
+     * Patch of the hand of a player.
+     */
+    static final class Hand extends GamePatch {
+
+        /**
+         * The index of the player.
+         */
+        private final int index;
+
+        /**
+         * The ids of the cards in the hand.
+         */
+        private final List<String> ids;
+
+        /**
+         * Constructor of the Hand patch.
+         * @param index The index of the player.
+         * @param ids The ids of the cards in the hand.
+         */
+        Hand(int index, List<String> ids) {
+            this.index = index;
+            this.ids = ids;
+        }
+
+        /**
+         * Method for writing the patch, preceded by its tag.
+         * @param out The output.
+         * @throws IOException If the patch cannot be written.
+         */
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(HAND);
+            out.writeByte(this.index);
+            writeIds(out, this.ids);
+        }
+
+        /**
+         * Method for applying the patch to the copy of the game kept by a client.
+         * @param mirror The copy of the game.
+         * @throws IOException If a card is not part of the catalog.
+         */
+        @Override
+        void apply(GameMirror mirror) throws IOException {
+            mirror.getPlayer(this.index).setHand(cards(this.ids));
+        }
+
+    }
+
+    /**
+     * Patch of a side placed into the codex of a player.
+     */
+    static final class Placement extends GamePatch {
+
+        /**
+         * The index of the player.
+         */
+        private final int index;
+
+        /**
+         * The id of the placed card.
+         */
+        private final String idCard;
+
+        /**
+         * Boolean indicating whether the front side was placed.
+         */
+        private final boolean front;
+
+        /**
+         * The row of the codex.
+         */
+        private final int row;
+
+        /**
+         * The column of the codex.
+         */
+        private final int column;
+
+        /**
+         * Constructor of the Placement patch.
+         * @param index The index of the player.
+         * @param idCard The id of the placed card.
+         * @param front True if the front side was placed, false for the back side.
+         * @param row The row of the codex.
+         * @param column The column of the codex.
+         */
+        Placement(int index, String idCard, boolean front, int row, int column) {
+            this.index = index;
+            this.idCard = idCard;
+            this.front = front;
+            this.row = row;
+            this.column = column;
+        }
+
+        /**
+         * Method for writing the patch, preceded by its tag.
+         * @param out The output.
+         * @throws IOException If the patch cannot be written.
+         */
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(PLACEMENT);
+            out.writeByte(this.index);
+            out.writeUTF(this.idCard);
+            out.writeBoolean(this.front);
+            out.writeShort(this.row);
+            out.writeShort(this.column);
+        }
+
+        /**
+         * Method for applying the patch to the copy of the game kept by a client.
+         * @param mirror The copy of the game.
+         * @throws IOException If the card is not part of the catalog.
+         */
+        @Override
+        void apply(GameMirror mirror) throws IOException {
+            Side side = CardCatalog.getInstance().getSide(this.idCard, this.front);
+            if (side == null)
+                throw new InvalidObjectException("Unknown card: " + this.idCard);
+            mirror.getPlayer(this.index).getCodex().applyPlacement(side, this.row, this.column);
+        }
+
+    }
+
+    /**
+     * Patch of the decks and the displayed cards.
+     */
+    static final class DeskState extends GamePatch {
+
+        /**
+         * The number of cards left in each deck.
+         */
+        private final int[] deckSizes;
+
+        /**
+         * The ids of the cards standing for the back of the card on top of each deck.
+         */
+        private final List<String> deckTops;
+
+        /**
+         * The ids of the displayed Resource cards.
+         */
+        private final List<String> displayedResource;
+
+        /**
+         * The ids of the displayed Gold cards.
+         */
+        private final List<String> displayedGold;
+
+        /**
+         * The ids of the displayed Objective cards.
+         */
+        private final List<String> displayedObjective;
+
+        /**
+         * Constructor of the DeskState patch.
+         * @param deckSizes The number of cards left in each deck, in the order of GameDigest.DECKS.
+         * @param deckTops The ids of the cards standing for the back of the card on top of each deck.
+         * @param displayedResource The ids of the displayed Resource cards.
+         * @param displayedGold The ids of the displayed Gold cards.
+         * @param displayedObjective The ids of the displayed Objective cards.
+         */
+        DeskState(int[] deckSizes, List<String> deckTops, List<String> displayedResource, List<String> displayedGold,
+                  List<String> displayedObjective) {
+            this.deckSizes = deckSizes;
+            this.deckTops = deckTops;
+            this.displayedResource = displayedResource;
+            this.displayedGold = displayedGold;
+            this.displayedObjective = displayedObjective;
+        }
+
+        /**
+         * Method for writing the patch, preceded by its tag.
+         * @param out The output.
+         * @throws IOException If the patch cannot be written.
+         */
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(DESK_STATE);
+            for (int size : this.deckSizes) {
+                out.writeShort(size);
+            }
+            writeIds(out, this.deckTops);
+            writeIds(out, this.displayedResource);
+            writeIds(out, this.displayedGold);
+            writeIds(out, this.displayedObjective);
+        }
+
+        /**
+         * Method for applying the patch to the copy of the game kept by a client.
+         * @param mirror The copy of the game.
+         * @throws IOException If a card is not part of the catalog.
+         */
+        @Override
+        void apply(GameMirror mirror) throws IOException {
+            List<Card> tops = cards(this.deckTops);
+            for (int i = 0; i < this.deckSizes.length; i++) {
+                mirror.getDesk().setDeckView(GameDigest.DECKS[i], this.deckSizes[i], tops.get(i));
+            }
+            mirror.getDesk().setDisplayedResource(cards(this.displayedResource));
+            mirror.getDesk().setDisplayedGold(cards(this.displayedGold));
+            mirror.getDesk().setDisplayedObjective(cards(this.displayedObjective));
+        }
+
+    }
+
+    /**
+     * Patch of the messages added to the chat.
+     */
+    static final class Chat extends GamePatch {
+
+        /**
+         * The new messages.
+         */
+        private final List<ChatMessage> messages;
+
+        /**
+         * Constructor of the Chat patch.
+         * @param messages The new messages.
+         */
+        Chat(List<ChatMessage> messages) {
+            this.messages = messages;
+        }
+
+        /**
+         * Method for writing the patch, preceded by its tag.
+         * @param out The output.
+         * @throws IOException If the patch cannot be written.
+         */
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(CHAT);
+            out.writeShort(this.messages.size());
+            for (ChatMessage message : this.messages) {
+                writeString(out, message.getReceiver());
+                writeString(out, message.getSender());
+                writeString(out, message.getText());
+                out.writeBoolean(message.getTimestamp() != null);
+                if (message.getTimestamp() != null)
+                    out.writeLong(message.getTimestamp().toNanoOfDay());
+            }
+        }
+
+        /**
+         * Method for applying the patch to the copy of the game kept by a client.
+         * @param mirror The copy of the game.
+         */
+        @Override
+        void apply(GameMirror mirror) {
+            mirror.addMessages(this.messages);
+        }
+
+    }
+
+    /**
+     * Patch of the winners of the game.
+     */
+    static final class Winner extends GamePatch {
+
+        /**
+         * The nicknames of the winners.
+         */
+        private final List<String> nicknames;
+
+        /**
+         * Constructor of the Winner patch.
+         * @param nicknames The nicknames of the winners.
+         */
+        Winner(List<String> nicknames) {
+            this.nicknames = nicknames;
+        }
+
+        /**
+         * Method for writing the patch, preceded by its tag.
+         * @param out The output.
+         * @throws IOException If the patch cannot be written.
+         */
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(WINNER);
+            writeIds(out, this.nicknames);
+        }
+
+        /**
+         * Method for applying the patch to the copy of the game kept by a client.
+         * @param mirror The copy of the game.
+         * @throws IOException If a winner is not a player of the game.
+         */
+        @Override
+        void apply(GameMirror mirror) throws IOException {
+            List<Player> winner = new ArrayList<>(this.nicknames.size());
+            for (String nickname : this.nicknames) {
+                Player found = null;
+                for (Player player : mirror.getPlayers()) {
+                    if (player.getNickname().equals(nickname))
+                        found = player;
+                }
+                if (found == null)
+                    throw new InvalidObjectException("Unknown winner: " + nickname);
+                winner.add(found);
+            }
+            mirror.setWinner(winner);
+        }
+
+    }
+
+}
@@ -0,0 +1,251 @@
+package it.polimi.ingsw.gc03.networking.socket.messages;
+
+import it.polimi.ingsw.gc03.networking.socket.delta.DeltaDecoder;
+import it.polimi.ingsw.gc03.networking.socket.delta.GameDigest;
+import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
+import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.gameControllerMessages.*;
+import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.mainControllerMessages.*;
+import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.*;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class defines the binary encoding of the messages sent on the socket connections: each message is written as
+ * the tag of its class followed by its values, see WireOutput. A connection starts with both sides sending a hello
+ * frame with the version of the protocol, and is closed if the versions differ.
+ */
+public final class MessageCodec {
+
+    /**
+     * The version of the protocol, to be increased whenever the encoding of a message changes.
+     */
+    public static final int PROTOCOL_VERSION = 2;
+
+    /**
+     * The first bytes of the hello frame.
+     */
+    private static final int MAGIC = 0x47433033;
+
+    /**
+     * The messages sent by the clients, their tag is their position.
+     */
+    private static final Registry<SocketClientGenericMessage> CLIENT_MESSAGES = new Registry<SocketClientGenericMessage>()
+            .add(SocketClientMessageCreateGame.class, SocketClientMessageCreateGame::new)
+            .add(SocketClientMessageJoinFirstGame.class, SocketClientMessageJoinFirstGame::new)
+            .add(SocketClientMessageJoinSpecificGame.class, SocketClientMessageJoinSpecificGame::new)
+            .add(SocketClientMessageReconnectToGame.class, SocketClientMessageReconnectToGame::new)
+            .add(SocketClientMessageDrawCardDisplayed.class, SocketClientMessageDrawCardDisplayed::new)
+            .add(SocketClientMessageDrawCardFromDeck.class, SocketClientMessageDrawCardFromDeck::new)
+            .add(SocketClientMessageLeaveGame.class, SocketClientMessageLeaveGame::new)
+            .add(SocketClientMessageNewChatMessage.class, SocketClientMessageNewChatMessage::new)
+            .add(SocketClientMessagePing.class, SocketClientMessagePing::new)
+            .add(SocketClientMessagePlaceCardOnCodex.class, SocketClientMessagePlaceCardOnCodex::new)
+            .add(SocketClientMessagePlaceStarterOnCodex.class, SocketClientMessagePlaceStarterOnCodex::new)
+            .add(SocketClientMessageSelectCardObjective.class, SocketClientMessageSelectCardObjective::new)
+            .add(SocketClientMessageSetGameSize.class, SocketClientMessageSetGameSize::new);
+
+    /**
+     * The messages sent by the server, their tag is their position.
+     */
+    private static final Registry<SocketServerGenericMessage> SERVER_MESSAGES = new Registry<SocketServerGenericMessage>()
+            .add(SocketServerMessageAddedPoint.class, SocketServerMessageAddedPoint::new)
+            .add(SocketServerMessageAddedPointObjective.class, SocketServerMessageAddedPointObjective::new)
+            .add(SocketServerMessageCardAddedToHand.class, SocketServerMessageCardAddedToHand::new)
+            .add(SocketServerMessageCommandRejected.class, SocketServerMessageCommandRejected::new)
+            .add(SocketServerMessageDeckHasNoCards.class, SocketServerMessageDeckHasNoCards::new)
+            .add(SocketServerMessageDrawCard.class, SocketServerMessageDrawCard::new)
+            .add(SocketServerMessageEndGameConditionsReached.class, SocketServerMessageEndGameConditionsReached::new)
+            .add(SocketServerMessageGameCreated.class, SocketServerMessageGameCreated::new)
+            .add(SocketServerMessageGameEnded.class, SocketServerMessageGameEnded::new)
+            .add(SocketServerMessageGameIdNotExists.class, SocketServerMessageGameIdNotExists::new)
+            .add(SocketServerMessageGameSizeUpdated.class, SocketServerMessageGameSizeUpdated::new)
+            .add(SocketServerMessageGameStarted.class, SocketServerMessageGameStarted::new)
+            .add(SocketServerMessageIndexNotValid.class, SocketServerMessageIndexNotValid::new)
+            .add(SocketServerMessageJoinUnableGameFull.class, SocketServerMessageJoinUnableGameFull::new)
+            .add(SocketServerMessageJoinUnableNicknameAlreadyInUse.class, SocketServerMessageJoinUnableNicknameAlreadyInUse::new)
+            .add(SocketServerMessageLastCircle.class, SocketServerMessageLastCircle::new)
+            .add(SocketServerMessageNextTurn.class, SocketServerMessageNextTurn::new)
+            .add(SocketServerMessageNoGameToReconnect.class, SocketServerMessageNoGameToReconnect::new)
+            .add(SocketServerMessageObjectiveCardChosen.class, SocketServerMessageObjectiveCardChosen::new)
+            .add(SocketServerMessageObjectiveCardNotChosen.class, SocketServerMessageObjectiveCardNotChosen::new)
+            .add(SocketServerMessageOnlyOnePlayerConnected.class, SocketServerMessageOnlyOnePlayerConnected::new)
+            .add(SocketServerMessagePlayerDisconnected.class, SocketServerMessagePlayerDisconnected::new)
+            .add(SocketServerMessagePlayerJoined.class, SocketServerMessagePlayerJoined::new)
+            .add(SocketServerMessagePlayerLeft.class, SocketServerMessagePlayerLeft::new)
+            .add(SocketServerMessagePlayerReconnected.class, SocketServerMessagePlayerReconnected::new)
+            .add(SocketServerMessagePositionedCardIntoCodex.class, SocketServerMessagePositionedCardIntoCodex::new)
+            .add(SocketServerMessagePositionedStarterCardIntoCodex.class, SocketServerMessagePositionedStarterCardIntoCodex::new)
+            .add(SocketServerMessageProjectedScoreUpdated.class, SocketServerMessageProjectedScoreUpdated::new)
+            .add(SocketServerMessageSentChatMessage.class, SocketServerMessageSentChatMessage::new)
+            .add(SocketServerMessageWinnerDeclared.class, SocketServerMessageWinnerDeclared::new);
+
+    /**
+     * Private constructor, the class only has static methods.
+     */
+    private MessageCodec() {}
+
+    /**
+     * Method to build the hello frame sent by both sides when a connection starts.
+     * @return The bytes of the hello frame.
+     */
+    public static byte[] hello() {
+        try (WireOutput out = new WireOutput()) {
+            out.writeInt(MAGIC);
+            out.writeVarInt(PROTOCOL_VERSION);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Method to check the hello frame received when a connection starts.
+     * @param payload The bytes of the frame.
+     * @throws IOException If the frame is not a hello frame of the same version of the protocol.
+     */
+    public static void checkHello(byte[] payload) throws IOException {
+        try (WireInput in = new WireInput(payload)) {
+            if (in.readInt() != MAGIC)
+                throw new InvalidObjectException("Not a hello frame.");
+            int version = in.readVarInt();
+            if (version != PROTOCOL_VERSION)
+                throw new InvalidObjectException("Unsupported protocol version: " + version);
+        }
+    }
+
+    /**
+     * Method for encoding a message of a client.
+     * @param message The message.
+     * @return The bytes of the message.
+     * @throws IOException If the message cannot be encoded.
+     */
+    public static byte[] encode(SocketClientGenericMessage message) throws IOException {
+        try (WireOutput out = new WireOutput()) {
+            out.writeVarInt(CLIENT_MESSAGES.tagOf(message));
+            message.write(out);
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Method for decoding a message of a client.
+     * @param payload The bytes of the message.
+     * @return The message.
+     * @throws IOException If the message cannot be decoded.
+     */
+    public static SocketClientGenericMessage decodeClientMessage(byte[] payload) throws IOException {
+        try (WireInput in = new WireInput(payload)) {
+            return CLIENT_MESSAGES.read(in);
+        }
+    }
+
+    /**
+     * Method for encoding a message of the server, with its game written as patches of the last game sent.
+     * @param message The message.
+     * @param base The summary of the last game sent on the connection, or null if none was sent.
+     * @return The output containing the bytes of the message and the summary of the last game sent.
+     * @throws IOException If the message cannot be encoded.
+     */
+    public static WireOutput encode(SocketServerGenericMessage message, GameDigest base) throws IOException {
+        WireOutput out = new WireOutput(base);
+        out.writeVarInt(SERVER_MESSAGES.tagOf(message));
+        message.write(out);
+        return out;
+    }
+
+    /**
+     * Method for decoding a message of the server, rebuilding its game from the last game received.
+     * @param payload The bytes of the message.
+     * @param decoder The decoder of the connection.
+     * @return The message.
+     * @throws IOException If the message cannot be decoded.
+     */
+    public static SocketServerGenericMessage decodeServerMessage(byte[] payload, DeltaDecoder decoder)
+            throws IOException {
+        try (WireInput in = new WireInput(payload, decoder)) {
+            return SERVER_MESSAGES.read(in);
+        }
+    }
+
+    /**
+     * Interface of the constructors reading a message.
+     * @param <M> The type of the message.
+     */
+    @FunctionalInterface
+    public interface Reader<M> {
+
+        /**
+         * Method for reading a message.
+         * @param in The input.
+         * @return The message.
+         * @throws IOException If the message cannot be read.
+         */
+        M read(WireInput in) throws IOException;
+
+    }
+
+    /**
+     * The table of the tags of the messages of one direction.
+     * @param <M> The type of the messages.
+     */
+    private static final class Registry<M> {
+
+        /**
+         * The tags of the classes of the messages.
+         */
+        private final Map<Class<?>, Integer> tags = new HashMap<>();
+
+        /**
+         * The readers of the messages, by tag.
+         */
+        private final List<Reader<? extends M>> readers = new ArrayList<>();
+
+        /**
+         * Method for adding a message to the table, with the next tag.
+         * @param type The class of the message.
+         * @param reader The constructor reading the message.
+         * @param <T> The type of the message.
+         * @return The table.
+         */
+        <T extends M> Registry<M> add(Class<T> type, Reader<T> reader) {
+            this.tags.put(type, this.readers.size());
+            this.readers.add(reader);
+            return this;
+        }
+
+        /**
+         * Method to get the tag of a message.
+         * @param message The message.
+         * @return The tag.
+         * @throws InvalidObjectException If the message is not part of the table.
+         */
+        int tagOf(M message) throws InvalidObjectException {
+            Integer tag = this.tags.get(message.getClass());
+            if (tag == null)
+                throw new InvalidObjectException("Unknown message: " + message.getClass().getSimpleName());
+            return tag;
+        }
+
+        /**
+         * Method for reading a message, preceded by its tag.
+         * @param in The input.
+         * @return The message.
+         * @throws IOException If the message cannot be read or is followed by other bytes.
+         */
+        M read(WireInput in) throws IOException {
+            int tag = in.readVarInt();
+            if (tag < 0 || tag >= this.readers.size())
+                throw new InvalidObjectException("Unknown message tag: " + tag);
+            M message = this.readers.get(tag).read(in);
+            if (in.available() > 0)
+                throw new InvalidObjectException("Unexpected bytes after the message.");
+            return message;
+        }
+
+    }
+
+}
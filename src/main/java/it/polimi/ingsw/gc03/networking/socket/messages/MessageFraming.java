@@ -0,0 +1,65 @@
+package it.polimi.ingsw.gc03.networking.socket.messages;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * This class defines how the messages are written on a socket connection: each message is encoded on its own by
+ * MessageCodec and sent as a frame made of the number of bytes of the message followed by the bytes. The length prefix lets the server
+ * read the messages without blocking, collecting the bytes of a frame as they arrive.
+ */
+public final class MessageFraming {
+
+    /**
+     * The number of bytes of the length written before each message.
+     */
+    public static final int HEADER_SIZE = Integer.BYTES;
+
+    /**
+     * The maximum number of bytes of a message, to reject corrupted or hostile lengths.
+     */
+    public static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Private constructor, the class only has static methods.
+     */
+    private MessageFraming() {}
+
+    /**
+     * Method to check the length of a frame.
+     * @param length The number of bytes of the message.
+     * @throws IOException If the length is not valid.
+     */
+    public static void checkLength(int length) throws IOException {
+        if (length < 0 || length > MAX_FRAME_SIZE)
+            throw new IOException("Invalid frame length: " + length);
+    }
+
+    /**
+     * Method for writing a frame on a stream.
+     * @param outputStream The stream.
+     * @param payload The bytes of the message.
+     * @throws IOException If the frame cannot be written.
+     */
+    public static void writeFrame(DataOutputStream outputStream, byte[] payload) throws IOException {
+        outputStream.writeInt(payload.length);
+        outputStream.write(payload);
+        outputStream.flush();
+    }
+
+    /**
+     * Method for reading a frame from a stream, waiting for all its bytes.
+     * @param inputStream The stream.
+     * @return The bytes of the message.
+     * @throws IOException If the frame cannot be read.
+     */
+    public static byte[] readFrame(DataInputStream inputStream) throws IOException {
+        int length = inputStream.readInt();
+        checkLength(length);
+        byte[] payload = new byte[length];
+        inputStream.readFully(payload);
+        return payload;
+    }
+
+}
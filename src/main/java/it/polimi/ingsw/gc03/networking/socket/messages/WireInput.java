@@ -0,0 +1,237 @@
+package it.polimi.ingsw.gc03.networking.socket.messages;
+
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.ChatMessage;
+import it.polimi.ingsw.gc03.model.GameImmutable;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.enumerations.PlayerAction;
+import it.polimi.ingsw.gc03.model.side.Side;
+import it.polimi.ingsw.gc03.networking.socket.delta.DeltaDecoder;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.ArrayList;
+
+/**
+ * This class reads the values of a message written by WireOutput. The cards are taken from the card catalog, and the
+ * players are those of the last game received with the same nickname.
+ */
+public class WireInput extends DataInputStream {
+
+    /**
+     * The decoder of the connection, or null if the messages carry no game.
+     */
+    private final DeltaDecoder decoder;
+
+    /**
+     * Constructor of an input for a message without games.
+     * @param payload The bytes of the message.
+     */
+    public WireInput(byte[] payload) {
+        this(payload, null);
+    }
+
+    /**
+     * Constructor of an input for a message whose game is rebuilt from the last game received.
+     * @param payload The bytes of the message.
+     * @param decoder The decoder of the connection, keeping the last game received.
+     */
+    public WireInput(byte[] payload, DeltaDecoder decoder) {
+        super(new ByteArrayInputStream(payload));
+        this.decoder = decoder;
+    }
+
+    /**
+     * Method for reading an integer written by writeVarInt.
+     * @return The integer.
+     * @throws IOException If the integer cannot be read.
+     */
+    public int readVarInt() throws IOException {
+        int bits = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = readUnsignedByte();
+            bits |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return (bits >>> 1) ^ -(bits & 1);
+        }
+        throw new InvalidObjectException("Integer too long.");
+    }
+
+    /**
+     * Method for reading the number of values of a list.
+     * @return The number of values, or -1 for a null list.
+     * @throws IOException If the number is not valid.
+     */
+    private int readCount() throws IOException {
+        int count = readVarInt();
+        if (count < -1 || count > available())
+            throw new InvalidObjectException("Invalid length: " + count);
+        return count;
+    }
+
+    /**
+     * Method for reading a string written by writeString.
+     * @return The string, or null.
+     * @throws IOException If the string cannot be read.
+     */
+    public String readString() throws IOException {
+        int length = readCount();
+        if (length < 0)
+            return null;
+        byte[] utf = new byte[length];
+        readFully(utf);
+        return new String(utf, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Method for reading a list written by writeStrings.
+     * @return The strings, or null.
+     * @throws IOException If the strings cannot be read.
+     */
+    public ArrayList<String> readStrings() throws IOException {
+        int count = readCount();
+        if (count < 0)
+            return null;
+        ArrayList<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    /**
+     * Method for reading a constant written by writeEnum.
+     * @param values The constants of the enumeration.
+     * @param <E> The enumeration.
+     * @return The constant, or null.
+     * @throws IOException If the constant cannot be read.
+     */
+    public <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+        int ordinal = readVarInt();
+        if (ordinal < -1 || ordinal >= values.length)
+            throw new InvalidObjectException("Unknown constant: " + ordinal);
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    /**
+     * Method for reading a list written by writeEnums.
+     * @param values The constants of the enumeration.
+     * @param <E> The enumeration.
+     * @return The constants, or null.
+     * @throws IOException If the constants cannot be read.
+     */
+    public <E extends Enum<E>> ArrayList<E> readEnums(E[] values) throws IOException {
+        int count = readCount();
+        if (count < 0)
+            return null;
+        ArrayList<E> constants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            constants.add(readEnum(values));
+        }
+        return constants;
+    }
+
+    /**
+     * Method for reading a card written by writeCard.
+     * @param type The type of the card.
+     * @param <T> The type of the card.
+     * @return The card of the catalog, or null.
+     * @throws IOException If the card is not part of the catalog or is not of the given type.
+     */
+    public <T extends Card> T readCard(Class<T> type) throws IOException {
+        String id = readString();
+        if (id == null)
+            return null;
+        Card card = CardCatalog.getInstance().getCard(id);
+        if (!type.isInstance(card))
+            throw new InvalidObjectException("Unknown card: " + id);
+        return type.cast(card);
+    }
+
+    /**
+     * Method for reading a list written by writeCards.
+     * @param type The type of the cards.
+     * @param <T> The type of the cards.
+     * @return The cards of the catalog, or null.
+     * @throws IOException If a card is not part of the catalog or is not of the given type.
+     */
+    public <T extends Card> ArrayList<T> readCards(Class<T> type) throws IOException {
+        int count = readCount();
+        if (count < 0)
+            return null;
+        ArrayList<T> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(readCard(type));
+        }
+        return cards;
+    }
+
+    /**
+     * Method for reading a side written by writeSide.
+     * @return The side of the card of the catalog, or null.
+     * @throws IOException If the card is not part of the catalog.
+     */
+    public Side readSide() throws IOException {
+        String id = readString();
+        if (id == null)
+            return null;
+        Side side = CardCatalog.getInstance().getSide(id, readBoolean());
+        if (side == null)
+            throw new InvalidObjectException("Unknown card: " + id);
+        return side;
+    }
+
+    /**
+     * Method for reading a player written by writePlayer.
+     * @return The player with the same nickname in the last game received, otherwise a player with only the nickname
+     * and the action; null if no player was written.
+     * @throws IOException If the player cannot be read.
+     */
+    public Player readPlayer() throws IOException {
+        String nickname = readString();
+        if (nickname == null)
+            return null;
+        PlayerAction action = readEnum(PlayerAction.values());
+        GameImmutable game = this.decoder == null ? null : this.decoder.getGame();
+        if (game != null) {
+            for (Player player : game.getPlayers()) {
+                if (player.getNickname().equals(nickname))
+                    return player;
+            }
+        }
+        Player player = new Player(nickname, 0, null, null);
+        player.syncState(action, false, false, 0, 0);
+        return player;
+    }
+
+    /**
+     * Method for reading a chat message written by writeChatMessage.
+     * @return The chat message, or null.
+     * @throws IOException If the chat message cannot be read.
+     */
+    public ChatMessage readChatMessage() throws IOException {
+        if (!readBoolean())
+            return null;
+        String receiver = readString();
+        String sender = readString();
+        String text = readString();
+        LocalTime timestamp = readBoolean() ? LocalTime.ofNanoOfDay(readLong()) : null;
+        return new ChatMessage(receiver, sender, text, timestamp);
+    }
+
+    /**
+     * Method for reading a game written by writeGame.
+     * @return The game, or null.
+     * @throws IOException If the game cannot be read or does not match the last game received.
+     */
+    public GameImmutable readGame() throws IOException {
+        if (this.decoder == null)
+            throw new InvalidObjectException("No game expected.");
+        return this.decoder.read(this);
+    }
+
+}
@@ -0,0 +1,221 @@
+package it.polimi.ingsw.gc03.networking.socket.messages;
+
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.ChatMessage;
+import it.polimi.ingsw.gc03.model.GameImmutable;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.side.Side;
+import it.polimi.ingsw.gc03.networking.socket.delta.GameDelta;
+import it.polimi.ingsw.gc03.networking.socket.delta.GameDigest;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * This class writes the values of a message in the binary encoding of the socket connections, read again by
+ * WireInput: the numbers are written as variable length integers, the constants of the enumerations as their ordinal,
+ * the cards as their ids in the card catalog and the players as their nickname. The games are written as patches of
+ * the last game sent on the connection when possible.
+ */
+public class WireOutput extends DataOutputStream {
+
+    /**
+     * The bytes written.
+     */
+    private final ByteArrayOutputStream bytes;
+
+    /**
+     * The summary of the last game sent on the connection, updated by the games written.
+     */
+    private GameDigest digest;
+
+    /**
+     * Constructor of an output for a message without a previous game.
+     */
+    public WireOutput() {
+        this(null);
+    }
+
+    /**
+     * Constructor of an output for a message sent after the given game.
+     * @param digest The summary of the last game sent on the connection, or null if none was sent.
+     */
+    public WireOutput(GameDigest digest) {
+        this(new ByteArrayOutputStream(), digest);
+    }
+
+    /**
+     * Constructor of an output writing on the given bytes.
+     * @param bytes The bytes written.
+     * @param digest The summary of the last game sent on the connection, or null if none was sent.
+     */
+    private WireOutput(ByteArrayOutputStream bytes, GameDigest digest) {
+        super(bytes);
+        this.bytes = bytes;
+        this.digest = digest;
+    }
+
+    /**
+     * Method to retrieve the bytes written.
+     * @return The bytes of the message.
+     */
+    public byte[] toByteArray() {
+        return this.bytes.toByteArray();
+    }
+
+    /**
+     * Method to retrieve the summary of the last game written.
+     * @return The summary of the last game sent on the connection.
+     */
+    public GameDigest getDigest() {
+        return this.digest;
+    }
+
+    /**
+     * Method for writing an integer in one to five bytes, the small ones, positive or negative, taking one byte.
+     * @param value The integer.
+     * @throws IOException If the integer cannot be written.
+     */
+    public void writeVarInt(int value) throws IOException {
+        int bits = (value << 1) ^ (value >> 31);
+        while ((bits & ~0x7F) != 0) {
+            write((bits & 0x7F) | 0x80);
+            bits >>>= 7;
+        }
+        write(bits);
+    }
+
+    /**
+     * Method for writing a string that may be null.
+     * @param value The string.
+     * @throws IOException If the string cannot be written.
+     */
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarInt(-1);
+            return;
+        }
+        byte[] utf = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(utf.length);
+        write(utf);
+    }
+
+    /**
+     * Method for writing a list of strings.
+     * @param values The strings, or null.
+     * @throws IOException If the strings cannot be written.
+     */
+    public void writeStrings(List<String> values) throws IOException {
+        writeVarInt(values == null ? -1 : values.size());
+        if (values != null) {
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+    }
+
+    /**
+     * Method for writing a constant of an enumeration that may be null.
+     * @param value The constant.
+     * @throws IOException If the constant cannot be written.
+     */
+    public void writeEnum(Enum<?> value) throws IOException {
+        writeVarInt(value == null ? -1 : value.ordinal());
+    }
+
+    /**
+     * Method for writing a list of constants of an enumeration.
+     * @param values The constants, or null.
+     * @throws IOException If the constants cannot be written.
+     */
+    public void writeEnums(List<? extends Enum<?>> values) throws IOException {
+        writeVarInt(values == null ? -1 : values.size());
+        if (values != null) {
+            for (Enum<?> value : values) {
+                writeEnum(value);
+            }
+        }
+    }
+
+    /**
+     * Method for writing a card as its id.
+     * @param card The card, or null.
+     * @throws IOException If the card cannot be written.
+     */
+    public void writeCard(Card card) throws IOException {
+        writeString(card == null ? null : card.getIdCard());
+    }
+
+    /**
+     * Method for writing a list of cards as their ids.
+     * @param cards The cards, or null.
+     * @throws IOException If the cards cannot be written.
+     */
+    public void writeCards(List<? extends Card> cards) throws IOException {
+        writeVarInt(cards == null ? -1 : cards.size());
+        if (cards != null) {
+            for (Card card : cards) {
+                writeCard(card);
+            }
+        }
+    }
+
+    /**
+     * Method for writing a side as the id of its card and the face shown.
+     * @param side The side, or null.
+     * @throws IOException If the side is not part of the catalog.
+     */
+    public void writeSide(Side side) throws IOException {
+        if (side == null) {
+            writeString(null);
+            return;
+        }
+        Card card = CardCatalog.getInstance().getCardOf(side);
+        if (card == null)
+            throw new InvalidObjectException("The side is not part of the catalog.");
+        writeString(card.getIdCard());
+        writeBoolean(CardCatalog.getInstance().getSide(card.getIdCard(), true) == side);
+    }
+
+    /**
+     * Method for writing a player as the nickname and the action of the player.
+     * @param player The player, or null.
+     * @throws IOException If the player cannot be written.
+     */
+    public void writePlayer(Player player) throws IOException {
+        writeString(player == null ? null : player.getNickname());
+        if (player != null)
+            writeEnum(player.getAction());
+    }
+
+    /**
+     * Method for writing a chat message.
+     * @param message The chat message, or null.
+     * @throws IOException If the chat message cannot be written.
+     */
+    public void writeChatMessage(ChatMessage message) throws IOException {
+        writeBoolean(message != null);
+        if (message == null)
+            return;
+        writeString(message.getReceiver());
+        writeString(message.getSender());
+        writeString(message.getText());
+        writeBoolean(message.getTimestamp() != null);
+        if (message.getTimestamp() != null)
+            writeLong(message.getTimestamp().toNanoOfDay());
+    }
+
+    /**
+     * Method for writing a game, as patches of the last game sent on the connection when possible.
+     * @param game The game, or null.
+     * @throws IOException If the game cannot be written.
+     */
+    public void writeGame(GameImmutable game) throws IOException {
+        this.digest = GameDelta.write(this, game, this.digest);
+    }
+
+}
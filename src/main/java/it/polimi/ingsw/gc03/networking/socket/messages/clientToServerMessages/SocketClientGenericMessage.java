@@ -4,6 +4,8 @@ import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
 import it.polimi.ingsw.gc03.networking.rmi.MainControllerInterface;
 import it.polimi.ingsw.gc03.networking.socket.messages.MessageType;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
+import java.io.IOException;
 import java.io.Serializable;
 import java.rmi.RemoteException;
 
@@ -13,6 +15,11 @@ import java.rmi.RemoteException;
  */
 public abstract class SocketClientGenericMessage implements Serializable {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * The nickname associated with the client socket.
      */
@@ -40,6 +47,14 @@ public abstract class SocketClientGenericMessage implements Serializable {
      */
     public abstract void execute(GameControllerInterface gameController) throws RemoteException, Exception;
 
+    /**
+     * Method for writing the values of the message, read again by the constructor of the message taking a
+     * WireInput, see MessageCodec.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    public abstract void write(WireOutput out) throws IOException;
+
     /**
      * Get the client nickname associated with the message.
      * @return The nickname of the client sending the message.
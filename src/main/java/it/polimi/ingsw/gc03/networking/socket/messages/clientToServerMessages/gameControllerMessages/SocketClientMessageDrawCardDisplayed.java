@@ -6,7 +6,10 @@ import it.polimi.ingsw.gc03.model.enumerations.DeckType;
 import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
 import it.polimi.ingsw.gc03.networking.rmi.MainControllerInterface;
 import it.polimi.ingsw.gc03.networking.socket.messages.MessageType;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
 import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
+import java.io.IOException;
 import java.rmi.RemoteException;
 
 /**
@@ -15,6 +18,11 @@ import java.rmi.RemoteException;
  */
 public class SocketClientMessageDrawCardDisplayed extends SocketClientGenericMessage {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * The player who is drawing from the deck.
      */
@@ -30,19 +38,48 @@ public class SocketClientMessageDrawCardDisplayed extends SocketClientGenericMes
      */
     private int index;
 
+    /**
+     * The id given to the move by the client, sent back if the move is rejected.
+     */
+    private int requestId;
+
     /**
      * Constructs a new message that requires drawing a card from the visible cards.
      * This message is flagged to be processed by the game controller of the application.
      * @param player The player representing the client.
      * @param deck The visible deck from which the card is drawn.
      * @param index The index of the card in the displayed deck that the player wishes to draw.
+     * @param requestId The id given to the draw by the client.
      */
-    public SocketClientMessageDrawCardDisplayed(Player player, DeckType deck, int index) {
+    public SocketClientMessageDrawCardDisplayed(Player player, DeckType deck, int index, int requestId) {
         this.nicknameClient = player.getNickname();
         this.messageType = MessageType.GAME_CONTROLLER;
         this.player = player;
         this.deck = deck;
         this.index = index;
+        this.requestId = requestId;
+    }
+
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketClientMessageDrawCardDisplayed(WireInput in) throws IOException {
+        this(in.readPlayer(), in.readEnum(DeckType.values()), in.readVarInt(), in.readVarInt());
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writePlayer(this.player);
+        out.writeEnum(this.deck);
+        out.writeVarInt(this.index);
+        out.writeVarInt(this.requestId);
     }
 
     /**
@@ -65,7 +102,7 @@ public class SocketClientMessageDrawCardDisplayed extends SocketClientGenericMes
      */
     @Override
     public void execute(GameControllerInterface gameController) throws RemoteException, Exception {
-        gameController.drawCardDisplayed(this.player, this.deck, this.index);
+        gameController.drawCardDisplayed(this.player, this.deck, this.index, this.requestId);
     }
 
 }
\ No newline at end of file
@@ -6,7 +6,10 @@ import it.polimi.ingsw.gc03.model.enumerations.DeckType;
 import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
 import it.polimi.ingsw.gc03.networking.rmi.MainControllerInterface;
 import it.polimi.ingsw.gc03.networking.socket.messages.MessageType;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
 import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
+import java.io.IOException;
 import java.rmi.RemoteException;
 
 /**
@@ -15,6 +18,11 @@ import java.rmi.RemoteException;
  */
 public class SocketClientMessageDrawCardFromDeck extends SocketClientGenericMessage {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * The player who is drawing from the deck.
      */
@@ -25,17 +33,45 @@ public class SocketClientMessageDrawCardFromDeck extends SocketClientGenericMess
      */
     private DeckType deck;
 
+    /**
+     * The id given to the move by the client, sent back if the move is rejected.
+     */
+    private int requestId;
+
     /**
      * Constructs a new message that requires drawing a card from the deck of cards.
      * This message is flagged to be processed by the game controller of the application.
      * @param player The player representing the client.
      * @param deck The deck from which the card is drawn.
+     * @param requestId The id given to the draw by the client.
      */
-    public SocketClientMessageDrawCardFromDeck(Player player, DeckType deck) {
+    public SocketClientMessageDrawCardFromDeck(Player player, DeckType deck, int requestId) {
         this.nicknameClient = player.getNickname();
         this.messageType = MessageType.GAME_CONTROLLER;
         this.player = player;
         this.deck = deck;
+        this.requestId = requestId;
+    }
+
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketClientMessageDrawCardFromDeck(WireInput in) throws IOException {
+        this(in.readPlayer(), in.readEnum(DeckType.values()), in.readVarInt());
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writePlayer(this.player);
+        out.writeEnum(this.deck);
+        out.writeVarInt(this.requestId);
     }
 
     /**
@@ -58,7 +94,7 @@ public class SocketClientMessageDrawCardFromDeck extends SocketClientGenericMess
      */
     @Override
     public void execute(GameControllerInterface gameController) throws RemoteException, Exception {
-        gameController.drawCardFromDeck(this.player, this.deck);
+        gameController.drawCardFromDeck(this.player, this.deck, this.requestId);
     }
 
 }
\ No newline at end of file
@@ -4,7 +4,10 @@ import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
 import it.polimi.ingsw.gc03.networking.rmi.MainControllerInterface;
 import it.polimi.ingsw.gc03.networking.socket.messages.MessageType;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
 import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
+import java.io.IOException;
 import java.rmi.RemoteException;
 
 /**
@@ -12,6 +15,11 @@ import java.rmi.RemoteException;
  */
 public class SocketClientMessageLeaveGame extends SocketClientGenericMessage {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * The nickname of the player who disconnected.
      */
@@ -27,6 +35,25 @@ public class SocketClientMessageLeaveGame extends SocketClientGenericMessage {
         this.nickname = nickname;
     }
 
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketClientMessageLeaveGame(WireInput in) throws IOException {
+        this(in.readString());
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writeString(this.nickname);
+    }
+
     /**
      * Executes the message.
      * @param gameListener The game listener to be notified about game events.
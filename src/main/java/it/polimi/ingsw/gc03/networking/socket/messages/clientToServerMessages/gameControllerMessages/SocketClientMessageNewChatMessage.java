@@ -5,7 +5,10 @@ import it.polimi.ingsw.gc03.model.ChatMessage;
 import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
 import it.polimi.ingsw.gc03.networking.rmi.MainControllerInterface;
 import it.polimi.ingsw.gc03.networking.socket.messages.MessageType;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
 import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
+import java.io.IOException;
 import java.rmi.RemoteException;
 
 /**
@@ -14,6 +17,11 @@ import java.rmi.RemoteException;
  */
 public class SocketClientMessageNewChatMessage extends SocketClientGenericMessage {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * The message for the chat.
      */
@@ -30,6 +38,25 @@ public class SocketClientMessageNewChatMessage extends SocketClientGenericMessag
         this.chatMessage = chatMessage;
     }
 
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketClientMessageNewChatMessage(WireInput in) throws IOException {
+        this(in.readChatMessage());
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writeChatMessage(this.chatMessage);
+    }
+
     /**
      * Executes the message.
      * @param gameListener The game listener to be notified about game events.
@@ -5,7 +5,10 @@ import it.polimi.ingsw.gc03.model.Player;
 import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
 import it.polimi.ingsw.gc03.networking.rmi.MainControllerInterface;
 import it.polimi.ingsw.gc03.networking.socket.messages.MessageType;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
 import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
+import java.io.IOException;
 import java.rmi.RemoteException;
 
 /**
@@ -14,6 +17,11 @@ import java.rmi.RemoteException;
  */
 public class SocketClientMessagePlaceCardOnCodex extends SocketClientGenericMessage {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * The player who is placing the Starter card.
      */
@@ -39,6 +47,11 @@ public class SocketClientMessagePlaceCardOnCodex extends SocketClientGenericMess
      */
     private int col;
 
+    /**
+     * The id given to the move by the client, sent back if the move is rejected.
+     */
+    private int requestId;
+
     /**
      * Constructs a new message that requires the placement of the card into the Codex.
      * This message is flagged to be processed by the game controller of the application.
@@ -47,8 +60,9 @@ public class SocketClientMessagePlaceCardOnCodex extends SocketClientGenericMess
      * @param frontCard A boolean indicating whether to place the front (true) or back (false) side of the card.
      * @param row The row in the Codex where the card is to be placed.
      * @param col The column in the Codex where the card is to be placed.
+     * @param requestId The id given to the placement by the client.
      */
-    public SocketClientMessagePlaceCardOnCodex(Player player, int index, boolean frontCard, int row, int col) {
+    public SocketClientMessagePlaceCardOnCodex(Player player, int index, boolean frontCard, int row, int col, int requestId) {
         this.nicknameClient = player.getNickname();
         this.messageType = MessageType.GAME_CONTROLLER;
         this.player = player;
@@ -56,6 +70,31 @@ public class SocketClientMessagePlaceCardOnCodex extends SocketClientGenericMess
         this.frontCard = frontCard;
         this.row = row;
         this.col = col;
+        this.requestId = requestId;
+    }
+
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketClientMessagePlaceCardOnCodex(WireInput in) throws IOException {
+        this(in.readPlayer(), in.readVarInt(), in.readBoolean(), in.readVarInt(), in.readVarInt(), in.readVarInt());
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writePlayer(this.player);
+        out.writeVarInt(this.index);
+        out.writeBoolean(this.frontCard);
+        out.writeVarInt(this.row);
+        out.writeVarInt(this.col);
+        out.writeVarInt(this.requestId);
     }
 
     /**
@@ -78,7 +117,7 @@ public class SocketClientMessagePlaceCardOnCodex extends SocketClientGenericMess
      */
     @Override
     public void execute(GameControllerInterface gameController) throws RemoteException, Exception {
-        gameController.placeCardOnCodex(this.player, this.index, this.frontCard, this.row, this.col);
+        gameController.placeCardOnCodex(this.player, this.index, this.frontCard, this.row, this.col, this.requestId);
     }
 
 }
\ No newline at end of file
@@ -5,7 +5,10 @@ import it.polimi.ingsw.gc03.model.Player;
 import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
 import it.polimi.ingsw.gc03.networking.rmi.MainControllerInterface;
 import it.polimi.ingsw.gc03.networking.socket.messages.MessageType;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
 import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
+import java.io.IOException;
 import java.rmi.RemoteException;
 
 /**
@@ -14,6 +17,11 @@ import java.rmi.RemoteException;
  */
 public class SocketClientMessageSelectCardObjective extends SocketClientGenericMessage {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * The player who is selecting the Objective card.
      */
@@ -37,6 +45,26 @@ public class SocketClientMessageSelectCardObjective extends SocketClientGenericM
         this.cardObjective = cardObjective;
     }
 
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketClientMessageSelectCardObjective(WireInput in) throws IOException {
+        this(in.readPlayer(), in.readVarInt());
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writePlayer(this.player);
+        out.writeVarInt(this.cardObjective);
+    }
+
     /**
      * Executes the message.
      * @param gameListener The game listener to be notified about game events.
@@ -4,7 +4,10 @@ import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
 import it.polimi.ingsw.gc03.networking.rmi.MainControllerInterface;
 import it.polimi.ingsw.gc03.networking.socket.messages.MessageType;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
 import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
+import java.io.IOException;
 import java.rmi.RemoteException;
 
 /**
@@ -12,6 +15,11 @@ import java.rmi.RemoteException;
  */
 public class SocketClientMessageJoinFirstGame extends SocketClientGenericMessage {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * Constructs a new message requesting participation in the first available game with the specified client nickname.
      * This message is flagged to be processed by the main controller of the application.
@@ -22,6 +30,25 @@ public class SocketClientMessageJoinFirstGame extends SocketClientGenericMessage
         this.messageType = MessageType.MAIN_CONTROLLER;
     }
 
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketClientMessageJoinFirstGame(WireInput in) throws IOException {
+        this(in.readString());
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writeString(this.nicknameClient);
+    }
+
     /**
      * Executes the message requesting participation in the first available game,
      * using the provided game listener and client nickname.
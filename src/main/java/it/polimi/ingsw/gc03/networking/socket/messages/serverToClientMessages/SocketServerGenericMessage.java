@@ -1,6 +1,7 @@
 package it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages;
 
 import it.polimi.ingsw.gc03.listeners.GameListener;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
 import java.io.IOException;
 import java.io.Serializable;
 
@@ -11,6 +12,19 @@ import java.io.Serializable;
  */
 public abstract class SocketServerGenericMessage implements Serializable {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Method for writing the values of the message, read again by the constructor of the message taking a
+     * WireInput, see MessageCodec.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    public abstract void write(WireOutput out) throws IOException;
+
     /**
      * Executes the appropriate action based on the content of the message.
      * @param gameListener The game listener to which this message's actions are directed.
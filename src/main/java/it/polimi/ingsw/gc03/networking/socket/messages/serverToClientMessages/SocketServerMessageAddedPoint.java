@@ -3,6 +3,8 @@ package it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages;
 import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.model.GameImmutable;
 import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
 import java.io.IOException;
 
 /**
@@ -10,6 +12,11 @@ import java.io.IOException;
  */
 public class SocketServerMessageAddedPoint extends SocketServerGenericMessage {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * The immutable game gameImmutable.
      */
@@ -37,6 +44,27 @@ public class SocketServerMessageAddedPoint extends SocketServerGenericMessage {
         this.point = point;
     }
 
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketServerMessageAddedPoint(WireInput in) throws IOException {
+        this(in.readGame(), in.readPlayer(), in.readVarInt());
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writeGame(this.gameImmutable);
+        out.writePlayer(this.player);
+        out.writeVarInt(this.point);
+    }
+
     /**
      * Executes the appropriate action based on the content of the message.
      * @param gameListener The game listener to which this message's actions are directed.
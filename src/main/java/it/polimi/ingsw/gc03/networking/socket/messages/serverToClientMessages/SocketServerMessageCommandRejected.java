@@ -0,0 +1,67 @@
+package it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages;
+
+import it.polimi.ingsw.gc03.listeners.GameListener;
+import it.polimi.ingsw.gc03.model.CommandError;
+import it.polimi.ingsw.gc03.model.enumerations.ErrorCode;
+import it.polimi.ingsw.gc03.model.enumerations.Value;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
+import java.io.IOException;
+
+/**
+ * This class is used to send a message from the server to the client of a player to inform that one of their moves
+ * has been rejected. The message carries no game, only the reason of the rejection and the id of the move.
+ */
+public class SocketServerMessageCommandRejected extends SocketServerGenericMessage {
+
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The reason of the rejection and the id of the move rejected.
+     */
+    private CommandError error;
+
+    /**
+     * Constructor of the class that creates the message.
+     * @param error The reason of the rejection and the id of the move rejected.
+     */
+    public SocketServerMessageCommandRejected(CommandError error) {
+        this.error = error;
+    }
+
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketServerMessageCommandRejected(WireInput in) throws IOException {
+        this(new CommandError(in.readEnum(ErrorCode.values()), in.readVarInt(), in.readEnums(Value.values())));
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writeEnum(this.error.getCode());
+        out.writeVarInt(this.error.getCorrelationId());
+        out.writeEnums(this.error.getRequirementsPlacement());
+    }
+
+    /**
+     * Executes the appropriate action based on the content of the message.
+     * @param gameListener The game listener to which this message's actions are directed.
+     * @throws IOException If an input or output exception occurs during message processing.
+     * @throws InterruptedException If the thread running the method is interrupted.
+     */
+    @Override
+    public void execute(GameListener gameListener) throws IOException, InterruptedException {
+        gameListener.commandRejected(this.error);
+    }
+
+}
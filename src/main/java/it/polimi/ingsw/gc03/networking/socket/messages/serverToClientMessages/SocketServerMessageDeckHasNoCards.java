@@ -3,6 +3,8 @@ package it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages;
 import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.model.GameImmutable;
 import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
 import java.io.IOException;
 import java.util.ArrayList;
 
@@ -11,6 +13,11 @@ import java.util.ArrayList;
  */
 public class SocketServerMessageDeckHasNoCards extends SocketServerGenericMessage {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * The immutable game gameImmutable.
      */
@@ -32,6 +39,26 @@ public class SocketServerMessageDeckHasNoCards extends SocketServerGenericMessag
         this.deck = deck;
     }
 
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketServerMessageDeckHasNoCards(WireInput in) throws IOException {
+        this(in.readGame(), in.readCards(Card.class));
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writeGame(this.gameImmutable);
+        out.writeCards(this.deck);
+    }
+
     /**
      * Executes the appropriate action based on the content of the message.
      * @param gameListener The game listener to which this message's actions are directed.
@@ -2,6 +2,8 @@ package it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages;
 
 import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.model.GameImmutable;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
 import java.io.IOException;
 
 /**
@@ -9,6 +11,11 @@ import java.io.IOException;
  */
 public class SocketServerMessageDrawCard extends SocketServerGenericMessage {
 
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
     /**
      * The immutable game gameImmutable.
      */
@@ -29,6 +36,26 @@ public class SocketServerMessageDrawCard extends SocketServerGenericMessage {
         this.nickname = nickname;
     }
 
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketServerMessageDrawCard(WireInput in) throws IOException {
+        this(in.readGame(), in.readString());
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writeGame(this.gameImmutable);
+        out.writeString(this.nickname);
+    }
+
     /**
      * Executes the appropriate action based on the content of the message.
      * @param gameListener The game listener to which this message's actions are directed.
@@ -0,0 +1,139 @@
+package it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages;
+
+import it.polimi.ingsw.gc03.listeners.GameListener;
+import it.polimi.ingsw.gc03.networking.socket.delta.DeltaDecoder;
+import it.polimi.ingsw.gc03.networking.socket.delta.GameDigest;
+import it.polimi.ingsw.gc03.networking.socket.messages.MessageCodec;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
+import java.io.IOException;
+
+/**
+ * This class is used to send a message already encoded by the server. A message broadcast to all the players of a
+ * game is encoded once into a frame, and the same bytes are written on every socket connection that received the
+ * same previous game. The game contained in the message is written as patches of that previous game when possible.
+ * The bytes of the frame are the payload written on the connection, see MessageFraming and MessageCodec.
+ */
+public class SocketServerMessageFrame extends SocketServerGenericMessage {
+
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The encoded message.
+     */
+    private final byte[] payload;
+
+    /**
+     * The summary of the last game sent once the frame is written, kept only by the server.
+     */
+    private final transient GameDigest digest;
+
+    /**
+     * Constructor of the class that creates the frame.
+     * @param payload The encoded message.
+     * @param digest The summary of the last game sent once the frame is written.
+     */
+    private SocketServerMessageFrame(byte[] payload, GameDigest digest) {
+        this.payload = payload;
+        this.digest = digest;
+    }
+
+    /**
+     * Method for encoding a message into a frame, with its game sent whole.
+     * @param message The message.
+     * @return The frame containing the message.
+     * @throws IOException If the message cannot be encoded.
+     */
+    public static SocketServerMessageFrame encode(SocketServerGenericMessage message) throws IOException {
+        return encode(message, null);
+    }
+
+    /**
+     * Method for encoding a message into a frame, with its game sent as patches of the last game sent.
+     * @param message The message.
+     * @param base The summary of the last game sent on the connection, or null if none was sent.
+     * @return The frame containing the message.
+     * @throws IOException If the message cannot be encoded.
+     */
+    public static SocketServerMessageFrame encode(SocketServerGenericMessage message, GameDigest base)
+            throws IOException {
+        WireOutput out = MessageCodec.encode(message, base);
+        return new SocketServerMessageFrame(out.toByteArray(), out.getDigest());
+    }
+
+    /**
+     * Method for wrapping the bytes of a message read from the connection.
+     * @param payload The encoded message.
+     * @return The frame containing the message.
+     */
+    public static SocketServerMessageFrame wrap(byte[] payload) {
+        return new SocketServerMessageFrame(payload, null);
+    }
+
+    /**
+     * Method to retrieve the encoded message.
+     * @return The bytes of the message.
+     */
+    public byte[] getPayload() {
+        return this.payload;
+    }
+
+    /**
+     * Method to retrieve the size of the encoded message.
+     * @return The number of bytes of the message.
+     */
+    public int getSize() {
+        return this.payload.length;
+    }
+
+    /**
+     * Method to retrieve the summary of the last game sent once the frame is written.
+     * @return The summary, or null if no game was sent.
+     */
+    public GameDigest getDigest() {
+        return this.digest;
+    }
+
+    /**
+     * Method for decoding the message of a frame whose game was sent whole.
+     * @return The message.
+     * @throws IOException If the message cannot be decoded.
+     */
+    public SocketServerGenericMessage decode() throws IOException {
+        return decode(new DeltaDecoder());
+    }
+
+    /**
+     * Method for decoding the message of the frame, rebuilding its game from the last game received.
+     * @param decoder The decoder of the connection.
+     * @return The message.
+     * @throws IOException If the message cannot be decoded.
+     */
+    public SocketServerGenericMessage decode(DeltaDecoder decoder) throws IOException {
+        return MessageCodec.decodeServerMessage(this.payload, decoder);
+    }
+
+    /**
+     * Method for writing the encoded message of the frame.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.write(this.payload);
+    }
+
+    /**
+     * Executes the message contained in the frame.
+     * @param gameListener The game listener to which this message's actions are directed.
+     * @throws IOException If an input or output exception occurs during message processing.
+     * @throws InterruptedException If the thread running the method is interrupted.
+     */
+    @Override
+    public void execute(GameListener gameListener) throws IOException, InterruptedException {
+        decode().execute(gameListener);
+    }
+
+}
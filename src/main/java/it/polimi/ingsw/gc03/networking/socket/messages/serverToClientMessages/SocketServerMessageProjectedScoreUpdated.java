@@ -0,0 +1,79 @@
+package it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages;
+
+import it.polimi.ingsw.gc03.listeners.GameListener;
+import it.polimi.ingsw.gc03.model.GameImmutable;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireInput;
+import it.polimi.ingsw.gc03.networking.socket.messages.WireOutput;
+import java.io.IOException;
+
+/**
+ * This class is used to send a message from the server to the client to inform of the score a player would make if
+ * the game ended now.
+ */
+public class SocketServerMessageProjectedScoreUpdated extends SocketServerGenericMessage {
+
+    /**
+     * The version of the serialized form of the message.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The immutable game gameImmutable.
+     */
+    private GameImmutable gameImmutable;
+
+    /**
+     * The nickname of the player.
+     */
+    private String nickname;
+
+    /**
+     * The projected score of the player.
+     */
+    private int projectedScore;
+
+    /**
+     * Constructor of the class that creates the message.
+     * @param gameImmutable The immutable game gameImmutable.
+     * @param nickname The nickname of the player.
+     * @param projectedScore The projected score of the player.
+     */
+    public SocketServerMessageProjectedScoreUpdated(GameImmutable gameImmutable, String nickname, int projectedScore) {
+        this.gameImmutable = gameImmutable;
+        this.nickname = nickname;
+        this.projectedScore = projectedScore;
+    }
+
+    /**
+     * Constructor of the class that reads the message written by write.
+     * @param in The input.
+     * @throws IOException If the message cannot be read.
+     */
+    public SocketServerMessageProjectedScoreUpdated(WireInput in) throws IOException {
+        this(in.readGame(), in.readString(), in.readVarInt());
+    }
+
+    /**
+     * Method for writing the values of the message.
+     * @param out The output.
+     * @throws IOException If the message cannot be written.
+     */
+    @Override
+    public void write(WireOutput out) throws IOException {
+        out.writeGame(this.gameImmutable);
+        out.writeString(this.nickname);
+        out.writeVarInt(this.projectedScore);
+    }
+
+    /**
+     * Executes the appropriate action based on the content of the message.
+     * @param gameListener The game listener to which this message's actions are directed.
+     * @throws IOException If an input or output exception occurs during message processing.
+     * @throws InterruptedException If the thread running the method is interrupted.
+     */
+    @Override
+    public void execute(GameListener gameListener) throws IOException, InterruptedException {
+        gameListener.projectedScoreUpdated(this.gameImmutable, this.nickname, this.projectedScore);
+    }
+
+}
@@ -1,17 +1,21 @@
 package it.polimi.ingsw.gc03.networking.socket.server;
 
 import it.polimi.ingsw.gc03.controller.MainController;
+import it.polimi.ingsw.gc03.networking.ServerThreads;
 import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
 import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
 import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
 import it.polimi.ingsw.gc03.networking.socket.messages.MessageType;
+import it.polimi.ingsw.gc03.networking.socket.messages.MessageCodec;
+import it.polimi.ingsw.gc03.networking.socket.messages.MessageFraming;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.net.Socket;
 import java.rmi.RemoteException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
@@ -46,12 +50,12 @@ public class ClientHandler implements Runnable {
     /**
      * Input stream to receive data from the client.
      */
-    private ObjectInputStream inputStream;
+    private DataInputStream inputStream;
 
     /**
      * Output stream to send data to the client.
      */
-    private ObjectOutputStream outputStream;
+    private DataOutputStream outputStream;
 
     /**
      * Queue for managing incoming messages.
@@ -61,7 +65,7 @@ public class ClientHandler implements Runnable {
     /**
      * Executor for running game logic.
      */
-    private final ExecutorService gameLogicExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService gameLogicExecutor = ServerThreads.newSingleThreadExecutor("socket-game-logic");
 
     /**
      * Constructs a handler for a specific client socket.
@@ -72,9 +76,10 @@ public class ClientHandler implements Runnable {
         this.socketClient = socketClient;
         this.nicknameClient = null;
         this.gameController = null;
-        this.inputStream = new ObjectInputStream(socketClient.getInputStream());
-        this.outputStream = new ObjectOutputStream(socketClient.getOutputStream());
-        this.gameListenerHandlerServer = new GameListenerHandlerServer(this.outputStream);
+        this.inputStream = new DataInputStream(new BufferedInputStream(socketClient.getInputStream()));
+        this.outputStream = new DataOutputStream(new BufferedOutputStream(socketClient.getOutputStream()));
+        this.gameListenerHandlerServer = new GameListenerHandlerServer(
+                payload -> MessageFraming.writeFrame(this.outputStream, payload));
     }
 
     /**
@@ -159,10 +164,13 @@ public class ClientHandler implements Runnable {
         gameLogicExecutor.submit(this::runGameLogic);
         // Handle incoming messages in a loop
         try {
+            // Exchange the versions of the protocol
+            MessageCodec.checkHello(MessageFraming.readFrame(this.inputStream));
+            MessageFraming.writeFrame(this.outputStream, MessageCodec.hello());
             SocketClientGenericMessage message;
             while (!Thread.currentThread().isInterrupted()) {
                 try {
-                    message = (SocketClientGenericMessage) this.inputStream.readObject();
+                    message = MessageCodec.decodeClientMessage(MessageFraming.readFrame(this.inputStream));
                     // Process ping and other messages
                     if (message.getMessageType() == MessageType.PING) {
                         if (this.gameController != null)
@@ -174,7 +182,7 @@ public class ClientHandler implements Runnable {
                     throw new RuntimeException(e);
                 }
             }
-        } catch (IOException | ClassNotFoundException e) {
+        } catch (IOException e) {
             AsyncLogger.log(Level.SEVERE, "[SERVER SOCKET] The socket connection between the server and the client was interrupted due to a communication failure: " + e.getMessage());
             return;
         } finally {
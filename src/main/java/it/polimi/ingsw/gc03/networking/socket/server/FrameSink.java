@@ -0,0 +1,18 @@
+package it.polimi.ingsw.gc03.networking.socket.server;
+
+import java.io.IOException;
+
+/**
+ * This interface represents the connection on which the messages for a client are written, each one as a frame.
+ */
+@FunctionalInterface
+public interface FrameSink {
+
+    /**
+     * Method for sending a message to the client.
+     * @param payload The bytes of the message.
+     * @throws IOException If the message cannot be sent.
+     */
+    void write(byte[] payload) throws IOException;
+
+}
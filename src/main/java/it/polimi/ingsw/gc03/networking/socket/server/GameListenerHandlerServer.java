@@ -1,18 +1,20 @@
 package it.polimi.ingsw.gc03.networking.socket.server;
 
+import it.polimi.ingsw.gc03.listeners.BroadcastCache;
 import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.model.ChatMessage;
+import it.polimi.ingsw.gc03.model.CommandError;
 import it.polimi.ingsw.gc03.model.GameImmutable;
 import it.polimi.ingsw.gc03.model.Player;
 import it.polimi.ingsw.gc03.model.card.Card;
 import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
-import it.polimi.ingsw.gc03.model.enumerations.Value;
+import it.polimi.ingsw.gc03.networking.socket.delta.GameDigest;
 import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.*;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * This class facilitates communication of GameListener events to the client over a socket connection.
@@ -20,28 +22,38 @@ import java.util.ArrayList;
 public class GameListenerHandlerServer implements GameListener, Serializable {
 
     /**
-     * A private ObjectOutputStream for transmitting the data.
+     * The connection on which the messages are written.
      */
-    private final ObjectOutputStream outputStream;
+    private final FrameSink frameSink;
+
+    /**
+     * The summary of the last game sent to the client, used to send the next games as patches.
+     */
+    private transient GameDigest sentDigest;
 
     /**
      * Constructs a handler for transmitting GameListener events.
-     * @param outputStream The ObjectOutputStream used for data transmission.
+     * @param frameSink The connection used for data transmission.
      */
-    public GameListenerHandlerServer(ObjectOutputStream outputStream) {
-        this.outputStream = outputStream;
+    public GameListenerHandlerServer(FrameSink frameSink) {
+        this.frameSink = frameSink;
     }
 
     /**
-     * Flushes and resets the ObjectOutputStream. This ensures that all buffered data is sent
-     * and the buffer is cleared, preparing the stream for future use.
-     * @throws IOException If an error occurs during the flush or reset operations.
+     * Writes a message on the connection, with its game sent as patches of the last game sent to the client.
+     * During a notification to all the players of a game the message is encoded once into a frame for each view
+     * of the game and last game sent, and the bytes are shared by the socket connections receiving the same ones.
+     * @param message The message to send.
+     * @param gameImmutable The view of the game contained in the message, or null if the message has none.
+     * @throws IOException If an error occurs while writing the message.
      */
-    private void completeTransmission() throws IOException {
-        // Force all data to be transmitted to the destination
-        this.outputStream.flush();
-        // Clean the stream to prepare it for the next transmission
-        this.outputStream.reset();
+    private synchronized void send(SocketServerGenericMessage message, GameImmutable gameImmutable)
+            throws IOException {
+        GameDigest base = this.sentDigest;
+        SocketServerMessageFrame frame = BroadcastCache.share(Arrays.asList(message.getClass(), gameImmutable, base),
+                () -> SocketServerMessageFrame.encode(message, base));
+        this.frameSink.write(frame.getPayload());
+        this.sentDigest = frame.getDigest();
     }
 
     /**
@@ -53,9 +65,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void playerJoined(GameImmutable gameImmutable) throws RemoteException {
         try {
             SocketServerMessagePlayerJoined message = new SocketServerMessagePlayerJoined(gameImmutable);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -68,9 +81,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void playerLeft(GameImmutable gameImmutable, String nickname) throws RemoteException {
         try {
             SocketServerMessagePlayerLeft message = new SocketServerMessagePlayerLeft(gameImmutable, nickname);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -83,9 +97,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void joinUnableGameFull(GameImmutable gameImmutable, Player player) throws RemoteException {
         try {
             SocketServerMessageJoinUnableGameFull message = new SocketServerMessageJoinUnableGameFull(gameImmutable, player);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -98,9 +113,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void playerReconnected(GameImmutable gameImmutable, String nickname) throws RemoteException {
         try {
             SocketServerMessagePlayerReconnected message = new SocketServerMessagePlayerReconnected(gameImmutable, nickname);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -113,9 +129,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void playerDisconnected(GameImmutable gameImmutable, String nickname) throws RemoteException {
         try {
             SocketServerMessagePlayerDisconnected message = new SocketServerMessagePlayerDisconnected(gameImmutable, nickname);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -128,9 +145,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void onlyOnePlayerConnected(GameImmutable gameImmutable, int timer) throws RemoteException {
         try {
             SocketServerMessageOnlyOnePlayerConnected message = new SocketServerMessageOnlyOnePlayerConnected(gameImmutable, timer);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -142,9 +160,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void joinUnableNicknameAlreadyInUse(Player player) throws RemoteException {
         try {
             SocketServerMessageJoinUnableNicknameAlreadyInUse message = new SocketServerMessageJoinUnableNicknameAlreadyInUse(player);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, null);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -156,9 +175,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void gameIdNotExists(int gameId) throws RemoteException {
         try {
             SocketServerMessageGameIdNotExists message = new SocketServerMessageGameIdNotExists(gameId);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, null);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -170,9 +190,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void gameStarted(GameImmutable gameImmutable) throws RemoteException {
         try {
             SocketServerMessageGameStarted message = new SocketServerMessageGameStarted(gameImmutable);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -184,9 +205,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void gameEnded(GameImmutable gameImmutable) throws RemoteException {
         try {
             SocketServerMessageGameEnded message = new SocketServerMessageGameEnded(gameImmutable);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -199,9 +221,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void sentChatMessage(GameImmutable gameImmutable, ChatMessage chatMessage) throws RemoteException {
         try {
             SocketServerMessageSentChatMessage message = new SocketServerMessageSentChatMessage(gameImmutable, chatMessage);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -213,9 +236,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void nextTurn(GameImmutable gameImmutable) throws RemoteException {
         try {
             SocketServerMessageNextTurn message = new SocketServerMessageNextTurn(gameImmutable);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -227,9 +251,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void lastCircle(GameImmutable gameImmutable) throws RemoteException {
         try {
             SocketServerMessageLastCircle message = new SocketServerMessageLastCircle(gameImmutable);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -243,9 +268,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void positionedCardIntoCodex(GameImmutable gameImmutable, int row, int column) throws RemoteException {
         try {
             SocketServerMessagePositionedCardIntoCodex message = new SocketServerMessagePositionedCardIntoCodex(gameImmutable, row, column);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -258,42 +284,13 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void positionedStarterCardIntoCodex(GameImmutable gameImmutable, String nickname) throws RemoteException {
         try {
             SocketServerMessagePositionedStarterCardIntoCodex message = new SocketServerMessagePositionedStarterCardIntoCodex(gameImmutable, nickname);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
-    /**
-     * This method is used to write on the output stream the message that the coordinates where he wants to insert
-     * the card are not valid.
-     * @param gameImmutable The immutable game gameImmutable.
-     * @param row The row where the card wanted to be placed.
-     * @param column The column where the card wanted to be placed.
-     * @throws RemoteException If an error occurs in remote communication.
-     */
-    @Override
-    public void invalidCoordinates(GameImmutable gameImmutable, int row, int column) throws RemoteException {
-        try {
-            SocketServerMessageInvalidCoordinates message = new SocketServerMessageInvalidCoordinates(gameImmutable, row, column);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
-    }
 
-    /**
-     * This method is used to write on the output stream the message that the positioning requirements are not respected.
-     * @param gameImmutable The immutable game gameImmutable.
-     * @param requirementsPlacement The requirements for card placement.
-     * @throws RemoteException If an error occurs in remote communication.
-     */
-    @Override
-    public void requirementsPlacementNotRespected(GameImmutable gameImmutable, ArrayList<Value> requirementsPlacement) throws RemoteException {
-        try {
-            SocketServerMessageRequirementsPlacementNotRespected message = new SocketServerMessageRequirementsPlacementNotRespected(gameImmutable, requirementsPlacement);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
-    }
 
     /**
      * This method is used to write on the output stream the message that the points have been added.
@@ -306,9 +303,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void addedPoint(GameImmutable gameImmutable, Player player, int point) throws RemoteException {
         try {
             SocketServerMessageAddedPoint message = new SocketServerMessageAddedPoint(gameImmutable, player, point);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -322,9 +320,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void objectiveCardChosen(GameImmutable gameImmutable, CardObjective cardObjective, String nickname) throws RemoteException {
         try {
             SocketServerMessageObjectiveCardChosen message = new SocketServerMessageObjectiveCardChosen(gameImmutable, cardObjective, nickname);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -336,9 +335,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void objectiveCardNotChosen(GameImmutable gameImmutable) throws RemoteException {
         try {
             SocketServerMessageObjectiveCardNotChosen message = new SocketServerMessageObjectiveCardNotChosen(gameImmutable);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -351,9 +351,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void indexNotValid(GameImmutable gameImmutable, int index) throws RemoteException {
         try {
             SocketServerMessageIndexNotValid message = new SocketServerMessageIndexNotValid(gameImmutable, index);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -366,9 +367,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void deckHasNoCards(GameImmutable gameImmutable, ArrayList<? extends Card> deck) throws RemoteException {
         try {
             SocketServerMessageDeckHasNoCards message = new SocketServerMessageDeckHasNoCards(gameImmutable, deck);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -381,25 +383,12 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void cardAddedToHand(GameImmutable gameImmutable, Card card) throws RemoteException {
         try {
             SocketServerMessageCardAddedToHand message = new SocketServerMessageCardAddedToHand(gameImmutable, card);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
-    /**
-     * This method is used to write on the output stream the message that a card was not added to his hand.
-     * @param gameImmutable The immutable game gameImmutable.
-     * @param nickname The nickname of the player.
-     * @throws RemoteException If an error occurs in remote communication.
-     */
-    @Override
-    public void cardNotAddedToHand(GameImmutable gameImmutable, String nickname) throws RemoteException {
-        try {
-            SocketServerMessageCardNotAddedToHand message = new SocketServerMessageCardNotAddedToHand(gameImmutable, nickname);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
-    }
 
     /**
      * This method is used to write on the output stream the message that the conditions to end the game have been reached.
@@ -410,9 +399,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void endGameConditionsReached(GameImmutable gameImmutable) throws RemoteException {
         try {
             SocketServerMessageEndGameConditionsReached message = new SocketServerMessageEndGameConditionsReached(gameImmutable);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -426,9 +416,27 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void addedPointObjective(GameImmutable gameImmutable, int objectivePoint) throws RemoteException {
         try {
             SocketServerMessageAddedPointObjective message = new SocketServerMessageAddedPointObjective(gameImmutable, objectivePoint);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
+    }
+
+    /**
+     * This method is used to write on the output stream the message with the projected score of a player.
+     * @param gameImmutable The immutable game gameImmutable.
+     * @param nickname The nickname of the player.
+     * @param projectedScore The projected score of the player.
+     * @throws RemoteException If an error occurs in remote communication.
+     */
+    @Override
+    public void projectedScoreUpdated(GameImmutable gameImmutable, String nickname, int projectedScore) throws RemoteException {
+        try {
+            SocketServerMessageProjectedScoreUpdated message = new SocketServerMessageProjectedScoreUpdated(gameImmutable, nickname, projectedScore);
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -441,9 +449,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void winnerDeclared(GameImmutable gameImmutable, ArrayList<String> nickname) throws RemoteException {
         try {
             SocketServerMessageWinnerDeclared message = new SocketServerMessageWinnerDeclared(gameImmutable, nickname);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -456,9 +465,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void gameSizeUpdated(GameImmutable gameImmutable, int size) throws RemoteException {
         try {
             SocketServerMessageGameSizeUpdated message = new SocketServerMessageGameSizeUpdated(gameImmutable, size);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -471,9 +481,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void drawCard(GameImmutable gameImmutable, String nickname) throws RemoteException {
         try {
             SocketServerMessageDrawCard message = new SocketServerMessageDrawCard(gameImmutable, nickname);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -486,9 +497,10 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void noGameToReconnect(GameImmutable gameImmutable, String nickname) throws RemoteException {
         try {
             SocketServerMessageNoGameToReconnect message = new SocketServerMessageNoGameToReconnect(gameImmutable, nickname);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
@@ -500,23 +512,25 @@ public class GameListenerHandlerServer implements GameListener, Serializable {
     public void gameCreated(GameImmutable gameImmutable) throws RemoteException {
         try {
             SocketServerMessageGameCreated message = new SocketServerMessageGameCreated(gameImmutable);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            send(message, gameImmutable);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
     /**
-     * This method is used to inform the clients that a player tried to place a card when he can't.
-     * @param gameImmutable The immutable game object.
-     * @param nickname The nickname of the player who tried.
+     * This method is used to write on the output stream the message that a move of the player has been rejected.
+     * @param error The reason of the rejection and the id of the move rejected.
      * @throws RemoteException If an error occurs in remote communication.
      */
-    public void canNotPlaceCard(GameImmutable gameImmutable, String nickname) throws RemoteException{
+    @Override
+    public void commandRejected(CommandError error) throws RemoteException {
         try {
-            SocketServerMessageCanNotPlaceCard message = new SocketServerMessageCanNotPlaceCard(gameImmutable, nickname);
-            this.outputStream.writeObject(message);
-            completeTransmission();
-        } catch (IOException e) {}
+            SocketServerMessageCommandRejected message = new SocketServerMessageCommandRejected(error);
+            send(message, null);
+        } catch (IOException e) {
+            throw new RemoteException("The message cannot be sent to the client.", e);
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,284 @@
+package it.polimi.ingsw.gc03.networking.socket.server;
+
+import it.polimi.ingsw.gc03.controller.MainController;
+import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
+import it.polimi.ingsw.gc03.networking.socket.messages.MessageCodec;
+import it.polimi.ingsw.gc03.networking.socket.messages.MessageFraming;
+import it.polimi.ingsw.gc03.networking.socket.messages.MessageType;
+import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
+import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.rmi.RemoteException;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+
+/**
+ * This class represents a client connected to the NioSocketServer. Its frames are read by the event loop of the
+ * connection, and its commands are run in order by the executor of its game. The frames for the client are queued
+ * and written by the event loop; a client whose queued bytes exceed a limit is too slow and is disconnected.
+ */
+class NioConnection {
+
+    /**
+     * The maximum number of bytes waiting to be written to a client.
+     */
+    static final int MAX_PENDING_BYTES = 8 * 1024 * 1024;
+
+    /**
+     * The maximum number of bytes of a frame received before the hello frame has been checked.
+     */
+    static final int MAX_HELLO_FRAME_SIZE = 4 * 1024;
+
+    /**
+     * The server of the connection.
+     */
+    private final NioSocketServer server;
+
+    /**
+     * The channel connected to the client.
+     */
+    private final SocketChannel channel;
+
+    /**
+     * The event loop serving the connection.
+     */
+    private final NioEventLoop loop;
+
+    /**
+     * The key of the channel in the selector of the loop.
+     */
+    private SelectionKey key;
+
+    /**
+     * The buffer of the length of the frame being read.
+     */
+    private final ByteBuffer header = ByteBuffer.allocate(MessageFraming.HEADER_SIZE);
+
+    /**
+     * The buffer of the message being read, or null while the length is read.
+     */
+    private ByteBuffer body;
+
+    /**
+     * The buffers waiting to be written.
+     */
+    private final ArrayDeque<ByteBuffer> outbound = new ArrayDeque<>();
+
+    /**
+     * The number of bytes waiting to be written.
+     */
+    private long pendingBytes = 0;
+
+    /**
+     * Boolean indicating whether the connection has been closed.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Boolean indicating whether the versions of the protocol have been exchanged, see MessageCodec.
+     */
+    private boolean greeted = false;
+
+    /**
+     * The nickname of the client.
+     */
+    private volatile String nicknameClient;
+
+    /**
+     * The game controller for the game session.
+     */
+    private volatile GameControllerInterface gameController;
+
+    /**
+     * Listener for client socket messages.
+     */
+    private final GameListenerHandlerServer gameListenerHandlerServer;
+
+    /**
+     * The last command of the client, the next one runs once it has completed.
+     */
+    private CompletableFuture<Void> lastCommand = CompletableFuture.completedFuture(null);
+
+    /**
+     * Constructs the connection of a client.
+     * @param server The server of the connection.
+     * @param channel The channel connected to the client.
+     * @param loop The event loop serving the connection.
+     */
+    NioConnection(NioSocketServer server, SocketChannel channel, NioEventLoop loop) {
+        this.server = server;
+        this.channel = channel;
+        this.loop = loop;
+        this.gameListenerHandlerServer = new GameListenerHandlerServer(this::write);
+    }
+
+    /**
+     * Method for registering the channel in the selector of the loop, called by the loop.
+     * @throws IOException If the channel cannot be registered.
+     */
+    void register() throws IOException {
+        this.key = this.channel.register(this.loop.getSelector(), SelectionKey.OP_READ, this);
+    }
+
+    /**
+     * Method for reading the bytes available on the channel, called by the loop. Every frame completed is handled,
+     * the first one being the hello frame of the client, which cannot be longer than a few KiB.
+     * @throws IOException If the channel has been closed or a frame is not valid.
+     */
+    void onReadable() throws IOException {
+        while (!this.closed) {
+            if (this.body == null) {
+                if (this.channel.read(this.header) < 0)
+                    throw new IOException("Connection closed by the client");
+                if (this.header.hasRemaining())
+                    return;
+                this.header.flip();
+                int length = this.header.getInt();
+                this.header.clear();
+                MessageFraming.checkLength(length);
+                if (!this.greeted && length > MAX_HELLO_FRAME_SIZE)
+                    throw new IOException("Frame too long before the hello frame: " + length);
+                this.body = ByteBuffer.allocate(length);
+            }
+            if (this.channel.read(this.body) < 0)
+                throw new IOException("Connection closed by the client");
+            if (this.body.hasRemaining())
+                return;
+            byte[] payload = this.body.array();
+            this.body = null;
+            if (this.greeted) {
+                received(MessageCodec.decodeClientMessage(payload));
+            } else {
+                MessageCodec.checkHello(payload);
+                write(MessageCodec.hello());
+                this.greeted = true;
+            }
+        }
+    }
+
+    /**
+     * Method for handling a message of the client: pings are handled at once, the other messages are run after the
+     * previous ones, by the executor of the game of the client. The executor is chosen once the previous messages
+     * have run, so the commands sent right after a join already run on the executor of the game joined.
+     * @param message The message.
+     */
+    private void received(SocketClientGenericMessage message) {
+        if (message.getMessageType() == MessageType.PING) {
+            this.server.getWorkers().execute(() -> {
+                try {
+                    if (this.gameController != null)
+                        this.gameController.ping(message.getNicknameClient());
+                } catch (RemoteException e) {
+                    AsyncLogger.log(Level.SEVERE, "[SERVER SOCKET] Error processing ping: " + e.getMessage());
+                }
+            });
+        } else {
+            this.lastCommand = this.lastCommand.thenCompose(done ->
+                    CompletableFuture.runAsync(() -> execute(message), getExecutor(message)));
+        }
+    }
+
+    /**
+     * Method to get the executor running a message, called only once the previous messages have run, so the game
+     * joined by one of them is known.
+     * @param message The message.
+     * @return The executor of the game of the client for the game commands, the pool of workers otherwise.
+     */
+    private Executor getExecutor(SocketClientGenericMessage message) {
+        if (message.getMessageType() == MessageType.GAME_CONTROLLER)
+            return this.server.getGameExecutor(this.gameController);
+        return this.server.getWorkers();
+    }
+
+    /**
+     * Executes a message of the client.
+     * @param message The message.
+     */
+    private void execute(SocketClientGenericMessage message) {
+        try {
+            if (message.getMessageType() == MessageType.MAIN_CONTROLLER) {
+                GameControllerInterface controller = message.execute(this.gameListenerHandlerServer,
+                        MainController.getInstance());
+                this.gameController = controller;
+                this.nicknameClient = controller != null ? message.getNicknameClient() : null;
+            } else if (message.getMessageType() == MessageType.GAME_CONTROLLER) {
+                message.execute(this.gameController);
+            }
+        } catch (Exception e) {
+            AsyncLogger.log(Level.SEVERE, "[SERVER SOCKET] Unexpected exception: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Method for queuing a frame for the client, written by the loop.
+     * @param payload The bytes of the message.
+     * @throws IOException If the connection has been closed or the client is too slow.
+     */
+    private void write(byte[] payload) throws IOException {
+        synchronized (this) {
+            if (this.closed)
+                throw new IOException("Connection closed");
+            if (this.pendingBytes + MessageFraming.HEADER_SIZE + payload.length > MAX_PENDING_BYTES) {
+                this.loop.execute(() -> close("[SERVER SOCKET] A slow client has been disconnected."));
+                throw new IOException("Client too slow");
+            }
+            this.outbound.add(ByteBuffer.allocate(MessageFraming.HEADER_SIZE).putInt(payload.length).flip());
+            this.outbound.add(ByteBuffer.wrap(payload));
+            this.pendingBytes += MessageFraming.HEADER_SIZE + payload.length;
+        }
+        this.loop.execute(() -> {
+            try {
+                onWritable();
+            } catch (IOException e) {
+                close("[SERVER SOCKET] Error writing to the client: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Method for writing the queued frames as far as the channel accepts them, called by the loop.
+     * @throws IOException If the channel has been closed.
+     */
+    synchronized void onWritable() throws IOException {
+        if (this.closed)
+            return;
+        while (!this.outbound.isEmpty()) {
+            ByteBuffer buffer = this.outbound.peek();
+            this.pendingBytes -= this.channel.write(buffer);
+            if (buffer.hasRemaining())
+                break;
+            this.outbound.poll();
+        }
+        this.key.interestOps(this.outbound.isEmpty() ? SelectionKey.OP_READ :
+                SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    }
+
+    /**
+     * Method for closing the connection. The game detects the disconnection of the player by the missing pings.
+     * @param reason The message logged.
+     */
+    void close(String reason) {
+        synchronized (this) {
+            if (this.closed)
+                return;
+            this.closed = true;
+            this.outbound.clear();
+            this.pendingBytes = 0;
+        }
+        AsyncLogger.log(Level.SEVERE, reason);
+        if (this.key != null)
+            this.key.cancel();
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            AsyncLogger.log(Level.SEVERE, "[SERVER SOCKET] Error closing connection: " + e.getMessage());
+        }
+        this.server.closed(this);
+    }
+
+}
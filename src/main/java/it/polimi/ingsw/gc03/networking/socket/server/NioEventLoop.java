@@ -0,0 +1,103 @@
+package it.polimi.ingsw.gc03.networking.socket.server;
+
+import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+
+/**
+ * This class is a thread serving many connections with a single selector: it reads the frames of the clients as their
+ * bytes arrive and writes the queued frames when the connections can accept them. The other threads act on the
+ * connections of the loop by submitting tasks, run by the loop between two selections.
+ */
+class NioEventLoop extends Thread implements Executor {
+
+    /**
+     * The selector of the connections served by the loop.
+     */
+    private final Selector selector;
+
+    /**
+     * The tasks submitted by the other threads.
+     */
+    private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructor of the loop.
+     * @param name The name of the thread.
+     * @throws IOException If the selector cannot be opened.
+     */
+    NioEventLoop(String name) throws IOException {
+        super(name);
+        setDaemon(true);
+        this.selector = Selector.open();
+    }
+
+    /**
+     * Method to get the selector of the loop.
+     * @return The selector.
+     */
+    Selector getSelector() {
+        return this.selector;
+    }
+
+    /**
+     * Method for submitting a task to the loop, waking it up.
+     * @param task The task.
+     */
+    @Override
+    public void execute(Runnable task) {
+        this.tasks.add(task);
+        this.selector.wakeup();
+    }
+
+    /**
+     * Method for closing the selector, which stops the loop.
+     */
+    void close() {
+        try {
+            this.selector.close();
+        } catch (IOException e) {
+            AsyncLogger.log(Level.SEVERE, "[SERVER SOCKET] Error closing selector: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Serves the connections until the selector is closed.
+     */
+    @Override
+    public void run() {
+        try {
+            while (this.selector.isOpen()) {
+                this.selector.select();
+                Runnable task;
+                while ((task = this.tasks.poll()) != null) {
+                    task.run();
+                }
+                Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    NioConnection connection = (NioConnection) key.attachment();
+                    try {
+                        if (key.isValid() && key.isReadable())
+                            connection.onReadable();
+                        if (key.isValid() && key.isWritable())
+                            connection.onWritable();
+                    } catch (IOException | RuntimeException e) {
+                        connection.close("[SERVER SOCKET] The socket connection between the server and the client was interrupted due to a communication failure: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            if (this.selector.isOpen())
+                AsyncLogger.log(Level.SEVERE, "[SERVER SOCKET] Event loop stopped: " + e.getMessage());
+        }
+    }
+
+}
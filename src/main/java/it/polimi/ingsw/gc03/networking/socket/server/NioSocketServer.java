@@ -0,0 +1,194 @@
+package it.polimi.ingsw.gc03.networking.socket.server;
+
+import it.polimi.ingsw.gc03.networking.ServerThreads;
+import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
+import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * The NioSocketServer class accepts the socket connections of the clients and serves them with a small fixed group of
+ * event loops, so that a connection costs no thread: the loops read and write the frames of the clients without
+ * blocking, and the commands of each game are run in order by an executor of that game, sharing a pool of workers.
+ * It speaks the same protocol as the SocketServer, see MessageFraming and MessageCodec.
+ */
+public class NioSocketServer extends Thread {
+
+    /**
+     * The number of event loops.
+     */
+    public static final int LOOPS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * The channel listening to client connections.
+     */
+    private ServerSocketChannel serverChannel;
+
+    /**
+     * The event loops serving the connections.
+     */
+    private final NioEventLoop[] loops = new NioEventLoop[LOOPS];
+
+    /**
+     * The index of the loop of the next connection.
+     */
+    private int nextLoop = 0;
+
+    /**
+     * The open connections.
+     */
+    private final Set<NioConnection> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The pool running the commands of the clients.
+     */
+    private final ExecutorService workers = ServerThreads.newTaskExecutor("nio-worker");
+
+    /**
+     * The executors running the commands of each game in order.
+     */
+    private final Map<GameControllerInterface, SerialExecutor> gameExecutors =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Class constructor.
+     */
+    public NioSocketServer() {
+        super("nio-acceptor");
+    }
+
+    /**
+     * Initializes and starts the server on the specified port.
+     * @param port The port on which the server should listen, or 0 for any free port.
+     * @throws IOException if an I/O error occurs while opening the channel.
+     */
+    public void startSocketServer(int port) throws IOException {
+        try {
+            this.serverChannel = ServerSocketChannel.open();
+            this.serverChannel.bind(new InetSocketAddress(port));
+            for (int i = 0; i < this.loops.length; i++) {
+                this.loops[i] = new NioEventLoop("nio-loop-" + i);
+                this.loops[i].start();
+            }
+            AsyncLogger.log(Level.INFO, "[SERVER SOCKET] Server socket initialized and listening for connections.");
+            this.start();
+        } catch (IOException e) {
+            AsyncLogger.log(Level.SEVERE, "[SERVER SOCKET] Error initializing server socket: " + e.getMessage());
+            throw e; // Re-throw the exception after logging it
+        }
+    }
+
+    /**
+     * Method to get the port on which the server is listening.
+     * @return The port.
+     */
+    public int getPort() {
+        return this.serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Method to get the number of open connections.
+     * @return The number of connections.
+     */
+    public int getConnectionCount() {
+        return this.connections.size();
+    }
+
+    /**
+     * Method to get the pool running the commands of the clients.
+     * @return The pool.
+     */
+    ExecutorService getWorkers() {
+        return this.workers;
+    }
+
+    /**
+     * Method to get the executor running the commands of a game in order.
+     * @param gameController The controller of the game.
+     * @return The executor of the game, or the pool if the client is not in a game.
+     */
+    Executor getGameExecutor(GameControllerInterface gameController) {
+        if (gameController == null)
+            return this.workers;
+        return this.gameExecutors.computeIfAbsent(gameController, controller -> new SerialExecutor(this.workers));
+    }
+
+    /**
+     * Method called when a connection has been closed.
+     * @param connection The connection.
+     */
+    void closed(NioConnection connection) {
+        this.connections.remove(connection);
+    }
+
+    /**
+     * Stops the server, closing the connections, and terminates the thread pool.
+     */
+    public void stopSocketConnection() {
+        interrupt();
+        try {
+            if (this.serverChannel != null)
+                this.serverChannel.close();
+        } catch (IOException e) {
+            AsyncLogger.log(Level.SEVERE, "[SERVER SOCKET] Error closing server socket: " + e.getMessage());
+        }
+        for (NioConnection connection : this.connections) {
+            connection.close("[SERVER SOCKET] Connection dropped.");
+        }
+        for (NioEventLoop loop : this.loops) {
+            if (loop != null)
+                loop.close();
+        }
+        this.workers.shutdown();
+        try {
+            if (!this.workers.awaitTermination(60, TimeUnit.SECONDS))
+                this.workers.shutdownNow();
+        } catch (InterruptedException e) {
+            this.workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        AsyncLogger.log(Level.INFO, "[SERVER SOCKET] Server socket closed and connections dropped.");
+    }
+
+    /**
+     * Accepts the incoming connections and assigns them to the event loops in turn.
+     */
+    @Override
+    public void run() {
+        try {
+            while (!isInterrupted()) {
+                SocketChannel channel = this.serverChannel.accept();
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                NioEventLoop loop = this.loops[this.nextLoop];
+                this.nextLoop = (this.nextLoop + 1) % this.loops.length;
+                NioConnection connection = new NioConnection(this, channel, loop);
+                this.connections.add(connection);
+                loop.execute(() -> {
+                    try {
+                        connection.register();
+                    } catch (IOException e) {
+                        connection.close("[SERVER SOCKET] Error registering connection: " + e.getMessage());
+                    }
+                });
+            }
+        } catch (IOException e) {
+            // Handle errors in accepting client connections unless the server has been stopped
+            if (!isInterrupted()) {
+                AsyncLogger.log(Level.SEVERE, "[SERVER SOCKET] Error accepting client connection on server socket: " + e.getMessage());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+package it.polimi.ingsw.gc03.networking.socket.server;
+
+import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+
+/**
+ * This class runs its tasks one at a time, in the order they were submitted, on the threads of a shared executor.
+ * It is used to run the commands of a game in order without a thread for each game.
+ */
+public class SerialExecutor implements Executor {
+
+    /**
+     * The executor running the tasks.
+     */
+    private final Executor executor;
+
+    /**
+     * The tasks waiting to be run.
+     */
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+    /**
+     * Boolean indicating whether a task is running.
+     */
+    private boolean running = false;
+
+    /**
+     * Constructor of the executor.
+     * @param executor The executor running the tasks.
+     */
+    public SerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Method for submitting a task, run after the ones submitted before.
+     * @param task The task.
+     */
+    @Override
+    public synchronized void execute(Runnable task) {
+        this.tasks.add(task);
+        if (!this.running) {
+            this.running = true;
+            this.executor.execute(this::runTasks);
+        }
+    }
+
+    /**
+     * Method for running the submitted tasks until none is left.
+     */
+    private void runTasks() {
+        while (true) {
+            Runnable task;
+            synchronized (this) {
+                task = this.tasks.poll();
+                if (task == null) {
+                    this.running = false;
+                    return;
+                }
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                AsyncLogger.log(Level.SEVERE, "[SERVER SOCKET] Unexpected exception: " + e.getMessage());
+            }
+        }
+    }
+
+}
@@ -1,11 +1,11 @@
 package it.polimi.ingsw.gc03.networking.socket.server;
 
+import it.polimi.ingsw.gc03.networking.ServerThreads;
 import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
@@ -21,9 +21,9 @@ public class SocketServer extends Thread {
     private ServerSocket socketServer;
 
     /**
-     * A thread pool for handling client handlers.
+     * A thread pool for handling client handlers, with the kind of threads chosen for the server.
      */
-    private final ExecutorService clientHandlerPool = Executors.newCachedThreadPool();
+    private final ExecutorService clientHandlerPool = ServerThreads.newTaskExecutor("socket-client");
 
     /**
      * Class constructor.
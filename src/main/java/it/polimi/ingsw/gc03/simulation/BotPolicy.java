@@ -0,0 +1,47 @@
+package it.polimi.ingsw.gc03.simulation;
+
+import it.polimi.ingsw.gc03.controller.GameCommand;
+import it.polimi.ingsw.gc03.model.Game;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.card.CardGold;
+import it.polimi.ingsw.gc03.model.card.CardResource;
+import it.polimi.ingsw.gc03.model.side.Side;
+
+/**
+ * This interface represents the strategy used by a bot to choose its moves during a simulated game.
+ */
+public interface BotPolicy {
+
+    /**
+     * Method for choosing the card to place into the codex of the player.
+     * @param game The game.
+     * @param player The player, whose action is PLACE.
+     * @return The PlaceCard command, or null if no card can be placed.
+     * @throws Exception If an error occurs while checking the placements.
+     */
+    GameCommand choosePlacement(Game game, Player player) throws Exception;
+
+    /**
+     * Method for choosing the deck or the displayed card to draw from.
+     * @param game The game.
+     * @param player The player, whose action is DRAW.
+     * @return The DrawFromDeck or DrawDisplayed command.
+     */
+    GameCommand chooseDraw(Game game, Player player);
+
+    /**
+     * Method to retrieve a side of a card of the hand.
+     * @param card The card.
+     * @param frontCard True to retrieve the front side, false to retrieve the back side.
+     * @return The side, or null if the card cannot be placed into the codex.
+     */
+    static Side getSide(Card card, boolean frontCard) {
+        if (card instanceof CardResource resource)
+            return frontCard ? resource.getFrontResource() : resource.getBackResource();
+        if (card instanceof CardGold gold)
+            return frontCard ? gold.getFrontGold() : gold.getBackGold();
+        return null;
+    }
+
+}
@@ -0,0 +1,109 @@
+package it.polimi.ingsw.gc03.simulation;
+
+import it.polimi.ingsw.gc03.controller.GameCommand;
+import it.polimi.ingsw.gc03.model.Desk;
+import it.polimi.ingsw.gc03.model.Game;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.enumerations.DeckType;
+import it.polimi.ingsw.gc03.model.enumerations.Value;
+import it.polimi.ingsw.gc03.model.side.Side;
+import it.polimi.ingsw.gc03.model.side.front.FrontGold;
+import it.polimi.ingsw.gc03.model.side.front.FrontResource;
+import it.polimi.ingsw.gc03.view.tui.Coords;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * This class represents a bot that places the front side worth the most points it can place, falling back to a back
+ * side, and prefers drawing Gold cards.
+ */
+public class GreedyPolicy implements BotPolicy {
+
+    /**
+     * The source of randomness of the bot, used to break ties.
+     */
+    private final Random random;
+
+    /**
+     * Constructor of the GreedyPolicy class.
+     * @param seed The seed of the bot.
+     */
+    public GreedyPolicy(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Method to estimate the points given by a side when it is placed.
+     * @param side The side.
+     * @return The points printed on the side, doubled when they do not depend on the codex.
+     */
+    private static int estimatePoints(Side side) {
+        if (side instanceof FrontResource front)
+            return 2 * front.getPoint();
+        if (side instanceof FrontGold front)
+            return front.getRequirementPoint() == Value.NULL ? 2 * front.getPoint() : front.getPoint();
+        return 0;
+    }
+
+    /**
+     * Method for choosing the card to place into the codex of the player.
+     * @param game The game.
+     * @param player The player, whose action is PLACE.
+     * @return The PlaceCard command, or null if no card can be placed.
+     * @throws Exception If an error occurs while checking the placements.
+     */
+    @Override
+    public GameCommand choosePlacement(Game game, Player player) throws Exception {
+        ArrayList<Coords> frontier = player.getCodex().getFrontier();
+        ArrayList<Card> hand = player.getHand();
+        if (frontier.isEmpty() || hand.isEmpty())
+            return null;
+        GameCommand best = null;
+        int bestPoints = -1;
+        int ties = 0;
+        for (int index = 0; index < hand.size(); index++) {
+            for (boolean frontCard : new boolean[]{true, false}) {
+                Side side = BotPolicy.getSide(hand.get(index), frontCard);
+                if (side == null)
+                    continue;
+                int points = estimatePoints(side);
+                if (points < bestPoints)
+                    continue;
+                // Any free cell gives the same points, so only the first placeable one is kept
+                for (Coords cell : frontier) {
+                    if (player.getCodex().simulateInsertIntoCodex(side, cell.getX(), cell.getY())) {
+                        ties = points > bestPoints ? 1 : ties + 1;
+                        if (points > bestPoints || this.random.nextInt(ties) == 0)
+                            best = new GameCommand.PlaceCard(player.getNickname(), index, frontCard, cell.getX(),
+                                    cell.getY());
+                        bestPoints = points;
+                        break;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Method for choosing the deck or the displayed card to draw from.
+     * @param game The game.
+     * @param player The player, whose action is DRAW.
+     * @return The DrawFromDeck or DrawDisplayed command.
+     */
+    @Override
+    public GameCommand chooseDraw(Game game, Player player) {
+        Desk desk = game.getDesk();
+        if (!desk.getDisplayedGold().isEmpty())
+            return new GameCommand.DrawDisplayed(player.getNickname(), DeckType.DISPLAYED_GOLD,
+                    this.random.nextInt(desk.getDisplayedGold().size()));
+        if (!desk.isDeckEmpty(DeckType.DECK_GOLD))
+            return new GameCommand.DrawFromDeck(player.getNickname(), DeckType.DECK_GOLD);
+        if (!desk.getDisplayedResource().isEmpty())
+            return new GameCommand.DrawDisplayed(player.getNickname(), DeckType.DISPLAYED_RESOURCE,
+                    this.random.nextInt(desk.getDisplayedResource().size()));
+        return new GameCommand.DrawFromDeck(player.getNickname(), DeckType.DECK_RESOURCE);
+    }
+
+}
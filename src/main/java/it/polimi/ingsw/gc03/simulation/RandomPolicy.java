@@ -0,0 +1,84 @@
+package it.polimi.ingsw.gc03.simulation;
+
+import it.polimi.ingsw.gc03.controller.GameCommand;
+import it.polimi.ingsw.gc03.model.Desk;
+import it.polimi.ingsw.gc03.model.Game;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.enumerations.DeckType;
+import it.polimi.ingsw.gc03.model.side.Side;
+import it.polimi.ingsw.gc03.view.tui.Coords;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * This class represents a bot that places a random card of its hand, on a random side, in a random free cell of its
+ * codex, and draws from a random non-empty deck or displayed card.
+ */
+public class RandomPolicy implements BotPolicy {
+
+    /**
+     * The source of randomness of the bot.
+     */
+    private final Random random;
+
+    /**
+     * Constructor of the RandomPolicy class.
+     * @param seed The seed of the bot.
+     */
+    public RandomPolicy(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Method for choosing the card to place into the codex of the player.
+     * @param game The game.
+     * @param player The player, whose action is PLACE.
+     * @return The PlaceCard command, or null if no card can be placed.
+     * @throws Exception If an error occurs while checking the placements.
+     */
+    @Override
+    public GameCommand choosePlacement(Game game, Player player) throws Exception {
+        ArrayList<Coords> frontier = player.getCodex().getFrontier();
+        ArrayList<Card> hand = player.getHand();
+        if (frontier.isEmpty() || hand.isEmpty())
+            return null;
+        Coords cell = frontier.get(this.random.nextInt(frontier.size()));
+        int firstIndex = this.random.nextInt(hand.size());
+        boolean firstFront = this.random.nextBoolean();
+        // Try every card of the hand starting from a random one, the back side is always placeable
+        for (int i = 0; i < hand.size(); i++) {
+            int index = (firstIndex + i) % hand.size();
+            for (boolean frontCard : new boolean[]{firstFront, !firstFront}) {
+                Side side = BotPolicy.getSide(hand.get(index), frontCard);
+                if (side != null && player.getCodex().simulateInsertIntoCodex(side, cell.getX(), cell.getY()))
+                    return new GameCommand.PlaceCard(player.getNickname(), index, frontCard, cell.getX(), cell.getY());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method for choosing the deck or the displayed card to draw from.
+     * @param game The game.
+     * @param player The player, whose action is DRAW.
+     * @return The DrawFromDeck or DrawDisplayed command.
+     */
+    @Override
+    public GameCommand chooseDraw(Game game, Player player) {
+        Desk desk = game.getDesk();
+        ArrayList<GameCommand> choices = new ArrayList<>();
+        if (!desk.isDeckEmpty(DeckType.DECK_RESOURCE))
+            choices.add(new GameCommand.DrawFromDeck(player.getNickname(), DeckType.DECK_RESOURCE));
+        if (!desk.isDeckEmpty(DeckType.DECK_GOLD))
+            choices.add(new GameCommand.DrawFromDeck(player.getNickname(), DeckType.DECK_GOLD));
+        for (int i = 0; i < desk.getDisplayedResource().size(); i++)
+            choices.add(new GameCommand.DrawDisplayed(player.getNickname(), DeckType.DISPLAYED_RESOURCE, i));
+        for (int i = 0; i < desk.getDisplayedGold().size(); i++)
+            choices.add(new GameCommand.DrawDisplayed(player.getNickname(), DeckType.DISPLAYED_GOLD, i));
+        if (choices.isEmpty())
+            return new GameCommand.DrawFromDeck(player.getNickname(), DeckType.DECK_RESOURCE);
+        return choices.get(this.random.nextInt(choices.size()));
+    }
+
+}
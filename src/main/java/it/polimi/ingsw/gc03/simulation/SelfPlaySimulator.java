@@ -0,0 +1,219 @@
+package it.polimi.ingsw.gc03.simulation;
+
+import it.polimi.ingsw.gc03.controller.GameCommand;
+import it.polimi.ingsw.gc03.controller.GameController;
+import it.polimi.ingsw.gc03.model.Game;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.enumerations.GameStatus;
+import it.polimi.ingsw.gc03.model.enumerations.PlayerAction;
+import it.polimi.ingsw.gc03.view.tui.print.AsyncLogger;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongFunction;
+import java.util.logging.Level;
+
+/**
+ * This class plays complete games between bots through the GameController, without networking nor views, spreading
+ * the games over a fork-join pool. It is used to measure the throughput of the model and to catch performance
+ * regressions.
+ */
+public class SelfPlaySimulator {
+
+    /**
+     * The maximum number of moves of a game, after which the game is considered stuck.
+     */
+    public static final int MAX_MOVES = 1000;
+
+    /**
+     * The number of games handled by a task without splitting it.
+     */
+    private static final int GAMES_PER_TASK = 8;
+
+    /**
+     * The number of players of each game.
+     */
+    private final int numPlayers;
+
+    /**
+     * The seed of the first game, the other games use the following seeds.
+     */
+    private final long baseSeed;
+
+    /**
+     * The factory of the bots, given the seed of the game. The bot plays the moves of every player of the game.
+     */
+    private final LongFunction<BotPolicy> policyFactory;
+
+    /**
+     * The bean used to measure the bytes allocated by the worker threads, or null if the JVM cannot measure them.
+     */
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    /**
+     * Constructor of the SelfPlaySimulator class.
+     * @param numPlayers The number of players of each game, from 2 to 4.
+     * @param baseSeed The seed of the first game.
+     * @param policyFactory The factory of the bots, given a seed.
+     * @throws IllegalArgumentException If the number of players is not valid.
+     */
+    public SelfPlaySimulator(int numPlayers, long baseSeed, LongFunction<BotPolicy> policyFactory)
+            throws IllegalArgumentException {
+        if (numPlayers < 2 || numPlayers > 4)
+            throw new IllegalArgumentException("Invalid number of players: " + numPlayers);
+        this.numPlayers = numPlayers;
+        this.baseSeed = baseSeed;
+        this.policyFactory = policyFactory;
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+            this.allocationBean = sunBean;
+        } else {
+            this.allocationBean = null;
+        }
+    }
+
+    /**
+     * Method for playing some games in parallel.
+     * @param games The number of games.
+     * @param parallelism The number of worker threads.
+     * @return The statistics of the run.
+     */
+    public SimulationReport run(int games, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long start = System.nanoTime();
+            SimulationReport report = pool.invoke(new GameRange(0, games));
+            report.setElapsedNanos(System.nanoTime() - start);
+            return report;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Method to retrieve the bytes allocated so far by the current thread.
+     * @return The allocated bytes, or 0 if the JVM cannot measure them.
+     */
+    private long allocatedBytes() {
+        return this.allocationBean == null ? 0 : this.allocationBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Method for playing a complete game.
+     * @param seed The seed of the game.
+     * @param report The report in which the moves are recorded.
+     */
+    void playGame(long seed, SimulationReport report) {
+        BotPolicy policy = this.policyFactory.apply(seed);
+        ArrayList<GameCommand> setup = new ArrayList<>();
+        for (int i = 1; i <= this.numPlayers; i++) {
+            setup.add(new GameCommand.Join("Bot" + i));
+            if (i == 1)
+                setup.add(new GameCommand.SetSize(this.numPlayers));
+        }
+        for (int i = 1; i <= this.numPlayers; i++) {
+            setup.add(new GameCommand.PlaceStarter("Bot" + i, true));
+            setup.add(new GameCommand.SelectObjective("Bot" + i, 0));
+        }
+        boolean completed = false;
+        try {
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            GameController controller = GameController.replay(seed, setup);
+            report.record(SimulationReport.Phase.SETUP, System.nanoTime() - start, allocatedBytes() - bytes);
+            Game game = controller.getGame();
+            for (int moves = 0; moves < MAX_MOVES && !game.getStatus().equals(GameStatus.ENDED); moves++) {
+                Player player = game.getPlayers().get(game.getCurrPlayer());
+                SimulationReport.Phase phase;
+                GameCommand command;
+                if (player.getAction().equals(PlayerAction.PLACE)) {
+                    phase = SimulationReport.Phase.PLACE;
+                    command = policy.choosePlacement(game, player);
+                } else if (player.getAction().equals(PlayerAction.DRAW)) {
+                    phase = SimulationReport.Phase.DRAW;
+                    command = policy.chooseDraw(game, player);
+                } else {
+                    break;
+                }
+                if (command == null)
+                    break;
+                bytes = allocatedBytes();
+                start = System.nanoTime();
+                command.apply(controller);
+                report.record(phase, System.nanoTime() - start, allocatedBytes() - bytes);
+            }
+            completed = game.getStatus().equals(GameStatus.ENDED);
+        } catch (Exception e) {
+            AsyncLogger.log(Level.WARNING, "[SIMULATOR] Game " + seed + " failed: " + e.getMessage());
+        }
+        report.recordGame(completed);
+    }
+
+    /**
+     * This class represents the task playing a range of games, split in halves until it is small enough.
+     */
+    private class GameRange extends RecursiveTask<SimulationReport> {
+
+        /**
+         * The index of the first game of the range.
+         */
+        private final int from;
+
+        /**
+         * The index after the last game of the range.
+         */
+        private final int to;
+
+        /**
+         * Constructor of the GameRange class.
+         * @param from The index of the first game.
+         * @param to The index after the last game.
+         */
+        GameRange(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Method for playing the games of the range.
+         * @return The statistics of the games.
+         */
+        @Override
+        protected SimulationReport compute() {
+            if (this.to - this.from <= GAMES_PER_TASK) {
+                SimulationReport report = new SimulationReport();
+                for (int i = this.from; i < this.to; i++)
+                    playGame(baseSeed + i, report);
+                return report;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            GameRange left = new GameRange(this.from, middle);
+            left.fork();
+            SimulationReport right = new GameRange(middle, this.to).compute();
+            return left.join().merge(right);
+        }
+
+    }
+
+    /**
+     * Main method of the simulator.
+     * @param args The number of games, the number of players, the number of threads, the seed and the policy
+     *             (random or greedy), all optional.
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int numPlayers = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+        boolean greedy = args.length > 4 && args[4].equalsIgnoreCase("greedy");
+        SelfPlaySimulator simulator = new SelfPlaySimulator(numPlayers, seed,
+                greedy ? GreedyPolicy::new : RandomPolicy::new);
+        // Warm up the JIT before measuring
+        simulator.run(Math.max(1, games / 10), parallelism);
+        System.out.print(simulator.run(games, parallelism));
+    }
+
+}
@@ -0,0 +1,217 @@
+package it.polimi.ingsw.gc03.simulation;
+
+/**
+ * This class collects the statistics of a run of simulated games: how many games were played and completed, and the
+ * latency and the allocated bytes of each phase of the games.
+ */
+public class SimulationReport {
+
+    /**
+     * This enum represents the phases of a simulated game.
+     */
+    public enum Phase {
+        /**
+         * The creation of the game, the joins, the placement of the Starter cards and the choice of the objectives.
+         */
+        SETUP,
+        /**
+         * The placement of a card into a codex.
+         */
+        PLACE,
+        /**
+         * The draw of a card.
+         */
+        DRAW
+    }
+
+    /**
+     * The number of games played.
+     */
+    private int games;
+
+    /**
+     * The number of games that reached the ENDED status.
+     */
+    private int completedGames;
+
+    /**
+     * The wall-clock time of the run, in nanoseconds.
+     */
+    private long elapsedNanos;
+
+    /**
+     * The number of moves of each phase.
+     */
+    private final long[] count = new long[Phase.values().length];
+
+    /**
+     * The total time spent in each phase, in nanoseconds.
+     */
+    private final long[] totalNanos = new long[Phase.values().length];
+
+    /**
+     * The longest move of each phase, in nanoseconds.
+     */
+    private final long[] maxNanos = new long[Phase.values().length];
+
+    /**
+     * The bytes allocated in each phase, or 0 if the JVM cannot measure them.
+     */
+    private final long[] allocatedBytes = new long[Phase.values().length];
+
+    /**
+     * Method for recording a move.
+     * @param phase The phase of the move.
+     * @param nanos The time spent in the move, in nanoseconds.
+     * @param bytes The bytes allocated by the move.
+     */
+    public void record(Phase phase, long nanos, long bytes) {
+        int i = phase.ordinal();
+        this.count[i]++;
+        this.totalNanos[i] += nanos;
+        this.maxNanos[i] = Math.max(this.maxNanos[i], nanos);
+        this.allocatedBytes[i] += bytes;
+    }
+
+    /**
+     * Method for recording the end of a game.
+     * @param completed True if the game reached the ENDED status.
+     */
+    public void recordGame(boolean completed) {
+        this.games++;
+        if (completed)
+            this.completedGames++;
+    }
+
+    /**
+     * Method for adding the statistics of another report to this one.
+     * @param other The other report.
+     * @return This report.
+     */
+    public SimulationReport merge(SimulationReport other) {
+        this.games += other.games;
+        this.completedGames += other.completedGames;
+        for (int i = 0; i < this.count.length; i++) {
+            this.count[i] += other.count[i];
+            this.totalNanos[i] += other.totalNanos[i];
+            this.maxNanos[i] = Math.max(this.maxNanos[i], other.maxNanos[i]);
+            this.allocatedBytes[i] += other.allocatedBytes[i];
+        }
+        return this;
+    }
+
+    /**
+     * Method to retrieve the number of games played.
+     * @return The number of games.
+     */
+    public int getGames() {
+        return this.games;
+    }
+
+    /**
+     * Method to retrieve the number of games that reached the ENDED status.
+     * @return The number of completed games.
+     */
+    public int getCompletedGames() {
+        return this.completedGames;
+    }
+
+    /**
+     * Method to retrieve the wall-clock time of the run.
+     * @return The elapsed time, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * Method to set the wall-clock time of the run.
+     * @param elapsedNanos The elapsed time, in nanoseconds.
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Method to retrieve the number of moves of a phase.
+     * @param phase The phase.
+     * @return The number of moves.
+     */
+    public long getCount(Phase phase) {
+        return this.count[phase.ordinal()];
+    }
+
+    /**
+     * Method to retrieve the average time of the moves of a phase.
+     * @param phase The phase.
+     * @return The average time, in nanoseconds.
+     */
+    public double getAverageNanos(Phase phase) {
+        int i = phase.ordinal();
+        return this.count[i] == 0 ? 0 : (double) this.totalNanos[i] / this.count[i];
+    }
+
+    /**
+     * Method to retrieve the longest move of a phase.
+     * @param phase The phase.
+     * @return The longest time, in nanoseconds.
+     */
+    public long getMaxNanos(Phase phase) {
+        return this.maxNanos[phase.ordinal()];
+    }
+
+    /**
+     * Method to retrieve the bytes allocated in a phase.
+     * @param phase The phase.
+     * @return The allocated bytes.
+     */
+    public long getAllocatedBytes(Phase phase) {
+        return this.allocatedBytes[phase.ordinal()];
+    }
+
+    /**
+     * Method to retrieve the number of games played per second.
+     * @return The throughput of the run.
+     */
+    public double getGamesPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.games * 1e9 / this.elapsedNanos;
+    }
+
+    /**
+     * Method to retrieve the bytes allocated on average by a game.
+     * @return The allocated bytes per game.
+     */
+    public double getAllocatedBytesPerGame() {
+        long total = 0;
+        for (long bytes : this.allocatedBytes)
+            total += bytes;
+        return this.games == 0 ? 0 : (double) total / this.games;
+    }
+
+    /**
+     * Method to retrieve the allocation rate of the run.
+     * @return The allocated megabytes per second.
+     */
+    public double getAllocationRate() {
+        return this.elapsedNanos == 0 ? 0 : getAllocatedBytesPerGame() * this.games / 1e6 * 1e9 / this.elapsedNanos;
+    }
+
+    /**
+     * Method for describing the report.
+     * @return The statistics of the run, one line per phase.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%d games (%d completed) in %.2f s: %.1f games/s, %.1f KB/game, %.1f MB/s%n",
+                this.games, this.completedGames, this.elapsedNanos / 1e9, getGamesPerSecond(),
+                getAllocatedBytesPerGame() / 1024, getAllocationRate()));
+        for (Phase phase : Phase.values()) {
+            text.append(String.format("  %-5s %9d moves, avg %8.1f us, max %8.1f us, %8.1f B/move%n", phase,
+                    getCount(phase), getAverageNanos(phase) / 1e3, getMaxNanos(phase) / 1e3,
+                    getCount(phase) == 0 ? 0 : (double) getAllocatedBytes(phase) / getCount(phase)));
+        }
+        return text.toString();
+    }
+
+}
@@ -2434,6 +2434,16 @@ public class GameRunningController extends GenericController {
             codexGrid.setValignment(imageView, VPos.CENTER);
             codexGrid.add(imageView, coords.getY(), coords.getX());
         }
+        // Highlight the free cells where a card can be placed
+        for (Node node : codexGrid.getChildren()) {
+            if (node instanceof Pane && node.getId() != null && node.getId().startsWith("cell_"))
+                node.setStyle("");
+        }
+        for (Coords coords : player.getCodex().getFrontier()) {
+            Node cellPane = codexGrid.lookup("#cell_" + coords.getX() + "_" + coords.getY());
+            if (cellPane != null)
+                cellPane.setStyle("-fx-background-color: rgba(255, 255, 255, 0.3);");
+        }
     }
 
     /**
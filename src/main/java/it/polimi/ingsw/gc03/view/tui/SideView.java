@@ -1,5 +1,6 @@
 package it.polimi.ingsw.gc03.view.tui;
 
+import it.polimi.ingsw.gc03.model.Codex;
 import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
 import it.polimi.ingsw.gc03.model.enumerations.Value;
 import it.polimi.ingsw.gc03.model.side.Side;
@@ -20,12 +21,28 @@ public class SideView {
      */
     private CharSpecial[][] sideView = new CharSpecial[9][27];
 
+    /**
+     * The corners of the side covered in the codex, as a bitmask of the corner constants of the Codex.
+     */
+    private int coverage = 0;
+
     /**
      * Generates the visual representation of a given side.
      * @param side The side of the card to visualize.
      * @return The 2D array of CharSpecial representing the visual appearance of the side.
      */
     public CharSpecial[][] getSideView(Side side) {
+        return getSideView(side, 0);
+    }
+
+    /**
+     * Generates the visual representation of a side placed in a codex.
+     * @param side The side of the card to visualize.
+     * @param coverage The corners of the side covered in the codex.
+     * @return The 2D array of CharSpecial representing the visual appearance of the side.
+     */
+    public CharSpecial[][] getSideView(Side side, int coverage) {
+        this.coverage = coverage;
         Kingdom kingdom = side.getKingdom();
         CharColor color = getColorFromKingdom(kingdom);
         if(side instanceof BackStarter || side instanceof FrontStarter) {
@@ -42,7 +59,7 @@ public class SideView {
      */
     public void putTopLeftValue(Side side){
         CharColor color = getColorFromSide(side);
-        switch (side.getTopLeftCorner()) {
+        switch (getCornerValue(side, Codex.TOP_LEFT)) {
             case NULL -> {
                 generateAndPutBox(color, 0,0,5,3,'╔', '═','║','║');
                 for(int i = 0; i<2;i++){
@@ -69,7 +86,7 @@ public class SideView {
             }
             case FUNGI, ANIMAL, PLANT, INSECT, QUILL, INKWELL, MANUSCRIPT -> {
                 generateAndPutBox(color,0,0, 5,3,'╔','╦','╠','╝');
-                sideView[1][2] = new CharSpecial(color, getCharFromValue(side.getTopLeftCorner()));
+                sideView[1][2] = new CharSpecial(color, getCharFromValue(getCornerValue(side, Codex.TOP_LEFT)));
             }
             case EMPTY -> {
                 generateAndPutBox(color,0,0, 5,3,'╔','╦','╠','╝');
@@ -83,7 +100,7 @@ public class SideView {
      */
     public void putTopRightValue(Side side){
         CharColor color = getColorFromSide(side);
-        switch (side.getTopRightCorner()) {
+        switch (getCornerValue(side, Codex.TOP_RIGHT)) {
             case NULL -> {
                 generateAndPutBox(color, 22,0,5,3,'═', '╗','╚','║');
                 for(int i = 0; i<2;i++){
@@ -111,7 +128,7 @@ public class SideView {
             }
             case FUNGI, ANIMAL, PLANT, INSECT, QUILL, INKWELL, MANUSCRIPT -> {
                 generateAndPutBox(color,22, 0, 5,3,'╦','╗','╚','╣');
-                sideView[1][24] = new CharSpecial(color, getCharFromValue(side.getTopRightCorner()));
+                sideView[1][24] = new CharSpecial(color, getCharFromValue(getCornerValue(side, Codex.TOP_RIGHT)));
             }
             case EMPTY -> {
                 generateAndPutBox(color,22, 0, 5,3,'╦','╗','╚','╣');
@@ -125,7 +142,7 @@ public class SideView {
      */
     public void putBottomLeftValue(Side side){
         CharColor color = getColorFromSide(side);
-        switch (side.getBottomLeftCorner()) {
+        switch (getCornerValue(side, Codex.BOTTOM_LEFT)) {
             case NULL -> {
                 generateAndPutBox(color, 0,6,5,3,'║', '.','╚','═');
                 for(int i = 0; i<2;i++){
@@ -152,7 +169,7 @@ public class SideView {
             }
             case FUNGI, ANIMAL, PLANT, INSECT, QUILL, INKWELL, MANUSCRIPT -> {
                 generateAndPutBox(color,0, 6, 5,3,'╠','╗','╚','╩');
-                sideView[7][2] = new CharSpecial(color, getCharFromValue(side.getBottomLeftCorner()));
+                sideView[7][2] = new CharSpecial(color, getCharFromValue(getCornerValue(side, Codex.BOTTOM_LEFT)));
             }
             case EMPTY -> {
                 generateAndPutBox(color,0, 6, 5,3,'╠','╗','╚','╩');
@@ -166,7 +183,7 @@ public class SideView {
      */
     public void putBottomRightValue(Side side){
         CharColor color = getColorFromSide(side);
-        switch (side.getBottomRightCorner()) {
+        switch (getCornerValue(side, Codex.BOTTOM_RIGHT)) {
             case NULL -> {
                 generateAndPutBox(color, 22,6,5,3,'.', '║','═','╝');
                 for(int i = 0; i<2;i++){
@@ -193,7 +210,7 @@ public class SideView {
             }
             case FUNGI, ANIMAL, PLANT, INSECT, QUILL, INKWELL, MANUSCRIPT -> {
                 generateAndPutBox(color,22, 6, 5,3,'╔','╣','╩','╝');
-                sideView[7][24] = new CharSpecial(color, getCharFromValue(side.getBottomRightCorner()));
+                sideView[7][24] = new CharSpecial(color, getCharFromValue(getCornerValue(side, Codex.BOTTOM_RIGHT)));
             }
             case EMPTY -> {
                 generateAndPutBox(color,22, 6, 5,3,'╔','╣','╩','╝');
@@ -246,6 +263,23 @@ public class SideView {
         }
     }
 
+    /**
+     * Retrieves the value shown in a corner of the side.
+     * @param side The side of the card.
+     * @param corner The corner of the side.
+     * @return COVERED if the corner is covered in the codex, otherwise the value of the side.
+     */
+    private Value getCornerValue(Side side, int corner) {
+        if ((this.coverage & corner) != 0)
+            return Value.COVERED;
+        return switch (corner) {
+            case Codex.TOP_LEFT -> side.getTopLeftCorner();
+            case Codex.TOP_RIGHT -> side.getTopRightCorner();
+            case Codex.BOTTOM_LEFT -> side.getBottomLeftCorner();
+            default -> side.getBottomRightCorner();
+        };
+    }
+
     /**
      * Puts the corner values on the frame.
      * @param side The side of the card.
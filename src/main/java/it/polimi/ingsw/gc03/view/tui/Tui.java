@@ -6,7 +6,6 @@ import it.polimi.ingsw.gc03.model.card.CardGold;
 import it.polimi.ingsw.gc03.model.card.CardResource;
 import it.polimi.ingsw.gc03.model.card.CardStarter;
 import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
-import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
 import it.polimi.ingsw.gc03.model.enumerations.Value;
 import it.polimi.ingsw.gc03.model.side.Side;
 import it.polimi.ingsw.gc03.model.side.back.BackStarter;
@@ -15,7 +14,6 @@ import it.polimi.ingsw.gc03.model.side.front.FrontResource;
 import it.polimi.ingsw.gc03.model.side.front.FrontStarter;
 import it.polimi.ingsw.gc03.view.ui.UI;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -63,11 +61,6 @@ public class Tui extends UI {
      */
     private boolean[][] visited = new boolean[81][81];
 
-    /**
-     * Double array used to create the codex view.
-     */
-    private ArrayList<Coords> occupiedPositions = new ArrayList<Coords>();
-
     /**
      * Double array used to print on the terminal.
      */
@@ -217,7 +210,18 @@ public class Tui extends UI {
      * @param col The col on the codex of the card.
      */
     public void showSide(Side side, int row, int col) {
-        CharSpecial[][] sideArray = new SideView().getSideView(side);
+        showSide(side, 0, row, col);
+    }
+
+    /**
+     * Method to add a Side of a card placed in a codex on the screenSim.
+     * @param side The card's side to display.
+     * @param coverage The corners of the side covered in the codex.
+     * @param row The row on the codex of the card.
+     * @param col The col on the codex of the card.
+     */
+    public void showSide(Side side, int coverage, int row, int col) {
+        CharSpecial[][] sideArray = new SideView().getSideView(side, coverage);
         for (int i = 0; i < 9; i++) {
             for (int j = 0; j < 27; j++) {
                 int rowIndex = row + i;
@@ -239,7 +243,7 @@ public class Tui extends UI {
         if (!codex.getCardStarterInserted()) {
             return;
         }
-        recursiveShowSide(codex.getCodex(), 40, 40);
+        recursiveShowSide(codex, 40, 40);
         for (int i = 0; i < visited.length; i++) {
             for (int j = 0; j < visited[0].length; j++) {
                 visited[i][j] = false;
@@ -253,16 +257,15 @@ public class Tui extends UI {
      * @param i The i index of the recursive method.
      * @param j The j index of the recursive method.
      */
-    private void recursiveShowSide(Side[][] codex, int i, int j) {
-        if (i < 0 || i >= 81 || j < 0 || j >= 81 || visited[i][j] || codex[i][j] == null) {
+    private void recursiveShowSide(Codex codex, int i, int j) {
+        if (i < 0 || i >= 81 || j < 0 || j >= 81 || visited[i][j] || codex.getSideAt(i, j) == null) {
             return;
         }
         visited[i][j] = true;
 
         int toMoveY = (40 - i) * 3;
         int toMoveX = (40 - j) * 5;
-        showSide(codex[i][j], i * 9 + toMoveY, j * 27 + toMoveX);
-        occupiedPositions.add(new Coords(j, i));
+        showSide(codex.getSideAt(i, j), codex.getCoverage(i, j), i * 9 + toMoveY, j * 27 + toMoveX);
 
         recursiveShowSide(codex, i - 1, j - 1);
         recursiveShowSide(codex, i - 1, j + 1);
@@ -275,42 +278,17 @@ public class Tui extends UI {
      * @param codex The codex.
      */
     private void generateAvailablePositions(Codex codex) {
-        Iterator<Coords> occupiedPositionsIterator = occupiedPositions.iterator();
-        BackStarter test = new BackStarter(Kingdom.NULL, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY, new ArrayList<>());
-        while (occupiedPositionsIterator.hasNext()) {
-            Coords current = occupiedPositionsIterator.next();
-            int y1 = current.y * 9 + (40 - current.y) * 3;
-            int x1 = current.x * 27 + (40 - current.x) * 5;
-            try {
-                // put free space coords on top-left position
-                if (codex.simulateInsertIntoCodex(test, current.y - 1, current.x - 1)) {
-                    int actualX = current.x - 1;
-                    int actualY = current.y - 1;
-                    generateTextOnScreen(actualX + " " + actualY, CharColor.WHITE, x1 - 5, y1 - 1);
-                }
-                // put free space coords on top-right position
-                if (codex.simulateInsertIntoCodex(test, current.y - 1, current.x + 1)) {
-                    int actualY = current.y - 1;
-                    int actualX = current.x + 1;
-                    generateTextOnScreen(actualX + " " + actualY, CharColor.WHITE, x1 + 27, y1 - 1);
-                }
-                // put free space coords on bottom-left position
-                if (codex.simulateInsertIntoCodex(test, current.y + 1, current.x - 1)) {
-                    int actualY = current.y + 1;
-                    int actualX = current.x - 1;
-                    generateTextOnScreen(actualX + " " + actualY, CharColor.WHITE, x1 - 5, y1 + 9);
-                }
-                // put free space coords on bottom-right position
-                if (codex.simulateInsertIntoCodex(test, current.y + 1, current.x + 1)) {
-                    int actualY = current.y + 1;
-                    int actualX = current.x + 1;
-                    generateTextOnScreen(actualX + " " + actualY, CharColor.WHITE, x1 + 27, y1 + 9);
-                }
-            } catch (Exception e) {
-                System.err.println(e);
-            }
+        for (Coords free : codex.getFrontier()) {
+            int row = free.getX();
+            int column = free.getY();
+            // Only the positions that fit in the screenSim can be shown
+            if (row < 0 || row >= 81 || column < 0 || column >= 81)
+                continue;
+            // put free space coords in the middle of the free position
+            int y1 = row * 9 + (40 - row) * 3 + 4;
+            int x1 = column * 27 + (40 - column) * 5 + 11;
+            generateTextOnScreen(column + " " + row, CharColor.WHITE, x1, y1);
         }
-        occupiedPositions.clear();
     }
 
     /**
@@ -2,12 +2,12 @@ package it.polimi.ingsw.gc03.view.ui;
 
 import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.model.ChatMessage;
+import it.polimi.ingsw.gc03.model.CommandError;
 import it.polimi.ingsw.gc03.model.GameImmutable;
 import it.polimi.ingsw.gc03.model.Player;
 import it.polimi.ingsw.gc03.model.card.Card;
 import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
 import it.polimi.ingsw.gc03.model.enumerations.DeckType;
-import it.polimi.ingsw.gc03.model.enumerations.Value;
 import it.polimi.ingsw.gc03.model.side.Side;
 import it.polimi.ingsw.gc03.networking.rmi.RmiClient;
 import it.polimi.ingsw.gc03.networking.socket.client.ClientAction;
@@ -102,6 +102,16 @@ public class Flow implements Runnable, ClientAction, GameListener {
      */
     private GameImmutable gameImmutable = null;
 
+    /**
+     * The id given to the last placement or draw sent to the server.
+     */
+    private int lastRequestId = CommandError.NO_REQUEST_ID;
+
+    /**
+     * The id of the placement or draw waiting for its outcome, the only one whose rejection is shown.
+     */
+    private volatile int pendingRequestId = CommandError.NO_REQUEST_ID;
+
     /**
      * Constructs a new Flow object with the given UI and connection options, server IP address, and port.
      * @param uiSelection The UI selection option.
@@ -573,12 +583,12 @@ public class Flow implements Runnable, ClientAction, GameListener {
         try {
             choice = this.inputProcessor.getDataToProcess().popData();
             switch (choice) {
-                case "gD" -> drawCardFromDeck(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DECK_GOLD);
-                case "g1" -> drawCardDisplayed(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DISPLAYED_GOLD, 0);
-                case "g2" -> drawCardDisplayed(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DISPLAYED_GOLD, 1);
-                case "r1" -> drawCardDisplayed(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DISPLAYED_RESOURCE, 0);
-                case "r2" -> drawCardDisplayed(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DISPLAYED_RESOURCE, 1);
-                case "rD" -> drawCardFromDeck(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DECK_RESOURCE);
+                case "gD" -> drawCardFromDeck(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DECK_GOLD, nextRequestId());
+                case "g1" -> drawCardDisplayed(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DISPLAYED_GOLD, 0, nextRequestId());
+                case "g2" -> drawCardDisplayed(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DISPLAYED_GOLD, 1, nextRequestId());
+                case "r1" -> drawCardDisplayed(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DISPLAYED_RESOURCE, 0, nextRequestId());
+                case "r2" -> drawCardDisplayed(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DISPLAYED_RESOURCE, 1, nextRequestId());
+                case "rD" -> drawCardFromDeck(gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()), DeckType.DECK_RESOURCE, nextRequestId());
                 default -> {
                     ui.showInvalidInput();
                     askToChooseADeck(gameImmutable);
@@ -647,7 +657,7 @@ public class Flow implements Runnable, ClientAction, GameListener {
                 } else {
                     sideBool = false;
                 }
-                placeCardOnCodex(gameImmutable.getPlayers().stream().filter(x -> x.getNickname().equals(nickname)).collect(Collectors.toList()).get(0), posHand, sideBool, row, col);
+                placeCardOnCodex(gameImmutable.getPlayers().stream().filter(x -> x.getNickname().equals(nickname)).collect(Collectors.toList()).get(0), posHand, sideBool, row, col, nextRequestId());
             } catch (Exception e){
 
             }
@@ -670,7 +680,7 @@ public class Flow implements Runnable, ClientAction, GameListener {
             if (!ended) {
                 askSide(gameImmutable, gameImmutable.getPlayers().stream().filter(p -> p.getNickname().equals(nickname)).collect(Collectors.toList()).get(0).getHand().get(indexHand));
                 askCoordinates(gameImmutable);
-                placeCardOnCodex(gameImmutable.getPlayers().stream().filter(x -> x.getNickname().equals(nickname)).collect(Collectors.toList()).get(0), indexHand, frontCard, row, col);
+                placeCardOnCodex(gameImmutable.getPlayers().stream().filter(x -> x.getNickname().equals(nickname)).collect(Collectors.toList()).get(0), indexHand, frontCard, row, col, nextRequestId());
                 ui.showCodex(gameImmutable);
             }
         }
@@ -854,6 +864,14 @@ public class Flow implements Runnable, ClientAction, GameListener {
         }
     }
 
+    /**
+     * Method to give an id to a new placement or draw.
+     * @return The id of the move.
+     */
+    private int nextRequestId() {
+        return ++this.lastRequestId;
+    }
+
     /**
      * Places a card on the codex.
      * @param player The player placing the card.
@@ -861,12 +879,14 @@ public class Flow implements Runnable, ClientAction, GameListener {
      * @param frontCard True if the front side of the card is chosen, false otherwise.
      * @param row The row coordinate for placing the card.
      * @param col The column coordinate for placing the card.
+     * @param requestId The id given to the placement by the client, sent back if it is rejected.
      * @throws Exception If an error occurs during placing.
      */
     @Override
-    public void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col) throws Exception {
+    public void placeCardOnCodex(Player player, int index, boolean frontCard, int row, int col, int requestId) throws Exception {
         try {
-            clientActions.placeCardOnCodex(player, index, frontCard, col, row);
+            this.pendingRequestId = requestId;
+            clientActions.placeCardOnCodex(player, index, frontCard, col, row, requestId);
         } catch (IOException e) {
             noConnectionError();
         }
@@ -910,14 +930,16 @@ public class Flow implements Runnable, ClientAction, GameListener {
      * Draws a card from a deck.
      * @param player The player drawing the card.
      * @param deck The deck to draw the card from.
+     * @param requestId The id given to the draw by the client, sent back if it is rejected.
      * @throws IOException If an I/O error occurs.
      * @throws InterruptedException If the thread is interrupted.
      * @throws Exception If an error occurs during drawing.
      */
     @Override
-    public void drawCardFromDeck(Player player, DeckType deck) throws IOException, InterruptedException, Exception {
+    public void drawCardFromDeck(Player player, DeckType deck, int requestId) throws IOException, InterruptedException, Exception {
         try {
-            clientActions.drawCardFromDeck(player, deck);
+            this.pendingRequestId = requestId;
+            clientActions.drawCardFromDeck(player, deck, requestId);
         } catch (IOException e) {
             noConnectionError();
         }
@@ -928,14 +950,16 @@ public class Flow implements Runnable, ClientAction, GameListener {
      * @param player The player drawing the card.
      * @param deck The deck of displayed cards.
      * @param index The index of the card in the displayed deck.
+     * @param requestId The id given to the draw by the client, sent back if it is rejected.
      * @throws IOException If an I/O error occurs.
      * @throws InterruptedException If the thread is interrupted.
      * @throws Exception If an error occurs during drawing.
      */
     @Override
-    public void drawCardDisplayed(Player player, DeckType deck, int index) throws IOException, InterruptedException, Exception {
+    public void drawCardDisplayed(Player player, DeckType deck, int index, int requestId) throws IOException, InterruptedException, Exception {
         try {
-            clientActions.drawCardDisplayed(player, deck, index);
+            this.pendingRequestId = requestId;
+            clientActions.drawCardDisplayed(player, deck, index, requestId);
         } catch (IOException e) {
             noConnectionError();
         }
@@ -1189,14 +1213,14 @@ public class Flow implements Runnable, ClientAction, GameListener {
     @Override
     public void deckHasNoCards(GameImmutable gameImmutable, ArrayList<? extends Card> deck) throws RemoteException {
         boolean both = false;
-        if (gameImmutable.getDesk().getDeckGold().isEmpty() && gameImmutable.getDesk().getDeckResource().isEmpty()) {
+        if (gameImmutable.getDesk().isDeckEmpty(DeckType.DECK_GOLD) && gameImmutable.getDesk().isDeckEmpty(DeckType.DECK_RESOURCE)) {
             ui.addLatestEvent("Resource Deck and GoldDeck are now Empty", gameImmutable);
             both = true;
         }
-        if (gameImmutable.getDesk().getDeckResource().isEmpty() && !both) {
+        if (gameImmutable.getDesk().isDeckEmpty(DeckType.DECK_RESOURCE) && !both) {
             ui.addLatestEvent("ResourceDeck is now Empty", gameImmutable);
         }
-        if (gameImmutable.getDesk().getDeckGold().isEmpty() && !both) {
+        if (gameImmutable.getDesk().isDeckEmpty(DeckType.DECK_GOLD) && !both) {
             ui.addLatestEvent("GoldDeck is now Empty", gameImmutable);
         }
     }
@@ -1234,47 +1258,30 @@ public class Flow implements Runnable, ClientAction, GameListener {
     }
 
     /**
-     * Handles when a winner is declared.
-     * @param gameImmutable The game gameImmutable.
-     * @param nickname The nickname of the winner.
-     * @throws RemoteException If a remote error occurs.
-     */
-    @Override
-    public void winnerDeclared(GameImmutable gameImmutable, ArrayList<String> nickname) throws RemoteException {
-        String text = "";
-        for(int i = 0; i<nickname.size(); i++){
-            text += nickname.get(i)+" ";
-        }
-        ui.addLatestEvent(text + " won the game.", gameImmutable);
-    }
-
-    /**
-     * Handles when invalid coordinates are provided.
+     * Handles when the projected score of a player is updated.
      * @param gameImmutable The game gameImmutable.
-     * @param row The row coordinate.
-     * @param column The column coordinate.
+     * @param nickname The nickname of the player.
+     * @param projectedScore The projected score of the player.
      * @throws RemoteException If a remote error occurs.
      */
     @Override
-    public void invalidCoordinates(GameImmutable gameImmutable, int row, int column) throws RemoteException {
-        if (gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()).getNickname().equals(nickname)) {
-            ui.showCardCannotBePlaced(gameImmutable, nickname);
-            events.add(gameImmutable, PLACE_CARD_ON_CODEX);
-        }
+    public void projectedScoreUpdated(GameImmutable gameImmutable, String nickname, int projectedScore) throws RemoteException {
+        ui.addLatestEvent(nickname + " would score " + projectedScore + " point(s) if the game ended now", gameImmutable);
     }
 
     /**
-     * Handles when placement requirements are not respected.
+     * Handles when a winner is declared.
      * @param gameImmutable The game gameImmutable.
-     * @param requirementsPlacement The list of requirements not respected.
+     * @param nickname The nickname of the winner.
      * @throws RemoteException If a remote error occurs.
      */
     @Override
-    public void requirementsPlacementNotRespected(GameImmutable gameImmutable, ArrayList<Value> requirementsPlacement) throws RemoteException {
-        if (gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()).getNickname().equals(nickname)) {
-            ui.showReqNotRespected(gameImmutable, requirementsPlacement);
-            events.add(gameImmutable, PLACE_CARD_ON_CODEX);
+    public void winnerDeclared(GameImmutable gameImmutable, ArrayList<String> nickname) throws RemoteException {
+        String text = "";
+        for(int i = 0; i<nickname.size(); i++){
+            text += nickname.get(i)+" ";
         }
+        ui.addLatestEvent(text + " won the game.", gameImmutable);
     }
 
     /**
@@ -1290,18 +1297,6 @@ public class Flow implements Runnable, ClientAction, GameListener {
         }
     }
 
-    /**
-     * Handles when a card is not added to the player's hand.
-     * @param gameImmutable The game gameImmutable.
-     * @throws RemoteException If a remote error occurs.
-     */
-    @Override
-    public void cardNotAddedToHand(GameImmutable gameImmutable, String nickname) throws RemoteException {
-        if (gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()).getNickname().equals(nickname)) {
-            ui.addLatestEvent("You can't draw a card", this.gameImmutable);
-        }
-    }
-
     /**
      * Handles when the game size is updated.
      * @param gameImmutable The game gameImmutable.
@@ -1348,16 +1343,28 @@ public class Flow implements Runnable, ClientAction, GameListener {
     }
 
     /**
-     * Handles when a card cannot be placed.
-     * @param gameImmutable The game gameImmutable.
-     * @param nickname The nickname of the player.
+     * Handles when a move of the player has been rejected by the server.
+     * @param error The reason of the rejection and the id of the move rejected.
      * @throws RemoteException If a remote error occurs.
      */
     @Override
-    public void canNotPlaceCard(GameImmutable gameImmutable, String nickname) throws RemoteException {
-        if (gameImmutable.getPlayers().get(gameImmutable.getCurrPlayer()).getNickname().equals(nickname)) {
-            ui.addLatestEvent("You can't place a card now", this.gameImmutable);
+    public void commandRejected(CommandError error) throws RemoteException {
+        // Only the rejection of the move waiting for its outcome is shown
+        if (error.getCorrelationId() == CommandError.NO_REQUEST_ID || error.getCorrelationId() != this.pendingRequestId)
+            return;
+        this.pendingRequestId = CommandError.NO_REQUEST_ID;
+        switch (error.getCode()) {
+            case INVALID_COORDINATES -> {
+                ui.showCardCannotBePlaced(this.gameImmutable, nickname);
+                events.add(this.gameImmutable, PLACE_CARD_ON_CODEX);
+            }
+            case REQUIREMENTS_NOT_RESPECTED -> {
+                ui.showReqNotRespected(this.gameImmutable, error.getRequirementsPlacement());
+                events.add(this.gameImmutable, PLACE_CARD_ON_CODEX);
+            }
+            case CAN_NOT_PLACE_CARD -> ui.addLatestEvent("You can't place a card now", this.gameImmutable);
+            case CARD_NOT_ADDED_TO_HAND -> ui.addLatestEvent("You can't draw a card", this.gameImmutable);
         }
     }
 
-}
\ No newline at end of file
+}
@@ -6,6 +6,7 @@ module it.polimi.ingsw.gc03 {
     requires java.rmi;
     requires java.desktop;
     requires jdk.compiler;
+    requires jdk.management;
 
     exports it.polimi.ingsw.gc03.model.exceptions;
     opens it.polimi.ingsw.gc03.model.exceptions to javafx.fxml;
@@ -15,8 +15,11 @@ import org.junit.jupiter.api.Test;
 import it.polimi.ingsw.gc03.model.exceptions.*;
 import org.mockito.Mock;
 
+import java.lang.reflect.Proxy;
 import java.rmi.RemoteException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -131,8 +134,8 @@ class GameControllerTest {
         gameController.addPlayerToGame("Player1", listener);
         game.setSize(2);
         gameController.addPlayerToGame("Player2", listener);
-        Player player1 = game.getPlayers().get(0);
-        Player player2 = game.getPlayers().get(1);
+        // The players are rotated so that the first one starts, so they are found by nickname
+        Player player1 = game.getPlayers().stream().filter(p -> p.getNickname().equals("Player1")).findFirst().orElseThrow();
         player1.setOnline(game,false,listener);
         game.setStatus(GameStatus.HALTED);
         gameController.reconnectPlayer("Player1",listener);
@@ -259,4 +262,76 @@ class GameControllerTest {
         gameController.placeCardOnCodex(p1, 0, true, 39, 39);
         assertEquals(p1.getNickname(), game.getPlayers().get(game.getCurrPlayer()).getNickname());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Games replayed from the same seed and moves are identical")
+    void replayFromSeed() throws Exception {
+        ArrayList<GameCommand> commands = new ArrayList<>();
+        commands.add(new GameCommand.Join("Player1"));
+        commands.add(new GameCommand.SetSize(2));
+        commands.add(new GameCommand.Join("Player2"));
+        commands.add(new GameCommand.PlaceStarter("Player1", true));
+        commands.add(new GameCommand.PlaceStarter("Player2", false));
+        commands.add(new GameCommand.SelectObjective("Player1", 0));
+        commands.add(new GameCommand.SelectObjective("Player2", 1));
+        Game setup = GameController.replay(42L, commands).getGame();
+        assertEquals(GameStatus.RUNNING, setup.getStatus());
+        String first = setup.getPlayers().get(setup.getCurrPlayer()).getNickname();
+        commands.add(new GameCommand.PlaceCard(first, 0, false, 41, 41));
+        commands.add(new GameCommand.DrawFromDeck(first, DeckType.DECK_RESOURCE));
+
+        Game game1 = GameController.replay(42L, commands).getGame();
+        Game game2 = GameController.replay(42L, commands).getGame();
+        assertEquals(42L, game1.getSeed());
+        assertEquals(game1.getIdGame(), game2.getIdGame());
+        assertEquals(game1.getCurrPlayer(), game2.getCurrPlayer());
+        for (int i = 0; i < 2; i++) {
+            Player p1 = game1.getPlayers().get(i);
+            Player p2 = game2.getPlayers().get(i);
+            assertEquals(p1.getHand().stream().map(Card::getIdCard).toList(),
+                    p2.getHand().stream().map(Card::getIdCard).toList());
+            assertEquals(p1.getCodex().getSideCount(), p2.getCodex().getSideCount());
+        }
+        Player mover = game1.getPlayers().stream().filter(p -> p.getNickname().equals(first)).toList().getFirst();
+        assertEquals(2, mover.getCodex().getSideCount());
+        assertEquals(3, mover.getHand().size());
+        assertEquals(game1.getDesk().getDeckGold(), game2.getDesk().getDeckGold());
+        assertNotEquals(game1.getDesk().getDeckResource(),
+                GameController.replay(43L, new ArrayList<>()).getGame().getDesk().getDeckResource());
+    }
+
+    private GameListener rejections(List<CommandError> errors) {
+        return (GameListener) Proxy.newProxyInstance(GameListener.class.getClassLoader(),
+                new Class<?>[]{GameListener.class}, (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class)
+                        return method.getName().equals("equals") ? proxy == args[0] :
+                                method.getName().equals("hashCode") ? System.identityHashCode(proxy) : "listener";
+                    if (method.getName().equals("commandRejected"))
+                        errors.add((CommandError) args[0]);
+                    return null;
+                });
+    }
+
+    /**
+     * Check if a rejected move is sent back with its id only to the player who made it, and a move without an id is
+     * not sent back
+     */
+    @Test
+    void rejectionSentToPlayer() throws Exception {
+        GameController controller = GameController.replay(7L, List.of());
+        List<CommandError> first = Collections.synchronizedList(new ArrayList<>());
+        List<CommandError> second = Collections.synchronizedList(new ArrayList<>());
+        controller.addPlayerToGame("A", rejections(first));
+        controller.updateGameSize(2);
+        controller.addPlayerToGame("B", rejections(second));
+        Player player = controller.getGame().getPlayer("A");
+        controller.drawCardFromDeck(player, DeckType.DECK_GOLD, 7);
+        controller.drawCardDisplayed(player, DeckType.DISPLAYED_GOLD, 0);
+        assertTrue(controller.getGame().getListener().awaitDelivery(5000));
+        assertEquals(1, first.size());
+        assertEquals(ErrorCode.CARD_NOT_ADDED_TO_HAND, first.getFirst().getCode());
+        assertEquals(7, first.getFirst().getCorrelationId());
+        assertTrue(second.isEmpty());
+    }
+
+}
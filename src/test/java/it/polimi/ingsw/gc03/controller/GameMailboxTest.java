@@ -0,0 +1,92 @@
+package it.polimi.ingsw.gc03.controller;
+
+import it.polimi.ingsw.gc03.model.ChatMessage;
+import it.polimi.ingsw.gc03.networking.ServerThreads;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMailboxTest {
+
+    /**
+     * Check if the commands sent by many threads are all run one at a time, and each thread sees its own ones in order
+     */
+    @Test
+    void commandsRunOneAtATime() throws Exception {
+        GameMailbox mailbox = new GameMailbox(ServerThreads.gameLoops());
+        AtomicInteger running = new AtomicInteger();
+        List<String> log = new ArrayList<>();
+        List<Thread> senders = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            String name = "T" + t;
+            senders.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 200; i++) {
+                    int index = i;
+                    mailbox.call(() -> {
+                        assertEquals(1, running.incrementAndGet());
+                        log.add(name + ":" + index);
+                        running.decrementAndGet();
+                    });
+                }
+            }));
+        }
+        for (Thread sender : senders)
+            sender.join();
+        assertEquals(1600, log.size());
+        for (int t = 0; t < 8; t++) {
+            String prefix = "T" + t + ":";
+            List<String> own = log.stream().filter(entry -> entry.startsWith(prefix)).toList();
+            for (int i = 0; i < own.size(); i++)
+                assertEquals(prefix + i, own.get(i));
+        }
+    }
+
+    /**
+     * Check if the exception of a command is thrown to the caller and a command called by another one is run at once
+     */
+    @Test
+    void exceptionsAndNestedCalls() throws Exception {
+        GameMailbox mailbox = new GameMailbox(ServerThreads.gameLoops());
+        assertThrows(IOException.class, () -> mailbox.call(() -> {
+            throw new IOException("rejected");
+        }));
+        List<Integer> order = new ArrayList<>();
+        mailbox.call(() -> {
+            order.add(1);
+            mailbox.call(() -> order.add(2));
+            order.add(3);
+        });
+        assertEquals(List.of(1, 2, 3), order);
+    }
+
+    /**
+     * Check if the chat messages sent at the same time to a game are all added
+     */
+    @Test
+    void concurrentChat() throws Exception {
+        GameController controller = new GameController(3L);
+        List<Thread> senders = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            String sender = "Player" + t;
+            senders.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 50; i++) {
+                    try {
+                        controller.sendChatMessage(new ChatMessage("everyone", sender, "hi", null));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }));
+        }
+        for (Thread sender : senders)
+            sender.join();
+        assertEquals(200, controller.getGame().getChat().size());
+        controller.stopTimers();
+    }
+
+}
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import java.rmi.RemoteException;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -122,4 +123,36 @@ class MainControllerTest {
         mainController.deleteGame(idGame);
         assertThrows(NoSuchGameException.class,()->mainController.deleteGame(idGame));
     }
-}
\ No newline at end of file
+
+    /**
+     * Check if a game ended by a move is removed from the MainController without waiting for a thread of the game
+     */
+    @Test
+    void endedGameRemoved() throws Exception {
+        GameControllerInterface gc = mainController.joinFirstAvailableGame(listener, "Player");
+        gc.leaveGame("Player");
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!mainController.getGameControllers().isEmpty() && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        assertTrue(mainController.getGameControllers().isEmpty());
+    }
+
+    /**
+     * Check if the games are found by their ID, by their size and by the nicknames of their players until they are
+     * deleted
+     */
+    @Test
+    void indexedGames() throws Exception {
+        GameController first = (GameController) mainController.joinFirstAvailableGame(listener, "Player1");
+        first.updateGameSize(3);
+        GameControllerInterface second = mainController.createGame(listener, "Player2");
+        int idFirst = first.getGame().getIdGame();
+        assertSame(first, mainController.joinSpecificGame(listener, "Player3", idFirst));
+        assertSame(first, mainController.joinFirstAvailableGame(listener, "Player4"));
+        assertEquals(GameStatus.STARTING, first.getGame().getStatus());
+        assertNull(mainController.reconnectToGame(listener, "Player3"));
+        mainController.deleteGame(idFirst);
+        assertNull(mainController.reconnectToGame(listener, "Player3"));
+        assertEquals(List.of(second), mainController.getGameControllers());
+    }
+}
@@ -0,0 +1,187 @@
+package it.polimi.ingsw.gc03.listeners;
+
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.Game;
+import it.polimi.ingsw.gc03.model.GameImmutable;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.card.cardObjective.CardObjective;
+import it.polimi.ingsw.gc03.model.enumerations.DeckType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ListenersHandlerTest {
+
+    private Game game;
+
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = new Game(1, 42L);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    private GameListener listener(List<String> calls, CountDownLatch gate) {
+        return (GameListener) Proxy.newProxyInstance(GameListener.class.getClassLoader(),
+                new Class<?>[]{GameListener.class}, (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class)
+                        return method.getName().equals("equals") ? proxy == args[0] :
+                                method.getName().equals("hashCode") ? System.identityHashCode(proxy) : "listener";
+                    if (gate != null)
+                        gate.await();
+                    assertInstanceOf(GameImmutable.class, args[0]);
+                    calls.add(method.getName() + ":" + ((GameImmutable) args[0]).getSize());
+                    return null;
+                });
+    }
+
+    private GameListener recorder(List<String> cards) {
+        return (GameListener) Proxy.newProxyInstance(GameListener.class.getClassLoader(),
+                new Class<?>[]{GameListener.class}, (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class)
+                        return method.getName().equals("equals") ? proxy == args[0] :
+                                method.getName().equals("hashCode") ? System.identityHashCode(proxy) : "listener";
+                    if (method.getName().equals("cardAddedToHand") || method.getName().equals("objectiveCardChosen"))
+                        cards.add(method.getName() + ":" + (args[1] == null ? null : ((Card) args[1]).getIdCard()));
+                    else if (method.getName().equals("projectedScoreUpdated"))
+                        cards.add(method.getName() + ":" + args[2]);
+                    return null;
+                });
+    }
+
+    /**
+     * Check if the notifications are sent in order with the game of the moment they were made
+     */
+    @Test
+    void deliveredInOrder() throws Exception {
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        game.addListener(listener(calls, null));
+        game.getListener().notifyGameSizeUpdated(game, 1);
+        game.setSize(3);
+        game.getListener().notifyNextTurn(game);
+        assertTrue(game.getListener().awaitDelivery(5000));
+        assertEquals(List.of("gameSizeUpdated:1", "gameSizeUpdated:3", "nextTurn:3"), calls);
+    }
+
+    /**
+     * Check if a client that does not receive its notifications neither blocks the game nor the other clients, and is
+     * evicted once its queue is full
+     */
+    @Test
+    void slowListenerEvicted() throws Exception {
+        List<String> fastCalls = Collections.synchronizedList(new ArrayList<>());
+        GameListener slow = listener(new ArrayList<>(), release);
+        GameListener fast = listener(fastCalls, null);
+        game.addListener(slow);
+        game.addListener(fast);
+        int notifications = ListenerDispatcher.CAPACITY + 2;
+        for (int i = 0; i < notifications; i++) {
+            game.getListener().notifyNextTurn(game);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (fastCalls.size() <= i && System.currentTimeMillis() < deadline)
+                Thread.onSpinWait();
+        }
+        assertTrue(game.getListener().awaitDelivery(5000));
+        assertEquals(notifications, fastCalls.size());
+        game.getListener().notifyNextTurn(game);
+        assertEquals(List.of(fast), game.getListeners());
+    }
+
+    /**
+     * Check if only the player who draws a card or chooses an Objective card receives it, while the other players
+     * only see the back of the card drawn
+     */
+    @Test
+    void secretCardsOnlyToOwner() throws Exception {
+        List<String> ownerCards = Collections.synchronizedList(new ArrayList<>());
+        List<String> otherCards = Collections.synchronizedList(new ArrayList<>());
+        GameListener owner = recorder(ownerCards);
+        game.setSize(2);
+        game.addPlayer("A", owner);
+        game.addPlayer("B", recorder(otherCards));
+        assertTrue(game.getListener().awaitDelivery(5000));
+        ownerCards.clear();
+        otherCards.clear();
+        Card card;
+        do {
+            card = game.getDesk().drawCardDeck(DeckType.DECK_RESOURCE, owner);
+        } while (CardCatalog.getInstance().getBackCard(card) == card);
+        Player player = game.getPlayer("A");
+        CardObjective objective = player.getCardObjective().getFirst();
+        assertTrue(player.selectObjectiveCard(0, game));
+        assertTrue(game.getListener().awaitDelivery(5000));
+        assertEquals("cardAddedToHand:" + card.getIdCard(), ownerCards.get(ownerCards.size() - 2));
+        assertEquals("objectiveCardChosen:" + objective.getIdCard(), ownerCards.getLast());
+        assertEquals("cardAddedToHand:" + CardCatalog.getInstance().getBackCard(card).getIdCard(),
+                otherCards.get(otherCards.size() - 2));
+        assertEquals("objectiveCardChosen:null", otherCards.getLast());
+        for (String call : otherCards) {
+            assertFalse(call.endsWith(":" + card.getIdCard()));
+            assertFalse(call.endsWith(":" + objective.getIdCard()));
+        }
+    }
+
+    /**
+     * Check if only the player receives the projected points of its personal Objective card
+     */
+    @Test
+    void projectedScoreOnlyToOwner() throws Exception {
+        List<String> ownerCalls = Collections.synchronizedList(new ArrayList<>());
+        List<String> otherCalls = Collections.synchronizedList(new ArrayList<>());
+        GameListener owner = recorder(ownerCalls);
+        game.addListener(owner);
+        game.addListener(recorder(otherCalls));
+        game.getListener().notifyProjectedScore(game, owner, "A", 7, 4);
+        assertTrue(game.getListener().awaitDelivery(5000));
+        assertEquals(List.of("projectedScoreUpdated:7"), ownerCalls);
+        assertEquals(List.of("projectedScoreUpdated:4"), otherCalls);
+    }
+
+    /**
+     * Check if the listeners of no player share the view without hands, while a player gets its own view
+     */
+    @Test
+    void spectatorsShareView() throws Exception {
+        AtomicReferenceArray<GameImmutable> views = new AtomicReferenceArray<>(3);
+        GameListener[] listeners = new GameListener[views.length()];
+        for (int i = 0; i < listeners.length; i++) {
+            int position = i;
+            listeners[i] = (GameListener) Proxy.newProxyInstance(GameListener.class.getClassLoader(),
+                    new Class<?>[]{GameListener.class}, (proxy, method, args) -> {
+                        if (method.getDeclaringClass() == Object.class)
+                            return method.getName().equals("equals") ? proxy == args[0] :
+                                    method.getName().equals("hashCode") ? System.identityHashCode(proxy) : "listener";
+                        if (method.getName().equals("nextTurn"))
+                            views.set(position, (GameImmutable) args[0]);
+                        return null;
+                    });
+        }
+        game.addPlayer("A", listeners[0]);
+        game.addListener(listeners[1]);
+        game.addListener(listeners[2]);
+        game.getListener().notifyNextTurn(game);
+        assertTrue(game.getListener().awaitDelivery(5000));
+        assertSame(views.get(1), views.get(2));
+        assertNotSame(views.get(0), views.get(1));
+        assertFalse(views.get(0).getPlayers().getFirst().getHand().isEmpty());
+        assertSame(CardCatalog.getInstance().getBackCard(game.getPlayer("A").getHand().getFirst()),
+                views.get(1).getPlayers().getFirst().getHand().getFirst());
+    }
+
+}
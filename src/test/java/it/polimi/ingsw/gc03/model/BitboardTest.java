@@ -0,0 +1,56 @@
+package it.polimi.ingsw.gc03.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class BitboardTest {
+    private Bitboard bitboard;
+
+    @BeforeEach
+    void setUp() {
+        bitboard = new Bitboard();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bitboard = null;
+    }
+
+    /**
+     * Check if set and get work while the stored area grows in every direction
+     */
+    @Test
+    void setAndGet() {
+        bitboard.set(40, 40);
+        bitboard.set(-5, -70);
+        bitboard.set(100, 200);
+        bitboard.set(40, 40);
+        assertEquals(3, bitboard.size());
+        assertTrue(bitboard.get(40, 40));
+        assertTrue(bitboard.get(-5, -70));
+        assertTrue(bitboard.get(100, 200));
+        assertFalse(bitboard.get(40, 41));
+        assertFalse(bitboard.get(1000, 40));
+        assertEquals(-5, bitboard.getFirstRow());
+        assertEquals(100, bitboard.getLastRow());
+    }
+
+    /**
+     * Check if words not aligned to the stored ones are read correctly
+     */
+    @Test
+    void unalignedWord() {
+        bitboard.set(0, 63);
+        bitboard.set(0, 64);
+        bitboard.set(0, 70);
+        assertEquals(1L | (1L << 6), bitboard.word(0, 64));
+        assertEquals(1L << 63, bitboard.word(0, 0));
+        assertEquals(1L | (1L << 1) | (1L << 7), bitboard.word(0, 63));
+        assertEquals(0L, bitboard.word(1, 63));
+    }
+
+}
@@ -0,0 +1,46 @@
+package it.polimi.ingsw.gc03.model;
+
+import it.polimi.ingsw.gc03.model.card.CardResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardCatalogTest {
+
+    private CardCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = CardCatalog.getInstance();
+    }
+
+    /**
+     * Check if all the cards are loaded only once
+     */
+    @Test
+    void loadedOnce() {
+        assertTrue(catalog.isLoaded());
+        assertSame(catalog, CardCatalog.getInstance());
+        assertEquals(6, catalog.getStarterCards().size());
+        assertEquals(40, catalog.getResourceCards().size());
+        assertEquals(40, catalog.getGoldCards().size());
+        assertEquals(16, catalog.getObjectiveCards().size());
+        assertThrows(UnsupportedOperationException.class, () -> catalog.getResourceCards().clear());
+    }
+
+    /**
+     * Check if two desks share the same cards in a different deck list
+     */
+    @Test
+    void desksShareCards() throws Exception {
+        Desk first = new Desk(null);
+        Desk second = new Desk(null);
+        assertNotSame(first.getDeckResource(), second.getDeckResource());
+        for (CardResource card : first.getDeckResource()) {
+            assertTrue(second.getDeckResource().stream().anyMatch(other -> other == card) ||
+                    second.getDisplayedResource().stream().anyMatch(other -> other == card));
+        }
+    }
+
+}
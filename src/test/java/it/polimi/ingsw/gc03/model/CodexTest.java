@@ -1,8 +1,11 @@
 package it.polimi.ingsw.gc03.model;
 
 import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
+import it.polimi.ingsw.gc03.model.enumerations.PlacementResult;
 import it.polimi.ingsw.gc03.model.enumerations.Value;
 import it.polimi.ingsw.gc03.model.side.Side;
+import it.polimi.ingsw.gc03.model.side.front.FrontGold;
+import it.polimi.ingsw.gc03.view.tui.Coords;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -11,6 +14,8 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -68,5 +73,87 @@ class CodexTest {
         assertTrue(codex.insertIntoCodex(game,side,41,41));
     }
 
+    /**
+     * Check if the placements are rejected with the reason of the rejection, without changing the codex
+     */
+    @Test
+    void placementResults() throws RemoteException {
+        assertEquals(PlacementResult.NO_STARTER, codex.checkPlacement(side, 41, 41));
+        Side starter = new Side(Kingdom.NULL, Value.NULL, Value.EMPTY, Value.EMPTY, Value.EMPTY);
+        codex.insertStarterIntoCodex(starter,game,"TestName");
+        FrontGold gold = new FrontGold(Kingdom.ANIMAL, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY, 1, null,
+                new ArrayList<>(List.of(Value.ANIMAL, Value.ANIMAL, Value.ANIMAL)));
+        assertEquals(PlacementResult.NO_SIDE, codex.checkPlacement(null, 41, 41));
+        assertEquals(PlacementResult.OUT_OF_BOUNDS, codex.checkPlacement(side, 40000, 0));
+        assertEquals(PlacementResult.PARITY, codex.checkPlacement(side, 40, 41));
+        assertEquals(PlacementResult.OCCUPIED, codex.checkPlacement(side, 40, 40));
+        assertEquals(PlacementResult.NOT_CONNECTED, codex.checkPlacement(side, 44, 44));
+        assertEquals(PlacementResult.NULL_CORNER, codex.checkPlacement(side, 39, 39));
+        assertEquals(PlacementResult.GOLD_REQUIREMENT, codex.placeIntoCodex(game, gold, 41, 41));
+        assertFalse(codex.simulateInsertIntoCodex(gold, 41, 41));
+        assertEquals(1, codex.getSideCount());
+        assertTrue(codex.simulateInsertIntoCodex(side, 41, 41));
+        assertEquals(PlacementResult.OK, codex.placeIntoCodex(game, side, 41, 41));
+        assertEquals(2, codex.getSideCount());
+    }
+
+    /**
+     * Check if the frontier follows the insertions and the NULL corners
+     */
+    @Test
+    void frontier() throws RemoteException {
+        assertEquals(0, codex.getFrontierSize());
+        Side starter = new Side(Kingdom.NULL, Value.NULL, Value.EMPTY, Value.EMPTY, Value.EMPTY);
+        codex.insertStarterIntoCodex(starter,game,"TestName");
+        assertEquals(3, codex.getFrontierSize());
+        assertFalse(codex.isFrontierCell(39, 39));
+        assertTrue(codex.isFrontierCell(41, 41));
+        assertTrue(codex.insertIntoCodex(game,side, 41, 41));
+        assertFalse(codex.isFrontierCell(41, 41));
+        assertTrue(codex.isFrontierCell(42, 42));
+        assertTrue(codex.isFrontierCell(40, 42));
+        assertTrue(codex.isFrontierCell(42, 40));
+        assertEquals(5, codex.getFrontierSize());
+        for (Coords coords : codex.getFrontier()) {
+            assertTrue(codex.isFrontierCell(coords.getX(), coords.getY()));
+        }
+    }
+
+    /**
+     * Check if the codex can grow beyond the 81x81 area
+     */
+    @Test
+    void insertBeyondLegacyBounds() throws RemoteException {
+        codex.insertStarterIntoCodex(side,game,"TestName");
+        for (int i = 41; i <= 85; i++) {
+            assertTrue(codex.insertIntoCodex(game,side, i, i));
+        }
+        assertEquals(side, codex.getSideAt(85, 85));
+        assertEquals(85, codex.getMaxRow());
+        assertEquals(46, codex.getSideCount());
+        assertNull(codex.getCodex()[80][79]);
+        assertEquals(side, codex.getCodex()[80][80]);
+    }
+
+    /**
+     * Check if the covered corners are kept by the codex without modifying the shared side
+     */
+    @Test
+    void coverage() throws RemoteException {
+        Codex other = new Codex();
+        codex.insertStarterIntoCodex(side,game,"TestName");
+        other.insertStarterIntoCodex(side,game,"TestName");
+        assertEquals(1, codex.getCounterCodex()[0]);
+        assertTrue(codex.insertIntoCodex(game,side,39,39));
+        assertEquals(Codex.TOP_LEFT, codex.getCoverage(40, 40));
+        assertEquals(Value.COVERED, codex.getCornerValue(40, 40, Codex.TOP_LEFT));
+        assertEquals(Value.FUNGI, codex.getCornerValue(39, 39, Codex.TOP_LEFT));
+        assertEquals(Value.FUNGI, side.getTopLeftCorner());
+        assertEquals(1, codex.getCounterCodex()[0]);
+        assertEquals(0, other.getCoverage(40, 40));
+        assertEquals(Value.FUNGI, other.getCornerValue(40, 40, Codex.TOP_LEFT));
+        assertNull(codex.getCornerValue(0, 0, Codex.TOP_LEFT));
+    }
+
 }
 
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.rmi.RemoteException;
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -78,6 +79,23 @@ class DeskTest {
         assertFalse(desk.getDeckObjective().contains(cardObjective));
     }
 
+    /**
+     * Check if the size, the emptiness and the top card kingdom of a deck follow the draws
+     */
+    @Test
+    void deckProjection() throws RemoteException {
+        assertEquals(38, desk.getDeckSize(DeckType.DECK_RESOURCE));
+        assertEquals(desk.getDeckResource().getFirst().getKingdom(), desk.getTopCardKingdom(DeckType.DECK_RESOURCE));
+        assertNull(desk.getTopCardKingdom(DeckType.DECK_STARTER));
+        desk.drawCardDeck(DeckType.DECK_RESOURCE);
+        assertEquals(37, desk.getDeckSize(DeckType.DECK_RESOURCE));
+        assertEquals(37, desk.getDeckResource().size());
+        assertFalse(desk.isDeckEmpty(DeckType.DECK_RESOURCE));
+        desk.getDeckResource().clear();
+        assertTrue(desk.isDeckEmpty(DeckType.DECK_RESOURCE));
+        assertNull(desk.getTopCardKingdom(DeckType.DECK_RESOURCE));
+    }
+
     /**
      * Check what happens when the deck is empty
      */
@@ -165,7 +183,7 @@ class DeskTest {
     void setDeckStarter() throws RemoteException {
         Game game1 = new Game(555454454);
         Desk desk1 = new Desk(game1);
-        ArrayList<CardStarter> deckStarter = desk.getDeckStarter();
+        List<CardStarter> deckStarter = desk.getDeckStarter();
         desk.setDeckStarter(desk1.getDeckStarter());
         assertEquals(desk.getDeckStarter(),desk1.getDeckStarter());
         assertNotEquals(deckStarter,desk.getDeckStarter());
@@ -179,7 +197,7 @@ class DeskTest {
     void setDeckResource() throws RemoteException {
         Game game1 = new Game(555454454);
         Desk desk1 = new Desk(game1);
-        ArrayList<CardResource> deckResource = desk.getDeckResource();
+        List<CardResource> deckResource = desk.getDeckResource();
         desk.setDeckResource(desk1.getDeckResource());
         assertEquals(desk.getDeckResource(),desk1.getDeckResource());
         assertNotEquals(deckResource,desk.getDeckResource());
@@ -189,7 +207,7 @@ class DeskTest {
     void setDeckGold() throws RemoteException {
         Game game1 = new Game(555454454);
         Desk desk1 = new Desk(game1);
-        ArrayList<CardGold> deckGold = desk.getDeckGold();
+        List<CardGold> deckGold = desk.getDeckGold();
         desk.setDeckGold(desk1.getDeckGold());
         assertEquals(desk.getDeckGold(),desk1.getDeckGold());
         assertNotEquals(deckGold,desk.getDeckGold());
@@ -203,7 +221,7 @@ class DeskTest {
     void setDeckObjective() throws RemoteException {
         Game game1 = new Game(555454454);
         Desk desk1 = new Desk(game1);
-        ArrayList<CardObjective> deckObjective = desk.getDeckObjective();
+        List<CardObjective> deckObjective = desk.getDeckObjective();
         desk.setDeckObjective(desk1.getDeckObjective());
         assertEquals(desk.getDeckObjective(),desk1.getDeckObjective());
         assertNotEquals(deckObjective,desk.getDeckObjective());
@@ -3,6 +3,7 @@ package it.polimi.ingsw.gc03.model;
 import it.polimi.ingsw.gc03.listeners.GameListener;
 import it.polimi.ingsw.gc03.model.card.CardGold;
 import it.polimi.ingsw.gc03.model.card.CardResource;
+import it.polimi.ingsw.gc03.model.enumerations.DeckType;
 import it.polimi.ingsw.gc03.model.enumerations.GameStatus;
 import it.polimi.ingsw.gc03.model.exceptions.CannotJoinGameException;
 import it.polimi.ingsw.gc03.model.exceptions.DeskIsFullException;
@@ -11,6 +12,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.rmi.RemoteException;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -76,6 +81,27 @@ class GameTest {
         assertEquals(game.getWinner(),game.getPlayers());
     }
 
+    /**
+     * Check if the players are found by nickname with their position after joining, rotating and leaving
+     */
+    @Test
+    void playerIndex() throws Exception {
+        game.setSize(3);
+        game.addPlayer("A", listener);
+        game.addPlayer("B", listener);
+        assertSame(game.getPlayers().get(1), game.getPlayer("B"));
+        assertEquals(1, game.getSeat("B"));
+        game.addPlayer("C", listener);
+        game.setCurrPlayer(1);
+        assertEquals(0, game.getSeat("B"));
+        assertEquals(2, game.getSeat("A"));
+        assertTrue(game.removePlayer("B"));
+        assertNull(game.getPlayer("B"));
+        assertEquals(-1, game.getSeat("B"));
+        assertEquals(0, game.getSeat("C"));
+        assertSame(game.getPlayers().get(1), game.getPlayer("A"));
+    }
+
     @Test
     void addMessage() throws RemoteException {
         String text = "Hello";
@@ -144,4 +170,127 @@ class GameTest {
         assertEquals(idGame,game.getIdGame());
     }
 
-}
\ No newline at end of file
+    /**
+     * Check if the snapshot is shared until the game changes
+     */
+    @Test
+    void snapshotPerVersion() throws Exception {
+        GameImmutable first = game.getSnapshot();
+        assertSame(first, game.getSnapshot());
+        game.addPlayer("newNick", listener);
+        GameImmutable second = game.getSnapshot();
+        assertNotSame(first, second);
+        assertEquals(1, second.getPlayers().size());
+        assertSame(second, game.getSnapshot());
+        game.setStatus(GameStatus.STARTING);
+        assertEquals(GameStatus.STARTING, game.getSnapshot().getStatus());
+    }
+
+    /**
+     * Check if every listener sees its own cards and only the back of the cards of the others
+     */
+    @Test
+    void viewPerRecipient() throws Exception {
+        GameListener other = mock(GameListener.class);
+        game.setSize(2);
+        game.addPlayer("newNick", listener);
+        game.addPlayer("newNick1", other);
+        Player player = game.getPlayers().get(0);
+        GameImmutable view = game.getSnapshot(listener);
+        Player shown = view.getPlayers().get(0);
+        assertNotSame(player, shown);
+        assertEquals(player.getHand(), shown.getHand());
+        assertEquals(player.getCardObjective(), shown.getCardObjective());
+        player.getCodex().applyPlacement(player.getCardStarter().getBackStarter(), 40, 40);
+        assertEquals(0, shown.getCodex().getSideCount());
+        Player hidden = view.getPlayers().get(1);
+        assertTrue(hidden.getCardObjective().isEmpty());
+        assertEquals(3, hidden.getHand().size());
+        for (int i = 0; i < hidden.getHand().size(); i++) {
+            assertSame(CardCatalog.getInstance().getBackCard(game.getPlayers().get(1).getHand().get(i)),
+                    hidden.getHand().get(i));
+        }
+        assertEquals(game.getDesk().getDeckSize(DeckType.DECK_GOLD), view.getDesk().getDeckSize(DeckType.DECK_GOLD));
+        assertEquals(game.getDesk().getTopCardKingdom(DeckType.DECK_GOLD),
+                view.getDesk().getTopCardKingdom(DeckType.DECK_GOLD));
+        assertEquals(2, game.getSnapshot(other).getPlayers().get(1).getCardObjective().size());
+        assertTrue(game.getSnapshot(null).getPlayers().get(0).getCardObjective().isEmpty());
+        assertTrue(serializedSize(view) < serializedSize(game.getSnapshot()));
+        game.setStatus(GameStatus.ENDED);
+        assertSame(game.getSnapshot(), game.getSnapshot(listener));
+    }
+
+    /**
+     * Check if a view of the game is rebuilt by the deserialization with the cards of the catalog
+     */
+    @Test
+    void viewRoundTrip() throws Exception {
+        game.setSize(2);
+        game.addPlayer("newNick", listener);
+        game.addPlayer("newNick1", listener);
+        Player player = game.getPlayers().get(0);
+        player.getCodex().applyPlacement(player.getCardStarter().getBackStarter(), 40, 40);
+        game.addMessage("everyone", "newNick", "hello");
+        GameImmutable view = game.getSnapshot(listener);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(view);
+        }
+        assertTrue(bytes.size() < 2048);
+        GameImmutable copy;
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (GameImmutable) inputStream.readObject();
+        }
+        assertEquals(view.getIdGame(), copy.getIdGame());
+        assertEquals(view.getStatus(), copy.getStatus());
+        assertEquals("hello", copy.getChat().getLast().getText());
+        assertEquals(view.getDesk().getDisplayedGold(), copy.getDesk().getDisplayedGold());
+        assertEquals(view.getDesk().getDeckSize(DeckType.DECK_GOLD), copy.getDesk().getDeckSize(DeckType.DECK_GOLD));
+        for (int i = 0; i < view.getPlayers().size(); i++) {
+            Player expected = view.getPlayers().get(i);
+            Player actual = copy.getPlayers().get(i);
+            assertEquals(expected.getNickname(), actual.getNickname());
+            assertEquals(expected.getColor(), actual.getColor());
+            assertSame(expected.getCardStarter(), actual.getCardStarter());
+            assertEquals(expected.getHand(), actual.getHand());
+            assertEquals(expected.getCardObjective(), actual.getCardObjective());
+        }
+        Codex codex = copy.getPlayers().get(0).getCodex();
+        assertSame(player.getCardStarter().getBackStarter(), codex.getSideAt(40, 40));
+        assertEquals(player.getCodex().getFrontierSize(), codex.getFrontierSize());
+        assertArrayEquals(player.getCodex().getCounterCodex(), codex.getCounterCodex());
+    }
+
+    /**
+     * Check if the snapshot showing the whole game is sent without the game bound to its desk
+     */
+    @Test
+    void snapshotRoundTrip() throws Exception {
+        game.setSize(2);
+        game.addPlayer("newNick", listener);
+        game.addPlayer("newNick1", listener);
+        game.addMessage("everyone", "newNick", "hello");
+        GameImmutable snapshot = game.getSnapshot();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(snapshot);
+        }
+        assertTrue(bytes.size() < 1536);
+        GameImmutable copy;
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (GameImmutable) inputStream.readObject();
+        }
+        assertEquals(1, copy.getChat().size());
+        assertEquals(snapshot.getDesk().getDisplayedGold(), copy.getDesk().getDisplayedGold());
+        assertEquals(snapshot.getDesk().getDeckSize(DeckType.DECK_RESOURCE), copy.getDesk().getDeckSize(DeckType.DECK_RESOURCE));
+        assertEquals(snapshot.getPlayers().get(1).getHand(), copy.getPlayers().get(1).getHand());
+    }
+
+    private int serializedSize(Object object) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(object);
+        }
+        return bytes.size();
+    }
+}
@@ -0,0 +1,87 @@
+package it.polimi.ingsw.gc03.model;
+
+import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
+import it.polimi.ingsw.gc03.model.enumerations.Value;
+import it.polimi.ingsw.gc03.model.side.Side;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class SparseBoardTest {
+    private SparseBoard board;
+    private Side side=new Side(
+            Kingdom.NULL,
+            Value.FUNGI,
+            Value.INSECT,
+            Value.PLANT,
+            Value.EMPTY);
+
+    @BeforeEach
+    void setUp() {
+        board = new SparseBoard();
+    }
+
+    @AfterEach
+    void tearDown() {
+        board = null;
+    }
+
+    /**
+     * Check if put and get store sides at the right positions, including negative ones
+     */
+    @Test
+    void putAndGet() {
+        board.put(40, 40, side);
+        board.put(-3, 5, side);
+        assertEquals(side, board.get(40, 40));
+        assertEquals(side, board.get(-3, 5));
+        assertNull(board.get(40, 41));
+        assertNull(board.get(5, -3));
+        assertEquals(2, board.size());
+        board.put(40, 40, side);
+        assertEquals(2, board.size());
+    }
+
+    /**
+     * Check if the board grows keeping all the stored sides
+     */
+    @Test
+    void grow() {
+        for (int i = 0; i < 200; i++) {
+            board.put(i, -i, side);
+        }
+        assertEquals(200, board.size());
+        for (int i = 0; i < 200; i++) {
+            assertTrue(board.contains(i, -i));
+        }
+        assertFalse(board.contains(1, 1));
+    }
+
+    /**
+     * Check if positions out of bounds are rejected
+     */
+    @Test
+    void outOfBounds() {
+        assertFalse(SparseBoard.isInBounds(SparseBoard.MAX_COORDINATE + 1, 0));
+        assertFalse(SparseBoard.isInBounds(0, SparseBoard.MIN_COORDINATE - 1));
+        assertNull(board.get(SparseBoard.MAX_COORDINATE + 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> board.put(SparseBoard.MAX_COORDINATE + 1, 0, side));
+    }
+
+    /**
+     * Check if packed keys are unpacked into the original position
+     */
+    @Test
+    void packKey() {
+        int key = SparseBoard.packKey(-7, 12);
+        assertEquals(-7, SparseBoard.unpackRow(key));
+        assertEquals(12, SparseBoard.unpackColumn(key));
+        key = SparseBoard.packKey(81, -81);
+        assertEquals(81, SparseBoard.unpackRow(key));
+        assertEquals(-81, SparseBoard.unpackColumn(key));
+    }
+
+}
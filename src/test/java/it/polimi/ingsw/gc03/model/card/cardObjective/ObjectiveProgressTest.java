@@ -0,0 +1,117 @@
+package it.polimi.ingsw.gc03.model.card.cardObjective;
+
+import it.polimi.ingsw.gc03.model.Codex;
+import it.polimi.ingsw.gc03.model.Game;
+import it.polimi.ingsw.gc03.model.enumerations.Kingdom;
+import it.polimi.ingsw.gc03.model.enumerations.Value;
+import it.polimi.ingsw.gc03.model.side.Side;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectiveProgressTest {
+
+    private Codex codex;
+    CardObjective cardObjective;
+    private Game game;
+    @BeforeEach
+    void setUp() throws RemoteException {
+        this.codex = new Codex();
+        this.cardObjective = new CardObjective("OBJ088",
+                "2 points for each main diagonal of cards belonging to the plant kingdom.",
+                2,
+                new ArrayList<Value>() {{add(Value.PLANT); {add(Value.PLANT); {add(Value.PLANT);}}}},
+                new MainDiagonalStrategy()
+                );
+        game = new Game(484861);
+        codex.insertStarterIntoCodex(new Side(Kingdom.PLANT, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY),game,"TestName");
+    }
+
+    @Test
+    @DisplayName("Projected points are updated at each insertion")
+    void incrementalUpdate() {
+        codex.trackObjective(cardObjective);
+        assertEquals(0, codex.getProjectedPointObjective());
+        codex.insertIntoCodex(game,new Side(Kingdom.PLANT, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), 39, 39);
+        assertEquals(0, codex.getProjectedPointObjective());
+        codex.insertIntoCodex(game,new Side(Kingdom.PLANT, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), 41, 41);
+        assertEquals(2, codex.getProjectedPointObjective());
+        codex.insertIntoCodex(game,new Side(Kingdom.PLANT, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), 42, 42);
+        codex.insertIntoCodex(game,new Side(Kingdom.PLANT, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), 43, 43);
+        assertEquals(2, codex.getProjectedPointObjective());
+        codex.insertIntoCodex(game,new Side(Kingdom.PLANT, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), 44, 44);
+        assertEquals(4, codex.getProjectedPointObjective());
+        assertEquals(cardObjective.calculateScore(codex, 2, cardObjective.getParameters()),
+                codex.getProjectedPointObjective());
+    }
+
+    @Test
+    @DisplayName("Sides inserted before tracking are replayed")
+    void replayOnTrack() {
+        codex.insertIntoCodex(game,new Side(Kingdom.PLANT, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), 39, 39);
+        codex.insertIntoCodex(game,new Side(Kingdom.PLANT, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), 41, 41);
+        codex.trackObjective(cardObjective);
+        codex.trackObjective(cardObjective);
+        assertEquals(1, codex.getObjectiveProgress().size());
+        assertEquals(2, codex.getProjectedPointObjective());
+    }
+
+    @Test
+    @DisplayName("Objectives based on the counters are calculated again")
+    void requirementStrategy() {
+        CardObjective requirement = new CardObjective("OBJ095",
+                "2 points for every three plant resources.",
+                2,
+                new ArrayList<Value>() {{add(Value.PLANT); {add(Value.PLANT); {add(Value.PLANT);}}}},
+                new RequirementStrategy()
+        );
+        codex.trackObjective(requirement);
+        codex.insertIntoCodex(game,new Side(Kingdom.PLANT, Value.PLANT, Value.PLANT, Value.PLANT, Value.EMPTY), 41, 41);
+        assertEquals(requirement.calculateScore(codex, 2, requirement.getParameters()),
+                codex.getProjectedPointObjective());
+        assertEquals(2, codex.getProjectedPointObjective());
+    }
+
+    @Test
+    @DisplayName("Projected points match the final ones when a diagonal is completed out of order")
+    void outOfOrderDiagonal() throws RemoteException {
+        Codex codex = new Codex();
+        codex.insertStarterIntoCodex(new Side(Kingdom.FUNGI, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY),game,"TestName");
+        codex.trackObjective(cardObjective);
+        codex.insertIntoCodex(game,new Side(Kingdom.ANIMAL, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), 41, 39);
+        codex.insertIntoCodex(game,new Side(Kingdom.ANIMAL, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), 42, 40);
+        codex.insertIntoCodex(game,new Side(Kingdom.ANIMAL, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), 43, 41);
+        int[][] plants = {{42, 42}, {43, 43}, {44, 44}, {41, 41}, {45, 45}, {46, 46}};
+        for (int[] position : plants) {
+            codex.insertIntoCodex(game,new Side(Kingdom.PLANT, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), position[0], position[1]);
+            assertEquals(cardObjective.calculateScore(codex, 2, cardObjective.getParameters()),
+                    codex.getProjectedPointObjective());
+        }
+        assertEquals(4, codex.getProjectedPointObjective());
+    }
+
+    @Test
+    @DisplayName("Projected points of some of the objectives tracked")
+    void projectedPointsOfObjectives() {
+        CardObjective requirement = new CardObjective("OBJ095",
+                "2 points for every three plant resources.",
+                2,
+                new ArrayList<Value>() {{add(Value.PLANT); {add(Value.PLANT); {add(Value.PLANT);}}}},
+                new RequirementStrategy()
+        );
+        codex.trackObjective(cardObjective);
+        codex.trackObjective(requirement);
+        codex.insertIntoCodex(game,new Side(Kingdom.PLANT, Value.PLANT, Value.PLANT, Value.PLANT, Value.EMPTY), 39, 39);
+        codex.insertIntoCodex(game,new Side(Kingdom.PLANT, Value.EMPTY, Value.EMPTY, Value.EMPTY, Value.EMPTY), 41, 41);
+        assertEquals(4, codex.getProjectedPointObjective());
+        assertEquals(2, codex.getProjectedPointObjective(new ArrayList<>(List.of(requirement))));
+        assertEquals(0, codex.getProjectedPointObjective(new ArrayList<>()));
+    }
+
+}
@@ -40,14 +40,4 @@ class FrontGoldTest {
         assertEquals(point,frontGold.getPoint());
     }
 
-    @Test
-    void setPoint() {
-        int point = 4;
-        int oldPoint = frontGold.getPoint();
-        frontGold.setPoint(point);
-        assertEquals(point,frontGold.getPoint());
-        assertNotEquals(oldPoint,frontGold.getPoint());
-
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package it.polimi.ingsw.gc03.networking;
+
+import it.polimi.ingsw.gc03.controller.GameController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerThreadsTest {
+
+    @AfterEach
+    void tearDown() {
+        ServerThreads.setMode(ServerThreads.PLATFORM);
+    }
+
+    private int threadsStartedBy(int games) throws Exception {
+        int threads = ManagementFactory.getThreadMXBean().getThreadCount();
+        for (int i = 0; i < games; i++)
+            new GameController(i);
+        return ManagementFactory.getThreadMXBean().getThreadCount() - threads;
+    }
+
+    /**
+     * Check if the games share the scheduler and the game loops of the server instead of starting their own threads,
+     * in both modes
+     */
+    @Test
+    void gamesShareTimers() throws Exception {
+        ServerThreads.setMode(ServerThreads.PLATFORM);
+        ServerThreads.timers();
+        ServerThreads.gameLoops();
+        assertTrue(threadsStartedBy(100) < 2);
+        ServerThreads.setMode(ServerThreads.VIRTUAL);
+        assertTrue(threadsStartedBy(100) < 2);
+        assertTrue(ServerThreads.start("check", () -> {}).isVirtual());
+    }
+
+}
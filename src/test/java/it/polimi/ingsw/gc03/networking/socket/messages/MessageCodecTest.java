@@ -0,0 +1,170 @@
+package it.polimi.ingsw.gc03.networking.socket.messages;
+
+import it.polimi.ingsw.gc03.controller.GameCommand;
+import it.polimi.ingsw.gc03.controller.GameController;
+import it.polimi.ingsw.gc03.listeners.GameListener;
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.CommandError;
+import it.polimi.ingsw.gc03.model.Game;
+import it.polimi.ingsw.gc03.model.GameImmutable;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.enumerations.ErrorCode;
+import it.polimi.ingsw.gc03.model.enumerations.PlayerAction;
+import it.polimi.ingsw.gc03.model.enumerations.Value;
+import it.polimi.ingsw.gc03.model.side.Side;
+import it.polimi.ingsw.gc03.networking.rmi.GameControllerInterface;
+import it.polimi.ingsw.gc03.networking.socket.delta.DeltaDecoder;
+import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.SocketClientGenericMessage;
+import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.gameControllerMessages.SocketClientMessagePlaceStarterOnCodex;
+import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.SocketServerMessageCommandRejected;
+import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.SocketServerMessageFrame;
+import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.SocketServerMessageGameStarted;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageCodecTest {
+
+    private Game game;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        GameController controller = GameController.replay(7L, List.of());
+        game = controller.getGame();
+        controller.addPlayerToGame("A", null);
+        controller.updateGameSize(2);
+        controller.addPlayerToGame("B", null);
+        new GameCommand.PlaceStarter("A", true).apply(controller);
+        game.addMessage("everyone", "A", "hello");
+    }
+
+    private int serializedSize(Serializable object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(object);
+        }
+        return bytes.size();
+    }
+
+    private List<Object> executed(SocketClientGenericMessage message) throws Exception {
+        List<Object> calls = new ArrayList<>();
+        GameControllerInterface controller = (GameControllerInterface) Proxy.newProxyInstance(
+                GameControllerInterface.class.getClassLoader(), new Class<?>[]{GameControllerInterface.class},
+                (proxy, method, args) -> {
+                    calls.add(method.getName());
+                    calls.addAll(List.of(args));
+                    return null;
+                });
+        message.execute(controller);
+        return calls;
+    }
+
+    /**
+     * Check if a message of a client is rebuilt with the side of the catalog and is much smaller than its
+     * serialization
+     */
+    @Test
+    void clientMessage() throws Exception {
+        Player player = player(game.getPlayers(), "B");
+        Side side = player.getCardStarter().getBackStarter();
+        SocketClientMessagePlaceStarterOnCodex message = new SocketClientMessagePlaceStarterOnCodex(player, side);
+        byte[] payload = MessageCodec.encode(message);
+        assertTrue(payload.length * 20 < serializedSize(message));
+        SocketClientGenericMessage decoded = MessageCodec.decodeClientMessage(payload);
+        assertEquals("B", decoded.getNicknameClient());
+        assertEquals(MessageType.GAME_CONTROLLER, decoded.getMessageType());
+        List<Object> calls = executed(decoded);
+        assertEquals("placeStarterOnCodex", calls.get(0));
+        assertEquals("B", ((Player) calls.get(1)).getNickname());
+        assertEquals(PlayerAction.FIRSTMOVES, ((Player) calls.get(1)).getAction());
+        assertSame(side, calls.get(2));
+    }
+
+    /**
+     * Check if a game sent whole is rebuilt by the client
+     */
+    @Test
+    void wholeGame() throws Exception {
+        GameImmutable view = new GameImmutable(game, "A");
+        SocketServerMessageFrame frame = SocketServerMessageFrame.encode(new SocketServerMessageGameStarted(view));
+        assertTrue(frame.getSize() * 5 < serializedSize(new SocketServerMessageGameStarted(view)));
+        DeltaDecoder decoder = new DeltaDecoder();
+        assertInstanceOf(SocketServerMessageGameStarted.class, frame.decode(decoder));
+        GameImmutable mirror = decoder.getGame();
+        assertEquals(view.getIdGame(), mirror.getIdGame());
+        assertEquals(view.getStatus(), mirror.getStatus());
+        assertEquals(view.getSize(), mirror.getSize());
+        assertEquals("hello", mirror.getChat().getLast().getText());
+        assertEquals(ids(view.getDesk().getDisplayedGold()), ids(mirror.getDesk().getDisplayedGold()));
+        for (int i = 0; i < view.getPlayers().size(); i++) {
+            Player expected = view.getPlayers().get(i);
+            Player actual = mirror.getPlayers().get(i);
+            assertEquals(expected.getNickname(), actual.getNickname());
+            assertEquals(expected.getColor(), actual.getColor());
+            assertSame(expected.getCardStarter(), actual.getCardStarter());
+            assertEquals(ids(expected.getHand()), ids(actual.getHand()));
+            assertEquals(ids(expected.getCardObjective()), ids(actual.getCardObjective()));
+            assertEquals(expected.getCodex().getSideCount(), actual.getCodex().getSideCount());
+        }
+        Player placed = player(mirror.getPlayers(), "A");
+        assertSame(CardCatalog.getInstance().getSide(placed.getCardStarter().getIdCard(), true),
+                placed.getCodex().getSideAt(40, 40));
+    }
+
+    /**
+     * Check if a rejected move is sent as a few bytes with its reason and number
+     */
+    @Test
+    void commandRejected() throws Exception {
+        ArrayList<Value> requirements = new ArrayList<>(List.of(Value.FUNGI, Value.FUNGI, Value.ANIMAL));
+        CommandError error = new CommandError(ErrorCode.REQUIREMENTS_NOT_RESPECTED, 300, requirements);
+        SocketServerMessageFrame frame = SocketServerMessageFrame.encode(new SocketServerMessageCommandRejected(error));
+        assertTrue(frame.getSize() < 16);
+        List<Object> calls = new ArrayList<>();
+        GameListener listener = (GameListener) Proxy.newProxyInstance(
+                GameListener.class.getClassLoader(), new Class<?>[]{GameListener.class},
+                (proxy, method, args) -> {
+                    calls.add(method.getName());
+                    calls.addAll(List.of(args));
+                    return null;
+                });
+        frame.decode(new DeltaDecoder()).execute(listener);
+        assertEquals("commandRejected", calls.get(0));
+        CommandError decoded = (CommandError) calls.get(1);
+        assertEquals(ErrorCode.REQUIREMENTS_NOT_RESPECTED, decoded.getCode());
+        assertEquals(300, decoded.getCorrelationId());
+        assertEquals(requirements, decoded.getRequirementsPlacement());
+    }
+
+    /**
+     * Check if the hello frames of other versions of the protocol and unknown messages are rejected
+     */
+    @Test
+    void rejectsUnknownFrames() throws Exception {
+        MessageCodec.checkHello(MessageCodec.hello());
+        byte[] other = MessageCodec.hello();
+        other[other.length - 1]++;
+        assertThrows(IOException.class, () -> MessageCodec.checkHello(other));
+        assertThrows(IOException.class, () -> MessageCodec.decodeClientMessage(new byte[]{100}));
+        assertThrows(IOException.class, () -> MessageCodec.decodeClientMessage(new byte[]{0, 4, 'A'}));
+    }
+
+    private Player player(List<Player> players, String nickname) {
+        return players.stream().filter(player -> player.getNickname().equals(nickname)).findFirst().orElseThrow();
+    }
+
+    private List<String> ids(List<? extends Card> cards) {
+        return cards.stream().map(Card::getIdCard).toList();
+    }
+
+}
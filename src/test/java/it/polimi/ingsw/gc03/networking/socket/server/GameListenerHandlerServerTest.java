@@ -0,0 +1,155 @@
+package it.polimi.ingsw.gc03.networking.socket.server;
+
+import it.polimi.ingsw.gc03.controller.GameCommand;
+import it.polimi.ingsw.gc03.controller.GameController;
+import it.polimi.ingsw.gc03.model.CardCatalog;
+import it.polimi.ingsw.gc03.model.Game;
+import it.polimi.ingsw.gc03.model.GameImmutable;
+import it.polimi.ingsw.gc03.model.Player;
+import it.polimi.ingsw.gc03.model.card.Card;
+import it.polimi.ingsw.gc03.model.enumerations.DeckType;
+import it.polimi.ingsw.gc03.model.enumerations.PlayerAction;
+import it.polimi.ingsw.gc03.networking.socket.delta.DeltaDecoder;
+import it.polimi.ingsw.gc03.networking.socket.messages.MessageFraming;
+import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.SocketServerMessageFrame;
+import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.SocketServerMessageNextTurn;
+import it.polimi.ingsw.gc03.simulation.BotPolicy;
+import it.polimi.ingsw.gc03.simulation.GreedyPolicy;
+import it.polimi.ingsw.gc03.view.tui.Coords;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameListenerHandlerServerTest {
+
+    private Game game;
+
+    private ByteArrayOutputStream firstBytes;
+
+    private ByteArrayOutputStream secondBytes;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = new Game(1, 42L);
+        firstBytes = new ByteArrayOutputStream();
+        secondBytes = new ByteArrayOutputStream();
+        game.addListener(new GameListenerHandlerServer(sink(firstBytes)));
+        game.addListener(new GameListenerHandlerServer(sink(secondBytes)));
+    }
+
+    private FrameSink sink(ByteArrayOutputStream bytes) {
+        DataOutputStream outputStream = new DataOutputStream(bytes);
+        return payload -> MessageFraming.writeFrame(outputStream, payload);
+    }
+
+    private SocketServerMessageFrame readFirstFrame(ByteArrayOutputStream bytes) throws IOException {
+        try (DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return SocketServerMessageFrame.wrap(MessageFraming.readFrame(inputStream));
+        }
+    }
+
+    /**
+     * Check if a notification is encoded once into a frame written on every connection
+     */
+    @Test
+    void broadcastFrame() throws Exception {
+        game.getListener().notifyNextTurn(game);
+        assertTrue(game.getListener().awaitDelivery(5000));
+        SocketServerMessageFrame first = readFirstFrame(firstBytes);
+        SocketServerMessageFrame second = readFirstFrame(secondBytes);
+        assertEquals(firstBytes.size(), secondBytes.size());
+        assertEquals(first.getSize(), second.getSize());
+        assertInstanceOf(SocketServerMessageNextTurn.class, first.decode());
+    }
+
+    /**
+     * Check if the games sent as patches rebuild the view of the game of the server and are much smaller than the
+     * whole game
+     */
+    @Test
+    void deltaFollowsGame() throws Exception {
+        GameController controller = GameController.replay(5L, List.of());
+        Game served = controller.getGame();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        controller.addPlayerToGame("A", new GameListenerHandlerServer(sink(bytes)));
+        controller.updateGameSize(2);
+        controller.addPlayerToGame("B", null);
+        List<GameCommand> commands = new ArrayList<>(List.of(new GameCommand.PlaceStarter("A", true),
+                new GameCommand.PlaceStarter("B", false), new GameCommand.SelectObjective("A", 0),
+                new GameCommand.SelectObjective("B", 1)));
+        for (GameCommand command : commands)
+            command.apply(controller);
+        BotPolicy policy = new GreedyPolicy(5L);
+        for (int moves = 0; moves < 16; moves++) {
+            Player player = served.getPlayers().get(served.getCurrPlayer());
+            if (player.getAction().equals(PlayerAction.PLACE))
+                policy.choosePlacement(served, player).apply(controller);
+            else
+                policy.chooseDraw(served, player).apply(controller);
+        }
+        served.addMessage("everyone", "A", "hello");
+        assertTrue(served.getListener().awaitDelivery(5000));
+
+        DeltaDecoder decoder = new DeltaDecoder();
+        List<Integer> sizes = new ArrayList<>();
+        try (DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            while (true) {
+                SocketServerMessageFrame frame = SocketServerMessageFrame.wrap(MessageFraming.readFrame(inputStream));
+                frame.decode(decoder);
+                sizes.add(frame.getSize());
+            }
+        } catch (EOFException e) {
+            // All the frames have been read
+        }
+        GameImmutable mirror = decoder.getGame();
+        assertTrue(sizes.size() > 16);
+        int whole = SocketServerMessageFrame.encode(new SocketServerMessageNextTurn(new GameImmutable(served, "A")))
+                .getSize();
+        assertTrue(sizes.getLast() * 5 < whole);
+        assertEquals(served.getStatus(), mirror.getStatus());
+        assertEquals(served.getCurrPlayer(), mirror.getCurrPlayer());
+        assertEquals(served.getChat().size(), mirror.getChat().size());
+        assertEquals("hello", mirror.getChat().getLast().getText());
+        for (DeckType deck : List.of(DeckType.DECK_RESOURCE, DeckType.DECK_GOLD)) {
+            assertEquals(served.getDesk().getDeckSize(deck), mirror.getDesk().getDeckSize(deck));
+            assertEquals(served.getDesk().getTopCardKingdom(deck), mirror.getDesk().getTopCardKingdom(deck));
+        }
+        assertEquals(ids(served.getDesk().getDisplayedResource()), ids(mirror.getDesk().getDisplayedResource()));
+        assertEquals(ids(served.getDesk().getDisplayedGold()), ids(mirror.getDesk().getDisplayedGold()));
+        for (int i = 0; i < served.getPlayers().size(); i++) {
+            Player expected = served.getPlayers().get(i);
+            Player actual = mirror.getPlayers().get(i);
+            assertEquals(expected.getScore(), actual.getScore());
+            assertEquals(expected.getAction(), actual.getAction());
+            if (expected.getNickname().equals("A")) {
+                assertEquals(ids(expected.getHand()), ids(actual.getHand()));
+                assertEquals(ids(expected.getCardObjective()), ids(actual.getCardObjective()));
+            } else {
+                assertEquals(ids(expected.getHand().stream().map(CardCatalog.getInstance()::getBackCard).toList()),
+                        ids(actual.getHand()));
+                assertTrue(actual.getCardObjective().isEmpty());
+            }
+            assertEquals(expected.getCodex().getPointCodex(), actual.getCodex().getPointCodex());
+            assertEquals(expected.getCodex().getSideCount(), actual.getCodex().getSideCount());
+            assertArrayEquals(expected.getCodex().getCounterCodex(), actual.getCodex().getCounterCodex());
+            for (Coords coords : expected.getCodex().getCodexFillOrder())
+                assertEquals(expected.getCodex().getSideAt(coords.getX(), coords.getY()).getImage(),
+                        actual.getCodex().getSideAt(coords.getX(), coords.getY()).getImage());
+        }
+    }
+
+    private List<String> ids(List<? extends Card> cards) {
+        return cards.stream().map(Card::getIdCard).toList();
+    }
+
+}
@@ -0,0 +1,144 @@
+package it.polimi.ingsw.gc03.networking.socket.server;
+
+import it.polimi.ingsw.gc03.controller.MainController;
+import it.polimi.ingsw.gc03.networking.socket.delta.DeltaDecoder;
+import it.polimi.ingsw.gc03.networking.socket.messages.MessageCodec;
+import it.polimi.ingsw.gc03.networking.socket.messages.MessageFraming;
+import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.gameControllerMessages.SocketClientMessageSetGameSize;
+import it.polimi.ingsw.gc03.networking.socket.messages.clientToServerMessages.mainControllerMessages.SocketClientMessageCreateGame;
+import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.SocketServerMessageFrame;
+import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.SocketServerMessageGameCreated;
+import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.SocketServerMessageGameSizeUpdated;
+import it.polimi.ingsw.gc03.networking.socket.messages.serverToClientMessages.SocketServerMessagePlayerJoined;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NioSocketServerTest {
+
+    private NioSocketServer server;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new NioSocketServer();
+        server.startSocketServer(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stopSocketConnection();
+        MainController.resetInstance();
+    }
+
+    private void awaitConnections(int count) throws InterruptedException {
+        for (int i = 0; i < 500 && server.getConnectionCount() != count; i++)
+            Thread.sleep(10);
+        assertEquals(count, server.getConnectionCount());
+    }
+
+    /**
+     * Check if a client creating a game through the server receives the frames of the game
+     */
+    @Test
+    void createGame() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(5000);
+            DataOutputStream outputStream = new DataOutputStream(socket.getOutputStream());
+            DataInputStream inputStream = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            MessageFraming.writeFrame(outputStream, MessageCodec.hello());
+            MessageCodec.checkHello(MessageFraming.readFrame(inputStream));
+            MessageFraming.writeFrame(outputStream, MessageCodec.encode(new SocketClientMessageCreateGame("nio")));
+            DeltaDecoder decoder = new DeltaDecoder();
+            assertInstanceOf(SocketServerMessagePlayerJoined.class,
+                    SocketServerMessageFrame.wrap(MessageFraming.readFrame(inputStream)).decode(decoder));
+            assertInstanceOf(SocketServerMessageGameCreated.class,
+                    SocketServerMessageFrame.wrap(MessageFraming.readFrame(inputStream)).decode(decoder));
+            assertEquals("nio", decoder.getGame().getPlayers().getFirst().getNickname());
+        }
+    }
+
+    /**
+     * Check if a game command sent together with the join runs on the game joined
+     */
+    @Test
+    void commandAfterJoin() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(5000);
+            DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            DataInputStream inputStream = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            MessageFraming.writeFrame(outputStream, MessageCodec.hello());
+            MessageFraming.writeFrame(outputStream, MessageCodec.encode(new SocketClientMessageCreateGame("nio")));
+            MessageFraming.writeFrame(outputStream, MessageCodec.encode(new SocketClientMessageSetGameSize(3)));
+            outputStream.flush();
+            MessageCodec.checkHello(MessageFraming.readFrame(inputStream));
+            DeltaDecoder decoder = new DeltaDecoder();
+            assertInstanceOf(SocketServerMessagePlayerJoined.class,
+                    SocketServerMessageFrame.wrap(MessageFraming.readFrame(inputStream)).decode(decoder));
+            assertInstanceOf(SocketServerMessageGameCreated.class,
+                    SocketServerMessageFrame.wrap(MessageFraming.readFrame(inputStream)).decode(decoder));
+            assertInstanceOf(SocketServerMessageGameSizeUpdated.class,
+                    SocketServerMessageFrame.wrap(MessageFraming.readFrame(inputStream)).decode(decoder));
+            assertEquals(3, decoder.getGame().getSize());
+        }
+    }
+
+    /**
+     * Check if a client speaking another version of the protocol is disconnected
+     */
+    @Test
+    void otherProtocolVersion() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            awaitConnections(1);
+            byte[] hello = MessageCodec.hello();
+            hello[hello.length - 1]++;
+            MessageFraming.writeFrame(new DataOutputStream(socket.getOutputStream()), hello);
+            awaitConnections(0);
+        }
+    }
+
+    /**
+     * Check if a client sending a long frame before the hello frame is disconnected
+     */
+    @Test
+    void longFrameBeforeHello() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            awaitConnections(1);
+            new DataOutputStream(socket.getOutputStream()).writeInt(NioConnection.MAX_HELLO_FRAME_SIZE + 1);
+            awaitConnections(0);
+        }
+    }
+
+    /**
+     * Check if idle connections are served without a thread each, and if a client sending an invalid frame is
+     * disconnected
+     */
+    @Test
+    void idleConnections() throws Exception {
+        int threads = ManagementFactory.getThreadMXBean().getThreadCount();
+        List<Socket> sockets = new ArrayList<>();
+        try {
+            for (int i = 0; i < 200; i++)
+                sockets.add(new Socket("localhost", server.getPort()));
+            awaitConnections(200);
+            assertTrue(ManagementFactory.getThreadMXBean().getThreadCount() < threads + 10);
+            new DataOutputStream(sockets.getFirst().getOutputStream()).writeInt(-1);
+            awaitConnections(199);
+        } finally {
+            for (Socket socket : sockets)
+                socket.close();
+        }
+        awaitConnections(0);
+    }
+
+}
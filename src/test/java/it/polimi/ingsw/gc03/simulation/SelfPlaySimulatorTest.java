@@ -0,0 +1,35 @@
+package it.polimi.ingsw.gc03.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelfPlaySimulatorTest {
+
+    /**
+     * Check if the random bots play complete games in parallel
+     */
+    @Test
+    void randomGames() {
+        SimulationReport report = new SelfPlaySimulator(2, 1L, RandomPolicy::new).run(20, 4);
+        assertEquals(20, report.getGames());
+        assertEquals(20, report.getCompletedGames());
+        assertEquals(20, report.getCount(SimulationReport.Phase.SETUP));
+        assertTrue(report.getCount(SimulationReport.Phase.PLACE) > 20 * 2);
+        assertTrue(report.getCount(SimulationReport.Phase.DRAW) > 0);
+        assertTrue(report.getGamesPerSecond() > 0);
+    }
+
+    /**
+     * Check if the same seed gives the same games
+     */
+    @Test
+    void reproducible() {
+        SimulationReport first = new SelfPlaySimulator(3, 7L, GreedyPolicy::new).run(5, 2);
+        SimulationReport second = new SelfPlaySimulator(3, 7L, GreedyPolicy::new).run(5, 1);
+        assertEquals(5, first.getCompletedGames());
+        assertEquals(first.getCount(SimulationReport.Phase.PLACE), second.getCount(SimulationReport.Phase.PLACE));
+        assertEquals(first.getCount(SimulationReport.Phase.DRAW), second.getCount(SimulationReport.Phase.DRAW));
+    }
+
+}